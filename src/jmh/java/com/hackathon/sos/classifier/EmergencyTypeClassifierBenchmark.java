@@ -0,0 +1,98 @@
+package com.hackathon.sos.classifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴급 유형 분류 벤치마크: 기존 contains() 연쇄 검사 vs Aho-Corasick 사전 분류기
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmergencyTypeClassifierBenchmark {
+
+    /** 음성 인식 문장을 이어 붙여 만든 본문 길이 (짧은 외침 / 일반 신고 / 긴 녹취) */
+    @Param({"80", "400", "2000"})
+    private int length;
+
+    private static final String[] SENTENCES = {
+            "여기 좀 도와주세요 사람이 갑자기 쓰러졌어요 ",
+            "숨을 안 쉬는 것 같아요 빨리 와주세요 ",
+            "지금 어떤 남자가 계속 따라오고 있어요 ",
+            "차가 인도로 돌진해서 사람들이 다쳤어요 ",
+            "건물 쪽에서 연기가 많이 나요 ",
+            "Please help, someone is bleeding badly here. ",
+            "저 여기 위치가 어딘지 잘 모르겠어요 ",
+    };
+
+    private String transcript;
+    private EmergencyTypeClassifier classifier;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder text = new StringBuilder(length + 64);
+        for (int i = 0; text.length() < length; i++) {
+            text.append(SENTENCES[i % SENTENCES.length]);
+        }
+        transcript = text.substring(0, length);
+
+        try (InputStream in = getClass().getResourceAsStream("/classifier/emergency-keywords.tsv")) {
+            classifier = new EmergencyTypeClassifier(EmergencyTypeClassifier.load(in));
+        }
+    }
+
+    @Benchmark
+    public String legacyContainsChain() {
+        return legacyDetermineEmergencyType(transcript);
+    }
+
+    @Benchmark
+    public EmergencyClassification ahoCorasick() {
+        return classifier.classify(transcript);
+    }
+
+    /**
+     * 교체 전 AIAnalysisService.determineEmergencyType 구현 (비교 기준)
+     */
+    private static String legacyDetermineEmergencyType(String analysis) {
+        String lowerAnalysis = analysis.toLowerCase();
+
+        if (lowerAnalysis.contains("사고") || lowerAnalysis.contains("accident")) {
+            return "ACCIDENT";
+        } else if (lowerAnalysis.contains("폭행") || lowerAnalysis.contains("범죄") ||
+                lowerAnalysis.contains("assault")) {
+            return "ASSAULT";
+        } else if (lowerAnalysis.contains("납치") || lowerAnalysis.contains("유괴") ||
+                lowerAnalysis.contains("kidnap")) {
+            return "KIDNAPPING";
+        } else if (lowerAnalysis.contains("응급") || lowerAnalysis.contains("의료") ||
+                lowerAnalysis.contains("medical")) {
+            return "MEDICAL";
+        } else if (lowerAnalysis.contains("화재") || lowerAnalysis.contains("fire")) {
+            return "FIRE";
+        } else if (lowerAnalysis.contains("재난") || lowerAnalysis.contains("disaster")) {
+            return "NATURAL_DISASTER";
+        } else if (lowerAnalysis.contains("스토킹") || lowerAnalysis.contains("stalking")) {
+            return "STALKING";
+        } else {
+            return "OTHER";
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hackathon.sos.alert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 장치별 반복 신고 병합 (버튼을 여러 번 눌러도 한 사건으로 처리)
+ * 같은 장치의 신고는 장치 ID 해시로 고른 잠금 하나로 줄 세워 처리하고, 마지막 신고 후 window-seconds 안에 다시 들어온
+ * 신고는 그 장치의 진행 중 알림 ID를 돌려줘 새 알림 대신 기존 알림에 위치/음성 텍스트를 덧붙이게 합니다
+ * 병합할 때마다 창이 다시 시작되며, 알림이 해결/취소되어 진행 중 색인에서 빠지면 다음 신고는 새 알림이 됩니다
+ */
+@Component
+public class AlertDebouncer {
+
+    /** 잠금 개수 (장치 수와 무관하게 고정, 서로 다른 장치가 같은 잠금을 쓰면 잠깐 기다릴 뿐) */
+    private static final int LOCK_STRIPES = 64;
+
+    private final OpenAlertRegistry openAlertRegistry;
+    private final boolean enabled;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Cache<String, Long> recent;
+    private final Counter merged;
+
+    public AlertDebouncer(OpenAlertRegistry openAlertRegistry,
+                          MeterRegistry meterRegistry,
+                          @Value("${alert.debounce.window-seconds}") long windowSeconds,
+                          @Value("${alert.debounce.max-devices}") long maxDevices) {
+        this.openAlertRegistry = openAlertRegistry;
+        this.enabled = windowSeconds > 0;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        // 쓰기 후 만료이므로 신고가 멈춘 장치 항목은 창이 지나면 사라짐
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maxDevices)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(windowSeconds, 1)))
+                .build();
+        this.merged = Counter.builder("sos.alerts.debounced")
+                .description("기존 진행 중 알림에 병합된 반복 신고 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 장치 잠금을 잡은 채 실행 (같은 장치의 신고 확인-저장-기록이 겹치지 않도록)
+     * 잠금은 action 의 DB 트랜잭션이 커밋될 때까지 유지되며, 트랜잭션(커넥션 획득)은 잠금을 잡은 뒤 시작하므로
+     * 잠금을 기다리는 신고는 커넥션을 잡지 않은 채 기다립니다 (잠금 보유 시간 = 알림 저장 트랜잭션 한 번)
+     * 가상 스레드에서도 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 사용
+     */
+    public <T> T withDeviceLock(String deviceId, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        ReentrantLock lock = locks[Math.floorMod(deviceId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 창 안에 신고한 적이 있고 그 알림이 아직 진행 중이면 알림 ID (장치 잠금 안에서 호출)
+     */
+    public Optional<Long> openAlert(String deviceId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long alertId = recent.getIfPresent(deviceId);
+        if (alertId == null) {
+            return Optional.empty();
+        }
+        if (openAlertRegistry.get(alertId).isEmpty()) {
+            recent.invalidate(deviceId);
+            return Optional.empty();
+        }
+        return Optional.of(alertId);
+    }
+
+    /**
+     * 커밋된 신고 기록 (창 다시 시작, 장치 잠금 안에서 호출)
+     *
+     * @param merged 기존 알림에 병합된 신고인지
+     */
+    public void record(String deviceId, Long alertId, boolean merged) {
+        if (!enabled) {
+            return;
+        }
+        recent.put(deviceId, alertId);
+        if (merged) {
+            this.merged.increment();
+        }
+    }
+}
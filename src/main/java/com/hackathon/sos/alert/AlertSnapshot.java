@@ -0,0 +1,22 @@
+package com.hackathon.sos.alert;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중 알림 색인에 두는 알림 요약 (JPQL 생성자 표현식으로 조회)
+ */
+public record AlertSnapshot(
+        Long id,
+        Long userId,
+        EmergencyAlert.EmergencyStatus status,
+        EmergencyAlert.EmergencyType emergencyType,
+        Double latitude,
+        Double longitude,
+        LocalDateTime alertTime) {
+
+    public boolean isOpen() {
+        return status != null && status.isOpen();
+    }
+}
@@ -0,0 +1,301 @@
+package com.hackathon.sos.alert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyStatus;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.geo.DistanceHit;
+import com.hackathon.sos.geo.OpenAlertGrid;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 진행 중인 긴급 알림(PENDING, NOTIFIED, IN_PROGRESS) 메모리 색인
+ * 사용자/상태/유형별 ID 집합과 반경 검색 격자를 두어, 대시보드와 점검 작업이 DB 를 읽지 않고 진행 중 알림을 조회합니다
+ * 시작 시 DB 에서 다시 만들고, 알림이 바뀌면(접수, 단계 진행, 상태 변경, 해결) 커밋 후 그 알림 요약 한 건만 다시 읽어 반영합니다
+ * 같은 알림의 변경이 거의 동시에 커밋되면 먼저 시작한 조회가 나중에 반영될 수 있으므로, 조회마다 시작 순번을 매겨
+ * 더 늦게 시작한 조회를 이미 반영한 알림에는 그보다 앞선 조회 결과를 버립니다
+ * (나중에 시작한 조회는 그 전에 커밋된 변경을 모두 보므로 마지막 커밋 뒤의 조회가 항상 최종 값이 됨)
+ * 이벤트 유실 등으로 남는 어긋남은 verify-interval-seconds 마다 DB 와 비교해 바로잡습니다
+ */
+@Component
+public class OpenAlertRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAlertRegistry.class);
+
+    private static final Duration STALE_READ_WINDOW = Duration.ofMinutes(10);
+
+    private static final List<EmergencyStatus> OPEN_STATUSES = Arrays.stream(EmergencyStatus.values())
+            .filter(EmergencyStatus::isOpen)
+            .toList();
+
+    private final EmergencyAlertRepository emergencyAlertRepository;
+    private final long verifyIntervalSeconds;
+
+    private final Map<Long, AlertSnapshot> alerts = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> byUser = new ConcurrentHashMap<>();
+    private final Map<EmergencyStatus, Set<Long>> byStatus = new EnumMap<>(EmergencyStatus.class);
+    private final Map<EmergencyType, Set<Long>> byType = new EnumMap<>(EmergencyType.class);
+    private final OpenAlertGrid grid = new OpenAlertGrid();
+
+    /** 요약 조회 시작 순번 */
+    private final AtomicLong readSequence = new AtomicLong();
+
+    /**
+     * 알림별로 마지막에 반영한 조회의 시작 순번 (닫혀 색인에서 빠진 알림도 남겨 늦게 도착한 진행 중 요약이 되살리지 않게 함)
+     * 늦은 조회는 길어야 조회 한 번 길이만큼 늦으므로 STALE_READ_WINDOW 가 지나면 잊어도 됨
+     */
+    private final Cache<Long, Long> appliedReads = Caffeine.newBuilder()
+            .expireAfterWrite(STALE_READ_WINDOW)
+            .build();
+
+    private final Counter drift;
+    private final Counter staleReads;
+    private final ScheduledExecutorService verifier;
+
+    public OpenAlertRegistry(EmergencyAlertRepository emergencyAlertRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${alert.registry.verify-interval-seconds}") long verifyIntervalSeconds) {
+        this.emergencyAlertRepository = emergencyAlertRepository;
+        this.verifyIntervalSeconds = verifyIntervalSeconds;
+
+        // 키가 고정된 EnumMap 은 처음에 모두 채워 두면 이후 읽기/쓰기에 잠금이 필요 없음
+        for (EmergencyStatus status : OPEN_STATUSES) {
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            byStatus.put(status, ids);
+            Gauge.builder("sos.alerts.open", ids, Set::size)
+                    .description("진행 중 알림 수 (메모리 색인)")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (EmergencyType type : EmergencyType.values()) {
+            byType.put(type, ConcurrentHashMap.newKeySet());
+        }
+        this.drift = Counter.builder("sos.alerts.open.drift")
+                .description("정합성 검사에서 DB 와 달라 바로잡은 진행 중 알림 수")
+                .register(meterRegistry);
+        this.staleReads = Counter.builder("sos.alerts.open.stale-reads")
+                .description("더 늦게 시작한 조회가 이미 반영돼 버린 알림 요약 수")
+                .register(meterRegistry);
+        this.verifier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "open-alert-verifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 진행 중 알림 전체로 색인 구성하고 주기적인 정합성 검사 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long readStarted = readSequence.incrementAndGet();
+        List<AlertSnapshot> open = emergencyAlertRepository.findSnapshotsByStatusIn(OPEN_STATUSES);
+        for (AlertSnapshot snapshot : open) {
+            apply(snapshot.id(), snapshot, readStarted);
+        }
+        logger.info("진행 중 알림 색인 구성: {}건", open.size());
+
+        if (verifyIntervalSeconds > 0) {
+            verifier.scheduleWithFixedDelay(() -> {
+                try {
+                    verify();
+                } catch (Exception e) {
+                    logger.error("진행 중 알림 정합성 검사 실패: error={}", e.getMessage());
+                }
+            }, verifyIntervalSeconds, verifyIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        verifier.shutdownNow();
+    }
+
+    /**
+     * 커밋된 알림 변경 반영 (상태뿐 아니라 파이프라인의 유형 분류도 바뀌므로 모든 변경에서 다시 읽음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(EmergencyAlertChangedEvent event) {
+        refresh(event.alertId());
+    }
+
+    /**
+     * DB 의 진행 중 알림과 색인 비교 후 어긋난 항목을 한 건씩 다시 읽어 반영
+     * 비교 중에 커밋된 변경은 다시 읽은 값이 같으므로 불일치로 세지 않습니다
+     *
+     * @return 바로잡은 알림 수
+     */
+    public int verify() {
+        Map<Long, AlertSnapshot> stored = new HashMap<>();
+        for (AlertSnapshot snapshot : emergencyAlertRepository.findSnapshotsByStatusIn(OPEN_STATUSES)) {
+            stored.put(snapshot.id(), snapshot);
+        }
+
+        Set<Long> suspects = new HashSet<>();
+        stored.forEach((id, snapshot) -> {
+            if (!snapshot.equals(alerts.get(id))) {
+                suspects.add(id);
+            }
+        });
+        for (Long id : alerts.keySet()) {
+            if (!stored.containsKey(id)) {
+                suspects.add(id);
+            }
+        }
+
+        int corrected = 0;
+        for (Long id : suspects) {
+            AlertSnapshot before = alerts.get(id);
+            refresh(id);
+            if (!Objects.equals(before, alerts.get(id))) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            drift.increment(corrected);
+            logger.warn("진행 중 알림 색인 불일치 보정: {}건 (검사 {}건)", corrected, stored.size());
+        }
+        return corrected;
+    }
+
+    public Optional<AlertSnapshot> get(Long alertId) {
+        return Optional.ofNullable(alerts.get(alertId));
+    }
+
+    public int size() {
+        return alerts.size();
+    }
+
+    /**
+     * 조건에 맞는 진행 중 알림 (최신순, 조건이 null 이면 무시)
+     * 가장 작은 색인 집합에서 출발해 나머지 조건은 요약 값으로 거릅니다
+     */
+    public List<AlertSnapshot> find(Long userId, EmergencyStatus status, EmergencyType type) {
+        if (status != null && !status.isOpen()) {
+            return List.of();
+        }
+
+        Collection<Long> candidates = alerts.keySet();
+        if (userId != null) {
+            candidates = smaller(candidates, byUser.getOrDefault(userId, Set.of()));
+        }
+        if (status != null) {
+            candidates = smaller(candidates, byStatus.get(status));
+        }
+        if (type != null) {
+            candidates = smaller(candidates, byType.get(type));
+        }
+
+        // 색인 집합은 요약 교체와 순간적으로 어긋날 수 있어 요약 값으로 한 번 더 확인
+        Predicate<AlertSnapshot> matches = snapshot -> (userId == null || userId.equals(snapshot.userId()))
+                && (status == null || status == snapshot.status())
+                && (type == null || type == snapshot.emergencyType());
+        return candidates.stream()
+                .map(alerts::get)
+                .filter(Objects::nonNull)
+                .filter(matches)
+                .sorted(Comparator.comparing(AlertSnapshot::alertTime).reversed()
+                        .thenComparing(AlertSnapshot::id, Comparator.reverseOrder()))
+                .toList();
+    }
+
+    /**
+     * 중심에서 radiusMeters 안의 진행 중 알림 (가까운 순, 최대 limit 건)
+     */
+    public List<DistanceHit> nearby(double latitude, double longitude, double radiusMeters, int limit) {
+        return grid.nearby(latitude, longitude, radiusMeters, limit);
+    }
+
+    private void refresh(Long alertId) {
+        long readStarted = readSequence.incrementAndGet();
+        apply(alertId, emergencyAlertRepository.findSnapshotById(alertId)
+                .filter(AlertSnapshot::isOpen)
+                .orElse(null), readStarted);
+    }
+
+    /**
+     * 알림 한 건의 요약 교체 (null 이면 제거), 같은 알림의 갱신은 compute 로 한 번에 하나씩
+     * 이 알림에 readStarted 보다 늦게 시작한 조회가 이미 반영됐으면 버림
+     */
+    private void apply(Long alertId, AlertSnapshot next, long readStarted) {
+        alerts.compute(alertId, (id, previous) -> {
+            Long applied = appliedReads.getIfPresent(id);
+            if (applied != null && applied > readStarted) {
+                staleReads.increment();
+                return previous;
+            }
+            appliedReads.put(id, readStarted);
+            if (previous != null) {
+                unindex(previous, next);
+            }
+            if (next != null) {
+                byUser.compute(next.userId(), (userId, ids) -> {
+                    Set<Long> updated = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                    updated.add(id);
+                    return updated;
+                });
+                byStatus.get(next.status()).add(id);
+                byType.get(next.emergencyType()).add(id);
+                grid.put(id, next.latitude(), next.longitude());
+            } else {
+                grid.remove(id);
+            }
+            return next;
+        });
+    }
+
+    /**
+     * 이전 요약의 색인 항목 중 새 요약과 달라진 것만 제거
+     */
+    private void unindex(AlertSnapshot previous, AlertSnapshot next) {
+        Long id = previous.id();
+        if (next == null || !previous.userId().equals(next.userId())) {
+            byUser.computeIfPresent(previous.userId(), (userId, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (next == null || previous.status() != next.status()) {
+            byStatus.get(previous.status()).remove(id);
+        }
+        if (next == null || previous.emergencyType() != next.emergencyType()) {
+            byType.get(previous.emergencyType()).remove(id);
+        }
+    }
+
+    private static Collection<Long> smaller(Collection<Long> current, Collection<Long> candidate) {
+        return candidate.size() < current.size() ? candidate : current;
+    }
+}
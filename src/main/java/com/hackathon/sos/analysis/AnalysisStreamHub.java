@@ -0,0 +1,322 @@
+package com.hackathon.sos.analysis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 AI 분석 중계
+ * 알림별로 생성 중인 분석 텍스트를 모아 SSE 구독자에게 조각(delta)을 즉시 전달하고,
+ * snapshot-interval-ms 마다 누적 텍스트를 저장 실행기에서 저장 콜백으로 넘깁니다
+ * 저장은 스트림마다 하나씩만 실행하고, 저장하는 동안 쌓인 스냅샷은 마지막 것만 저장합니다 (토큰 수신 스레드는 DB 를 기다리지 않음)
+ * 이벤트: snapshot(구독 시점까지의 누적 텍스트), delta(새 조각), done(최종 분석), error(분석 실패)
+ */
+@Component
+public class AnalysisStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalysisStreamHub.class);
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    /** 최근 확정된 분석 (저장된 상태를 읽은 뒤 확정된 알림을 구독해도 done 을 받도록) */
+    private final Cache<Long, String> recentlyClosed = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final Executor snapshotExecutor;
+
+    @Value("${analysis.streaming.snapshot-interval-ms}")
+    private long snapshotIntervalMs;
+
+    @Value("${analysis.streaming.watch-timeout-ms}")
+    private long watchTimeoutMs;
+
+    public AnalysisStreamHub(@Qualifier("snapshotExecutor") Executor snapshotExecutor) {
+        this.snapshotExecutor = snapshotExecutor;
+    }
+
+    /**
+     * 알림 분석 구독 (진행 중인 스트림이 있으면 누적 텍스트, 없으면 저장된 분석을 먼저 전달)
+     *
+     * @param settled 분석이 이미 확정된 알림이면 true (진행 중인 스트림이 없으면 바로 done 후 종료)
+     */
+    public SseEmitter watch(Long alertId, String storedAnalysis, boolean settled) {
+        SseEmitter emitter = new SseEmitter(watchTimeoutMs);
+        String[] closedAnalysis = {storedAnalysis};
+        Channel channel = channels.compute(alertId, (id, existing) -> {
+            if (existing == null) {
+                String closed = recentlyClosed.getIfPresent(id);
+                if (closed != null) {
+                    closedAnalysis[0] = closed;
+                    return null;
+                }
+                if (settled) {
+                    return null;
+                }
+            }
+            Channel target = existing != null ? existing : new Channel(id);
+            target.add(emitter, storedAnalysis);
+            return target;
+        });
+
+        if (channel == null) {
+            Channel.send(emitter, "done", closedAnalysis[0]);
+            emitter.complete();
+            return emitter;
+        }
+
+        Runnable unsubscribe = () -> {
+            channel.remove(emitter);
+            channels.computeIfPresent(alertId, (id, current) -> current == channel && current.isIdle() ? null : current);
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * 분석 스트림 시작
+     *
+     * @param snapshotWriter 누적 텍스트를 알림에 저장하는 콜백 (snapshot-interval-ms 간격, 저장 실행기에서 호출)
+     */
+    public Stream open(Long alertId, Consumer<String> snapshotWriter) {
+        Channel channel = channels.compute(alertId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel(id);
+            target.begin();
+            return target;
+        });
+        return new Stream(channel, snapshotWriter);
+    }
+
+    /**
+     * 분석 종료가 확정된 알림의 구독 종료 (스트림 없이 분석이 끝난 경우)
+     */
+    public void close(Long alertId, String finalAnalysis) {
+        finish(alertId, null, "done", finalAnalysis);
+    }
+
+    private void finish(Long alertId, Channel expected, String event, String data) {
+        Channel[] removed = new Channel[1];
+        channels.compute(alertId, (id, current) -> {
+            if ("done".equals(event) && data != null) {
+                recentlyClosed.put(id, data);
+            }
+            if (current != null && (expected == null || current == expected)) {
+                removed[0] = current;
+                return null;
+            }
+            return current;
+        });
+        if (removed[0] != null) {
+            removed[0].finish(event, data);
+        }
+    }
+
+    /**
+     * 생성 중인 분석 한 건 (한 스레드에서 순서대로 append 후 complete/fail)
+     */
+    public final class Stream {
+
+        private final Channel channel;
+        private final Consumer<String> snapshotWriter;
+        private final StringBuilder text = new StringBuilder();
+        private long lastSnapshotAt = System.nanoTime();
+
+        /** 아직 저장하지 않은 최신 스냅샷 */
+        private final AtomicReference<String> pendingSnapshot = new AtomicReference<>();
+        /** 저장 작업이 예약/실행 중이면 true (스트림마다 하나) */
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Stream(Channel channel, Consumer<String> snapshotWriter) {
+            this.channel = channel;
+            this.snapshotWriter = snapshotWriter;
+        }
+
+        public void append(String delta) {
+            if (delta == null || delta.isEmpty()) {
+                return;
+            }
+            text.append(delta);
+            channel.delta(delta);
+
+            long now = System.nanoTime();
+            if (now - lastSnapshotAt >= TimeUnit.MILLISECONDS.toNanos(snapshotIntervalMs)) {
+                lastSnapshotAt = now;
+                pendingSnapshot.set(text.toString());
+                scheduleSnapshot();
+            }
+        }
+
+        public void complete(String analysis) {
+            close();
+            finish(channel.alertId, channel, "done", analysis != null ? analysis : text.toString());
+        }
+
+        public void fail(String reason) {
+            close();
+            finish(channel.alertId, channel, "error", reason);
+        }
+
+        /**
+         * 최종 분석은 파이프라인이 저장하므로 남은 중간 저장은 버림
+         */
+        private void close() {
+            closed = true;
+            pendingSnapshot.set(null);
+        }
+
+        private void scheduleSnapshot() {
+            if (closed || !writing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                snapshotExecutor.execute(this::writeSnapshots);
+            } catch (TaskRejectedException e) {
+                writing.set(false);
+                logger.warn("스트리밍 분석 중간 저장 생략 (실행기 포화): alertId={}", channel.alertId);
+            }
+        }
+
+        private void writeSnapshots() {
+            try {
+                String snapshot;
+                while (!closed && (snapshot = pendingSnapshot.getAndSet(null)) != null) {
+                    try {
+                        snapshotWriter.accept(snapshot);
+                    } catch (RuntimeException e) {
+                        logger.warn("스트리밍 분석 중간 저장 실패: alertId={}, error={}", channel.alertId, e.getMessage());
+                    }
+                }
+            } finally {
+                writing.set(false);
+            }
+            // 저장을 마치는 사이에 들어온 스냅샷
+            if (pendingSnapshot.get() != null) {
+                scheduleSnapshot();
+            }
+        }
+    }
+
+    /**
+     * 알림별 구독자 목록과 누적 텍스트 (SseEmitter 는 동시 전송을 지원하지 않으므로 lock 안에서 전송)
+     */
+    private static final class Channel {
+
+        private final Long alertId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private boolean streaming;
+
+        private Channel(Long alertId) {
+            this.alertId = alertId;
+        }
+
+        void add(SseEmitter emitter, String storedAnalysis) {
+            lock.lock();
+            try {
+                String snapshot = streaming ? text.toString() : storedAnalysis;
+                if (snapshot != null && !snapshot.isEmpty()) {
+                    send(emitter, "snapshot", snapshot);
+                }
+                emitters.add(emitter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(SseEmitter emitter) {
+            lock.lock();
+            try {
+                emitters.remove(emitter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isIdle() {
+            lock.lock();
+            try {
+                return emitters.isEmpty() && !streaming;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void begin() {
+            lock.lock();
+            try {
+                streaming = true;
+                text.setLength(0);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void delta(String delta) {
+            lock.lock();
+            try {
+                text.append(delta);
+                // 전송 실패 시 완료 콜백이 같은 스레드에서 remove 를 호출할 수 있으므로 복사본으로 순회
+                for (SseEmitter emitter : List.copyOf(emitters)) {
+                    if (!send(emitter, "delta", delta)) {
+                        emitters.remove(emitter);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void finish(String event, String data) {
+            lock.lock();
+            try {
+                List<SseEmitter> finishing = List.copyOf(emitters);
+                emitters.clear();
+                streaming = false;
+                for (SseEmitter emitter : finishing) {
+                    if (send(emitter, event, data)) {
+                        emitter.complete();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 이벤트 전송 (실패한 구독자는 종료 처리하고 false)
+         */
+        private static boolean send(SseEmitter emitter, String event, String data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data == null ? "" : data));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
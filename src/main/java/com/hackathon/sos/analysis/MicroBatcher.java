@@ -0,0 +1,154 @@
+package com.hackathon.sos.analysis;
+
+import com.hackathon.sos.exception.AnalysisUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 마이크로 배치 수집기
+ * 첫 항목이 들어온 뒤 windowMillis 동안(또는 maxBatchSize 가 찰 때까지) 모은 항목을 한 번에 처리하고,
+ * 결과를 항목별 Future 로 나눠 돌려줍니다
+ * handler 는 입력과 같은 순서·크기의 결과 목록을 돌려주며, null 인 결과는 해당 항목만 실패로 처리됩니다
+ * 대기 시간 타이머는 호출한 쪽이 넘긴 스케줄러(Spring 빈)를 쓰므로 종료 시 스레드가 남지 않습니다
+ */
+public final class MicroBatcher<I, O> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private final String name;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final Function<List<I>, List<O>> handler;
+    private final Executor executor;
+    private final TaskScheduler timer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending<I, O>> current = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public MicroBatcher(String name, long windowMillis, int maxBatchSize,
+                        Function<List<I>, List<O>> handler, Executor executor, TaskScheduler timer) {
+        this.name = name;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.handler = handler;
+        this.executor = executor;
+        this.timer = timer;
+    }
+
+    public CompletableFuture<O> submit(I item) {
+        Pending<I, O> pending = new Pending<>(item, new CompletableFuture<>());
+        List<Pending<I, O>> full = null;
+
+        lock.lock();
+        try {
+            current.add(pending);
+            if (current.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if (current.size() == 1) {
+                try {
+                    scheduledFlush = timer.schedule(this::flush, Instant.now().plusMillis(windowMillis));
+                } catch (TaskRejectedException e) {
+                    // 종료 중이라 타이머를 쓸 수 없으면 기다리지 않고 바로 처리
+                    full = takeBatch();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return pending.result();
+    }
+
+    private void flush() {
+        List<Pending<I, O>> batch;
+        lock.lock();
+        try {
+            batch = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * 현재 모인 항목을 꺼내고 예약된 flush 취소 (lock 보유 상태에서 호출)
+     */
+    private List<Pending<I, O>> takeBatch() {
+        List<Pending<I, O>> batch = current;
+        current = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        try {
+            executor.execute(() -> process(batch));
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void process(List<Pending<I, O>> batch) {
+        List<O> results;
+        try {
+            results = handler.apply(batch.stream().map(Pending::item).toList());
+        } catch (RuntimeException e) {
+            fail(batch, e);
+            return;
+        }
+
+        if (results == null || results.size() != batch.size()) {
+            fail(batch, new AnalysisUnavailableException(name + " 배치 결과 개수 불일치"));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            O result = results.get(i);
+            if (result != null) {
+                batch.get(i).result().complete(result);
+            } else {
+                batch.get(i).result().completeExceptionally(
+                        new AnalysisUnavailableException(name + " 배치 결과 누락: index=" + i));
+            }
+        }
+        logger.debug("{} 배치 처리 완료: size={}", name, batch.size());
+    }
+
+    private void fail(List<Pending<I, O>> batch, Throwable error) {
+        for (Pending<I, O> pending : batch) {
+            pending.result().completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 모인 항목을 바로 처리 (타이머 스케줄러는 Spring 이 종료)
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private record Pending<I, O>(I item, CompletableFuture<O> result) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.hackathon.sos.analysis;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 음성 텍스트 정규화와 MinHash 서명
+ * 정규화: NFKC → 소문자 → 문자/숫자 외 제거 → 공백 정리 (음성 인식의 띄어쓰기 차이는 서명에서 무시)
+ * 서명: 공백을 뺀 문자 3-gram 집합에 대해 해시 함수별 최솟값 (서명 일치 비율 ≈ 자카드 유사도)
+ */
+public final class MinHash {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private final long[] seeds;
+
+    public MinHash(int numHashes, long seed) {
+        this.seeds = new long[numHashes];
+        long state = seed;
+        for (int i = 0; i < numHashes; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+    }
+
+    public int size() {
+        return seeds.length;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder normalized = new StringBuilder(folded.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 정규화된 텍스트의 MinHash 서명
+     */
+    public int[] signature(String normalized) {
+        int[] signature = new int[seeds.length];
+        long[] minimums = new long[seeds.length];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+
+        for (long shingle : shingles(normalized)) {
+            for (int i = 0; i < seeds.length; i++) {
+                long hash = mix(shingle ^ seeds[i]);
+                if (hash < minimums[i]) {
+                    minimums[i] = hash;
+                }
+            }
+        }
+
+        for (int i = 0; i < seeds.length; i++) {
+            signature[i] = (int) (minimums[i] ^ (minimums[i] >>> 32));
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명의 추정 자카드 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static Set<Long> shingles(String normalized) {
+        String compact = normalized.replace(" ", "");
+        Set<Long> shingles = new HashSet<>();
+        if (compact.length() <= SHINGLE_SIZE) {
+            shingles.add(hash(compact, 0, compact.length()));
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= compact.length(); i++) {
+            shingles.add(hash(compact, i, i + SHINGLE_SIZE));
+        }
+        return shingles;
+    }
+
+    /**
+     * FNV-1a 64비트 문자열 해시
+     */
+    private static long hash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 비트 섞기
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,194 @@
+package com.hackathon.sos.analysis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 음성 텍스트 유사도 기반 AI 분석 캐시
+ * 정규화된 텍스트가 같으면 그대로, 다르면 MinHash/LSH 로 찾은 후보 중 추정 자카드 유사도가 기준 이상인
+ * 최근 분석 결과(분석 문구, 유형, 원본 알림 ID)를 재사용합니다
+ * 항목 수와 TTL 로 메모리를 제한하며, 제거된 항목은 LSH 버킷에서도 함께 빠집니다
+ * 버킷 등록은 항목 저장과, 버킷 제거는 항목 제거와 같은 원자적 연산 안에서 하므로 (eviction listener 는 동기 실행)
+ * 같은 텍스트가 만료 직후 다시 저장돼도 늦게 실행된 제거가 새 항목의 버킷을 지우지 않습니다
+ */
+@Component
+public class TranscriptAnalysisCache {
+
+    private static final long MINHASH_SEED = 0x5EED5EEDL;
+
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int bands;
+    private final int rowsPerBand;
+
+    private final MinHash minHash;
+    private final Cache<String, Entry> entries;
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    private final Counter exactHits;
+    private final Counter similarHits;
+
+    @Autowired
+    public TranscriptAnalysisCache(
+            MeterRegistry meterRegistry,
+            @Value("${analysis.cache.enabled}") boolean enabled,
+            @Value("${analysis.cache.max-entries}") long maxEntries,
+            @Value("${analysis.cache.ttl-minutes}") long ttlMinutes,
+            @Value("${analysis.cache.similarity-threshold}") double similarityThreshold,
+            @Value("${analysis.cache.lsh-bands}") int bands,
+            @Value("${analysis.cache.lsh-rows}") int rowsPerBand) {
+        this(meterRegistry, enabled, maxEntries, ttlMinutes, similarityThreshold, bands, rowsPerBand,
+                Ticker.systemTicker());
+    }
+
+    TranscriptAnalysisCache(MeterRegistry meterRegistry, boolean enabled, long maxEntries, long ttlMinutes,
+                            double similarityThreshold, int bands, int rowsPerBand, Ticker ticker) {
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.minHash = new MinHash(bands * rowsPerBand, MINHASH_SEED);
+
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .ticker(ticker)
+                .evictionListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (key != null && entry != null) {
+                        unindex(key, entry.signature());
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "transcriptAnalysis");
+        this.exactHits = hitCounter(meterRegistry, "exact");
+        this.similarHits = hitCounter(meterRegistry, "similar");
+    }
+
+    /**
+     * 같거나 유사한 음성 텍스트의 최근 분석 조회
+     */
+    public Optional<Hit> lookup(String transcript) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String key = MinHash.normalize(transcript);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry exact = entries.getIfPresent(key);
+        if (exact != null) {
+            exactHits.increment();
+            return Optional.of(new Hit(exact, 1.0));
+        }
+
+        int[] signature = minHash.signature(key);
+        Entry best = null;
+        double bestSimilarity = 0;
+        for (int band = 0; band < bands; band++) {
+            Set<String> candidates = buckets.get(bandKey(signature, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (String candidateKey : candidates) {
+                Entry candidate = entries.getIfPresent(candidateKey);
+                if (candidate == null) {
+                    continue;
+                }
+                double similarity = MinHash.similarity(signature, candidate.signature());
+                if (similarity > bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        if (best == null || bestSimilarity < similarityThreshold) {
+            return Optional.empty();
+        }
+        similarHits.increment();
+        return Optional.of(new Hit(best, bestSimilarity));
+    }
+
+    /**
+     * AI 분석 결과 저장 (같은 정규화 텍스트는 최신 결과로 교체)
+     */
+    public void put(String transcript, Long sourceAlertId, String analysis, EmergencyType type) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = MinHash.normalize(transcript);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        int[] signature = minHash.signature(key);
+        Entry entry = new Entry(sourceAlertId, analysis, type, signature);
+        // 같은 키는 서명도 같으므로 교체 시에는 다시 등록해도 그대로
+        entries.asMap().compute(key, (k, previous) -> {
+            index(k, signature);
+            return entry;
+        });
+    }
+
+    private void index(String key, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void unindex(String key, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfPresent(bandKey(signature, band), (k, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * 밴드 번호와 밴드 안 서명 값들로 만든 LSH 버킷 키
+     */
+    private long bandKey(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * rowsPerBand, end = row + rowsPerBand; row < end; row++) {
+            hash = MinHash.mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+
+    private static Counter hitCounter(MeterRegistry meterRegistry, String match) {
+        return Counter.builder("sos.analysis.cache.hits")
+                .description("AI 분석 캐시 재사용 수 (exact: 정규화 텍스트 일치, similar: MinHash 유사)")
+                .tag("match", match)
+                .register(meterRegistry);
+    }
+
+    public record Entry(Long sourceAlertId, String analysis, EmergencyType type, int[] signature) {
+    }
+
+    /**
+     * 재사용할 분석과 추정 유사도
+     */
+    public record Hit(Entry entry, double similarity) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.hackathon.sos.classifier;
+
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+
+import java.util.List;
+
+/**
+ * 긴급 상황 유형 분류 결과
+ *
+ * @param ranking    가중치 합이 큰 순으로 정렬한 유형별 점수 (매칭이 없으면 비어 있음)
+ * @param confidence 1위 유형의 신뢰도 (0.0 ~ 1.0, 근거가 많고 경쟁 유형이 적을수록 높음)
+ */
+public record EmergencyClassification(List<TypeScore> ranking, double confidence) {
+
+    public static final EmergencyClassification UNKNOWN = new EmergencyClassification(List.of(), 0.0);
+
+    /**
+     * 1위 유형 (매칭이 없으면 OTHER)
+     */
+    public EmergencyType type() {
+        return ranking.isEmpty() ? EmergencyType.OTHER : ranking.get(0).type();
+    }
+
+    public record TypeScore(EmergencyType type, double score, int hits) {
+    }
+}
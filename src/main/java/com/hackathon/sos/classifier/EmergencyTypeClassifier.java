@@ -0,0 +1,124 @@
+package com.hackathon.sos.classifier;
+
+import com.hackathon.sos.classifier.EmergencyClassification.TypeScore;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 키워드 사전 기반 긴급 상황 유형 분류기
+ * 사전(TSV: 유형, 가중치, 키워드)을 Aho-Corasick 오토마톤으로 컴파일해 두고,
+ * 본문을 한 번 훑어 유형별 가중치 합을 계산한 뒤 점수 순위와 신뢰도를 돌려줍니다
+ * 동점이면 EmergencyType 선언 순서를 따릅니다
+ */
+@Component
+public class EmergencyTypeClassifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmergencyTypeClassifier.class);
+
+    /** 신뢰도 계산 시 분모에 더하는 사전 가중치 (근거가 적은 분류의 신뢰도를 낮춤) */
+    private static final double CONFIDENCE_PRIOR = 1.0;
+
+    private static final EmergencyType[] TYPES = EmergencyType.values();
+
+    private final KeywordAutomaton automaton;
+    private final EmergencyType[] keywordTypes;
+    private final double[] keywordWeights;
+
+    @Autowired
+    public EmergencyTypeClassifier(@Value("${classifier.keywords-location}") Resource dictionary) throws IOException {
+        this(load(dictionary));
+        logger.info("긴급 유형 키워드 사전 로드 완료: location={}, keywords={}", dictionary, keywordTypes.length);
+    }
+
+    public EmergencyTypeClassifier(List<Keyword> keywords) {
+        this.automaton = new KeywordAutomaton(keywords.stream().map(Keyword::keyword).toList());
+        this.keywordTypes = keywords.stream().map(Keyword::type).toArray(EmergencyType[]::new);
+        this.keywordWeights = keywords.stream().mapToDouble(Keyword::weight).toArray();
+    }
+
+    /**
+     * 본문 분류 (null 또는 매칭 없음이면 UNKNOWN)
+     */
+    public EmergencyClassification classify(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return EmergencyClassification.UNKNOWN;
+        }
+
+        double[] scores = new double[TYPES.length];
+        int[] hits = new int[TYPES.length];
+        automaton.scan(text, keyword -> {
+            int type = keywordTypes[keyword].ordinal();
+            scores[type] += keywordWeights[keyword];
+            hits[type]++;
+        });
+
+        List<TypeScore> ranking = new ArrayList<>();
+        double total = 0;
+        for (EmergencyType type : TYPES) {
+            if (hits[type.ordinal()] > 0) {
+                ranking.add(new TypeScore(type, scores[type.ordinal()], hits[type.ordinal()]));
+                total += scores[type.ordinal()];
+            }
+        }
+        if (ranking.isEmpty()) {
+            return EmergencyClassification.UNKNOWN;
+        }
+
+        // 안정 정렬이므로 동점은 선언 순서 유지
+        ranking.sort(Comparator.comparingDouble(TypeScore::score).reversed());
+        double confidence = ranking.get(0).score() / (total + CONFIDENCE_PRIOR);
+        return new EmergencyClassification(List.copyOf(ranking), confidence);
+    }
+
+    /**
+     * 키워드 사전 읽기 (# 주석과 빈 줄 무시, 형식 오류는 기동 시 실패)
+     */
+    public static List<Keyword> load(Resource dictionary) throws IOException {
+        try (InputStream in = dictionary.getInputStream()) {
+            return load(in);
+        }
+    }
+
+    public static List<Keyword> load(InputStream in) throws IOException {
+        List<Keyword> keywords = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] columns = line.split("\t");
+            if (columns.length != 3 || columns[2].isBlank()) {
+                throw new IllegalStateException("키워드 사전 " + lineNumber + "행 형식 오류: " + line);
+            }
+            try {
+                keywords.add(new Keyword(EmergencyType.valueOf(columns[0].strip()),
+                        Double.parseDouble(columns[1].strip()), columns[2].strip()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("키워드 사전 " + lineNumber + "행 값 오류: " + line, e);
+            }
+        }
+        return keywords;
+    }
+
+    public record Keyword(EmergencyType type, double weight, String keyword) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.hackathon.sos.classifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick 다중 패턴 매칭 오토마톤
+ * 모든 키워드를 한 번에 컴파일해 두고, 본문을 한 번만 훑으면서 겹치는 매칭까지 모두 보고합니다
+ *
+ * 실패 링크를 미리 펼친 DFA 전이 표를 사용하므로 본문 문자당 표 조회 한 번으로 다음 상태가 정해집니다
+ * 키워드에 쓰인 문자만 알파벳으로 두고(대소문자는 같은 기호), 그 밖의 문자는 곧바로 시작 상태로 돌아갑니다
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    /** 문자 → 알파벳 기호 (0 = 키워드에 없는 문자) */
+    private final short[] symbolOf = new short[Character.MAX_VALUE + 1];
+    private final int alphabetSize;
+
+    /** 전이 표 (상태 * 알파벳 크기 + 기호) */
+    private final int[] delta;
+    private final int[][] outputs;
+
+    public KeywordAutomaton(List<String> patterns) {
+        Map<Character, Short> symbols = new HashMap<>();
+        List<Map<Short, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> own = new ArrayList<>();
+        trie.add(new HashMap<>());
+        own.add(new ArrayList<>());
+
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 키워드는 등록할 수 없습니다");
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                short symbol = symbols.computeIfAbsent(c, key -> (short) (symbols.size() + 1));
+                Integer next = trie.get(state).get(symbol);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    own.add(new ArrayList<>());
+                    trie.get(state).put(symbol, next);
+                }
+                state = next;
+            }
+            own.get(state).add(p);
+        }
+
+        if (symbols.size() >= Short.MAX_VALUE) {
+            throw new IllegalArgumentException("키워드 알파벳이 너무 큽니다: " + symbols.size());
+        }
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            Short symbol = symbols.get(Character.toLowerCase((char) c));
+            if (symbol != null) {
+                symbolOf[c] = symbol;
+            }
+        }
+
+        int states = trie.size();
+        this.alphabetSize = symbols.size() + 1;
+        this.delta = new int[states * alphabetSize];
+        this.outputs = new int[states][];
+        outputs[ROOT] = NO_OUTPUT;
+
+        // BFS: 자식의 실패 상태는 항상 더 얕으므로 그 전이 행이 먼저 완성되어 있음
+        int[] failure = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (Map.Entry<Short, Integer> edge : trie.get(ROOT).entrySet()) {
+            int child = edge.getValue();
+            delta[edge.getKey()] = child;
+            failure[child] = ROOT;
+            outputs[child] = toArray(own.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int row = state * alphabetSize;
+            int failureRow = failure[state] * alphabetSize;
+
+            for (int symbol = 1; symbol < alphabetSize; symbol++) {
+                Integer child = trie.get(state).get((short) symbol);
+                if (child == null) {
+                    delta[row + symbol] = delta[failureRow + symbol];
+                    continue;
+                }
+
+                delta[row + symbol] = child;
+                failure[child] = delta[failureRow + symbol];
+                outputs[child] = toArray(own.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 본문을 한 번 훑으며 매칭된 키워드 번호(등록 순서)를 모두 전달
+     */
+    public void scan(CharSequence text, IntConsumer onMatch) {
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            int symbol = symbolOf[text.charAt(i)];
+            state = symbol == 0 ? ROOT : delta[state * alphabetSize + symbol];
+
+            int[] matched = outputs[state];
+            for (int pattern : matched) {
+                onMatch.accept(pattern);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
@@ -0,0 +1,212 @@
+package com.hackathon.sos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 긴급 알림 처리 파이프라인 단계별 스레드 풀 설정
+ * 각 단계는 고정 크기 풀 + 제한된 큐를 가집니다. 보강/역지오코딩/분류/알림 실행기는 큐가 가득 차면 제출을 거절하고
+ * (AbortPolicy) 파이프라인이 단계 상태를 DB 에 남긴 채 재시도 스케줄러로 다시 넘기므로, 넘친 단계 작업이
+ * 커밋 직후의 요청 스레드에서 실행되지 않습니다. 나머지 실행기는 큐가 가득 차면 제출한 스레드에서 실행합니다 (CallerRunsPolicy)
+ * spring.threads.virtual.enabled=true 이면 모든 실행기가 가상 스레드를 사용하고, pool-size는 동시 실행 한도로 쓰입니다
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * @Async 기본 실행기 (스테이지 실행기를 등록하면 Spring Boot 기본 실행기가 생성되지 않으므로 직접 등록)
+     */
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public AsyncTaskExecutor taskExecutor(
+            @Value("${spring.task.execution.pool.core-size:8}") int poolSize,
+            @Value("${spring.task.execution.pool.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor("task-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 보강(enrich) 단계 실행기
+     */
+    @Bean
+    public AsyncTaskExecutor enrichExecutor(
+            @Value("${alert.pipeline.enrich.pool-size}") int poolSize,
+            @Value("${alert.pipeline.enrich.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-enrich-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 역지오코딩 실행기 (보강 단계 작업 뒤에 줄 서서 마감 시간을 넘기지 않도록 보강 단계와 분리)
+     */
+    @Bean
+    public AsyncTaskExecutor geocodeExecutor(
+            @Value("${alert.pipeline.geocode.pool-size}") int poolSize,
+            @Value("${alert.pipeline.geocode.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-geocode-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * GPT 분석 실행기 (주소 조회와 병렬로 실행되는 보강 작업)
+     */
+    @Bean
+    public AsyncTaskExecutor analysisExecutor(
+            @Value("${alert.pipeline.analysis.pool-size}") int poolSize,
+            @Value("${alert.pipeline.analysis.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-analysis-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 보강 결과 병합/유형 분류(classify) 단계 실행기
+     */
+    @Bean
+    public AsyncTaskExecutor classifyExecutor(
+            @Value("${alert.pipeline.classify.pool-size}") int poolSize,
+            @Value("${alert.pipeline.classify.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-classify-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 긴급 연락처 알림(notify) 단계 실행기
+     */
+    @Bean
+    public AsyncTaskExecutor notifyExecutor(
+            @Value("${alert.pipeline.notify.pool-size}") int poolSize,
+            @Value("${alert.pipeline.notify.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-notify-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 실시간 알림 피드 전송 실행기 (알림 상태 조회 + 직렬화, 실제 WebSocket 전송은 STOMP 출력 채널에서 수행)
+     */
+    @Bean
+    public AsyncTaskExecutor feedExecutor(
+            @Value("${alert.pipeline.feed.pool-size}") int poolSize,
+            @Value("${alert.pipeline.feed.queue-capacity}") int queueCapacity) {
+        return createExecutor("alert-feed-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 스트리밍 분석 중간 저장 실행기 (토큰 수신 스레드가 DB 를 기다리지 않게 함)
+     * 스트림마다 저장 작업은 하나만 대기하므로 큐 길이는 동시 스트림 수를 넘지 않습니다
+     */
+    @Bean
+    public AsyncTaskExecutor snapshotExecutor(
+            @Value("${alert.pipeline.snapshot.pool-size}") int poolSize,
+            @Value("${alert.pipeline.snapshot.queue-capacity}") int queueCapacity) {
+        return createExecutor("analysis-snapshot-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 알림 아웃박스 발송 워커 실행기 (워커 수만큼 스레드를 상주시킴)
+     */
+    @Bean
+    public AsyncTaskExecutor dispatchExecutor(@Value("${notification.outbox.workers}") int workers) {
+        return createExecutor("outbox-dispatch-", workers, 0);
+    }
+
+    /**
+     * OpenAI 헤지 호출 실행기 (동시 호출 수는 적응형 한도가 제한하므로 큐 없이 한도 최대값만큼 허용)
+     */
+    @Bean
+    public AsyncTaskExecutor openAiCallExecutor(@Value("${openai.resilience.limit.max}") int maxLimit) {
+        return createExecutor("openai-call-", maxLimit, 0);
+    }
+
+    /**
+     * 마이크로 배치 대기 시간 타이머 (창이 끝나면 모인 항목을 분석 실행기로 넘기기만 하므로 스레드 하나)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler batchTimerScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("batch-timer-");
+        // 배치가 차서 먼저 처리되면 예약이 취소되므로 취소된 예약은 큐에서 바로 뺌
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * 단계 실행기 큐가 가득 차 거절된 파이프라인 작업 재시도 타이머 (다시 넘기기만 하므로 스레드 하나)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler pipelineRetryScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("pipeline-retry-");
+        return scheduler;
+    }
+
+    private AsyncTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        return createExecutor(threadNamePrefix, poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private AsyncTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                             RejectedExecutionHandler rejectionPolicy) {
+        if (virtualThreads) {
+            // 가상 스레드 모드: 작업마다 가상 스레드를 만들고, 실행 시작 시점에 세마포어로 동시 실행 수를 제한
+            // 제출 시점에 막으면(setConcurrencyLimit) OSIV로 DB 커넥션을 쥔 요청 스레드가 대기하면서
+            // 커넥션 풀이 고갈되므로, 대기는 새로 만든 가상 스레드 안에서만 일어나게 함
+            PermitLimitedExecutor executor = new PermitLimitedExecutor(threadNamePrefix, poolSize);
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 실행을 기다리는 작업 수 (스레드 풀은 큐 길이, 가상 스레드 모드는 동시 실행 한도에서 대기 중인 작업 수)
+     */
+    public static int queuedTasks(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getQueueSize();
+        }
+        if (executor instanceof PermitLimitedExecutor limited) {
+            return limited.permits.getQueueLength();
+        }
+        return 0;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만들고, 실행 시작 시점에 세마포어로 동시 실행 수를 제한하는 실행기
+     */
+    static class PermitLimitedExecutor extends SimpleAsyncTaskExecutor {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Semaphore permits;
+
+        PermitLimitedExecutor(String threadNamePrefix, int limit) {
+            super(threadNamePrefix);
+            this.permits = new Semaphore(limit);
+            setTaskDecorator(task -> () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.hackathon.sos.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * location_history ID 시퀀스를 기존 행의 MAX(id) 뒤로 맞춤
+ * IDENTITY 로 만든 기존 테이블에 풀링 시퀀스를 붙이면 시퀀스가 1부터 시작해 기존 ID와 충돌하므로,
+ * 스키마 갱신이 끝나고 요청을 받기 전에 한 번 확인해 모자라면 올립니다 (이미 충분하면 그대로 둠)
+ * MySQL 은 시퀀스 대신 같은 이름의 테이블(next_val), H2 는 실제 시퀀스를 씁니다
+ */
+@Component
+public class LocationHistorySequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationHistorySequenceInitializer.class);
+
+    static final String SEQUENCE = "location_history_seq";
+
+    /** LocationHistory 의 allocationSize (풀링 옵티마이저는 받은 값 아래 이만큼을 ID로 쓰므로 그만큼 더 띄움) */
+    static final long ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public LocationHistorySequenceInitializer(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    /**
+     * 시퀀스 다음 값을 MAX(id) + allocationSize + 1 이상으로 맞춤
+     *
+     * @return 시퀀스를 올렸으면 true
+     */
+    public boolean seed() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM location_history", Long.class);
+        long required = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+
+        String product = databaseProduct();
+        boolean raised;
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            raised = jdbcTemplate.update(
+                    "UPDATE " + SEQUENCE + " SET next_val = ? WHERE next_val < ?", required, required) > 0;
+        } else if (product.contains("h2")) {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                    Long.class, SEQUENCE.toUpperCase());
+            raised = next == null || next < required;
+            if (raised) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE + " RESTART WITH " + required);
+            }
+        } else {
+            logger.warn("{} 시퀀스 초기화를 지원하지 않는 DB: {} (MAX(id)={})", SEQUENCE, product, maxId);
+            return false;
+        }
+
+        if (raised) {
+            logger.info("{} 다음 값을 {} 로 맞춤 (MAX(id)={})", SEQUENCE, required, maxId);
+        }
+        return raised;
+    }
+
+    private String databaseProduct() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    metaData -> metaData.getDatabaseProductName());
+            return product == null ? "" : product.toLowerCase();
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인하지 못했습니다", e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.hackathon.sos.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import retrofit2.Retrofit;
 
 import java.time.Duration;
 
@@ -13,8 +17,25 @@ public class OpenAIConfig {
     @Value("${openai.api-key}")
     private String apiKey;
 
+    @Value("${openai.base-url}")
+    private String baseUrl;  // 부하 테스트 시 로컬 스텁 서버로 교체
+
+    @Value("${openai.timeout-seconds}")
+    private long timeoutSeconds;
+
     @Bean
     public OpenAiService openAiService() {
-        return new OpenAiService(apiKey, Duration.ofSeconds(60));
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        // 읽기 타임아웃뿐 아니라 호출 전체에 상한을 두어, 느린 응답이 한도 슬롯을 오래 붙잡지 않게 함
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, Duration.ofSeconds(timeoutSeconds)).newBuilder()
+                .callTimeout(Duration.ofSeconds(timeoutSeconds))
+                .build();
+
+        // 기본 Retrofit 설정(Jackson 변환기, RxJava 어댑터)을 그대로 쓰고 접속 주소만 교체
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, mapper).newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
-}
\ No newline at end of file
+}
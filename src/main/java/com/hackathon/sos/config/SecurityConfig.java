@@ -1,6 +1,7 @@
 package com.hackathon.sos.config;
 
 import com.hackathon.sos.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,8 +57,12 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()  // 🔥 추가!
                         .requestMatchers("/emergency/alert").permitAll()
                         .requestMatchers("/api/emergency/alert").permitAll()  // 🔥 추가!
+                        .requestMatchers("/location/pings", "/api/location/pings").permitAll()  // 장치 ID로 식별
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")  // 지표는 관리자만
+                        .requestMatchers("/ws/**", "/api/ws/**").permitAll()  // 핸드셰이크에서 JWT 직접 확인
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 스트리밍 응답 완료 후 재디스패치 (최초 요청에서 인증됨)
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
@@ -1,11 +1,19 @@
 package com.hackathon.sos.config;
 
+import com.hackathon.sos.security.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
     
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -21,4 +29,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)  // 쿠키/인증 허용
                 .maxAge(3600);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
@@ -0,0 +1,93 @@
+package com.hackathon.sos.config;
+
+import com.hackathon.sos.feed.AlertFeedSubscriptionInterceptor;
+import com.hackathon.sos.security.JwtHandshakeInterceptor;
+import com.hackathon.sos.security.WebSocketPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 긴급 알림 실시간 피드 (STOMP over WebSocket)
+ * 토픽: /topic/users/{userId}/alerts (사용자의 모든 알림), /topic/alerts/{alertId} (알림 한 건)
+ * 느린 구독자는 출력 버퍼/전송 시간 한도를 넘으면 연결을 끊어 다른 구독자와 서버 메모리에 영향을 주지 않게 합니다
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final AlertFeedSubscriptionInterceptor alertFeedSubscriptionInterceptor;
+
+    @Value("${feed.websocket.allowed-origins}")
+    private String[] allowedOrigins;
+
+    @Value("${feed.websocket.send-time-limit-ms}")
+    private int sendTimeLimitMs;
+
+    @Value("${feed.websocket.send-buffer-size-kb}")
+    private int sendBufferSizeKb;
+
+    @Value("${feed.websocket.message-size-limit-kb}")
+    private int messageSizeLimitKb;
+
+    @Value("${feed.websocket.heartbeat-ms}")
+    private long heartbeatMs;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setHandshakeHandler(new DefaultHandshakeHandler() {
+                    @Override
+                    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                                      Map<String, Object> attributes) {
+                        return (WebSocketPrincipal) attributes.get(JwtHandshakeInterceptor.PRINCIPAL_ATTRIBUTE);
+                    }
+                });
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(feedHeartbeatScheduler());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(alertFeedSubscriptionInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setMessageSizeLimit(messageSizeLimitKb * 1024);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler feedHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("feed-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
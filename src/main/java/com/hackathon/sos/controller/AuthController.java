@@ -4,12 +4,14 @@ import com.hackathon.sos.dto.request.LoginRequest;
 import com.hackathon.sos.dto.request.SignupRequest;
 import com.hackathon.sos.dto.response.ApiResponse;
 import com.hackathon.sos.dto.response.JwtResponse;
+import com.hackathon.sos.security.UserPrincipal;
 import com.hackathon.sos.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -44,14 +46,18 @@ public class AuthController {
     }
 
     /**
-     * 로그아웃 (클라이언트에서 토큰 삭제)
+     * 로그아웃 (현재 토큰 폐기, allDevices=true 이면 이 계정으로 발급된 모든 토큰 폐기)
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        logger.info("로그아웃 API 호출");
-
-        // JWT 방식에서는 클라이언트에서 토큰을 삭제하면 됨
-        // 필요시 토큰 블랙리스트 구현 가능
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "false") boolean allDevices) {
+        logger.info("로그아웃 API 호출: allDevices={}", allDevices);
+
+        // 토큰이 없거나 이미 무효인 경우 폐기할 토큰이 없음
+        if (principal != null) {
+            authService.logout(principal, allDevices);
+        }
         return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다", null));
     }
-}
\ No newline at end of file
+}
@@ -2,21 +2,27 @@ package com.hackathon.sos.controller;
 
 import com.hackathon.sos.dto.request.EmergencyAlertRequest;
 import com.hackathon.sos.dto.response.ApiResponse;
+import com.hackathon.sos.dto.response.CursorPageResponse;
 import com.hackathon.sos.dto.response.EmergencyAlertResponse;
-import com.hackathon.sos.entity.User;
+import com.hackathon.sos.dto.response.NearbyAlertResponse;
+import com.hackathon.sos.dto.response.OpenAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.security.CurrentUser;
 import com.hackathon.sos.service.EmergencyService;
-import com.hackathon.sos.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
+
 @RestController
 @RequestMapping("/emergency")
 @RequiredArgsConstructor
@@ -25,7 +31,6 @@ public class EmergencyController {
     private static final Logger logger = LoggerFactory.getLogger(EmergencyController.class);
 
     private final EmergencyService emergencyService;
-    private final UserService userService;
 
     /**
      * 긴급 알림 생성 (아두이노/라즈베리파이에서 호출)
@@ -33,29 +38,85 @@ public class EmergencyController {
      */
     @PostMapping("/alert")
     public ResponseEntity<ApiResponse<EmergencyAlertResponse>> createEmergencyAlert(
-            @Valid @RequestBody EmergencyAlertRequest request) {
+            @Valid @RequestBody EmergencyAlertRequest request, HttpServletRequest httpRequest) {
         logger.info("긴급 알림 API 호출: deviceId={}", request.getDeviceId());
 
-        EmergencyAlertResponse response = emergencyService.createEmergencyAlert(request);
+        // 발신 IP/장치별 허용량은 서비스에서 장치를 확인한 뒤 판단 (진행 중 알림이 있을 때만 429)
+        EmergencyAlertResponse response = emergencyService.createEmergencyAlert(request, httpRequest.getRemoteAddr());
 
+        if (response.getPressCount() != null && response.getPressCount() > 1) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    "진행 중인 긴급 알림에 위치/음성 정보가 추가되었습니다.", response));
+        }
         return ResponseEntity.ok(ApiResponse.success(
                 "긴급 알림이 생성되었습니다. 긴급 연락처에 알림을 전송하고 있습니다.", response));
     }
 
     /**
-     * 사용자의 긴급 알림 목록 조회
+     * 사용자의 긴급 알림 목록 조회 (최신순, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
      */
     @GetMapping("/alerts")
-    public ResponseEntity<ApiResponse<List<EmergencyAlertResponse>>> getEmergencyAlerts(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        logger.info("긴급 알림 목록 조회: username={}", userDetails.getUsername());
+    public ResponseEntity<ApiResponse<CursorPageResponse<EmergencyAlertResponse>>> getEmergencyAlerts(
+            @CurrentUser Long userId,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        logger.info("긴급 알림 목록 조회: userId={}, size={}", userId, size);
+
+        CursorPageResponse<EmergencyAlertResponse> alerts = emergencyService.getUserEmergencyAlerts(userId, size, cursor);
+
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+
+    /**
+     * 지점 주변 긴급 알림 조회 (관리자, 가까운 순)
+     * 기본은 진행 중 알림만, includeClosed=true 면 해결/오작동 처리된 과거 알림까지 포함
+     */
+    @GetMapping("/alerts/nearby")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<NearbyAlertResponse>>> getNearbyAlerts(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false, defaultValue = "2000") double radiusMeters,
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeClosed) {
+        logger.info("주변 긴급 알림 조회: latitude={}, longitude={}, radiusMeters={}, includeClosed={}",
+                latitude, longitude, radiusMeters, includeClosed);
+
+        List<NearbyAlertResponse> alerts = emergencyService.findNearbyAlerts(
+                latitude, longitude, radiusMeters, limit, includeClosed);
+
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+
+    /**
+     * 진행 중 긴급 알림 조회 (관리자, 최신순, 메모리 색인에서 바로 응답)
+     */
+    @GetMapping("/alerts/open")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<OpenAlertResponse>>> getOpenAlerts(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) EmergencyAlert.EmergencyStatus status,
+            @RequestParam(required = false) EmergencyAlert.EmergencyType type) {
+        logger.info("진행 중 긴급 알림 조회: userId={}, status={}, type={}", userId, status, type);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        List<EmergencyAlertResponse> alerts = emergencyService.getUserEmergencyAlerts(user.getId());
+        List<OpenAlertResponse> alerts = emergencyService.getOpenAlerts(userId, status, type);
 
         return ResponseEntity.ok(ApiResponse.success(alerts));
     }
 
+    /**
+     * 진행 중 알림 색인 정합성 검사 즉시 실행 (관리자, 응답 = 바로잡은 알림 수)
+     */
+    @PostMapping("/alerts/open/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> verifyOpenAlerts() {
+        logger.info("진행 중 알림 정합성 검사 요청");
+
+        int corrected = emergencyService.verifyOpenAlerts();
+
+        return ResponseEntity.ok(ApiResponse.success(corrected));
+    }
+
     /**
      * 긴급 알림 상세 조회
      */
@@ -69,19 +130,28 @@ public class EmergencyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 긴급 알림 AI 분석 실시간 구독 (SSE: snapshot, delta, done, error 이벤트)
+     */
+    @GetMapping(value = "/alerts/{alertId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchEmergencyAlertAnalysis(
+            @CurrentUser Long userId,
+            @PathVariable Long alertId) {
+        logger.info("긴급 알림 분석 구독: userId={}, alertId={}", userId, alertId);
+
+        return emergencyService.watchAnalysis(userId, alertId);
+    }
+
     /**
      * 긴급 알림 해결 처리
      */
     @PatchMapping("/alerts/{alertId}/resolve")
     public ResponseEntity<ApiResponse<EmergencyAlertResponse>> resolveEmergencyAlert(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser Long userId,
             @PathVariable Long alertId) {
-        logger.info("긴급 알림 해결 처리: username={}, alertId={}",
-                userDetails.getUsername(), alertId);
+        logger.info("긴급 알림 해결 처리: userId={}, alertId={}", userId, alertId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        EmergencyAlertResponse response = emergencyService.resolveEmergencyAlert(
-                user.getId(), alertId);
+        EmergencyAlertResponse response = emergencyService.resolveEmergencyAlert(userId, alertId);
 
         return ResponseEntity.ok(ApiResponse.success("긴급 알림이 해결 처리되었습니다", response));
     }
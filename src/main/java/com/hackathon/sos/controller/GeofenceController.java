@@ -0,0 +1,94 @@
+package com.hackathon.sos.controller;
+
+import com.hackathon.sos.dto.request.GeofenceRequest;
+import com.hackathon.sos.dto.response.ApiResponse;
+import com.hackathon.sos.dto.response.CursorPageResponse;
+import com.hackathon.sos.dto.response.GeofenceEventResponse;
+import com.hackathon.sos.dto.response.GeofenceResponse;
+import com.hackathon.sos.security.CurrentUser;
+import com.hackathon.sos.service.GeofenceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/geofences")
+@RequiredArgsConstructor
+public class GeofenceController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceController.class);
+
+    private final GeofenceService geofenceService;
+
+    /**
+     * 지오펜스 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<GeofenceResponse>>> getGeofences(
+            @CurrentUser Long userId) {
+        logger.info("지오펜스 목록 조회: userId={}", userId);
+
+        return ResponseEntity.ok(ApiResponse.success(geofenceService.getGeofences(userId)));
+    }
+
+    /**
+     * 지오펜스 등록 (안전 구역/위험 구역, 원 또는 다각형)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<GeofenceResponse>> createGeofence(
+            @CurrentUser Long userId,
+            @Valid @RequestBody GeofenceRequest request) {
+        logger.info("지오펜스 등록 API 호출: userId={}, kind={}, shape={}", userId, request.getKind(), request.getShape());
+
+        GeofenceResponse response = geofenceService.createGeofence(userId, request);
+
+        return ResponseEntity.ok(ApiResponse.success("지오펜스가 등록되었습니다", response));
+    }
+
+    /**
+     * 지오펜스 수정
+     */
+    @PutMapping("/{geofenceId}")
+    public ResponseEntity<ApiResponse<GeofenceResponse>> updateGeofence(
+            @CurrentUser Long userId,
+            @PathVariable Long geofenceId,
+            @Valid @RequestBody GeofenceRequest request) {
+        logger.info("지오펜스 수정 API 호출: userId={}, geofenceId={}", userId, geofenceId);
+
+        GeofenceResponse response = geofenceService.updateGeofence(userId, geofenceId, request);
+
+        return ResponseEntity.ok(ApiResponse.success("지오펜스가 수정되었습니다", response));
+    }
+
+    /**
+     * 지오펜스 삭제
+     */
+    @DeleteMapping("/{geofenceId}")
+    public ResponseEntity<ApiResponse<Void>> deleteGeofence(
+            @CurrentUser Long userId,
+            @PathVariable Long geofenceId) {
+        logger.info("지오펜스 삭제 API 호출: userId={}, geofenceId={}", userId, geofenceId);
+
+        geofenceService.deleteGeofence(userId, geofenceId);
+
+        return ResponseEntity.ok(ApiResponse.success("지오펜스가 삭제되었습니다", null));
+    }
+
+    /**
+     * 진입/이탈 기록 조회 (최신순, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
+     */
+    @GetMapping("/events")
+    public ResponseEntity<ApiResponse<CursorPageResponse<GeofenceEventResponse>>> getGeofenceEvents(
+            @CurrentUser Long userId,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        logger.info("지오펜스 진입/이탈 기록 조회: userId={}, size={}", userId, size);
+
+        return ResponseEntity.ok(ApiResponse.success(geofenceService.getGeofenceEvents(userId, size, cursor)));
+    }
+}
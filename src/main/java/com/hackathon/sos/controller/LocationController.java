@@ -1,18 +1,26 @@
 package com.hackathon.sos.controller;
 
+import com.hackathon.sos.dto.request.LocationPingRequest;
 import com.hackathon.sos.dto.response.ApiResponse;
+import com.hackathon.sos.dto.response.CursorPageResponse;
 import com.hackathon.sos.dto.response.LocationHistoryResponse;
-import com.hackathon.sos.entity.User;
+import com.hackathon.sos.dto.response.LocationPingResponse;
+import com.hackathon.sos.security.CurrentUser;
+import com.hackathon.sos.service.LocationExportService;
 import com.hackathon.sos.service.LocationService;
-import com.hackathon.sos.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,20 +33,42 @@ public class LocationController {
     private static final Logger logger = LoggerFactory.getLogger(LocationController.class);
 
     private final LocationService locationService;
-    private final UserService userService;
+    private final LocationExportService locationExportService;
 
     /**
-     * 사용자의 최근 위치 히스토리 조회
+     * 장치 위치 기록 일괄 업로드 (아두이노/라즈베리파이에서 호출)
+     * 인증 불필요 - deviceId로 사용자 식별
+     * 같은 지점을 동시에 재전송한 요청과 유니크 제약이 충돌하면 한 번 다시 저장 (이미 저장된 지점은 duplicates 로 집계)
+     */
+    @PostMapping("/pings")
+    public ResponseEntity<ApiResponse<LocationPingResponse>> uploadLocationPings(
+            @Valid @RequestBody LocationPingRequest request, HttpServletRequest httpRequest) {
+        logger.info("위치 기록 업로드 API 호출: deviceId={}, points={}",
+                request.getDeviceId(), request.getPoints().size());
+
+        LocationPingResponse response;
+        try {
+            response = locationService.savePings(request, httpRequest.getRemoteAddr());
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("위치 기록 동시 저장 충돌 - 다시 저장: deviceId={}", request.getDeviceId());
+            response = locationService.savePings(request, httpRequest.getRemoteAddr());
+        }
+
+        return ResponseEntity.ok(ApiResponse.success("위치 기록이 저장되었습니다", response));
+    }
+
+    /**
+     * 사용자의 최근 위치 히스토리 조회 (limit 건씩, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
      */
     @GetMapping("/history")
-    public ResponseEntity<ApiResponse<List<LocationHistoryResponse>>> getLocationHistory(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(required = false, defaultValue = "10") int limit) {
-        logger.info("위치 히스토리 조회: username={}, limit={}", userDetails.getUsername(), limit);
+    public ResponseEntity<ApiResponse<CursorPageResponse<LocationHistoryResponse>>> getLocationHistory(
+            @CurrentUser Long userId,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor) {
+        logger.info("위치 히스토리 조회: userId={}, limit={}", userId, limit);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        List<LocationHistoryResponse> locations = locationService.getUserLocationHistory(
-                user.getId(), limit);
+        CursorPageResponse<LocationHistoryResponse> locations = locationService.getUserLocationHistory(
+                userId, limit, cursor);
 
         return ResponseEntity.ok(ApiResponse.success(locations));
     }
@@ -48,30 +78,74 @@ public class LocationController {
      */
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<LocationHistoryResponse>>> getRecentLocations(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        logger.info("최근 24시간 위치 조회: username={}", userDetails.getUsername());
+            @CurrentUser Long userId) {
+        logger.info("최근 24시간 위치 조회: userId={}", userId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        List<LocationHistoryResponse> locations = locationService.getRecentLocations(user.getId());
+        List<LocationHistoryResponse> locations = locationService.getRecentLocations(userId);
 
         return ResponseEntity.ok(ApiResponse.success(locations));
     }
 
     /**
-     * 특정 기간의 위치 히스토리 조회
+     * 특정 기간의 위치 히스토리 조회 (최신순, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
+     * tolerance(미터)를 주면 경로 모양을 유지하는 점만, bucketSeconds 를 주면 구간마다 한 점만 돌려줍니다
      */
     @GetMapping("/history/range")
-    public ResponseEntity<ApiResponse<List<LocationHistoryResponse>>> getLocationHistoryByDateRange(
-            @AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<CursorPageResponse<LocationHistoryResponse>>> getLocationHistoryByDateRange(
+            @CurrentUser Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-        logger.info("기간별 위치 히스토리 조회: username={}, start={}, end={}",
-                userDetails.getUsername(), startDate, endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false, defaultValue = "100") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Double tolerance,
+            @RequestParam(required = false) Integer bucketSeconds) {
+        logger.info("기간별 위치 히스토리 조회: userId={}, start={}, end={}",
+                userId, startDate, endDate);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        List<LocationHistoryResponse> locations = locationService.getLocationHistoryByDateRange(
-                user.getId(), startDate, endDate);
+        CursorPageResponse<LocationHistoryResponse> locations = locationService.getLocationHistoryByDateRange(
+                userId, startDate, endDate, size, cursor, tolerance, bucketSeconds);
 
         return ResponseEntity.ok(ApiResponse.success(locations));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기간 안의 위치 기록 내보내기 (format=ndjson|geojson, Accept-Encoding 에 gzip 이 있으면 gzip 압축)
+     * 기록을 읽는 대로 응답에 쓰므로 기간이 길어도 서버 메모리를 더 쓰지 않습니다
+     */
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportLocationHistory(
+            @CurrentUser Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.info("위치 히스토리 내보내기: userId={}, start={}, end={}, format={}",
+                userId, startDate, endDate, format);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 시각이 종료 시각보다 늦습니다");
+        }
+        LocationExportService.ExportFormat exportFormat = LocationExportService.ExportFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("location-history-" + userId + "." + exportFormat.getExtension())
+                .build());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // 동시 내보내기 한도 확인은 응답을 시작하기 전에 (넘으면 429), 자리는 스트리밍이 끝나면 반납
+        LocationExportService.ExportPermit permit = locationExportService.reserve();
+        StreamingResponseBody body = out -> {
+            try (permit) {
+                locationExportService.export(userId, startDate, endDate, exportFormat, gzip, out);
+            }
+        };
+
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+}
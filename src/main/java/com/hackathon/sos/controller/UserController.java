@@ -4,14 +4,13 @@ import com.hackathon.sos.dto.request.EmergencyContactRequest;
 import com.hackathon.sos.dto.response.ApiResponse;
 import com.hackathon.sos.dto.response.EmergencyContactResponse;
 import com.hackathon.sos.entity.User;
+import com.hackathon.sos.security.CurrentUser;
 import com.hackathon.sos.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -30,10 +29,10 @@ public class UserController {
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<User>> getCurrentUser(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        logger.info("사용자 정보 조회: username={}", userDetails.getUsername());
+            @CurrentUser Long userId) {
+        logger.info("사용자 정보 조회: userId={}", userId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
+        User user = userService.getUserById(userId);
         return ResponseEntity.ok(ApiResponse.success(user));
     }
 
@@ -42,12 +41,11 @@ public class UserController {
      */
     @PostMapping("/emergency-contacts")
     public ResponseEntity<ApiResponse<EmergencyContactResponse>> addEmergencyContact(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser Long userId,
             @Valid @RequestBody EmergencyContactRequest request) {
-        logger.info("긴급 연락처 추가 API 호출: username={}", userDetails.getUsername());
+        logger.info("긴급 연락처 추가 API 호출: userId={}", userId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        EmergencyContactResponse response = userService.addEmergencyContact(user.getId(), request);
+        EmergencyContactResponse response = userService.addEmergencyContact(userId, request);
 
         return ResponseEntity.ok(ApiResponse.success("긴급 연락처가 추가되었습니다", response));
     }
@@ -57,11 +55,10 @@ public class UserController {
      */
     @GetMapping("/emergency-contacts")
     public ResponseEntity<ApiResponse<List<EmergencyContactResponse>>> getEmergencyContacts(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        logger.info("긴급 연락처 목록 조회: username={}", userDetails.getUsername());
+            @CurrentUser Long userId) {
+        logger.info("긴급 연락처 목록 조회: userId={}", userId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        List<EmergencyContactResponse> contacts = userService.getEmergencyContacts(user.getId());
+        List<EmergencyContactResponse> contacts = userService.getEmergencyContacts(userId);
 
         return ResponseEntity.ok(ApiResponse.success(contacts));
     }
@@ -71,15 +68,13 @@ public class UserController {
      */
     @PutMapping("/emergency-contacts/{contactId}")
     public ResponseEntity<ApiResponse<EmergencyContactResponse>> updateEmergencyContact(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser Long userId,
             @PathVariable Long contactId,
             @Valid @RequestBody EmergencyContactRequest request) {
-        logger.info("긴급 연락처 수정 API 호출: username={}, contactId={}",
-                userDetails.getUsername(), contactId);
+        logger.info("긴급 연락처 수정 API 호출: userId={}, contactId={}", userId, contactId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
         EmergencyContactResponse response = userService.updateEmergencyContact(
-                user.getId(), contactId, request);
+                userId, contactId, request);
 
         return ResponseEntity.ok(ApiResponse.success("긴급 연락처가 수정되었습니다", response));
     }
@@ -89,13 +84,11 @@ public class UserController {
      */
     @DeleteMapping("/emergency-contacts/{contactId}")
     public ResponseEntity<ApiResponse<Void>> deleteEmergencyContact(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser Long userId,
             @PathVariable Long contactId) {
-        logger.info("긴급 연락처 삭제 API 호출: username={}, contactId={}",
-                userDetails.getUsername(), contactId);
+        logger.info("긴급 연락처 삭제 API 호출: userId={}, contactId={}", userId, contactId);
 
-        User user = userService.getUserByUsername(userDetails.getUsername());
-        userService.deleteEmergencyContact(user.getId(), contactId);
+        userService.deleteEmergencyContact(userId, contactId);
 
         return ResponseEntity.ok(ApiResponse.success("긴급 연락처가 삭제되었습니다", null));
     }
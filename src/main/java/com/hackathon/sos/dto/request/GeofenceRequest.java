@@ -0,0 +1,52 @@
+package com.hackathon.sos.dto.request;
+
+import com.hackathon.sos.entity.Geofence;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 지오펜스 생성/수정
+ * 원(CIRCLE)은 latitude, longitude, radiusMeters 를, 다각형(POLYGON)은 vertices 를 채웁니다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeofenceRequest {
+
+    @NotBlank(message = "지오펜스 이름은 필수입니다")
+    @Size(max = 50, message = "지오펜스 이름은 50자 이하여야 합니다")
+    private String name;
+
+    @NotNull(message = "구역 종류(SAFE, DANGER)는 필수입니다")
+    private Geofence.ZoneKind kind;
+
+    @NotNull(message = "모양(CIRCLE, POLYGON)은 필수입니다")
+    private Geofence.Shape shape;
+
+    private Double latitude;      // 원 중심
+
+    private Double longitude;
+
+    private Double radiusMeters;  // 원 반경 (미터)
+
+    private List<Vertex> vertices;  // 다각형 꼭짓점 (3개 이상, 순서대로)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Vertex {
+
+        private Double latitude;
+
+        private Double longitude;
+    }
+}
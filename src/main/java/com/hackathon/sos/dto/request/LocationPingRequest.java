@@ -0,0 +1,42 @@
+package com.hackathon.sos.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장치가 모아 둔 위치 기록 일괄 업로드
+ * 좌표/시각이 잘못된 지점은 요청 전체를 거부하지 않고 건너뛰며 응답의 rejected 로 집계합니다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationPingRequest {
+
+    @NotBlank(message = "장치 ID는 필수입니다")
+    private String deviceId;
+
+    @NotEmpty(message = "위치 기록이 비어 있습니다")
+    private List<Point> points;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Point {
+
+        private Double latitude;
+
+        private Double longitude;
+
+        private Long timestamp;  // 측정 시각 (epoch milliseconds)
+
+        private String accuracy;  // GPS 정확도 (meters, 옵션)
+    }
+}
@@ -0,0 +1,32 @@
+package com.hackathon.sos.dto.response;
+
+import com.hackathon.sos.pagination.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private int size;           // 요청한(제한된) 페이지 크기
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper, Function<E, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
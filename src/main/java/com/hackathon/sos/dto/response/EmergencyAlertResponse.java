@@ -29,6 +29,17 @@ public class EmergencyAlertResponse {
     private String additionalInfo;
     private Boolean notificationSent;
     private String notificationMessage;
+    private EmergencyAlert.StageStatus enrichStatus;
+    private EmergencyAlert.StageStatus classifyStatus;
+    private EmergencyAlert.StageStatus notifyStatus;
+    private Long geocodeMillis;
+    private Long analysisMillis;
+    private EmergencyAlert.AnalysisSource analysisSource;
+    private Double triageConfidence;
+    private Long analysisSourceAlertId;
+    private Double analysisSimilarity;
+    private Integer pressCount;
+    private LocalDateTime lastPressTime;
     private LocalDateTime alertTime;
     private LocalDateTime resolvedTime;
 }
\ No newline at end of file
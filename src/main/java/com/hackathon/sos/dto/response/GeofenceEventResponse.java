@@ -0,0 +1,26 @@
+package com.hackathon.sos.dto.response;
+
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeofenceEventResponse {
+    private Long id;
+    private Long userId;
+    private Long geofenceId;
+    private String geofenceName;
+    private Geofence.ZoneKind kind;
+    private GeofenceEvent.Transition transition;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime occurredAt;
+}
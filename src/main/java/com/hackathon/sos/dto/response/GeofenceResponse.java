@@ -0,0 +1,28 @@
+package com.hackathon.sos.dto.response;
+
+import com.hackathon.sos.dto.request.GeofenceRequest;
+import com.hackathon.sos.entity.Geofence;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeofenceResponse {
+    private Long id;
+    private String name;
+    private Geofence.ZoneKind kind;
+    private Geofence.Shape shape;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusMeters;
+    private List<GeofenceRequest.Vertex> vertices;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.hackathon.sos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationPingResponse {
+    private int accepted;    // 저장된 지점 수
+    private int duplicates;  // 같은 장치·같은 시각으로 이미 저장되었거나 요청 안에서 중복된 지점 수
+    private int rejected;    // 좌표/시각이 잘못되어 건너뛴 지점 수
+}
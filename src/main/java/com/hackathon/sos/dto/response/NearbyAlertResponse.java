@@ -0,0 +1,15 @@
+package com.hackathon.sos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyAlertResponse {
+    private Double distanceMeters;  // 검색 중심까지의 거리 (m)
+    private EmergencyAlertResponse alert;
+}
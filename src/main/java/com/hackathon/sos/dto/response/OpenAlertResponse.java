@@ -0,0 +1,25 @@
+package com.hackathon.sos.dto.response;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OpenAlertResponse {
+    private Long id;
+    private Long userId;
+    private EmergencyAlert.EmergencyStatus status;
+    private String statusDescription;
+    private EmergencyAlert.EmergencyType emergencyType;
+    private String emergencyTypeDescription;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime alertTime;
+}
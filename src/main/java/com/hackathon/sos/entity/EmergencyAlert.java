@@ -1,7 +1,9 @@
 package com.hackathon.sos.entity;
 
+import com.hackathon.sos.geo.GeoHash;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -10,13 +12,15 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "emergency_alerts", indexes = {
         @Index(name = "idx_user_alert_time", columnList = "user_id,alert_time"),
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_status", columnList = "status"),
+        @Index(name = "idx_alert_geohash", columnList = "geohash,latitude,longitude")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate  // 파이프라인 단계들이 같은 행의 서로 다른 컬럼을 동시에 갱신하므로 변경된 컬럼만 UPDATE
 @EntityListeners(AuditingEntityListener.class)
 public class EmergencyAlert {
 
@@ -34,6 +38,9 @@ public class EmergencyAlert {
     @Column(nullable = false)
     private Double longitude;  // 경도
 
+    @Column(length = 12)
+    private String geohash;  // 좌표의 지오해시 (반경 검색 전처리용, 위/경도와 함께 색인)
+
     @Column(length = 200)
     private String address;  // 주소 (역지오코딩 결과)
 
@@ -62,12 +69,56 @@ public class EmergencyAlert {
     @Column(length = 500)
     private String notificationMessage;  // 전송된 알림 메시지
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private StageStatus enrichStatus = StageStatus.PENDING;  // 주소 조회 단계
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private StageStatus classifyStatus = StageStatus.PENDING;  // AI 분석/유형 분류 단계
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private StageStatus notifyStatus = StageStatus.PENDING;  // 긴급 연락처 알림 단계
+
+    private Long geocodeMillis;  // 역지오코딩 소요 시간 (ms)
+
+    private Long analysisMillis;  // AI 분석 소요 시간 (ms)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private AnalysisSource analysisSource;  // 상황 분석/유형의 출처
+
+    private Double triageConfidence;  // 접수 시 키워드 분류 신뢰도 (0.0 ~ 1.0)
+
+    private Long analysisSourceAlertId;  // 재사용한 AI 분석의 원본 알림 ID (analysisSource=CACHE)
+
+    private Double analysisSimilarity;  // 원본 알림 음성 텍스트와의 추정 자카드 유사도
+
+    @Builder.Default
+    private Integer pressCount = 1;  // 이 알림으로 병합된 신고 수 (첫 신고 포함)
+
+    private LocalDateTime lastPressTime;  // 마지막으로 병합된 신고 시각
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime alertTime;
 
     private LocalDateTime resolvedTime;
 
+    /** 저장되는 지오해시 정밀도 (9자리 ≈ 4.8m x 4.8m, 검색은 앞자리 접두사로) */
+    public static final int GEOHASH_PRECISION = 9;
+
+    @PrePersist
+    void prePersist() {
+        if (geohash == null && latitude != null && longitude != null) {
+            geohash = GeoHash.encode(latitude, longitude, GEOHASH_PRECISION);
+        }
+    }
+
     public enum EmergencyType {
         ACCIDENT("사고"),
         ASSAULT("폭행/범죄"),
@@ -105,5 +156,52 @@ public class EmergencyAlert {
         public String getDescription() {
             return description;
         }
+
+        public boolean isOpen() {
+            return this == PENDING || this == NOTIFIED || this == IN_PROGRESS;
+        }
+    }
+
+    public enum StageStatus {
+        PENDING("대기중"),
+        RUNNING("진행중"),
+        DONE("완료"),
+        SKIPPED("생략"),
+        TIMED_OUT("시간 초과"),
+        FAILED("실패"),
+        REJECTED("실행기 거절");
+
+        private final String description;
+
+        StageStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public boolean isFinished() {
+            return this == DONE || this == SKIPPED || this == TIMED_OUT || this == FAILED || this == REJECTED;
+        }
+    }
+
+    public enum AnalysisSource {
+        NONE("음성 없음"),
+        KEYWORD("키워드 분류"),
+        KEYWORD_PROVISIONAL("키워드 잠정 분류 (AI 분석 대기)"),
+        KEYWORD_DEGRADED("키워드 분류 (과부하로 AI 분석 생략)"),
+        LLM("AI 분석"),
+        CACHE("유사 음성 AI 분석 재사용");
+
+        private final String description;
+
+        AnalysisSource(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.hackathon.sos.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 지오펜스 (집·학교 같은 안전 구역, 스토킹 장소 같은 위험 구역)
+ * 원(중심 + 반경) 또는 다각형(꼭짓점 목록)이며, 위치가 저장될 때마다 메모리 색인으로 진입/이탈을 판정합니다
+ */
+@Entity
+@Table(name = "geofences", indexes = {
+        @Index(name = "idx_geofence_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class Geofence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ZoneKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Shape shape;
+
+    private Double centerLatitude;   // 원 중심
+
+    private Double centerLongitude;
+
+    private Double radiusMeters;     // 원 반경 (미터)
+
+    @Column(columnDefinition = "TEXT")
+    private String vertices;  // 다각형 꼭짓점 "위도,경도;위도,경도;..."
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public enum ZoneKind {
+        SAFE("안전 구역"),
+        DANGER("위험 구역");
+
+        private final String description;
+
+        ZoneKind(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public enum Shape {
+        CIRCLE("원"),
+        POLYGON("다각형");
+
+        private final String description;
+
+        Shape(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
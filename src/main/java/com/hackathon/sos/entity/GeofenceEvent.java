@@ -0,0 +1,68 @@
+package com.hackathon.sos.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지오펜스 진입/이탈 기록
+ * 지오펜스가 삭제되어도 기록이 남도록 지오펜스는 ID와 이름만 보관합니다
+ */
+@Entity
+@Table(name = "geofence_events", indexes = {
+        @Index(name = "idx_geofence_event_user_time", columnList = "user_id,occurred_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeofenceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Long geofenceId;
+
+    @Column(nullable = false, length = 50)
+    private String geofenceName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Geofence.ZoneKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Transition transition;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;  // 판정에 쓴 위치의 측정 시각
+
+    public enum Transition {
+        ENTER("진입"),
+        EXIT("이탈");
+
+        private final String description;
+
+        Transition(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
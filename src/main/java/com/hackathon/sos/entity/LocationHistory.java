@@ -1,26 +1,29 @@
 package com.hackathon.sos.entity;
 
+import com.hackathon.sos.geo.GeoHash;
 import jakarta.persistence.*;
 import lombok.*;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "location_history", indexes = {
-        @Index(name = "idx_user_recorded", columnList = "user_id,recorded_at")
+@Table(name = "location_history", uniqueConstraints = {
+        // 같은 사용자·같은 측정 시각은 한 번만 (동시에 재전송된 업로드도 막음, 최신순 조회 인덱스를 겸함)
+        @UniqueConstraint(name = "uk_user_recorded", columnNames = {"user_id", "recorded_at"})
+}, indexes = {
+        @Index(name = "idx_location_geohash", columnList = "geohash")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
 public class LocationHistory {
 
+    /** 풀링 시퀀스 (IDENTITY 는 INSERT 배치를 막으므로 allocationSize 단위로 ID를 미리 받음, 시작 값은 LocationHistorySequenceInitializer) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_history_seq")
+    @SequenceGenerator(name = "location_history_seq", sequenceName = "location_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,13 +36,25 @@ public class LocationHistory {
     @Column(nullable = false)
     private Double longitude;
 
+    @Column(length = 12)
+    private String geohash;  // 좌표의 지오해시 (EmergencyAlert.GEOHASH_PRECISION 자리)
+
     @Column(length = 200)
     private String address;
 
     @Column(length = 20)
     private String accuracy;  // GPS 정확도 (meters)
 
-    @CreatedDate
     @Column(nullable = false, updatable = false)
-    private LocalDateTime recordedAt;
-}
\ No newline at end of file
+    private LocalDateTime recordedAt;  // 장치가 보낸 측정 시각 (없으면 저장 시각)
+
+    @PrePersist
+    void prePersist() {
+        if (recordedAt == null) {
+            recordedAt = LocalDateTime.now();
+        }
+        if (geohash == null && latitude != null && longitude != null) {
+            geohash = GeoHash.encode(latitude, longitude, EmergencyAlert.GEOHASH_PRECISION);
+        }
+    }
+}
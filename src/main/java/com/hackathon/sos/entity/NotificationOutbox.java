@@ -0,0 +1,99 @@
+package com.hackathon.sos.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 긴급 연락처 알림 아웃박스
+ * 긴급 알림(또는 지오펜스 진입/이탈 기록)과 같은 트랜잭션에서 연락처/채널별로 한 행씩 기록되며, 발송 워커가 행 단위로 발송 결과를 기록합니다
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status,next_attempt_at"),
+        @Index(name = "idx_outbox_alert", columnList = "alert_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "alert_id")
+    private EmergencyAlert alert;  // 지오펜스 알림이면 null
+
+    private Long geofenceEventId;  // 지오펜스 진입/이탈 알림의 기록 ID
+
+    @Column(nullable = false)
+    private Long contactId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Channel channel;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;  // 전화번호 또는 이메일 주소
+
+    @Column(length = 200)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;  // 보강/분류 단계가 끝난 뒤 채워짐
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private DeliveryStatus status = DeliveryStatus.HELD;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(length = 100)
+    private String claimedBy;  // 발송 중인 워커
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Channel {
+        SMS, EMAIL
+    }
+
+    public enum DeliveryStatus {
+        HELD("메시지 준비 대기"),
+        PENDING("발송 대기"),
+        SENDING("발송중"),
+        SENT("발송 완료"),
+        FAILED("발송 실패");
+
+        private final String description;
+
+        DeliveryStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
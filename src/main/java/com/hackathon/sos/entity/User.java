@@ -1,5 +1,6 @@
 package com.hackathon.sos.entity;
 
+import com.hackathon.sos.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -17,7 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserCacheInvalidationListener.class})
 public class User {
 
     @Id
@@ -54,6 +55,10 @@ public class User {
     @Builder.Default
     private Boolean active = true;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;  // 올리면 이전에 발급된 JWT 가 모두 무효화됨
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<EmergencyContact> emergencyContacts = new ArrayList<>();
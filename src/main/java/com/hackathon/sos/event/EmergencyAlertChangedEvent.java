@@ -0,0 +1,25 @@
+package com.hackathon.sos.event;
+
+/**
+ * 긴급 알림이 생성/변경되었음을 알리는 이벤트 (트랜잭션 커밋 후 실시간 피드로 전송)
+ */
+public record EmergencyAlertChangedEvent(Long alertId, Change change) {
+
+    public enum Change {
+        CREATED("접수"),
+        UPDATED("처리 단계 변경"),
+        REPEATED("반복 신고 병합"),
+        ENRICHED("주소/분석 보강 완료"),
+        STATUS_CHANGED("상태 변경");
+
+        private final String description;
+
+        Change(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
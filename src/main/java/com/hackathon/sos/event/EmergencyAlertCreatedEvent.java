@@ -0,0 +1,7 @@
+package com.hackathon.sos.event;
+
+/**
+ * 원본 긴급 알림이 저장되었음을 알리는 이벤트 (트랜잭션 커밋 후 파이프라인 시작)
+ */
+public record EmergencyAlertCreatedEvent(Long alertId) {
+}
@@ -0,0 +1,7 @@
+package com.hackathon.sos.event;
+
+/**
+ * 지오펜스가 생성/수정/삭제되었음을 알리는 이벤트 (트랜잭션 커밋 후 메모리 색인에 반영)
+ */
+public record GeofenceChangedEvent(Long userId, Long geofenceId) {
+}
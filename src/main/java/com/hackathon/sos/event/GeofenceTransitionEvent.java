@@ -0,0 +1,10 @@
+package com.hackathon.sos.event;
+
+import com.hackathon.sos.dto.response.GeofenceEventResponse;
+
+/**
+ * 지오펜스 진입/이탈이 기록되었음을 알리는 이벤트 (트랜잭션 커밋 후 실시간 피드로 전송)
+ * contactsQueued 이면 긴급 연락처 SMS 가 같은 트랜잭션에서 아웃박스에 기록된 것
+ */
+public record GeofenceTransitionEvent(GeofenceEventResponse event, boolean contactsQueued) {
+}
@@ -0,0 +1,24 @@
+package com.hackathon.sos.event;
+
+import com.hackathon.sos.entity.LocationHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 위치가 저장되었음을 알리는 이벤트 (트랜잭션 커밋 후 지오펜스 진입/이탈 판정)
+ */
+public record LocationsRecordedEvent(Long userId, List<Position> positions) {
+
+    public static LocationsRecordedEvent of(Long userId, List<LocationHistory> locations) {
+        return new LocationsRecordedEvent(userId, locations.stream()
+                .map(location -> new Position(location.getLatitude(), location.getLongitude(), location.getRecordedAt()))
+                .toList());
+    }
+
+    /**
+     * 저장된 위치 한 건 (엔티티 대신 값만 전달)
+     */
+    public record Position(double latitude, double longitude, LocalDateTime recordedAt) {
+    }
+}
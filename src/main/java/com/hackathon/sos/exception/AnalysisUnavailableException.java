@@ -0,0 +1,18 @@
+package com.hackathon.sos.exception;
+
+/**
+ * 외부 AI 분석을 사용할 수 없음 (회로 차단, 동시 호출 한도 초과, 호출 실패)
+ * 호출자는 기다리지 않고 대체 분석을 사용합니다
+ */
+public class AnalysisUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AnalysisUnavailableException(String message) {
+        super(message);
+    }
+
+    public AnalysisUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
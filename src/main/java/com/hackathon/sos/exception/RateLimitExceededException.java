@@ -0,0 +1,20 @@
+package com.hackathon.sos.exception;
+
+/**
+ * 요청 허용량 초과 (429, retryAfterSeconds 뒤에 다시 시도)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
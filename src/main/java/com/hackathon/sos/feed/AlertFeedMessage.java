@@ -0,0 +1,10 @@
+package com.hackathon.sos.feed;
+
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+
+/**
+ * 실시간 피드 메시지 (마지막 변경 종류와 커밋된 최신 알림 상태)
+ */
+public record AlertFeedMessage(EmergencyAlertChangedEvent.Change change, EmergencyAlertResponse alert) {
+}
@@ -0,0 +1,130 @@
+package com.hackathon.sos.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent.Change;
+import com.hackathon.sos.service.EmergencyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 긴급 알림 실시간 피드 전송 (STOMP: /topic/users/{userId}/alerts, /topic/alerts/{alertId})
+ * 커밋된 변경마다 알림의 최신 상태를 한 번만 JSON 으로 직렬화해 두 토픽의 모든 구독자가 같은 바이트 배열을 공유합니다
+ * 전송 전에 같은 알림의 변경이 여러 번 쌓이면 최신 상태 한 번으로 합치고, 알림별로 순서대로 전송합니다
+ */
+@Component
+public class AlertFeedPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertFeedPublisher.class);
+
+    private final EmergencyService emergencyService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor feedExecutor;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private final Counter published;
+    private final Counter coalesced;
+
+    public AlertFeedPublisher(EmergencyService emergencyService,
+                              SimpMessagingTemplate messagingTemplate,
+                              ObjectMapper objectMapper,
+                              @Qualifier("feedExecutor") Executor feedExecutor,
+                              MeterRegistry meterRegistry) {
+        this.emergencyService = emergencyService;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.feedExecutor = feedExecutor;
+        this.published = Counter.builder("sos.feed.published")
+                .description("실시간 피드로 전송한 알림 상태 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("sos.feed.coalesced")
+                .description("전송 전에 최신 상태로 합쳐진 알림 변경 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 알림 변경을 전송 대기열에 추가 (이미 대기 중이면 최신 상태로 합침)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(EmergencyAlertChangedEvent event) {
+        boolean[] schedule = {false};
+        pending.compute(event.alertId(), (alertId, current) -> {
+            if (current == null) {
+                schedule[0] = true;
+                return new Pending(event.change(), false, false);
+            }
+            coalesced.increment();
+            // 전송 중이면 끝난 뒤 한 번 더 전송
+            return new Pending(event.change(), current.running(), current.running() || current.dirty());
+        });
+
+        if (schedule[0]) {
+            feedExecutor.execute(() -> flush(event.alertId()));
+        }
+    }
+
+    private void flush(Long alertId) {
+        Pending started = pending.computeIfPresent(alertId, (id, current) -> new Pending(current.change(), true, false));
+        if (started == null) {
+            return;
+        }
+
+        try {
+            Optional<EmergencyAlertResponse> alert = emergencyService.findEmergencyAlertResponse(alertId);
+            if (alert.isPresent()) {
+                send(started.change(), alert.get());
+            }
+        } catch (Exception e) {
+            logger.error("실시간 피드 전송 실패: alertId={}, error={}", alertId, e.getMessage());
+        }
+
+        boolean[] again = {false};
+        pending.computeIfPresent(alertId, (id, current) -> {
+            if (current.dirty()) {
+                again[0] = true;
+                return new Pending(current.change(), false, false);
+            }
+            return null;
+        });
+        if (again[0]) {
+            feedExecutor.execute(() -> flush(alertId));
+        }
+    }
+
+    private void send(Change change, EmergencyAlertResponse alert) throws JsonProcessingException {
+        byte[] payload = objectMapper.writeValueAsBytes(new AlertFeedMessage(change, alert));
+        Message<byte[]> message = MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+
+        messagingTemplate.send("/topic/users/" + alert.getUserId() + "/alerts", message);
+        messagingTemplate.send("/topic/alerts/" + alert.getId(), message);
+        published.increment();
+    }
+
+    /**
+     * 알림별 전송 상태 (running: 전송 중, dirty: 전송 중에 새 변경이 들어옴)
+     */
+    private record Pending(Change change, boolean running, boolean dirty) {
+    }
+}
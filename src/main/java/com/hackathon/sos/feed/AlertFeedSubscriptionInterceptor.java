@@ -0,0 +1,72 @@
+package com.hackathon.sos.feed;
+
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.security.WebSocketPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실시간 피드 구독 권한 확인
+ * 본인 사용자 토픽(알림, 지오펜스 진입/이탈)과 본인 알림 토픽만 구독할 수 있고, 클라이언트가 토픽으로 직접 메시지를 보내는 것은 막습니다
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertFeedSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertFeedSubscriptionInterceptor.class);
+
+    private static final Pattern USER_TOPIC = Pattern.compile("^/topic/users/(\\d+)/(alerts|geofences)$");
+    private static final Pattern ALERT_TOPIC = Pattern.compile("^/topic/alerts/(\\d+)$");
+
+    private final EmergencyAlertRepository emergencyAlertRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException(message, "실시간 피드는 구독 전용입니다");
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE
+                && !canSubscribe(accessor.getUser(), accessor.getDestination())) {
+            logger.warn("실시간 피드 구독 거부: user={}, destination={}",
+                    accessor.getUser() != null ? accessor.getUser().getName() : null, accessor.getDestination());
+            throw new MessageDeliveryException(message, "구독 권한이 없습니다: " + accessor.getDestination());
+        }
+        return message;
+    }
+
+    private boolean canSubscribe(Object user, String destination) {
+        if (!(user instanceof WebSocketPrincipal principal) || destination == null) {
+            return false;
+        }
+
+        Matcher userTopic = USER_TOPIC.matcher(destination);
+        if (userTopic.matches()) {
+            return principal.userId().equals(Long.valueOf(userTopic.group(1)));
+        }
+
+        Matcher alertTopic = ALERT_TOPIC.matcher(destination);
+        if (alertTopic.matches()) {
+            return emergencyAlertRepository.findUserIdById(Long.valueOf(alertTopic.group(1)))
+                    .map(principal.userId()::equals)
+                    .orElse(false);
+        }
+        return false;
+    }
+}
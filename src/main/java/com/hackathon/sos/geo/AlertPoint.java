@@ -0,0 +1,7 @@
+package com.hackathon.sos.geo;
+
+/**
+ * 반경 검색용 알림 좌표 (엔티티 전체 대신 JPQL 생성자 표현식으로 조회)
+ */
+public record AlertPoint(Long id, Double latitude, Double longitude) {
+}
@@ -0,0 +1,7 @@
+package com.hackathon.sos.geo;
+
+/**
+ * 반경 검색 결과 한 건 (알림 ID와 중심까지의 거리)
+ */
+public record DistanceHit(long id, double distanceMeters) {
+}
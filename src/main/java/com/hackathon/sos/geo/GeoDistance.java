@@ -0,0 +1,52 @@
+package com.hackathon.sos.geo;
+
+import java.util.List;
+
+/**
+ * 구면 거리 계산 (지구 평균 반지름 기준 하버사인)
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_M = 6_371_008.8;
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_M * Math.PI / 180;
+
+    private GeoDistance() {
+    }
+
+    public static double meters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLng = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심에서 radiusMeters 안의 모든 점을 담는 경계 상자 목록 (각 [최소 위도, 최소 경도, 최대 위도, 최대 경도])
+     * 날짜변경선(±180도)을 넘으면 양쪽 두 상자로 나누고, 극을 포함하면 경도 전체를 덮습니다
+     */
+    public static List<double[]> boundingBoxes(double latitude, double longitude, double radiusMeters) {
+        double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+        double minLatitude = Math.max(-90, latitude - latitudeSpan);
+        double maxLatitude = Math.min(90, latitude + latitudeSpan);
+        // 상자 안에서 가장 극에 가까운 위도 기준으로 경도 폭을 잡아야 원이 잘리지 않음
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeSpan = cos < 1e-6 ? 180 : Math.min(180, radiusMeters / (METERS_PER_DEGREE * cos));
+        double west = longitude - longitudeSpan;
+        double east = longitude + longitudeSpan;
+        if (longitudeSpan >= 180 || (west < -180 && east > 180)) {
+            return List.of(new double[]{minLatitude, -180, maxLatitude, 180});
+        }
+        if (west < -180) {
+            return List.of(new double[]{minLatitude, west + 360, maxLatitude, 180},
+                    new double[]{minLatitude, -180, maxLatitude, east});
+        }
+        if (east > 180) {
+            return List.of(new double[]{minLatitude, west, maxLatitude, 180},
+                    new double[]{minLatitude, -180, maxLatitude, east - 360});
+        }
+        return List.of(new double[]{minLatitude, west, maxLatitude, east});
+    }
+}
@@ -0,0 +1,230 @@
+package com.hackathon.sos.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 지오해시 인코딩/셀 계산 유틸리티
+ * 위/경도를 base32 문자열 셀로 양자화합니다 (정밀도 8 ≈ 38m x 19m, 7 ≈ 153m x 153m, 6 ≈ 1.2km x 0.6km)
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private static final int[] BASE32_INDEX = new int[128];
+
+    static {
+        Arrays.fill(BASE32_INDEX, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_INDEX[BASE32[i]] = i;
+        }
+    }
+
+    public static final int MAX_PRECISION = 12;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("지오해시 정밀도는 1-12 사이여야 합니다: " + precision);
+        }
+
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        for (int i = 0; i < precision; ) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash[i++] = BASE32[index];
+                bit = 0;
+                index = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    /**
+     * 지오해시 문자열의 셀 경계
+     */
+    public static Cell cell(String hash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            int index = c < BASE32_INDEX.length ? BASE32_INDEX[c] : -1;
+            if (index < 0) {
+                throw new IllegalArgumentException("잘못된 지오해시입니다: " + hash);
+            }
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((index >> bit) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new Cell(hash, minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * 경계 상자를 덮는 precision 자리 셀 목록
+     * 상자가 걸치는 셀 행/열을 계산하고 각 셀 중심을 다시 인코딩합니다 (상자는 날짜변경선을 넘지 않아야 하며, 넘는 원은 GeoDistance.boundingBoxes 로 나눔)
+     */
+    public static List<Cell> covering(double minLatitude, double minLongitude,
+                                      double maxLatitude, double maxLongitude, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        long minRow = row(minLatitude, height), maxRow = row(maxLatitude, height);
+        long minCol = col(minLongitude, width), maxCol = col(maxLongitude, width);
+
+        List<Cell> cells = new ArrayList<>((int) ((maxRow - minRow + 1) * (maxCol - minCol + 1)));
+        for (long row = minRow; row <= maxRow; row++) {
+            double south = -90 + row * height;
+            for (long col = minCol; col <= maxCol; col++) {
+                double west = -180 + col * width;
+                cells.add(new Cell(encode(south + height / 2, west + width / 2, precision),
+                        south, west, south + height, west + width));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 경계 상자를 덮는 precision 자리 셀 수 (목록을 만들지 않고 계산)
+     */
+    public static long coveringSize(double minLatitude, double minLongitude,
+                                    double maxLatitude, double maxLongitude, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        return (row(maxLatitude, height) - row(minLatitude, height) + 1)
+                * (col(maxLongitude, width) - col(minLongitude, width) + 1);
+    }
+
+    /**
+     * 경계 상자들을 합쳐 maxCells 개 이하 셀로 덮을 수 있는 가장 세밀한 정밀도 (maxPrecision 이하, 최소 1)
+     */
+    public static int coveringPrecision(List<double[]> boxes, int maxPrecision, int maxCells) {
+        for (int precision = maxPrecision; precision > 1; precision--) {
+            long cells = 0;
+            for (double[] box : boxes) {
+                cells += coveringSize(box[0], box[1], box[2], box[3], precision);
+            }
+            if (cells <= maxCells) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /** 정밀도별 셀 높이 (도, 위도 비트 = 전체 비트의 내림 절반) */
+    private static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /** 정밀도별 셀 너비 (도, 경도 비트 = 전체 비트의 올림 절반) */
+    private static double cellWidth(int precision) {
+        return 360.0 / (1L << (5 * precision - 5 * precision / 2));
+    }
+
+    private static long row(double latitude, double height) {
+        double clamped = Math.max(-90, Math.min(latitude, 90 - 1e-9));
+        return (long) Math.floor((clamped + 90) / height);
+    }
+
+    private static long col(double longitude, double width) {
+        double clamped = Math.max(-180, Math.min(longitude, 180 - 1e-9));
+        return (long) Math.floor((clamped + 180) / width);
+    }
+
+    /**
+     * 지오해시 셀과 그 경계
+     */
+    public record Cell(String hash, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+        /**
+         * 점에서 셀까지의 최단 거리 (셀 안이면 0)
+         * 셀 밖의 가장 가까운 점은 경계에 있고, 위/아래 변(위선)에서는 경도 차가 작을수록 가까우므로
+         * 같은 경도 범위면 같은 경선 위의 위도 차가, 아니면 좌우 변(경선 호)까지의 거리가 최단 거리입니다
+         * (경계로 끌어당긴 점까지의 거리는 대권이 극 쪽으로 휘는 만큼 실제보다 클 수 있어 하한으로 쓸 수 없음)
+         */
+        public double distanceMeters(double latitude, double longitude) {
+            if (longitude >= minLongitude && longitude <= maxLongitude) {
+                double nearestLatitude = Math.max(minLatitude, Math.min(latitude, maxLatitude));
+                return GeoDistance.meters(latitude, longitude, nearestLatitude, longitude);
+            }
+            return Math.min(meridianDistanceMeters(latitude, longitude, minLongitude),
+                    meridianDistanceMeters(latitude, longitude, maxLongitude));
+        }
+
+        /**
+         * 점에서 경도 edgeLongitude 의 셀 변(minLatitude-maxLatitude 경선 호)까지의 최단 거리
+         * 경도 차가 90도 미만이면 경선 대권에서 가장 가까운 위도가 변 안일 때 교차 거리, 그 밖이면 가까운 꼭짓점까지의 거리
+         */
+        private double meridianDistanceMeters(double latitude, double longitude, double edgeLongitude) {
+            double corners = Math.min(GeoDistance.meters(latitude, longitude, minLatitude, edgeLongitude),
+                    GeoDistance.meters(latitude, longitude, maxLatitude, edgeLongitude));
+            double deltaLongitude = Math.toRadians(longitude - edgeLongitude);
+            double cosDelta = Math.cos(deltaLongitude);
+            if (cosDelta <= 0) {
+                return corners;
+            }
+            double phi = Math.toRadians(latitude);
+            double footLatitude = Math.toDegrees(Math.atan(Math.tan(phi) / cosDelta));
+            if (footLatitude < minLatitude || footLatitude > maxLatitude) {
+                return corners;
+            }
+            double crossTrack = Math.asin(Math.min(1.0, Math.abs(Math.sin(deltaLongitude)) * Math.cos(phi)));
+            return Math.min(corners, GeoDistance.EARTH_RADIUS_M * crossTrack);
+        }
+
+        /**
+         * 한 자리 더 세밀한 하위 셀 32개
+         */
+        public List<Cell> children() {
+            List<Cell> children = new ArrayList<>(BASE32.length);
+            for (char c : BASE32) {
+                children.add(cell(hash + c));
+            }
+            return children;
+        }
+    }
+}
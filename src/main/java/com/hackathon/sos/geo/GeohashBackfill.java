@@ -0,0 +1,106 @@
+package com.hackathon.sos.geo;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.LocationHistory;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.LocationHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+
+/**
+ * 지오해시 컬럼 추가 이전에 저장된 알림/위치 기록 채우기
+ * 새 행은 저장 시(@PrePersist) 채워지므로, 시작 후 백그라운드에서 비어 있는 행만 batch-size 건씩 나눠 커밋합니다
+ * 알림 채우기가 끝나기 전에는 지오해시 조회가 빈 행을 놓치므로 조회하는 쪽이 isAlertsComplete() 로 확인해 위/경도 범위로 보충합니다
+ * (비활성화하면 채울 행이 없다고 보고 처음부터 완료로 둠)
+ */
+@Component
+public class GeohashBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeohashBackfill.class);
+
+    private final EmergencyAlertRepository emergencyAlertRepository;
+    private final LocationHistoryRepository locationHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+
+    /** 지오해시가 비어 있는 알림이 더 없음 */
+    private volatile boolean alertsComplete;
+
+    public GeohashBackfill(EmergencyAlertRepository emergencyAlertRepository,
+                           LocationHistoryRepository locationHistoryRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Qualifier("taskExecutor") Executor taskExecutor,
+                           @Value("${geo.geohash.backfill.enabled}") boolean enabled,
+                           @Value("${geo.geohash.backfill.batch-size}") int batchSize) {
+        this.emergencyAlertRepository = emergencyAlertRepository;
+        this.locationHistoryRepository = locationHistoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.alertsComplete = !enabled;
+    }
+
+    public boolean isAlertsComplete() {
+        return alertsComplete;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            taskExecutor.execute(this::run);
+        }
+    }
+
+    private void run() {
+        try {
+            long alerts = backfill(() -> {
+                List<EmergencyAlert> rows = emergencyAlertRepository.findByGeohashIsNullOrderByIdAsc(
+                        PageRequest.of(0, batchSize));
+                rows.forEach(alert -> alert.setGeohash(
+                        GeoHash.encode(alert.getLatitude(), alert.getLongitude(), EmergencyAlert.GEOHASH_PRECISION)));
+                return rows.size();
+            });
+            alertsComplete = true;
+            long locations = backfill(() -> {
+                List<LocationHistory> rows = locationHistoryRepository.findByGeohashIsNullOrderByIdAsc(
+                        PageRequest.of(0, batchSize));
+                rows.forEach(location -> location.setGeohash(
+                        GeoHash.encode(location.getLatitude(), location.getLongitude(), EmergencyAlert.GEOHASH_PRECISION)));
+                return rows.size();
+            });
+            if (alerts > 0 || locations > 0) {
+                logger.info("지오해시 채우기 완료: 알림 {}건, 위치 기록 {}건", alerts, locations);
+            }
+        } catch (Exception e) {
+            logger.error("지오해시 채우기 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 묶음씩 각자의 트랜잭션으로 채우고, 묶음이 가득 차지 않으면 종료
+     */
+    private long backfill(IntSupplier batch) {
+        long total = 0;
+        int filled;
+        do {
+            Integer count = transactionTemplate.execute(status -> batch.getAsInt());
+            filled = count == null ? 0 : count;
+            total += filled;
+        } while (filled == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hackathon.sos.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 지오해시 셀 단위 반경 검색 (가까운 순 최대 limit 건)
+ * 원의 경계 상자를 maxCells 개 이하 셀로 덮고, 중심에서 가까운 셀부터 읽어 정확한 거리로 거릅니다
+ * 한 셀에 CELL_READ_LIMIT 건이 넘게 있으면 읽은 것을 버리고 한 자리 세밀한 하위 셀로 나눠 다시 대기열에 넣으므로,
+ * 밀집 지역은 작은 셀만, 한산한 지역은 큰 셀을 그대로 읽습니다
+ * limit 건을 채운 뒤 다음 셀이 그중 가장 먼 결과보다 멀면 나머지 셀은 읽지 않습니다 (셀 거리는 실제 최단 거리라 빠뜨리지 않음)
+ * 날짜변경선을 넘는 원은 양쪽 상자를 함께 덮습니다
+ */
+public final class NearestCellSearch {
+
+    /** 셀 하나에서 한 번에 읽는 최대 좌표 수 (넘으면 하위 셀로 나눔) */
+    static final int CELL_READ_LIMIT = 256;
+
+    private NearestCellSearch() {
+    }
+
+    /**
+     * 셀 하나에 속한 좌표 읽기 (지오해시 접두사 범위 조회, 최대 maxRows 건)
+     */
+    @FunctionalInterface
+    public interface CellReader {
+        List<AlertPoint> read(String cellHash, int maxRows);
+    }
+
+    /**
+     * @param maxPrecision 저장된 지오해시 자리수 (이보다 잘게 나누지 않음)
+     * @param maxCells     처음 덮는 셀 수 상한 (이를 넘지 않는 가장 세밀한 정밀도로 시작)
+     */
+    public static List<DistanceHit> search(double latitude, double longitude, double radiusMeters, int limit,
+                                           int maxPrecision, int maxCells, CellReader reader) {
+        List<double[]> boxes = GeoDistance.boundingBoxes(latitude, longitude, radiusMeters);
+        int precision = GeoHash.coveringPrecision(boxes, maxPrecision, maxCells);
+
+        PriorityQueue<CellDistance> pending = new PriorityQueue<>(Comparator.comparingDouble(CellDistance::distanceMeters));
+        for (double[] box : boxes) {
+            for (GeoHash.Cell cell : GeoHash.covering(box[0], box[1], box[2], box[3], precision)) {
+                enqueue(pending, cell, latitude, longitude, radiusMeters);
+            }
+        }
+
+        // 지금까지 가장 가까운 limit 건 (가장 먼 결과가 맨 앞)
+        PriorityQueue<DistanceHit> nearest = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(DistanceHit::distanceMeters).reversed());
+        while (!pending.isEmpty()) {
+            CellDistance next = pending.poll();
+            if (nearest.size() == limit
+                    && next.distanceMeters() > nearest.peek().distanceMeters()) {
+                break;
+            }
+
+            boolean finest = next.cell().hash().length() >= maxPrecision;
+            List<AlertPoint> points = reader.read(next.cell().hash(), finest ? Integer.MAX_VALUE : CELL_READ_LIMIT + 1);
+            if (!finest && points.size() > CELL_READ_LIMIT) {
+                for (GeoHash.Cell child : next.cell().children()) {
+                    enqueue(pending, child, latitude, longitude, radiusMeters);
+                }
+                continue;
+            }
+
+            for (AlertPoint point : points) {
+                double distance = GeoDistance.meters(latitude, longitude, point.latitude(), point.longitude());
+                if (distance > radiusMeters
+                        || (nearest.size() == limit && distance >= nearest.peek().distanceMeters())) {
+                    continue;
+                }
+                nearest.add(new DistanceHit(point.id(), distance));
+                if (nearest.size() > limit) {
+                    nearest.poll();
+                }
+            }
+        }
+
+        List<DistanceHit> hits = new ArrayList<>(nearest);
+        hits.sort(Comparator.comparingDouble(DistanceHit::distanceMeters));
+        return hits;
+    }
+
+    private static void enqueue(PriorityQueue<CellDistance> pending, GeoHash.Cell cell,
+                                double latitude, double longitude, double radiusMeters) {
+        double distance = cell.distanceMeters(latitude, longitude);
+        if (distance <= radiusMeters) {
+            pending.add(new CellDistance(cell, distance));
+        }
+    }
+
+    private record CellDistance(GeoHash.Cell cell, double distanceMeters) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.hackathon.sos.geo;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 오프라인 역지오코더
+ * geocoder.offline.index-path 의 장소 인덱스에서 최근접 장소를 찾고, 허용 거리 안이면 주소로 사용합니다
+ * 인덱스 경로가 비어 있거나 파일이 없으면 비활성화됩니다
+ */
+@Component
+public class OfflineReverseGeocoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflineReverseGeocoder.class);
+
+    @Value("${geocoder.offline.index-path}")
+    private String indexPath;
+
+    @Value("${geocoder.offline.max-distance-m}")
+    private double maxDistanceMeters;
+
+    private PlaceIndex index;
+
+    @PostConstruct
+    public void load() {
+        if (indexPath == null || indexPath.isBlank()) {
+            logger.info("오프라인 역지오코더 비활성화 (geocoder.offline.index-path 미설정)");
+            return;
+        }
+
+        Path path = Path.of(indexPath);
+        if (!Files.isRegularFile(path)) {
+            logger.warn("장소 인덱스 파일 없음, 오프라인 역지오코더 비활성화: {}", path);
+            return;
+        }
+
+        try {
+            index = PlaceIndex.open(path);
+            logger.info("장소 인덱스 로드 완료: path={}, places={}", path, index.size());
+        } catch (Exception e) {
+            logger.error("장소 인덱스 로드 실패: path={}, error={}", path, e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return index != null;
+    }
+
+    /**
+     * 좌표 근처 장소 이름 조회
+     *
+     * @return 허용 거리 안의 장소 이름, 없으면 null
+     */
+    public String lookup(double latitude, double longitude) {
+        if (index == null) {
+            return null;
+        }
+
+        PlaceIndex.Place place = index.nearest(latitude, longitude);
+        if (place == null || place.distanceMeters() > maxDistanceMeters) {
+            return null;
+        }
+        return place.distanceMeters() < 1000
+                ? place.name() + " 부근"
+                : String.format("%s 부근 (약 %.1fkm)", place.name(), place.distanceMeters() / 1000);
+    }
+}
@@ -0,0 +1,104 @@
+package com.hackathon.sos.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 긴급 알림의 메모리 격자 색인 (OpenAlertRegistry 가 알림 단위로 갱신)
+ * 지오해시 GRID_PRECISION 자리 셀마다 알림 ID를 모아 두고, 반경 검색은 원의 경계 상자를 덮는 셀 후보만 정확한 거리로 거릅니다
+ */
+public class OpenAlertGrid {
+
+    /** 격자 셀 정밀도 (6자리 ≈ 1.2km x 0.6km) */
+    static final int GRID_PRECISION = 6;
+
+    private final Map<String, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 중심에서 radiusMeters 안의 진행 중 알림 (가까운 순, 최대 limit 건)
+     */
+    public List<DistanceHit> nearby(double latitude, double longitude, double radiusMeters, int limit) {
+        List<double[]> boxes = GeoDistance.boundingBoxes(latitude, longitude, radiusMeters);
+        List<DistanceHit> hits = new ArrayList<>();
+
+        long coveringSize = 0;
+        for (double[] box : boxes) {
+            coveringSize += GeoHash.coveringSize(box[0], box[1], box[2], box[3], GRID_PRECISION);
+        }
+        // 덮는 셀이 색인된 알림보다 많으면 셀을 도는 것보다 전체를 훑는 편이 빠름
+        if (coveringSize > entries.size()) {
+            for (Entry entry : entries.values()) {
+                collect(entry, latitude, longitude, radiusMeters, hits);
+            }
+        } else {
+            for (double[] box : boxes) {
+                for (GeoHash.Cell cell : GeoHash.covering(box[0], box[1], box[2], box[3], GRID_PRECISION)) {
+                    Set<Long> ids = cells.get(cell.hash());
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        Entry entry = entries.get(id);
+                        if (entry != null) {
+                            collect(entry, latitude, longitude, radiusMeters, hits);
+                        }
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(DistanceHit::distanceMeters));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 알림 좌표 추가 또는 이동
+     */
+    public void put(long alertId, double latitude, double longitude) {
+        String cell = GeoHash.encode(latitude, longitude, GRID_PRECISION);
+        entries.compute(alertId, (id, previous) -> {
+            if (previous != null && !previous.cell().equals(cell)) {
+                removeFromCell(previous.cell(), id);
+            }
+            cells.compute(cell, (key, ids) -> {
+                Set<Long> next = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                next.add(id);
+                return next;
+            });
+            return new Entry(id, latitude, longitude, cell);
+        });
+    }
+
+    public void remove(long alertId) {
+        entries.computeIfPresent(alertId, (id, previous) -> {
+            removeFromCell(previous.cell(), id);
+            return null;
+        });
+    }
+
+    private void collect(Entry entry, double latitude, double longitude, double radiusMeters, List<DistanceHit> hits) {
+        double distance = GeoDistance.meters(latitude, longitude, entry.latitude(), entry.longitude());
+        if (distance <= radiusMeters) {
+            hits.add(new DistanceHit(entry.id(), distance));
+        }
+    }
+
+    private void removeFromCell(String cell, Long alertId) {
+        cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(alertId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record Entry(long id, double latitude, double longitude, String cell) {
+    }
+}
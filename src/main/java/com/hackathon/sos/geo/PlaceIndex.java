@@ -0,0 +1,133 @@
+package com.hackathon.sos.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 맵 장소 인덱스 (읽기 전용)
+ * PlaceIndexBuilder 가 만든 암시적 KD-트리 파일을 매핑하여 네트워크 없이 최근접 장소를 찾습니다
+ *
+ * 파일 구조: 헤더(16바이트) | 노드 N개 (x, y, z double + 이름 오프셋 int, 28바이트) | 이름 영역 (길이 short + UTF-8)
+ * 좌표는 단위 구 위의 3차원 점으로 저장되어, 직선(현) 거리 순서가 대권 거리 순서와 같습니다
+ */
+public final class PlaceIndex {
+
+    static final int MAGIC = 0x534F5349; // "SOSI"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int NODE_BYTES = 28;
+
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int namesOffset;
+
+    private PlaceIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("장소 인덱스 파일 형식이 올바르지 않습니다");
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.namesOffset = HEADER_BYTES + count * NODE_BYTES;
+    }
+
+    public static PlaceIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PlaceIndex(mapped);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 최근접 장소 조회
+     *
+     * @return 가장 가까운 장소, 인덱스가 비어 있으면 null
+     */
+    public Place nearest(double latitude, double longitude) {
+        if (count == 0) {
+            return null;
+        }
+
+        double[] target = toUnitVector(latitude, longitude);
+        Search search = new Search(target);
+        search(search, 0, count, 0);
+
+        double chord = Math.sqrt(search.bestDistance);
+        double meters = 2 * Math.asin(Math.min(1.0, chord / 2)) * EARTH_RADIUS_M;
+        return new Place(readName(search.bestNode), meters);
+    }
+
+    private void search(Search search, int lo, int hi, int depth) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        int base = HEADER_BYTES + mid * NODE_BYTES;
+        double dx = buffer.getDouble(base) - search.target[0];
+        double dy = buffer.getDouble(base + 8) - search.target[1];
+        double dz = buffer.getDouble(base + 16) - search.target[2];
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (distance < search.bestDistance) {
+            search.bestDistance = distance;
+            search.bestNode = mid;
+        }
+
+        int axis = depth % 3;
+        double diff = search.target[axis] - buffer.getDouble(base + axis * 8);
+        int nextDepth = depth + 1;
+
+        if (diff < 0) {
+            search(search, lo, mid, nextDepth);
+            if (diff * diff < search.bestDistance) {
+                search(search, mid + 1, hi, nextDepth);
+            }
+        } else {
+            search(search, mid + 1, hi, nextDepth);
+            if (diff * diff < search.bestDistance) {
+                search(search, lo, mid, nextDepth);
+            }
+        }
+    }
+
+    private String readName(int node) {
+        int offset = namesOffset + buffer.getInt(HEADER_BYTES + node * NODE_BYTES + 24);
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static double[] toUnitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        double cosLat = Math.cos(lat);
+        return new double[]{cosLat * Math.cos(lng), cosLat * Math.sin(lng), Math.sin(lat)};
+    }
+
+    private static final class Search {
+        final double[] target;
+        double bestDistance = Double.MAX_VALUE;
+        int bestNode = -1;
+
+        Search(double[] target) {
+            this.target = target;
+        }
+    }
+
+    /**
+     * 조회된 장소와 요청 좌표까지의 거리(미터)
+     */
+    public record Place(String name, double distanceMeters) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.hackathon.sos.geo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 장소 인덱스 생성기 (배포 시 1회 실행)
+ * "이름,위도,경도" CSV 를 읽어 PlaceIndex 가 매핑하는 암시적 KD-트리 파일로 저장합니다
+ *
+ * 실행: ./gradlew buildPlaceIndex -PplacesCsv=data/places.csv -PplaceIndex=build/places.idx
+ */
+public final class PlaceIndexBuilder {
+
+    private PlaceIndexBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("사용법: PlaceIndexBuilder <places.csv> <places.idx>");
+            System.exit(1);
+        }
+
+        List<Entry> entries = readCsv(Path.of(args[0]));
+        build(entries, Path.of(args[1]));
+        System.out.printf("장소 인덱스 생성 완료: %d건 → %s%n", entries.size(), args[1]);
+    }
+
+    /**
+     * CSV 파싱 (첫 줄 헤더, 빈 줄과 # 주석 무시, 이름에 쉼표 허용)
+     */
+    static List<Entry> readCsv(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        List<Entry> entries = new ArrayList<>(lines.size());
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            int lngComma = line.lastIndexOf(',');
+            int latComma = line.lastIndexOf(',', lngComma - 1);
+            if (latComma <= 0) {
+                throw new IllegalArgumentException("CSV " + (i + 1) + "행 형식 오류: " + line);
+            }
+
+            String name = line.substring(0, latComma).strip();
+            double latitude = Double.parseDouble(line.substring(latComma + 1, lngComma).strip());
+            double longitude = Double.parseDouble(line.substring(lngComma + 1).strip());
+            entries.add(new Entry(name, PlaceIndex.toUnitVector(latitude, longitude)));
+        }
+        return entries;
+    }
+
+    static void build(List<Entry> entries, Path output) throws IOException {
+        Entry[] nodes = entries.toArray(new Entry[0]);
+        arrange(nodes, 0, nodes.length, 0);
+
+        ByteArrayOutputStream names = new ByteArrayOutputStream();
+        ByteBuffer body = ByteBuffer.allocate(PlaceIndex.HEADER_BYTES + nodes.length * PlaceIndex.NODE_BYTES)
+                .order(ByteOrder.BIG_ENDIAN);
+        body.putInt(PlaceIndex.MAGIC).putInt(PlaceIndex.VERSION).putInt(nodes.length).putInt(0);
+
+        for (Entry node : nodes) {
+            body.putDouble(node.point()[0]).putDouble(node.point()[1]).putDouble(node.point()[2]);
+            body.putInt(names.size());
+
+            byte[] name = node.name().getBytes(StandardCharsets.UTF_8);
+            if (name.length > 0xFFFF) {
+                throw new IllegalArgumentException("장소 이름이 너무 깁니다: " + node.name());
+            }
+            names.write(name.length >>> 8);
+            names.write(name.length);
+            names.write(name);
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            out.write(body.array());
+            names.writeTo(out);
+        }
+    }
+
+    /**
+     * 구간 [lo, hi) 의 중앙값을 가운데 노드로 두고 좌우 구간을 재귀 배치 (축은 깊이마다 x → y → z 순환)
+     */
+    private static void arrange(Entry[] nodes, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        int axis = depth % 3;
+        Arrays.sort(nodes, lo, hi, Comparator.comparingDouble(entry -> entry.point()[axis]));
+
+        int mid = (lo + hi) >>> 1;
+        arrange(nodes, lo, mid, depth + 1);
+        arrange(nodes, mid + 1, hi, depth + 1);
+    }
+
+    record Entry(String name, double[] point) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.hackathon.sos.geo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 지오해시 셀 단위 역지오코딩 캐시
+ * 같은 셀 안의 좌표는 한 번만 외부 조회하며, 조회 실패도 짧은 TTL로 캐시하여 장애 시 재시도가 몰리지 않게 합니다
+ * 용량은 항목 수가 아니라 추정 바이트 크기로 제한합니다 (Caffeine W-TinyLFU 제거 정책)
+ */
+@Component
+public class ReverseGeocodeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReverseGeocodeCache.class);
+
+    private final int precision;
+    private final Cache<String, CachedAddress> cache;
+    private final Counter lookupFailures;
+
+    @Autowired
+    public ReverseGeocodeCache(
+            MeterRegistry meterRegistry,
+            @Value("${geocoder.cache.precision}") int precision,
+            @Value("${geocoder.cache.max-bytes}") long maxBytes,
+            @Value("${geocoder.cache.ttl-minutes}") long ttlMinutes,
+            @Value("${geocoder.cache.negative-ttl-seconds}") long negativeTtlSeconds) {
+        this(meterRegistry, precision, maxBytes, ttlMinutes, negativeTtlSeconds, Ticker.systemTicker());
+    }
+
+    ReverseGeocodeCache(MeterRegistry meterRegistry, int precision, long maxBytes, long ttlMinutes,
+                        long negativeTtlSeconds, Ticker ticker) {
+        this.precision = precision;
+
+        long ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String cell, CachedAddress value) -> value.estimatedBytes(cell))
+                .expireAfter(new Expiry<String, CachedAddress>() {
+                    @Override
+                    public long expireAfterCreate(String cell, CachedAddress value, long currentTime) {
+                        return value.resolved() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String cell, CachedAddress value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(cell, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String cell, CachedAddress value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reverseGeocode");
+        this.lookupFailures = Counter.builder("sos.geocode.lookup.failures")
+                .description("역지오코딩 조회 실패 (음성 캐시됨)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좌표가 속한 셀의 주소 조회 (캐시 미스 시 resolver 호출, 같은 셀 동시 요청은 한 번만 조회)
+     *
+     * @return 주소, 조회 실패가 캐시된 경우 null
+     */
+    public String resolve(double latitude, double longitude, AddressResolver resolver) {
+        String cell = GeoHash.encode(latitude, longitude, precision);
+
+        CachedAddress cached = cache.get(cell, key -> {
+            try {
+                return CachedAddress.of(resolver.resolve(latitude, longitude));
+            } catch (Exception e) {
+                logger.warn("역지오코딩 조회 실패, 음성 캐시: cell={}, error={}", key, e.getMessage());
+                lookupFailures.increment();
+                return CachedAddress.FAILED;
+            }
+        });
+
+        return cached.address();
+    }
+
+    @FunctionalInterface
+    public interface AddressResolver {
+        String resolve(double latitude, double longitude) throws Exception;
+    }
+
+    private record CachedAddress(String address) {
+
+        static final CachedAddress FAILED = new CachedAddress(null);
+
+        static CachedAddress of(String address) {
+            return address != null ? new CachedAddress(address) : FAILED;
+        }
+
+        boolean resolved() {
+            return address != null;
+        }
+
+        int estimatedBytes(String cell) {
+            // 객체 헤더 + UTF-16 문자열 기준 대략적인 크기
+            return 64 + 2 * (cell.length() + (address != null ? address.length() : 0));
+        }
+    }
+}
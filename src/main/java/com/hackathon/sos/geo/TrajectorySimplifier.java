@@ -0,0 +1,104 @@
+package com.hackathon.sos.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 경로 단순화 (한 번 순회, 여는 창 방식의 Douglas-Peucker 근사)
+ * 마지막으로 남긴 점(기준점)에서 새 점까지의 선분에서 사이 점들이 모두 허용 거리 안이면 창을 넓히고,
+ * 벗어나면 직전 점을 남기고 그 점을 새 기준점으로 삼습니다
+ * 창은 최대 MAX_WINDOW 점까지만 유지하므로 입력 길이와 관계없이 메모리 사용량이 일정합니다
+ * 거리는 기준점 주변을 평면(등장방형 투영)으로 보고 미터 단위로 계산합니다
+ */
+public final class TrajectorySimplifier<T> {
+
+    /** 기준점 이후로 보관하는 최대 점 수 (넘으면 마지막 점을 남기고 창을 비움) */
+    public static final int MAX_WINDOW = 256;
+
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+
+    private final double toleranceMeters;
+    private final ToDoubleFunction<T> latitude;
+    private final ToDoubleFunction<T> longitude;
+    private final Consumer<T> downstream;
+
+    private final List<Point<T>> window = new ArrayList<>();
+    private Point<T> anchor;
+
+    public TrajectorySimplifier(double toleranceMeters, ToDoubleFunction<T> latitude,
+                                ToDoubleFunction<T> longitude, Consumer<T> downstream) {
+        if (!(toleranceMeters > 0)) {
+            throw new IllegalArgumentException("단순화 허용 거리는 0보다 커야 합니다: " + toleranceMeters);
+        }
+        this.toleranceMeters = toleranceMeters;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.downstream = downstream;
+    }
+
+    /**
+     * 다음 점 입력 (호출 한 번에 downstream 으로 넘어가는 점은 최대 한 개)
+     */
+    public void accept(T value) {
+        Point<T> point = new Point<>(value, latitude.applyAsDouble(value), longitude.applyAsDouble(value));
+        if (anchor == null) {
+            emit(point);
+            return;
+        }
+
+        if (window.size() >= MAX_WINDOW || !fits(point)) {
+            emit(window.get(window.size() - 1));
+        }
+        window.add(point);
+    }
+
+    /**
+     * 입력 종료 (창에 남은 마지막 점을 남김)
+     */
+    public void finish() {
+        if (!window.isEmpty()) {
+            emit(window.get(window.size() - 1));
+        }
+    }
+
+    /**
+     * 기준점 이후로 아직 남길지 정해지지 않은 점이 있는지
+     */
+    public boolean hasPending() {
+        return !window.isEmpty();
+    }
+
+    private void emit(Point<T> point) {
+        anchor = point;
+        window.clear();
+        downstream.accept(point.value());
+    }
+
+    /**
+     * 창 안의 점들이 모두 기준점 → end 선분에서 허용 거리 안인지
+     */
+    private boolean fits(Point<T> end) {
+        double cosLat = Math.cos(Math.toRadians(anchor.latitude()));
+        double endX = (end.longitude() - anchor.longitude()) * cosLat * METERS_PER_DEGREE;
+        double endY = (end.latitude() - anchor.latitude()) * METERS_PER_DEGREE;
+        double lengthSquared = endX * endX + endY * endY;
+        double toleranceSquared = toleranceMeters * toleranceMeters;
+
+        for (Point<T> point : window) {
+            double x = (point.longitude() - anchor.longitude()) * cosLat * METERS_PER_DEGREE;
+            double y = (point.latitude() - anchor.latitude()) * METERS_PER_DEGREE;
+            double t = lengthSquared == 0 ? 0 : Math.clamp((x * endX + y * endY) / lengthSquared, 0.0, 1.0);
+            double dx = x - t * endX;
+            double dy = y - t * endY;
+            if (dx * dx + dy * dy > toleranceSquared) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Point<T>(T value, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.hackathon.sos.geofence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.sos.dto.response.GeofenceEventResponse;
+import com.hackathon.sos.entity.EmergencyContact;
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent;
+import com.hackathon.sos.event.GeofenceTransitionEvent;
+import com.hackathon.sos.repository.EmergencyContactRepository;
+import com.hackathon.sos.service.NotificationDispatcher;
+import com.hackathon.sos.service.NotificationOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 지오펜스 진입/이탈 알림
+ * 모든 진입/이탈은 실시간 피드(/topic/users/{userId}/geofences)로 보내고,
+ * 위험 구역 진입과 안전 구역 이탈은 기록과 같은 트랜잭션에서 긴급 연락처 SMS 를 아웃박스에 기록해 발송 워커가 보냅니다
+ * 위치 업로드는 인증 없이 받으므로, 같은 사용자·같은 지오펜스의 SMS 는 cooldown-minutes 에 한 번만 보냅니다
+ */
+@Component
+public class GeofenceAlertNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceAlertNotifier.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmergencyContactRepository emergencyContactRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final Executor feedExecutor;
+    private final MeterRegistry meterRegistry;
+    private final boolean smsEnabled;
+
+    /** 최근 SMS 를 보낸 (사용자, 지오펜스) */
+    private final Cache<String, Boolean> recentlyNotified;
+
+    public GeofenceAlertNotifier(SimpMessagingTemplate messagingTemplate,
+                                 ObjectMapper objectMapper,
+                                 EmergencyContactRepository emergencyContactRepository,
+                                 NotificationOutboxService notificationOutboxService,
+                                 NotificationDispatcher notificationDispatcher,
+                                 @Qualifier("feedExecutor") Executor feedExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${geofence.notify.sms-enabled}") boolean smsEnabled,
+                                 @Value("${geofence.notify.cooldown-minutes}") long cooldownMinutes,
+                                 @Value("${geofence.cache.max-users}") long maxKeys) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.emergencyContactRepository = emergencyContactRepository;
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.feedExecutor = feedExecutor;
+        this.meterRegistry = meterRegistry;
+        this.smsEnabled = smsEnabled;
+        this.recentlyNotified = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(cooldownMinutes))
+                .build();
+    }
+
+    /**
+     * 알려야 하는 진입/이탈이면 긴급 연락처 SMS 를 아웃박스에 기록 (호출한 쪽의 진입/이탈 기록 트랜잭션에 참여)
+     *
+     * @return 발송 행을 기록했으면 true
+     */
+    public boolean enqueueContacts(Long userId, GeofenceEvent event) {
+        if (!smsEnabled || !isConcerning(event.getKind(), event.getTransition())) {
+            return false;
+        }
+        String key = userId + ":" + event.getGeofenceId();
+        if (recentlyNotified.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+            meterRegistry.counter("sos.geofence.notifications.suppressed", "kind", event.getKind().name()).increment();
+            logger.info("지오펜스 SMS 생략 (최근 전송): userId={}, geofenceId={}", userId, event.getGeofenceId());
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 기록이 롤백되면 보내지 않은 SMS 이므로 다음 진입/이탈에서 다시 보낼 수 있게 함
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        recentlyNotified.invalidate(key);
+                    }
+                }
+            });
+        }
+
+        List<EmergencyContact> contacts =
+                emergencyContactRepository.findByUserIdAndActiveTrueOrderByPriorityAsc(userId);
+        String message = String.format("[SOS 지오펜스] %s '%s' %s\n시각: %s\n위치: 위도 %.6f, 경도 %.6f",
+                event.getKind().getDescription(), event.getGeofenceName(), event.getTransition().getDescription(),
+                event.getOccurredAt(), event.getLatitude(), event.getLongitude());
+        return notificationOutboxService.enqueueGeofence(event.getId(), contacts, message) > 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(GeofenceTransitionEvent transitionEvent) {
+        GeofenceEventResponse event = transitionEvent.event();
+        meterRegistry.counter("sos.geofence.transitions",
+                "kind", event.getKind().name(), "transition", event.getTransition().name()).increment();
+
+        feedExecutor.execute(() -> {
+            try {
+                messagingTemplate.send("/topic/users/" + event.getUserId() + "/geofences",
+                        MessageBuilder.withPayload(objectMapper.writeValueAsBytes(event))
+                                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                                .build());
+            } catch (Exception e) {
+                logger.error("지오펜스 피드 전송 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+            }
+        });
+
+        if (transitionEvent.contactsQueued()) {
+            notificationDispatcher.wakeUp();
+        }
+    }
+
+    private boolean isConcerning(Geofence.ZoneKind kind, GeofenceEvent.Transition transition) {
+        return (kind == Geofence.ZoneKind.DANGER && transition == GeofenceEvent.Transition.ENTER)
+                || (kind == Geofence.ZoneKind.SAFE && transition == GeofenceEvent.Transition.EXIT);
+    }
+}
@@ -0,0 +1,239 @@
+package com.hackathon.sos.geofence;
+
+import com.hackathon.sos.entity.Geofence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사용자의 지오펜스 격자 색인 (변경 불가, 수정 시 새 색인을 만들어 교체)
+ * 위/경도를 GRID_DEGREES 크기 칸으로 나누고 칸마다 경계 상자가 겹치는 지오펜스만 모아 두어,
+ * 한 점은 그 칸의 후보만 정확히 판정합니다 (넓은 지오펜스는 칸에 나누지 않고 항상 판정)
+ */
+public final class GeofenceIndex {
+
+    /** 격자 한 칸 크기 (위도 0.01도 ≈ 1.1km) */
+    static final double GRID_DEGREES = 0.01;
+
+    /** 지오펜스 하나가 차지할 수 있는 최대 칸 수 (넘으면 넓은 지오펜스로 분류) */
+    static final int MAX_CELLS_PER_FENCE = 256;
+
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+    private static final Fence[] NO_FENCES = new Fence[0];
+    private static final long[] NONE = new long[0];
+
+    public static final GeofenceIndex EMPTY = new GeofenceIndex(Map.of());
+
+    private final Map<Long, Fence> fences;
+    private final Map<Long, Fence[]> cells = new HashMap<>();
+    private final Fence[] wide;
+
+    private GeofenceIndex(Map<Long, Fence> fences) {
+        this.fences = fences;
+
+        Map<Long, List<Fence>> cellLists = new HashMap<>();
+        List<Fence> wideList = new ArrayList<>();
+        for (Fence fence : fences.values()) {
+            long minRow = cell(fence.minLatitude), maxRow = cell(fence.maxLatitude);
+            long minCol = cell(fence.minLongitude), maxCol = cell(fence.maxLongitude);
+            if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > MAX_CELLS_PER_FENCE) {
+                wideList.add(fence);
+                continue;
+            }
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    cellLists.computeIfAbsent(key(row, col), k -> new ArrayList<>(2)).add(fence);
+                }
+            }
+        }
+        cellLists.forEach((key, list) -> cells.put(key, list.toArray(NO_FENCES)));
+        this.wide = wideList.toArray(NO_FENCES);
+    }
+
+    public static GeofenceIndex of(Collection<Fence> fences) {
+        Map<Long, Fence> byId = new LinkedHashMap<>();
+        for (Fence fence : fences) {
+            byId.put(fence.id, fence);
+        }
+        return byId.isEmpty() ? EMPTY : new GeofenceIndex(byId);
+    }
+
+    /**
+     * 지오펜스를 추가하거나 같은 ID를 교체한 새 색인
+     */
+    public GeofenceIndex with(Fence fence) {
+        Map<Long, Fence> next = new LinkedHashMap<>(fences);
+        next.put(fence.id, fence);
+        return new GeofenceIndex(next);
+    }
+
+    /**
+     * 지오펜스를 뺀 새 색인
+     */
+    public GeofenceIndex without(Long fenceId) {
+        if (!fences.containsKey(fenceId)) {
+            return this;
+        }
+        Map<Long, Fence> next = new LinkedHashMap<>(fences);
+        next.remove(fenceId);
+        return next.isEmpty() ? EMPTY : new GeofenceIndex(next);
+    }
+
+    public boolean isEmpty() {
+        return fences.isEmpty();
+    }
+
+    public int size() {
+        return fences.size();
+    }
+
+    public Fence get(Long fenceId) {
+        return fences.get(fenceId);
+    }
+
+    /**
+     * 점을 포함하는 지오펜스 ID 목록 (오름차순)
+     */
+    public long[] containing(double latitude, double longitude) {
+        if (fences.isEmpty()) {
+            return NONE;
+        }
+        Fence[] candidates = cells.getOrDefault(key(cell(latitude), cell(longitude)), NO_FENCES);
+
+        long[] inside = new long[candidates.length + wide.length];
+        int count = 0;
+        for (Fence fence : candidates) {
+            if (fence.contains(latitude, longitude)) {
+                inside[count++] = fence.id;
+            }
+        }
+        for (Fence fence : wide) {
+            if (fence.contains(latitude, longitude)) {
+                inside[count++] = fence.id;
+            }
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        long[] result = Arrays.copyOf(inside, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / GRID_DEGREES);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    /**
+     * 판정용 지오펜스 (원 또는 다각형, 경계 상자 포함)
+     */
+    public static final class Fence {
+
+        private final long id;
+        private final String name;
+        private final Geofence.ZoneKind kind;
+
+        private final double minLatitude, maxLatitude, minLongitude, maxLongitude;
+
+        // 원
+        private final double centerLatitude, centerLongitude, radiusMeters, cosCenter;
+
+        // 다각형 (경도 = x, 위도 = y)
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        private Fence(long id, String name, Geofence.ZoneKind kind,
+                      double centerLatitude, double centerLongitude, double radiusMeters,
+                      double[] latitudes, double[] longitudes) {
+            this.id = id;
+            this.name = name;
+            this.kind = kind;
+            this.centerLatitude = centerLatitude;
+            this.centerLongitude = centerLongitude;
+            this.radiusMeters = radiusMeters;
+            this.cosCenter = Math.cos(Math.toRadians(centerLatitude));
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+
+            if (latitudes == null) {
+                double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+                double longitudeSpan = radiusMeters / (METERS_PER_DEGREE * Math.max(cosCenter, 1e-6));
+                this.minLatitude = centerLatitude - latitudeSpan;
+                this.maxLatitude = centerLatitude + latitudeSpan;
+                this.minLongitude = centerLongitude - longitudeSpan;
+                this.maxLongitude = centerLongitude + longitudeSpan;
+            } else {
+                this.minLatitude = Arrays.stream(latitudes).min().orElseThrow();
+                this.maxLatitude = Arrays.stream(latitudes).max().orElseThrow();
+                this.minLongitude = Arrays.stream(longitudes).min().orElseThrow();
+                this.maxLongitude = Arrays.stream(longitudes).max().orElseThrow();
+            }
+        }
+
+        public static Fence circle(long id, String name, Geofence.ZoneKind kind,
+                                   double latitude, double longitude, double radiusMeters) {
+            return new Fence(id, name, kind, latitude, longitude, radiusMeters, null, null);
+        }
+
+        public static Fence polygon(long id, String name, Geofence.ZoneKind kind,
+                                    double[] latitudes, double[] longitudes) {
+            return new Fence(id, name, kind, 0, 0, 0, latitudes.clone(), longitudes.clone());
+        }
+
+        /**
+         * 엔티티에서 판정용 지오펜스 생성
+         */
+        public static Fence from(Geofence geofence) {
+            if (geofence.getShape() == Geofence.Shape.CIRCLE) {
+                return circle(geofence.getId(), geofence.getName(), geofence.getKind(),
+                        geofence.getCenterLatitude(), geofence.getCenterLongitude(), geofence.getRadiusMeters());
+            }
+            double[][] vertices = GeofenceVertices.decode(geofence.getVertices());
+            return polygon(geofence.getId(), geofence.getName(), geofence.getKind(), vertices[0], vertices[1]);
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Geofence.ZoneKind kind() {
+            return kind;
+        }
+
+        boolean contains(double latitude, double longitude) {
+            if (latitude < minLatitude || latitude > maxLatitude
+                    || longitude < minLongitude || longitude > maxLongitude) {
+                return false;
+            }
+            if (latitudes == null) {
+                double dx = (longitude - centerLongitude) * cosCenter * METERS_PER_DEGREE;
+                double dy = (latitude - centerLatitude) * METERS_PER_DEGREE;
+                return dx * dx + dy * dy <= radiusMeters * radiusMeters;
+            }
+
+            // 반직선 교차 수 (홀수면 내부)
+            boolean inside = false;
+            for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+                if ((latitudes[i] > latitude) != (latitudes[j] > latitude)
+                        && longitude < (longitudes[j] - longitudes[i]) * (latitude - latitudes[i])
+                        / (latitudes[j] - latitudes[i]) + longitudes[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.hackathon.sos.geofence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.sos.entity.GeofenceEvent.Transition;
+import com.hackathon.sos.event.GeofenceChangedEvent;
+import com.hackathon.sos.repository.GeofenceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 지오펜스 색인과 진입 상태
+ * 위치가 저장될 때마다 색인으로 포함 여부를 판정하고, 직전 위치와 비교해 진입/이탈을 돌려줍니다
+ * 사용자 항목은 처음 판정할 때 DB 에서 한 번 적재하고, 지오펜스가 바뀌면 커밋 후 그 지오펜스 한 건만 다시 읽어 반영합니다
+ * 진입 상태를 모르는 첫 위치(적재 직후, 캐시에서 밀려난 뒤)는 기준으로만 삼고 진입/이탈을 만들지 않으며,
+ * 이미 판정한 위치보다 측정 시각이 이른 위치(늦게 올라온 기록)는 상태를 바꾸지 않습니다
+ * 판정은 위치 저장이 커밋된 뒤에만 하고, 진입/이탈 기록이 롤백되면 checkpoint 로 되돌립니다
+ */
+@Component
+public class GeofenceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceRegistry.class);
+
+    private final GeofenceRepository geofenceRepository;
+    private final Cache<Long, UserFences> users;
+    private final Timer evaluation;
+
+    public GeofenceRegistry(
+            GeofenceRepository geofenceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${geofence.cache.max-users}") long maxUsers,
+            @Value("${geofence.cache.idle-minutes}") long idleMinutes) {
+        this.geofenceRepository = geofenceRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+        this.evaluation = Timer.builder("sos.geofence.evaluation")
+                .description("위치 한 건의 지오펜스 판정 시간")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "geofences");
+    }
+
+    /**
+     * 위치 한 건 판정 (같은 사용자의 위치는 측정 시각 순으로 넘겨야 함)
+     *
+     * @return 이 위치로 생긴 진입/이탈 (없으면 빈 목록)
+     */
+    public List<Crossing> evaluate(Long userId, double latitude, double longitude, LocalDateTime recordedAt) {
+        UserFences entry = users.get(userId, this::load);
+        long start = System.nanoTime();
+        try {
+            return entry.evaluate(latitude, longitude, recordedAt);
+        } finally {
+            evaluation.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 판정 전 진입 상태 (판정 결과 기록이 롤백되면 restore 로 되돌림)
+     */
+    public Checkpoint checkpoint(Long userId) {
+        return users.get(userId, this::load).checkpoint(userId);
+    }
+
+    /**
+     * 진입 상태를 checkpoint 로 되돌림 (그 사이 until 보다 늦은 위치가 판정되었으면 그대로 둠)
+     */
+    public void restore(Checkpoint checkpoint, LocalDateTime until) {
+        UserFences entry = users.getIfPresent(checkpoint.userId());
+        if (entry != null) {
+            entry.restore(checkpoint, until);
+        }
+    }
+
+    /**
+     * 커밋된 지오펜스 변경 반영 (해당 사용자가 적재되어 있을 때만 한 건 다시 읽음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGeofenceChanged(GeofenceChangedEvent event) {
+        UserFences entry = users.getIfPresent(event.userId());
+        if (entry == null) {
+            return;
+        }
+        geofenceRepository.findById(event.geofenceId())
+                .filter(geofence -> Boolean.TRUE.equals(geofence.getActive()))
+                .ifPresentOrElse(
+                        geofence -> entry.put(GeofenceIndex.Fence.from(geofence)),
+                        () -> entry.remove(event.geofenceId()));
+        logger.debug("지오펜스 색인 갱신: userId={}, geofenceId={}", event.userId(), event.geofenceId());
+    }
+
+    private UserFences load(Long userId) {
+        List<GeofenceIndex.Fence> fences = geofenceRepository.findByUserIdAndActiveTrueOrderByIdAsc(userId).stream()
+                .map(GeofenceIndex.Fence::from)
+                .toList();
+        return new UserFences(GeofenceIndex.of(fences));
+    }
+
+    /**
+     * 판정 결과 한 건
+     */
+    public record Crossing(GeofenceIndex.Fence fence, Transition transition) {
+    }
+
+    /**
+     * 한 사용자의 진입 상태 (inside 가 null 이면 모름)
+     */
+    public record Checkpoint(Long userId, long[] inside, LocalDateTime lastRecordedAt) {
+    }
+
+    /**
+     * 사용자 한 명의 색인과 진입 상태 (판정과 색인 교체는 lock 안에서 순서대로)
+     */
+    private static final class UserFences {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private GeofenceIndex index;
+        private long[] inside;           // 마지막 위치를 포함하는 지오펜스 ID (오름차순), null = 모름
+        private LocalDateTime lastRecordedAt;
+
+        UserFences(GeofenceIndex index) {
+            this.index = index;
+        }
+
+        List<Crossing> evaluate(double latitude, double longitude, LocalDateTime recordedAt) {
+            lock.lock();
+            try {
+                if (lastRecordedAt != null && recordedAt.isBefore(lastRecordedAt)) {
+                    return List.of();
+                }
+                long[] current = index.containing(latitude, longitude);
+                long[] previous = inside;
+                inside = current;
+                lastRecordedAt = recordedAt;
+                if (previous == null || Arrays.equals(previous, current)) {
+                    return List.of();
+                }
+
+                List<Crossing> crossings = new ArrayList<>(2);
+                for (long id : current) {
+                    if (Arrays.binarySearch(previous, id) < 0) {
+                        crossings.add(new Crossing(index.get(id), Transition.ENTER));
+                    }
+                }
+                for (long id : previous) {
+                    GeofenceIndex.Fence fence = index.get(id);
+                    if (fence != null && Arrays.binarySearch(current, id) < 0) {
+                        crossings.add(new Crossing(fence, Transition.EXIT));
+                    }
+                }
+                return crossings;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Checkpoint checkpoint(Long userId) {
+            lock.lock();
+            try {
+                return new Checkpoint(userId, inside, lastRecordedAt);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void restore(Checkpoint checkpoint, LocalDateTime until) {
+            lock.lock();
+            try {
+                if (lastRecordedAt == null || !lastRecordedAt.isAfter(until)) {
+                    inside = checkpoint.inside();
+                    lastRecordedAt = checkpoint.lastRecordedAt();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(GeofenceIndex.Fence fence) {
+            lock.lock();
+            try {
+                // 진입 상태는 유지: 수정 후에도 안이면 그대로, 밖이 되면 다음 위치에서 이탈, 새 지오펜스 안이면 진입
+                index = index.with(fence);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Long fenceId) {
+            lock.lock();
+            try {
+                // 삭제된 지오펜스는 이탈을 만들지 않고 상태에서만 뺌
+                index = index.without(fenceId);
+                if (inside != null && Arrays.binarySearch(inside, fenceId) >= 0) {
+                    inside = Arrays.stream(inside).filter(id -> id != fenceId).toArray();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
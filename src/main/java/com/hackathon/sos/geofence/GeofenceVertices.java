@@ -0,0 +1,38 @@
+package com.hackathon.sos.geofence;
+
+import java.util.Locale;
+
+/**
+ * 다각형 꼭짓점 저장 형식 ("위도,경도;위도,경도;...")
+ */
+public final class GeofenceVertices {
+
+    private GeofenceVertices() {
+    }
+
+    public static String encode(double[] latitudes, double[] longitudes) {
+        StringBuilder text = new StringBuilder(latitudes.length * 24);
+        for (int i = 0; i < latitudes.length; i++) {
+            if (i > 0) {
+                text.append(';');
+            }
+            text.append(String.format(Locale.ROOT, "%.7f,%.7f", latitudes[i], longitudes[i]));
+        }
+        return text.toString();
+    }
+
+    /**
+     * 저장된 꼭짓점 해석 ([0] = 위도 배열, [1] = 경도 배열)
+     */
+    public static double[][] decode(String vertices) {
+        String[] points = vertices.split(";");
+        double[] latitudes = new double[points.length];
+        double[] longitudes = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            int comma = points[i].indexOf(',');
+            latitudes[i] = Double.parseDouble(points[i].substring(0, comma));
+            longitudes[i] = Double.parseDouble(points[i].substring(comma + 1));
+        }
+        return new double[][]{latitudes, longitudes};
+    }
+}
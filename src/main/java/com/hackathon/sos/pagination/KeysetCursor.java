@@ -0,0 +1,46 @@
+package com.hackathon.sos.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 시각, ID)
+ * 마지막으로 받은 행의 (시각, ID) 보다 뒤(더 과거)인 행부터 읽으므로 페이지가 깊어져도 인덱스 범위 검색 한 번입니다
+ * 클라이언트에는 내용을 해석하지 않도록 Base64(URL) 문자열로 전달합니다
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    /** 한 페이지 최대 크기 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public String encode() {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 null = 첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다");
+        }
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_PAGE_SIZE 로 제한
+     */
+    public static int pageSize(int requested) {
+        return Math.clamp(requested, 1, MAX_PAGE_SIZE);
+    }
+}
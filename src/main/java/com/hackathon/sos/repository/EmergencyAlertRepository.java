@@ -1,17 +1,40 @@
 package com.hackathon.sos.repository;
 
+import com.hackathon.sos.alert.AlertSnapshot;
 import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.geo.AlertPoint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmergencyAlertRepository extends JpaRepository<EmergencyAlert, Long> {
-    List<EmergencyAlert> findByUserIdOrderByAlertTimeDesc(Long userId);
+    /**
+     * 사용자 알림 첫 페이지 (최신순, idx_user_alert_time)
+     */
+    @Query("SELECT e FROM EmergencyAlert e WHERE e.user.id = :userId ORDER BY e.alertTime DESC, e.id DESC")
+    List<EmergencyAlert> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 알림 다음 페이지 (커서의 (alertTime, id) 보다 과거인 행부터)
+     */
+    @Query("SELECT e FROM EmergencyAlert e WHERE e.user.id = :userId " +
+            "AND (e.alertTime < :time OR (e.alertTime = :time AND e.id < :id)) " +
+            "ORDER BY e.alertTime DESC, e.id DESC")
+    List<EmergencyAlert> findPageByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("time") LocalDateTime time,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
     List<EmergencyAlert> findByUserIdAndAlertTimeBetween(
             Long userId,
@@ -19,14 +42,59 @@ public interface EmergencyAlertRepository extends JpaRepository<EmergencyAlert,
             LocalDateTime end
     );
 
-    List<EmergencyAlert> findByStatus(EmergencyAlert.EmergencyStatus status);
+    List<EmergencyAlert> findByNotifyStatusInAndIdGreaterThanOrderByIdAsc(
+            Collection<EmergencyAlert.StageStatus> statuses, Long afterId, Pageable pageable);
 
     @Query("SELECT e FROM EmergencyAlert e WHERE e.user.id = :userId ORDER BY e.alertTime DESC")
     List<EmergencyAlert> findRecentAlertsByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT e FROM EmergencyAlert e WHERE e.user.id = :userId AND e.status = :status ORDER BY e.alertTime DESC")
-    List<EmergencyAlert> findByUserIdAndStatus(
-            @Param("userId") Long userId,
-            @Param("status") EmergencyAlert.EmergencyStatus status
+    @Query("SELECT e.user.id FROM EmergencyAlert e WHERE e.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE EmergencyAlert e SET e.situationAnalysis = :analysis " +
+            "WHERE e.id = :id AND e.classifyStatus = :classifyStatus")
+    int updateSituationAnalysisIfClassifyStatus(
+            @Param("id") Long id,
+            @Param("analysis") String analysis,
+            @Param("classifyStatus") EmergencyAlert.StageStatus classifyStatus
     );
-}
\ No newline at end of file
+
+    /**
+     * 상태별 알림 요약 (진행 중 알림 색인 구성/정합성 검사용, idx_status)
+     */
+    @Query("SELECT new com.hackathon.sos.alert.AlertSnapshot(e.id, e.user.id, e.status, e.emergencyType, " +
+            "e.latitude, e.longitude, e.alertTime) FROM EmergencyAlert e WHERE e.status IN :statuses")
+    List<AlertSnapshot> findSnapshotsByStatusIn(@Param("statuses") Collection<EmergencyAlert.EmergencyStatus> statuses);
+
+    @Query("SELECT new com.hackathon.sos.alert.AlertSnapshot(e.id, e.user.id, e.status, e.emergencyType, " +
+            "e.latitude, e.longitude, e.alertTime) FROM EmergencyAlert e WHERE e.id = :id")
+    Optional<AlertSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * 지오해시 접두사 셀 안의 알림 좌표 (idx_alert_geohash 범위 조회, pattern = 접두사 + '%')
+     */
+    @Query("SELECT new com.hackathon.sos.geo.AlertPoint(e.id, e.latitude, e.longitude) " +
+            "FROM EmergencyAlert e WHERE e.geohash LIKE :pattern")
+    List<AlertPoint> findPointsByGeohashLike(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * 지오해시가 아직 비어 있는 알림 중 위/경도 범위 안의 좌표 (채우기가 끝나기 전 접두사 조회 보충용)
+     */
+    @Query("SELECT new com.hackathon.sos.geo.AlertPoint(e.id, e.latitude, e.longitude) " +
+            "FROM EmergencyAlert e WHERE e.geohash IS NULL " +
+            "AND e.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND e.longitude BETWEEN :minLongitude AND :maxLongitude")
+    List<AlertPoint> findUnhashedPointsInBox(@Param("minLatitude") double minLatitude,
+                                             @Param("minLongitude") double minLongitude,
+                                             @Param("maxLatitude") double maxLatitude,
+                                             @Param("maxLongitude") double maxLongitude);
+
+    @Query("SELECT e FROM EmergencyAlert e JOIN FETCH e.user WHERE e.id IN :ids")
+    List<EmergencyAlert> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 지오해시가 비어 있는 알림 (컬럼 추가 이전 행 채우기용)
+     */
+    List<EmergencyAlert> findByGeohashIsNullOrderByIdAsc(Pageable pageable);
+}
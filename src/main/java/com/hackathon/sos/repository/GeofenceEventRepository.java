@@ -0,0 +1,33 @@
+package com.hackathon.sos.repository;
+
+import com.hackathon.sos.entity.GeofenceEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GeofenceEventRepository extends JpaRepository<GeofenceEvent, Long> {
+    /**
+     * 사용자 진입/이탈 기록 첫 페이지 (최신순, idx_geofence_event_user_time)
+     */
+    @Query("SELECT g FROM GeofenceEvent g WHERE g.user.id = :userId ORDER BY g.occurredAt DESC, g.id DESC")
+    List<GeofenceEvent> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 진입/이탈 기록 다음 페이지 (커서의 (occurredAt, id) 보다 과거인 행부터)
+     */
+    @Query("SELECT g FROM GeofenceEvent g WHERE g.user.id = :userId " +
+            "AND (g.occurredAt < :time OR (g.occurredAt = :time AND g.id < :id)) " +
+            "ORDER BY g.occurredAt DESC, g.id DESC")
+    List<GeofenceEvent> findPageByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("time") LocalDateTime time,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,15 @@
+package com.hackathon.sos.repository;
+
+import com.hackathon.sos.entity.Geofence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GeofenceRepository extends JpaRepository<Geofence, Long> {
+    List<Geofence> findByUserIdAndActiveTrueOrderByIdAsc(Long userId);
+    Optional<Geofence> findByIdAndUserIdAndActiveTrue(Long id, Long userId);
+    long countByUserIdAndActiveTrue(Long userId);
+}
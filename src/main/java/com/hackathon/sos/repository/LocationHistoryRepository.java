@@ -1,30 +1,103 @@
 package com.hackathon.sos.repository;
 
 import com.hackathon.sos.entity.LocationHistory;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface LocationHistoryRepository extends JpaRepository<LocationHistory, Long> {
-    List<LocationHistory> findByUserIdOrderByRecordedAtDesc(Long userId);
+    /**
+     * 사용자 위치 기록 첫 페이지 (최신순, uk_user_recorded)
+     */
+    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId ORDER BY l.recordedAt DESC, l.id DESC")
+    List<LocationHistory> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    List<LocationHistory> findByUserIdAndRecordedAtBetween(
-            Long userId,
-            LocalDateTime start,
-            LocalDateTime end
+    /**
+     * 사용자 위치 기록 다음 페이지 (커서의 (recordedAt, id) 보다 과거인 행부터)
+     */
+    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId " +
+            "AND (l.recordedAt < :time OR (l.recordedAt = :time AND l.id < :id)) " +
+            "ORDER BY l.recordedAt DESC, l.id DESC")
+    List<LocationHistory> findPageByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("time") LocalDateTime time,
+            @Param("id") Long id,
+            Pageable pageable
     );
 
-    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId ORDER BY l.recordedAt DESC LIMIT 10")
-    List<LocationHistory> findTop10ByUserIdOrderByRecordedAtDesc(@Param("userId") Long userId);
+    /**
+     * 기간 안 위치 기록 페이지 (커서보다 과거이고 from 이후인 행부터)
+     * 첫 페이지는 (기간 끝, Long.MAX_VALUE) 를 커서로 사용
+     */
+    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId AND l.recordedAt >= :from " +
+            "AND (l.recordedAt < :time OR (l.recordedAt = :time AND l.id < :id)) " +
+            "ORDER BY l.recordedAt DESC, l.id DESC")
+    List<LocationHistory> findPageByUserIdBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("time") LocalDateTime time,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 안 위치 기록 스트림 (최신순, 커서보다 과거이고 from 이후인 행부터, 경로 단순화용)
+     * 필요한 만큼만 읽고 닫으므로 트랜잭션 안에서 소비해야 함
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId AND l.recordedAt >= :from " +
+            "AND (l.recordedAt < :time OR (l.recordedAt = :time AND l.id < :id)) " +
+            "ORDER BY l.recordedAt DESC, l.id DESC")
+    Stream<LocationHistory> streamPageByUserIdBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("time") LocalDateTime time,
+            @Param("id") Long id
+    );
+
+    /**
+     * 기간 안 위치 기록 스트림 (측정 시각 순, 내보내기용)
+     * fetch size 단위로 읽으므로 트랜잭션 안에서 소비하고 닫아야 함 (MySQL 은 useCursorFetch=true 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId AND l.recordedAt BETWEEN :from AND :to " +
+            "ORDER BY l.recordedAt, l.id")
+    Stream<LocationHistory> streamByUserIdBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 
     @Query("SELECT l FROM LocationHistory l WHERE l.user.id = :userId AND l.recordedAt >= :since ORDER BY l.recordedAt DESC")
     List<LocationHistory> findRecentLocationsByUserId(
             @Param("userId") Long userId,
             @Param("since") LocalDateTime since
     );
-}
\ No newline at end of file
+
+    @Query("SELECT l.recordedAt FROM LocationHistory l WHERE l.user.id = :userId AND l.recordedAt BETWEEN :from AND :to")
+    List<LocalDateTime> findRecordedAtByUserIdBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 지오해시가 비어 있는 위치 기록 (컬럼 추가 이전 행 채우기용)
+     */
+    List<LocationHistory> findByGeohashIsNullOrderByIdAsc(Pageable pageable);
+}
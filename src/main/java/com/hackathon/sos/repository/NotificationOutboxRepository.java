@@ -0,0 +1,108 @@
+package com.hackathon.sos.repository;
+
+import com.hackathon.sos.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송 가능한 행을 잠그면서 조회 (lock.timeout=-2 → FOR UPDATE SKIP LOCKED)
+     * 다른 워커가 잠근 행은 건너뛰므로 워커끼리 같은 행을 두고 대기하지 않습니다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o " +
+            "WHERE (o.status = :pending AND o.nextAttemptAt <= :now) " +
+            "OR (o.status = :sending AND o.claimedAt < :leaseExpiredBefore) " +
+            "ORDER BY o.id")
+    List<NotificationOutbox> findClaimable(
+            @Param("pending") NotificationOutbox.DeliveryStatus pending,
+            @Param("sending") NotificationOutbox.DeliveryStatus sending,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :released, " +
+            "o.subject = :subject, o.message = :message, o.nextAttemptAt = :now " +
+            "WHERE o.alert.id = :alertId AND o.status = :held")
+    int releaseHeld(
+            @Param("alertId") Long alertId,
+            @Param("held") NotificationOutbox.DeliveryStatus held,
+            @Param("released") NotificationOutbox.DeliveryStatus released,
+            @Param("subject") String subject,
+            @Param("message") String message,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 점유 기한 갱신 (그 사이 다른 워커가 다시 점유했으면 attempts 가 달라져 0건)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.claimedAt = :now " +
+            "WHERE o.id = :id AND o.status = :sending AND o.claimedBy = :claimedBy AND o.attempts = :attempts")
+    int renewLease(
+            @Param("id") Long id,
+            @Param("claimedBy") String claimedBy,
+            @Param("attempts") Integer attempts,
+            @Param("sending") NotificationOutbox.DeliveryStatus sending,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 전송 성공 기록 (점유가 그대로일 때만)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :sent, o.sentAt = :now, o.lastError = null " +
+            "WHERE o.id = :id AND o.status = :sending AND o.claimedBy = :claimedBy AND o.attempts = :attempts")
+    int markSent(
+            @Param("id") Long id,
+            @Param("claimedBy") String claimedBy,
+            @Param("attempts") Integer attempts,
+            @Param("sending") NotificationOutbox.DeliveryStatus sending,
+            @Param("sent") NotificationOutbox.DeliveryStatus sent,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 전송 실패 기록 (재시도 대기 또는 최종 실패, 점유가 그대로일 때만)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError " +
+            "WHERE o.id = :id AND o.status = :sending AND o.claimedBy = :claimedBy AND o.attempts = :attempts")
+    int markFailed(
+            @Param("id") Long id,
+            @Param("claimedBy") String claimedBy,
+            @Param("attempts") Integer attempts,
+            @Param("sending") NotificationOutbox.DeliveryStatus sending,
+            @Param("status") NotificationOutbox.DeliveryStatus status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+
+    long countByAlertId(Long alertId);
+
+    long countByAlertIdAndStatusIn(Long alertId, Collection<NotificationOutbox.DeliveryStatus> statuses);
+
+    long countByAlertIdAndChannelAndStatus(
+            Long alertId,
+            NotificationOutbox.Channel channel,
+            NotificationOutbox.DeliveryStatus status
+    );
+}
@@ -1,9 +1,15 @@
 package com.hackathon.sos.repository;
 
 import com.hackathon.sos.entity.User;
+import com.hackathon.sos.security.DeviceOwner;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +20,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
     Boolean existsByDeviceId(String deviceId);
+
+    @Query("SELECT new com.hackathon.sos.security.DeviceOwner(u.deviceId, u.id, u.name, u.phoneNumber) " +
+            "FROM User u WHERE u.deviceId = :deviceId")
+    Optional<DeviceOwner> findDeviceOwner(@Param("deviceId") String deviceId);
+
+    @Query("SELECT new com.hackathon.sos.security.DeviceOwner(u.deviceId, u.id, u.name, u.phoneNumber) " +
+            "FROM User u WHERE u.active = true AND u.deviceId IS NOT NULL ORDER BY u.id")
+    List<DeviceOwner> findActiveDeviceOwners(Pageable pageable);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
 }
\ No newline at end of file
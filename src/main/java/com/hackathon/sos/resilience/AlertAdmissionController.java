@@ -0,0 +1,278 @@
+package com.hackathon.sos.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.sos.config.AsyncConfig;
+import com.hackathon.sos.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인증 없는 긴급 알림 접수의 허용량 관리
+ * 발신 IP 버킷은 장치 조회 전에, 장치 버킷은 등록된 장치로 확인된 뒤에만 확인합니다 (임의 장치 ID로 버킷을 만들지 않음)
+ * 허용량을 넘어도 그 사용자의 진행 중 알림이 없으면 거절하지 않고 키워드 분류만으로 접수하며(NAT 뒤 장치, 남이 비운 버킷),
+ * 진행 중 알림이 있거나 등록되지 않은 장치일 때만 429 로 거절합니다(shed)
+ * 파이프라인 단계 실행기의 대기 작업이 degrade-queue-depth 이상이면 알림을 거절하지 않고 키워드 분류만 사용하게 합니다(degraded)
+ * 저하 여부는 접수 시(트리아지)와 보강 단계에서 GPT 분석을 요청하기 직전에 확인하므로, 이미 대기 중인 알림도 GPT 를 건너뜁니다
+ * 대기 작업이 recover-queue-depth 이하로 줄면 정상 모드로 돌아갑니다
+ * 장치 위치 기록 업로드(/location/pings)는 알림 토큰을 쓰지 않도록 발신 IP/장치 버킷을 따로 두고, 넘으면 바로 429 로 거절합니다
+ * 버킷은 키별로 Caffeine 에 두며, idle-minutes 동안 요청이 없는 키는 지워 메모리를 max-keys 이하로 유지합니다
+ */
+@Component
+public class AlertAdmissionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertAdmissionController.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean rateLimitEnabled;
+    private final BucketSpec deviceSpec;
+    private final BucketSpec ipSpec;
+    private final Cache<String, TokenBucket> deviceBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final BucketSpec pingDeviceSpec;
+    private final BucketSpec pingIpSpec;
+    private final Cache<String, TokenBucket> pingDeviceBuckets;
+    private final Cache<String, TokenBucket> pingIpBuckets;
+
+    private final List<Executor> stages;
+    private final int degradeQueueDepth;
+    private final int recoverQueueDepth;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+
+    private final Map<Limit, Counter> shed = new EnumMap<>(Limit.class);
+    private final Counter overLimitByDevice;
+    private final Counter overLimitByIp;
+    private final Counter degradedAlerts;
+
+    public AlertAdmissionController(
+            MeterRegistry meterRegistry,
+            @Qualifier("enrichExecutor") Executor enrichExecutor,
+            @Qualifier("geocodeExecutor") Executor geocodeExecutor,
+            @Qualifier("analysisExecutor") Executor analysisExecutor,
+            @Qualifier("classifyExecutor") Executor classifyExecutor,
+            @Qualifier("notifyExecutor") Executor notifyExecutor,
+            @Value("${alert.rate-limit.enabled}") boolean rateLimitEnabled,
+            @Value("${alert.rate-limit.device.capacity}") int deviceCapacity,
+            @Value("${alert.rate-limit.device.refill-per-second}") double deviceRefillPerSecond,
+            @Value("${alert.rate-limit.ip.capacity}") int ipCapacity,
+            @Value("${alert.rate-limit.ip.refill-per-second}") double ipRefillPerSecond,
+            @Value("${alert.rate-limit.ping.device.capacity}") int pingDeviceCapacity,
+            @Value("${alert.rate-limit.ping.device.refill-per-second}") double pingDeviceRefillPerSecond,
+            @Value("${alert.rate-limit.ping.ip.capacity}") int pingIpCapacity,
+            @Value("${alert.rate-limit.ping.ip.refill-per-second}") double pingIpRefillPerSecond,
+            @Value("${alert.rate-limit.max-keys}") long maxKeys,
+            @Value("${alert.rate-limit.idle-minutes}") long idleMinutes,
+            @Value("${alert.admission.degrade-queue-depth}") int degradeQueueDepth,
+            @Value("${alert.admission.recover-queue-depth}") int recoverQueueDepth) {
+        this.meterRegistry = meterRegistry;
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.deviceSpec = new BucketSpec(deviceCapacity, deviceRefillPerSecond);
+        this.ipSpec = new BucketSpec(ipCapacity, ipRefillPerSecond);
+        this.deviceBuckets = buckets(maxKeys, idleMinutes);
+        this.ipBuckets = buckets(maxKeys, idleMinutes);
+        this.pingDeviceSpec = new BucketSpec(pingDeviceCapacity, pingDeviceRefillPerSecond);
+        this.pingIpSpec = new BucketSpec(pingIpCapacity, pingIpRefillPerSecond);
+        this.pingDeviceBuckets = buckets(maxKeys, idleMinutes);
+        this.pingIpBuckets = buckets(maxKeys, idleMinutes);
+        this.stages = List.of(enrichExecutor, geocodeExecutor, analysisExecutor, classifyExecutor, notifyExecutor);
+        this.degradeQueueDepth = degradeQueueDepth;
+        this.recoverQueueDepth = Math.min(recoverQueueDepth, degradeQueueDepth);
+
+        this.shed.put(Limit.IP, shedCounter(meterRegistry, "sos.alerts.shed", "ip"));
+        this.shed.put(Limit.DEVICE, shedCounter(meterRegistry, "sos.alerts.shed", "device"));
+        this.shed.put(Limit.PING_IP, shedCounter(meterRegistry, "sos.location.pings.shed", "ip"));
+        this.shed.put(Limit.PING_DEVICE, shedCounter(meterRegistry, "sos.location.pings.shed", "device"));
+        this.overLimitByDevice = overLimitCounter(meterRegistry, "device");
+        this.overLimitByIp = overLimitCounter(meterRegistry, "ip");
+        this.degradedAlerts = Counter.builder("sos.alerts.degraded")
+                .description("과부하로 AI 분석 없이 키워드 분류만 사용한 긴급 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게이지 등록 (생성이 끝난 뒤 this 를 넘김, 저하 모드 게이지는 판정하지 않고 현재 값만 읽음)
+     */
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("sos.alerts.admission.degraded", degraded, flag -> flag.get() ? 1 : 0)
+                .description("접수 저하 모드 여부 (1: 키워드 분류만 사용)")
+                .register(meterRegistry);
+        Gauge.builder("sos.alerts.pipeline.queued", this, AlertAdmissionController::queuedTasks)
+                .description("파이프라인 단계 실행기에서 실행을 기다리는 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발신 IP 허용량 확인 (토큰을 하나 쓰며, 넘었는지만 돌려주고 거절은 호출한 쪽이 판단)
+     */
+    public Quota checkClient(String clientIp) {
+        if (!rateLimitEnabled || clientIp == null) {
+            return Quota.UNLIMITED;
+        }
+        long now = System.nanoTime();
+        return new Quota(Limit.IP, clientIp, ipBuckets.get(clientIp, key -> ipSpec.newBucket(now)).tryAcquire(now));
+    }
+
+    /**
+     * 장치 허용량 확인 (등록된 장치로 확인된 장치 ID만 넘길 것)
+     */
+    public Quota checkDevice(String deviceId) {
+        if (!rateLimitEnabled) {
+            return Quota.UNLIMITED;
+        }
+        long now = System.nanoTime();
+        return new Quota(Limit.DEVICE, deviceId,
+                deviceBuckets.get(deviceId, key -> deviceSpec.newBucket(now)).tryAcquire(now));
+    }
+
+    /**
+     * 위치 기록 업로드의 발신 IP 허용량 확인 (알림 버킷과 별도)
+     */
+    public Quota checkPingClient(String clientIp) {
+        if (!rateLimitEnabled || clientIp == null) {
+            return Quota.UNLIMITED;
+        }
+        long now = System.nanoTime();
+        return new Quota(Limit.PING_IP, clientIp,
+                pingIpBuckets.get(clientIp, key -> pingIpSpec.newBucket(now)).tryAcquire(now));
+    }
+
+    /**
+     * 위치 기록 업로드의 장치 허용량 확인 (등록된 장치로 확인된 장치 ID만 넘길 것, 알림 버킷과 별도)
+     */
+    public Quota checkPingDevice(String deviceId) {
+        if (!rateLimitEnabled) {
+            return Quota.UNLIMITED;
+        }
+        long now = System.nanoTime();
+        return new Quota(Limit.PING_DEVICE, deviceId,
+                pingDeviceBuckets.get(deviceId, key -> pingDeviceSpec.newBucket(now)).tryAcquire(now));
+    }
+
+    /**
+     * 허용량을 넘은 요청 거절 (거절 수에 셈)
+     */
+    public RateLimitExceededException shed(Quota quota) {
+        shed.get(quota.limit()).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(quota.waitNanos() + 999_999_999L));
+        return new RateLimitExceededException(
+                String.format("%s 요청이 너무 많습니다: %s (%d초 후 다시 시도)",
+                        quota.limit().getDescription(), quota.key(), retryAfterSeconds),
+                retryAfterSeconds);
+    }
+
+    /**
+     * 허용량을 넘었지만 진행 중 알림이 없어 키워드 분류만으로 접수 (접수 수에 셈)
+     */
+    public void admitOverLimit(Quota quota) {
+        (quota.limit() == Limit.IP ? overLimitByIp : overLimitByDevice).increment();
+        logger.warn("허용량 초과 요청을 키워드 분류만으로 접수: {}={}", quota.limit().getDescription(), quota.key());
+    }
+
+    /**
+     * 알림의 AI 분석을 생략해야 하는지 (저하 모드면 true 를 돌려주고 저하 알림 수에 셈)
+     */
+    public boolean skipAnalysis() {
+        if (evaluate()) {
+            degradedAlerts.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 대기 작업 수로 저하 모드 전환/복귀 판정 (두 기준 사이에서는 현재 모드 유지)
+     */
+    private boolean evaluate() {
+        int queued = queuedTasks();
+        if (queued >= degradeQueueDepth && degraded.compareAndSet(false, true)) {
+            logger.warn("파이프라인 대기 작업 {}건 - 접수 저하 모드 전환 (키워드 분류만 사용)", queued);
+        } else if (queued <= recoverQueueDepth && degraded.compareAndSet(true, false)) {
+            logger.info("파이프라인 대기 작업 {}건 - 접수 정상 모드 복귀", queued);
+        }
+        return degraded.get();
+    }
+
+    private int queuedTasks() {
+        int queued = 0;
+        for (Executor stage : stages) {
+            queued += AsyncConfig.queuedTasks(stage);
+        }
+        return queued;
+    }
+
+    private static Cache<String, TokenBucket> buckets(long maxKeys, long idleMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String name, String reason) {
+        return Counter.builder(name)
+                .description("허용량 초과로 거절(429)한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter overLimitCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sos.alerts.admitted.over-limit")
+                .description("허용량을 넘었지만 진행 중 알림이 없어 키워드 분류만으로 접수한 긴급 알림 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허용량 종류
+     */
+    public enum Limit {
+        IP("발신 IP"),
+        DEVICE("장치"),
+        PING_IP("위치 기록 발신 IP"),
+        PING_DEVICE("위치 기록 장치");
+
+        private final String description;
+
+        Limit(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 허용량 확인 결과 (waitNanos: 다음 토큰까지 남은 시간, 0 이면 허용)
+     */
+    public record Quota(Limit limit, String key, long waitNanos) {
+
+        static final Quota UNLIMITED = new Quota(Limit.IP, null, 0);
+
+        public boolean exceeded() {
+            return waitNanos > 0;
+        }
+    }
+
+    private record BucketSpec(int capacity, double refillPerSecond) {
+
+        TokenBucket newBucket(long nowNanos) {
+            return new TokenBucket(capacity, refillPerSecond, nowNanos);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.hackathon.sos.resilience;
+
+import com.hackathon.sos.exception.AnalysisUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 보호 계층
+ * 회로 차단기 → 적응형 동시 실행 한도 → (선택) 헤지 요청 순으로 적용하며,
+ * 호출할 수 없거나 실패하면 기다리지 않고 AnalysisUnavailableException 을 던져 호출자가 대체 분석을 쓰게 합니다
+ * 헤지 요청: 응답이 최근 p95 를 넘도록 오지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 응답을 사용하고, 진 요청은 취소
+ */
+@Component
+public class ResilientOpenAiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientOpenAiClient.class);
+
+    /** 헤지 기준 백분위수를 신뢰할 최소 표본 수 */
+    private static final int MIN_HEDGE_SAMPLES = 20;
+
+    private final CircuitBreaker circuitBreaker;
+    private final VegasLimiter limiter;
+    private final LatencyWindow latencies = new LatencyWindow(256);
+    private final Executor callExecutor;
+
+    private final Counter circuitRejections;
+    private final Counter limitRejections;
+    private final Counter failures;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    @Value("${openai.resilience.hedge.enabled}")
+    private boolean hedgeEnabled;
+
+    @Value("${openai.resilience.hedge.percentile}")
+    private double hedgePercentile;
+
+    @Value("${openai.resilience.hedge.min-delay-ms}")
+    private long hedgeMinDelayMs;
+
+    public ResilientOpenAiClient(
+            MeterRegistry meterRegistry,
+            @Qualifier("openAiCallExecutor") Executor callExecutor,
+            @Value("${openai.resilience.circuit.window-size}") int windowSize,
+            @Value("${openai.resilience.circuit.minimum-calls}") int minimumCalls,
+            @Value("${openai.resilience.circuit.failure-rate-threshold}") double failureRateThreshold,
+            @Value("${openai.resilience.circuit.open-seconds}") long openSeconds,
+            @Value("${openai.resilience.circuit.half-open-calls}") int halfOpenCalls,
+            @Value("${openai.resilience.limit.initial}") int initialLimit,
+            @Value("${openai.resilience.limit.min}") int minLimit,
+            @Value("${openai.resilience.limit.max}") int maxLimit) {
+        this.callExecutor = callExecutor;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                Duration.ofSeconds(openSeconds).toNanos(), halfOpenCalls);
+        this.limiter = new VegasLimiter(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("sos.openai.limit", limiter, VegasLimiter::limit)
+                .description("OpenAI 적응형 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("sos.openai.inflight", limiter, VegasLimiter::inFlight)
+                .description("OpenAI 진행 중 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("sos.openai.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("OpenAI 회로 차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+
+        this.circuitRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.limitRejections = rejectionCounter(meterRegistry, "limit");
+        this.failures = rejectionCounter(meterRegistry, "failure");
+        this.hedges = Counter.builder("sos.openai.hedges")
+                .description("p95 초과로 보낸 헤지 요청 수")
+                .register(meterRegistry);
+        this.hedgeWins = Counter.builder("sos.openai.hedges.won")
+                .description("헤지 요청이 원 요청보다 먼저 성공한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호 계층을 거쳐 OpenAI 호출 실행
+     *
+     * @throws AnalysisUnavailableException 회로 차단, 한도 초과, 호출 실패
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(call, true);
+    }
+
+    /**
+     * 보호 계층을 거쳐 OpenAI 호출 실행 (스트리밍처럼 두 번 실행되면 안 되는 호출은 hedgeable=false)
+     *
+     * @throws AnalysisUnavailableException 회로 차단, 한도 초과, 호출 실패
+     */
+    public <T> T execute(Supplier<T> call, boolean hedgeable) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitRejections.increment();
+            throw new AnalysisUnavailableException("OpenAI 회로 차단기 열림");
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            limitRejections.increment();
+            throw new AnalysisUnavailableException("OpenAI 동시 호출 한도 초과: limit=" + limiter.limit());
+        }
+
+        try {
+            T result = hedgeEnabled && hedgeable ? executeHedged(call) : attempt(call);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.warn("OpenAI 호출 실패: circuit={}, limit={}, error={}",
+                    circuitBreaker.state(), limiter.limit(), cause.getMessage());
+            throw new AnalysisUnavailableException("OpenAI 호출 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 점유한 한도 슬롯으로 한 번 호출하고, 결과에 따라 한도 조정 후 슬롯 반환
+     */
+    private <T> T attempt(Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            long rtt = System.nanoTime() - startedAt;
+            limiter.onSuccess(rtt);
+            latencies.record(rtt);
+            return result;
+        } catch (RuntimeException e) {
+            limiter.onDropped();
+            throw e;
+        }
+    }
+
+    private <T> T executeHedged(Supplier<T> call) {
+        HedgedCall<T> race = new HedgedCall<>();
+        Attempt<T> primary = race.start(call);
+
+        long hedgeDelayNanos = hedgeDelayNanos();
+        try {
+            if (hedgeDelayNanos < 0) {
+                return race.result.get();
+            }
+            try {
+                return race.result.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 아래에서 헤지 여부 결정
+            }
+
+            // 헤지도 한도 슬롯을 점유하며, 한도가 없거나 그새 원 요청이 끝났으면 원 요청 결과만 기다림
+            if (!race.result.isDone() && limiter.tryAcquire()) {
+                hedges.increment();
+                race.start(call);
+            }
+            T result = race.result.get();
+            if (race.winner() != primary) {
+                hedgeWins.increment();
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            race.cancelAll();
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 헤지 대기 시간 (최근 응답 시간 백분위수, 표본이 부족하면 -1 = 헤지 안 함)
+     */
+    private long hedgeDelayNanos() {
+        if (latencies.size() < MIN_HEDGE_SAMPLES) {
+            return -1;
+        }
+        return Math.max(latencies.percentile(hedgePercentile), TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMs));
+    }
+
+    /**
+     * 원 요청과 헤지 요청 중 먼저 성공한 응답 (이긴 요청이 정해지면 나머지는 끼어들기로 취소)
+     * 승자는 CAS 로 하나만 정해지므로, 두 요청이 거의 동시에 끝나도 헤지 승리 수가 어긋나지 않습니다
+     */
+    private final class HedgedCall<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Attempt<T>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicReference<Attempt<T>> winner = new AtomicReference<>();
+
+        /**
+         * 점유한 한도 슬롯으로 요청 하나 시작
+         */
+        Attempt<T> start(Supplier<T> call) {
+            Attempt<T> attempt = new Attempt<>(call, this);
+            attempts.add(attempt);
+            pending.incrementAndGet();
+            callExecutor.execute(attempt);
+            return attempt;
+        }
+
+        Attempt<T> winner() {
+            return winner.get();
+        }
+
+        void onSuccess(Attempt<T> attempt, T value) {
+            if (winner.compareAndSet(null, attempt)) {
+                result.complete(value);
+                for (Attempt<T> other : attempts) {
+                    if (other != attempt) {
+                        other.cancel();
+                    }
+                }
+            }
+        }
+
+        void onFailure(RuntimeException error) {
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        }
+
+        void cancelAll() {
+            attempts.forEach(Attempt::cancel);
+        }
+    }
+
+    /**
+     * 취소할 수 있는 요청 하나 (실행 중에 취소되면 스레드에 끼어들어 진행 중인 HTTP 호출을 끊음)
+     * 어느 경로로 끝나든 한도 슬롯은 한 번만 반환하며, 취소된 요청은 응답 시간과 한도 조정에 반영하지 않습니다
+     */
+    private final class Attempt<T> implements Runnable {
+
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final Supplier<T> call;
+        private final HedgedCall<T> race;
+        private final AtomicInteger phase = new AtomicInteger(NEW);
+        /** 끼어들기와 실행 종료를 맞물리게 해, 끝난 뒤 같은 풀 스레드의 다음 작업에 끼어들지 않게 함 */
+        private final ReentrantLock runnerLock = new ReentrantLock();
+        private Thread runner;
+
+        Attempt(Supplier<T> call, HedgedCall<T> race) {
+            this.call = call;
+            this.race = race;
+        }
+
+        @Override
+        public void run() {
+            runnerLock.lock();
+            try {
+                if (!phase.compareAndSet(NEW, RUNNING)) {
+                    return;  // 시작 전에 취소됨 (슬롯은 cancel 에서 반환)
+                }
+                runner = Thread.currentThread();
+            } finally {
+                runnerLock.unlock();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                T value = call.get();
+                long rtt = System.nanoTime() - startedAt;
+                if (phase.compareAndSet(RUNNING, DONE)) {
+                    limiter.onSuccess(rtt);
+                    latencies.record(rtt);
+                    race.onSuccess(this, value);
+                } else {
+                    limiter.onIgnored();
+                }
+            } catch (RuntimeException e) {
+                if (phase.compareAndSet(RUNNING, DONE)) {
+                    limiter.onDropped();
+                    race.onFailure(e);
+                } else {
+                    limiter.onIgnored();
+                }
+            } finally {
+                runnerLock.lock();
+                try {
+                    runner = null;
+                    Thread.interrupted();
+                } finally {
+                    runnerLock.unlock();
+                }
+            }
+        }
+
+        void cancel() {
+            if (phase.compareAndSet(NEW, CANCELLED)) {
+                limiter.onIgnored();
+                return;
+            }
+            if (phase.compareAndSet(RUNNING, CANCELLED)) {
+                runnerLock.lock();
+                try {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                } finally {
+                    runnerLock.unlock();
+                }
+            }
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sos.openai.unavailable")
+                .description("대체 분석으로 넘어간 OpenAI 호출 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
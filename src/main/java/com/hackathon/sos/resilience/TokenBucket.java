@@ -0,0 +1,44 @@
+package com.hackathon.sos.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (최대 capacity 개, 초당 refillPerSecond 개씩 다시 참)
+ * 남은 토큰 수 대신 GCRA 의 가상 도착 시각 하나만 AtomicLong 에 두고 CAS 로 갱신하므로,
+ * 요청마다 객체를 만들지 않고 토큰 버킷과 같은 허용/거절 결과를 냅니다
+ * 시각은 System.nanoTime() 기준이며 호출자가 넘깁니다
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 refillPerSecond 는 양수여야 합니다");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = (capacity - 1) * intervalNanos;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 시간 (ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long ahead = arrival - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            long next = (ahead > 0 ? arrival : nowNanos) + intervalNanos;
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hackathon.sos.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TCP Vegas 방식 적응형 동시 실행 한도
+ * 관측된 최소 응답 시간(부하 없는 RTT)과 현재 응답 시간의 비율로 대기열 길이를 추정하여,
+ * 대기열이 짧으면 한도를 늘리고 길어지면 줄입니다. 실패/시간 초과 시에는 한도를 곱셈으로 줄입니다
+ * 한도를 넘는 호출은 기다리지 않고 바로 거부되어, 느려진 외부 API 가 호출 스레드를 붙잡지 못하게 합니다
+ */
+public final class VegasLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    /** 기준 RTT 를 다시 측정하는 주기 (표본 수), 외부 API 의 평상시 응답 시간 변화를 따라감 */
+    private static final int PROBE_INTERVAL = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+    private long rttNoLoad;
+    private int samples;
+
+    public VegasLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 슬롯 점유 (점유하면 반드시 onSuccess/onDropped/onIgnored 중 하나로 반환)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        inFlight.decrementAndGet();
+
+        lock.lock();
+        try {
+            if (++samples >= PROBE_INTERVAL) {
+                samples = 0;
+                rttNoLoad = 0;
+            }
+            if (rttNoLoad == 0 || rttNanos < rttNoLoad) {
+                rttNoLoad = rttNanos;
+                return;
+            }
+
+            double current = limit;
+            double queueSize = current * (1 - (double) rttNoLoad / rttNanos);
+            double threshold = Math.max(1, Math.log10(current));
+            double alpha = 3 * threshold;
+            double beta = 6 * threshold;
+
+            if (queueSize < alpha) {
+                current += threshold;
+            } else if (queueSize > beta) {
+                current -= threshold;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, current));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패/시간 초과 (혼잡 신호로 보고 한도 축소)
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도 조정에 반영하지 않고 슬롯만 반환
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,18 @@
+package com.hackathon.sos.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 인증된 사용자 주입
+ * 파라미터 타입: Long(사용자 ID), User.UserRole(역할), UserPrincipal(토큰 클레임 전체)
+ * 토큰 클레임에서 바로 만들어지므로 사용자 테이블을 조회하지 않습니다
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
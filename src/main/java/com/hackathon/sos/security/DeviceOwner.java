@@ -0,0 +1,7 @@
+package com.hackathon.sos.security;
+
+/**
+ * 장치 소유자 (장치 ID로 들어오는 긴급 알림에 필요한 사용자 정보만 보관)
+ */
+public record DeviceOwner(String deviceId, Long userId, String name, String phoneNumber) {
+}
@@ -0,0 +1,64 @@
+package com.hackathon.sos.security;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+/**
+ * WebSocket 핸드셰이크 JWT 인증
+ * Authorization: Bearer 헤더 또는 access_token 쿼리 파라미터(브라우저 WebSocket 은 헤더를 보낼 수 없음)의 토큰을 확인하고,
+ * 실패하면 401 로 연결을 거부합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtHandshakeInterceptor.class);
+
+    public static final String PRINCIPAL_ATTRIBUTE = "sos.websocket.principal";
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        UserPrincipal principal = StringUtils.hasText(token)
+                ? tokenProvider.parseToken(token).filter(tokenRevocationRegistry::isActive).orElse(null)
+                : null;
+        if (principal == null) {
+            logger.warn("WebSocket 연결 거부 - 유효하지 않은 토큰");
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        attributes.put(PRINCIPAL_ATTRIBUTE, new WebSocketPrincipal(principal.getUsername(), principal.getId()));
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams()
+                .getFirst("access_token");
+    }
+}
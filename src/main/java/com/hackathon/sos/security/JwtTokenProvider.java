@@ -1,24 +1,36 @@
 package com.hackathon.sos.security;
 
+import com.hackathon.sos.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * JWT 발급/검증
+ * 토큰에 사용자 ID(uid), 역할(role), 계정 토큰 버전(ver), 토큰 ID(jti)를 담아
+ * 요청마다 서명 검증과 파싱을 한 번만 하고 DB 조회 없이 인증 사용자를 만듭니다
+ */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -26,59 +38,50 @@ public class JwtTokenProvider {
     private long jwtExpiration;
 
     private SecretKey key;
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
-
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(key)
-                .compact();
-    }
-
-    public String generateTokenFromUsername(String username) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .subject(username)
+                .id(UUID.randomUUID().toString())
+                .subject(principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_VERSION, principal.getTokenVersion())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
+    /**
+     * 서명/만료 검증과 클레임 파싱을 한 번에 수행 (검증 실패 또는 필수 클레임이 없는 이전 형식 토큰이면 empty)
+     */
+    public Optional<UserPrincipal> parseToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
-            return claims.getSubject();
-        } catch (JwtException e) {
-            logger.error("JWT 토큰에서 사용자명을 가져올 수 없습니다: {}", e.getMessage());
-            return null;
-        }
-    }
+            Long userId = claims.get(CLAIM_USER_ID, Long.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Integer version = claims.get(CLAIM_VERSION, Integer.class);
+            if (userId == null || role == null || version == null || claims.getId() == null) {
+                logger.warn("사용자 클레임이 없는 JWT 토큰입니다: subject={}", claims.getSubject());
+                return Optional.empty();
+            }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(UserPrincipal.fromToken(userId, claims.getSubject(), User.UserRole.valueOf(role),
+                    version, claims.getId(), claims.getExpiration().getTime()));
         } catch (SecurityException | MalformedJwtException e) {
             logger.error("잘못된 JWT 서명입니다: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -86,8 +89,8 @@ public class JwtTokenProvider {
         } catch (UnsupportedJwtException e) {
             logger.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            logger.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
+            logger.error("JWT 토큰이 비어있거나 클레임이 잘못되었습니다: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
-}
\ No newline at end of file
+}
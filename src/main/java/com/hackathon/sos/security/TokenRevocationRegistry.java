@@ -0,0 +1,124 @@
+package com.hackathon.sos.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기/계정 토큰 버전 확인 (메모리)
+ * 로그아웃한 토큰 ID(jti)는 토큰 만료 시각까지만 보관하고 (크기 제한으로 먼저 지우지 않음, 가득 차면 폐기를 거절),
+ * 사용자별 토큰 버전은 처음 확인할 때 한 번 읽어 ttl 동안 캐시하므로 요청마다 DB 를 조회하지 않습니다
+ * 버전이 올라가면 그 전에 발급된 토큰은 모두 거부됩니다
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    /** 삭제되었거나 없는 사용자 (모든 토큰 거부) */
+    private static final int UNKNOWN_USER = -1;
+
+    private final Cache<String, Long> revokedTokens;
+    private final long maxRevokedTokens;
+    private final LoadingCache<Long, Integer> tokenVersions;
+
+    private final Counter revokedRejections;
+    private final Counter versionRejections;
+
+    public TokenRevocationRegistry(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.max-entries}") long maxRevokedTokens,
+            @Value("${jwt.version-cache.max-entries}") long maxVersions,
+            @Value("${jwt.version-cache.ttl-minutes}") long versionTtlMinutes) {
+        this.maxRevokedTokens = maxRevokedTokens;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tokenId, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxVersions)
+                .expireAfterWrite(Duration.ofMinutes(versionTtlMinutes))
+                .recordStats()
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "tokenVersions");
+        this.revokedRejections = rejectionCounter(meterRegistry, "revoked");
+        this.versionRejections = rejectionCounter(meterRegistry, "version");
+    }
+
+    /**
+     * 토큰이 폐기되지 않았고 발급 시 버전이 현재 계정 버전과 같으면 true
+     */
+    public boolean isActive(UserPrincipal principal) {
+        if (revokedTokens.getIfPresent(principal.getTokenId()) != null) {
+            revokedRejections.increment();
+            return false;
+        }
+        Integer current = tokenVersions.get(principal.getId());
+        if (current == null || current != principal.getTokenVersion()) {
+            versionRejections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 토큰 한 건 폐기 (만료 시각이 지나면 자동으로 제거)
+     * 보관 중인 토큰이 max-entries 에 이르면 폐기하지 않고 false 를 돌려주므로, 호출한 쪽은 계정 토큰 버전을 올려야 합니다
+     * (동시에 폐기하면 잠깐 max-entries 를 조금 넘을 수 있음)
+     *
+     * @return 폐기했거나 이미 만료된 토큰이면 true
+     */
+    public boolean revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return true;
+        }
+        if (revokedTokens.estimatedSize() >= maxRevokedTokens) {
+            // 만료됐지만 아직 지워지지 않은 항목을 정리한 뒤 다시 확인
+            revokedTokens.cleanUp();
+            if (revokedTokens.estimatedSize() >= maxRevokedTokens) {
+                return false;
+            }
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        return true;
+    }
+
+    /**
+     * 사용자의 계정 토큰 버전 갱신 (DB 에 저장한 뒤 호출)
+     */
+    public void updateVersion(Long userId, int version) {
+        tokenVersions.put(userId, version);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sos.auth.token.rejected")
+                .description("폐기되었거나(revoked) 계정 버전이 바뀐(version) 토큰 거부 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.hackathon.sos.security;
+
+import com.hackathon.sos.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 엔티티 변경 시 조회 캐시 무효화 (JPA 엔티티 리스너)
+ * flush 시점에 바로 지우고, 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 지웁니다
+ * 새 사용자는 등록되지 않은 장치로 캐시된 항목을 지우기 위해 처리합니다
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    /** EntityManagerFactory 생성 중 리스너가 만들어지므로 캐시(→ 리포지토리)는 사용 시점에 조회 */
+    private final ObjectProvider<UserLookupCache> userLookupCache;
+
+    public UserCacheInvalidationListener(ObjectProvider<UserLookupCache> userLookupCache) {
+        this.userLookupCache = userLookupCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        UserLookupCache cache = userLookupCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        cache.evict(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(user);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.hackathon.sos.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 조회 캐시 (장치 ID → 소유자, 사용자명 → 로그인용 UserDetails)
+ * 인증 없이 높은 빈도로 들어오는 장치 알림이 DB 를 거치지 않도록 하며, 등록되지 않은 장치도 짧은 TTL 로 캐시합니다
+ * 사용자 엔티티가 저장/수정/삭제되면 {@link UserCacheInvalidationListener} 가 커밋 전후로 해당 사용자 항목을 지웁니다
+ * 사용자 ID → 캐시 키 역색인으로 장치 ID/사용자명이 바뀌어도 이전 항목을 전체 순회 없이 바로 지웁니다
+ * 시작 시 장치가 등록된 활성 사용자를 max-entries 까지 미리 적재합니다
+ */
+@Component
+public class UserLookupCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserLookupCache.class);
+
+    private final UserRepository userRepository;
+    private final int maxEntries;
+
+    private final Cache<String, Optional<DeviceOwner>> deviceOwners;
+    private final Cache<String, UserPrincipal> userDetails;
+
+    /** 사용자 ID → 캐시된 키 (만료/크기 제거 시 함께 빠지므로 캐시 크기를 넘지 않음) */
+    private final KeysByUser deviceIdsByUser = new KeysByUser();
+    private final KeysByUser usernamesByUser = new KeysByUser();
+
+    public UserLookupCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.cache.max-entries}") int maxEntries,
+            @Value("${user.cache.ttl-minutes}") long ttlMinutes,
+            @Value("${user.cache.negative-ttl-seconds}") long negativeTtlSeconds) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+
+        long ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+
+        this.deviceOwners = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Optional<DeviceOwner>>() {
+                    @Override
+                    public long expireAfterCreate(String deviceId, Optional<DeviceOwner> owner, long currentTime) {
+                        return owner.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String deviceId, Optional<DeviceOwner> owner,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(deviceId, owner, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String deviceId, Optional<DeviceOwner> owner,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((RemovalListener<String, Optional<DeviceOwner>>) (deviceId, owner, cause) -> {
+                    if (owner != null && owner.isPresent()) {
+                        deviceIdsByUser.remove(owner.get().userId(), deviceId);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        this.userDetails = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .evictionListener((RemovalListener<String, UserPrincipal>) (username, principal, cause) -> {
+                    if (principal != null) {
+                        usernamesByUser.remove(principal.getId(), username);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, deviceOwners, "deviceOwners");
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetails, "userDetails");
+        hitRatioGauge(meterRegistry, "deviceOwners", deviceOwners);
+        hitRatioGauge(meterRegistry, "userDetails", userDetails);
+    }
+
+    /**
+     * 장치 ID로 소유자 조회 (같은 장치의 동시 미스는 DB 조회 한 번으로 합쳐짐)
+     */
+    public Optional<DeviceOwner> findDeviceOwner(String deviceId) {
+        return deviceOwners.get(deviceId, id -> {
+            Optional<DeviceOwner> owner = userRepository.findDeviceOwner(id);
+            owner.ifPresent(found -> deviceIdsByUser.add(found.userId(), id));
+            return owner;
+        });
+    }
+
+    /**
+     * 사용자명으로 로그인용 사용자 조회 (없으면 null, 캐시하지 않음)
+     */
+    public UserPrincipal findUserDetails(String username) {
+        return userDetails.get(username, name -> {
+            UserPrincipal principal = userRepository.findByUsername(name)
+                    .map(UserPrincipal::fromUser)
+                    .orElse(null);
+            if (principal != null) {
+                usernamesByUser.add(principal.getId(), name);
+            }
+            return principal;
+        });
+    }
+
+    /**
+     * 사용자 항목 제거 (새 장치 ID 항목과, 장치 ID가 바뀐 경우를 위해 역색인에 남은 이전 장치 항목도 제거)
+     */
+    public void evict(User user) {
+        if (user.getDeviceId() != null) {
+            deviceOwners.invalidate(user.getDeviceId());
+        }
+        deviceOwners.invalidateAll(deviceIdsByUser.removeAll(user.getId()));
+
+        evictUserDetails(user.getId(), user.getUsername());
+    }
+
+    /**
+     * 로그인용 사용자 항목만 제거 (일괄 UPDATE 처럼 엔티티 리스너를 거치지 않는 변경 후 호출)
+     */
+    public void evictUserDetails(Long userId, String username) {
+        userDetails.invalidate(username);
+        userDetails.invalidateAll(usernamesByUser.removeAll(userId));
+    }
+
+    /**
+     * 장치가 등록된 활성 사용자 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<DeviceOwner> owners = userRepository.findActiveDeviceOwners(PageRequest.of(0, maxEntries));
+        for (DeviceOwner owner : owners) {
+            if (deviceOwners.asMap().putIfAbsent(owner.deviceId(), Optional.of(owner)) == null) {
+                deviceIdsByUser.add(owner.userId(), owner.deviceId());
+            }
+        }
+        logger.info("장치 소유자 캐시 적재 완료: {}건", owners.size());
+    }
+
+    private static void hitRatioGauge(MeterRegistry meterRegistry, String name, Cache<?, ?> cache) {
+        Gauge.builder("sos.user.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("사용자 조회 캐시 적중률 (누적)")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 ID → 캐시 키 역색인 (사용자 하나의 키 집합은 compute 안에서만 바꿈)
+     */
+    private static final class KeysByUser {
+
+        private final Map<Long, Set<String>> keys = new ConcurrentHashMap<>();
+
+        void add(Long userId, String key) {
+            keys.compute(userId, (id, userKeys) -> {
+                Set<String> updated = userKeys != null ? userKeys : ConcurrentHashMap.newKeySet();
+                updated.add(key);
+                return updated;
+            });
+        }
+
+        void remove(Long userId, String key) {
+            keys.computeIfPresent(userId, (id, userKeys) -> {
+                userKeys.remove(key);
+                return userKeys.isEmpty() ? null : userKeys;
+            });
+        }
+
+        Set<String> removeAll(Long userId) {
+            Set<String> removed = keys.remove(userId);
+            return removed != null ? removed : Set.of();
+        }
+    }
+}
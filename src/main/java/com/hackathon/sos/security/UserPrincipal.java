@@ -0,0 +1,87 @@
+package com.hackathon.sos.security;
+
+import com.hackathon.sos.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자
+ * 로그인 시에는 DB 의 사용자로, 이후 요청에서는 JWT 클레임(uid, role, ver, jti)만으로 만들어지므로
+ * 요청마다 사용자 테이블을 조회하지 않습니다 (토큰으로 만든 경우 password 는 null)
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final User.UserRole role;
+    private final int tokenVersion;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+
+    /** 인증에 사용된 토큰 ID (jti, 로그인 직후에는 null) */
+    private final String tokenId;
+
+    /** 인증에 사용된 토큰 만료 시각 (epoch ms, 로그인 직후에는 0) */
+    private final long tokenExpiresAt;
+
+    private UserPrincipal(Long id, String username, String password, User.UserRole role, int tokenVersion,
+                          boolean enabled, String tokenId, long tokenExpiresAt) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.tokenId = tokenId;
+        this.tokenExpiresAt = tokenExpiresAt;
+    }
+
+    /**
+     * 로그인 인증용 (비밀번호 포함)
+     */
+    public static UserPrincipal fromUser(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getPassword(), user.getRole(),
+                user.getTokenVersion(), Boolean.TRUE.equals(user.getActive()), null, 0);
+    }
+
+    /**
+     * 검증된 토큰 클레임으로 생성
+     */
+    public static UserPrincipal fromToken(Long id, String username, User.UserRole role, int tokenVersion,
+                                          String tokenId, long tokenExpiresAt) {
+        return new UserPrincipal(id, username, null, role, tokenVersion, true, tokenId, tokenExpiresAt);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
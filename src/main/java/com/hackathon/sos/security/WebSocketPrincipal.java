@@ -0,0 +1,14 @@
+package com.hackathon.sos.security;
+
+import java.security.Principal;
+
+/**
+ * WebSocket 연결 사용자 (핸드셰이크 시 JWT 로 한 번 확인한 사용자 ID를 연결 동안 보관)
+ */
+public record WebSocketPrincipal(String name, Long userId) implements Principal {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
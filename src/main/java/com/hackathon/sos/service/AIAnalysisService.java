@@ -1,16 +1,35 @@
 package com.hackathon.sos.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.hackathon.sos.analysis.MicroBatcher;
+import com.hackathon.sos.classifier.EmergencyTypeClassifier;
+import com.hackathon.sos.exception.AnalysisUnavailableException;
+import com.hackathon.sos.resilience.ResilientOpenAiClient;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -18,7 +37,30 @@ public class AIAnalysisService {
 
     private static final Logger logger = LoggerFactory.getLogger(AIAnalysisService.class);
 
+    private static final String NO_TRANSCRIPT_ANALYSIS = "음성 인식 실패 - 주변 소음 또는 긴급 상황으로 추정됨";
+
+    private static final String SYSTEM_PROMPT =
+            "당신은 긴급 상황 분석 전문가입니다. " +
+                    "주어진 음성 텍스트를 분석하여 어떤 위급 상황인지 판단하고, " +
+                    "상황의 심각도와 필요한 조치사항을 간단명료하게 설명해주세요. " +
+                    "분석 결과는 200자 이내로 작성해주세요.";
+
+    private static final String ANALYSIS_ITEMS =
+            "1. 상황의 종류 (사고, 폭행, 납치, 응급의료, 화재, 재난 등)\n" +
+                    "2. 상황의 심각도\n" +
+                    "3. 즉각적으로 필요한 조치";
+
     private final OpenAiService openAiService;
+    private final EmergencyTypeClassifier emergencyTypeClassifier;
+    private final ResilientOpenAiClient resilientOpenAiClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("analysisExecutor")
+    private final Executor analysisExecutor;
+
+    @Qualifier("batchTimerScheduler")
+    private final TaskScheduler batchTimerScheduler;
 
     @Value("${openai.model}")
     private String model;
@@ -26,82 +68,214 @@ public class AIAnalysisService {
     @Value("${openai.max-tokens}")
     private Integer maxTokens;
 
+    @Value("${analysis.batch.enabled}")
+    private boolean batchEnabled;
+
+    @Value("${analysis.batch.window-ms}")
+    private long batchWindowMs;
+
+    @Value("${analysis.batch.max-size}")
+    private int batchMaxSize;
+
+    private MicroBatcher<String, String> batcher;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void initBatcher() {
+        if (!batchEnabled || batchMaxSize < 2) {
+            return;
+        }
+        batcher = new MicroBatcher<>("analysis", batchWindowMs, batchMaxSize, this::analyzeBatch,
+                analysisExecutor, batchTimerScheduler);
+        batchSizes = DistributionSummary.builder("sos.analysis.batch.size")
+                .description("GPT 분석 요청 1건에 묶인 음성 텍스트 수")
+                .register(meterRegistry);
+        logger.info("AI 분석 마이크로 배치 사용: window={}ms, maxSize={}", batchWindowMs, batchMaxSize);
+    }
+
+    @PreDestroy
+    void closeBatcher() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    /**
+     * GPT 분석을 비동기로 요청합니다
+     * 마이크로 배치를 사용하면 짧은 시간 안에 들어온 음성 텍스트를 모아 한 번의 GPT 요청으로 분석하고,
+     * 결과를 알림별로 나눠 돌려줍니다 (실패 시 AnalysisUnavailableException 으로 완료)
+     */
+    public CompletableFuture<String> analyzeAsync(String audioTranscript) {
+        if (batcher == null || audioTranscript == null || audioTranscript.trim().isEmpty()) {
+            return CompletableFuture.supplyAsync(() -> analyzeEmergencySituation(audioTranscript), analysisExecutor);
+        }
+        return batcher.submit(audioTranscript);
+    }
+
     /**
      * GPT를 사용하여 음성 텍스트에서 위급 상황을 분석합니다
+     * 회로 차단/동시 호출 한도 초과/호출 실패 시 기다리지 않고 예외를 던지며, 호출자가 대체 분석을 사용합니다
+     *
+     * @throws AnalysisUnavailableException AI 분석을 사용할 수 없는 경우
      */
     public String analyzeEmergencySituation(String audioTranscript) {
         logger.info("AI 위급 상황 분석 시작");
 
         if (audioTranscript == null || audioTranscript.trim().isEmpty()) {
-            return "음성 인식 실패 - 주변 소음 또는 긴급 상황으로 추정됨";
+            return NO_TRANSCRIPT_ANALYSIS;
+        }
+
+        String analysis = complete(singleMessages(audioTranscript), maxTokens);
+
+        logger.info("AI 분석 완료: {}", analysis);
+        return analysis;
+    }
+
+    /**
+     * GPT 분석을 스트리밍으로 비동기 요청합니다
+     * 생성되는 조각을 받는 대로 onDelta 로 넘기고, 완료되면 전체 분석으로 Future 를 완료합니다
+     * 같은 조각이 두 번 전달되지 않도록 헤지 요청은 사용하지 않습니다
+     */
+    public CompletableFuture<String> analyzeStreamingAsync(String audioTranscript, Consumer<String> onDelta) {
+        return CompletableFuture.supplyAsync(() -> streamEmergencySituation(audioTranscript, onDelta), analysisExecutor);
+    }
+
+    private String streamEmergencySituation(String audioTranscript, Consumer<String> onDelta) {
+        logger.info("AI 위급 상황 스트리밍 분석 시작");
+
+        if (audioTranscript == null || audioTranscript.trim().isEmpty()) {
+            onDelta.accept(NO_TRANSCRIPT_ANALYSIS);
+            return NO_TRANSCRIPT_ANALYSIS;
+        }
+
+        ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+                .model(model)
+                .messages(singleMessages(audioTranscript))
+                .maxTokens(maxTokens)
+                .temperature(0.3)  // 일관된 응답을 위해 낮은 temperature 사용
+                .build();
+
+        String analysis = resilientOpenAiClient.execute(() -> {
+            StringBuilder content = new StringBuilder();
+            openAiService.streamChatCompletion(completionRequest).blockingForEach(chunk -> {
+                if (chunk.getChoices() == null || chunk.getChoices().isEmpty()
+                        || chunk.getChoices().get(0).getMessage() == null) {
+                    return;
+                }
+                String delta = chunk.getChoices().get(0).getMessage().getContent();
+                if (delta != null && !delta.isEmpty()) {
+                    content.append(delta);
+                    onDelta.accept(delta);
+                }
+            });
+            return content.toString();
+        }, false);
+
+        logger.info("AI 스트리밍 분석 완료: {}", analysis);
+        return analysis;
+    }
+
+    /**
+     * 여러 음성 텍스트를 한 번의 GPT 요청으로 분석합니다
+     * 입력과 같은 순서의 분석 목록을 돌려주며, 응답에서 빠진 항목은 null 입니다
+     *
+     * @throws AnalysisUnavailableException AI 분석을 사용할 수 없거나 응답을 해석할 수 없는 경우
+     */
+    List<String> analyzeBatch(List<String> transcripts) {
+        batchSizes.record(transcripts.size());
+        if (transcripts.size() == 1) {
+            return List.of(analyzeEmergencySituation(transcripts.get(0)));
+        }
+
+        logger.info("AI 위급 상황 배치 분석 시작: {}건", transcripts.size());
+
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < transcripts.size(); i++) {
+            items.addObject()
+                    .put("id", i)
+                    .put("transcript", transcripts.get(i));
+        }
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(new ChatMessage("system", SYSTEM_PROMPT + " " +
+                "여러 건의 음성 텍스트가 id 와 함께 JSON 배열로 주어지면 각 항목을 서로 독립적으로 분석하고, " +
+                "다른 설명 없이 [{\"id\": 번호, \"analysis\": \"분석 결과\"}] 형식의 JSON 배열만 출력해주세요."));
+        messages.add(new ChatMessage("user",
+                "다음은 서로 다른 긴급 상황에서 녹음된 음성을 텍스트로 변환한 내용입니다:\n\n" +
+                        items + "\n\n" +
+                        "각 항목마다 다음 정보를 분석 결과에 담아주세요:\n" +
+                        ANALYSIS_ITEMS));
+
+        String content = complete(messages, maxTokens * transcripts.size());
+        String[] analyses = parseBatch(content, transcripts.size());
+
+        logger.info("AI 배치 분석 완료: {}건 중 {}건", transcripts.size(),
+                Arrays.stream(analyses).filter(Objects::nonNull).count());
+        return Arrays.asList(analyses);
+    }
+
+    private List<ChatMessage> singleMessages(String audioTranscript) {
+        List<ChatMessage> messages = new ArrayList<>();
+
+        // 시스템 프롬프트
+        messages.add(new ChatMessage("system", SYSTEM_PROMPT));
+
+        // 사용자 프롬프트
+        messages.add(new ChatMessage("user",
+                "다음은 긴급 상황에서 녹음된 음성을 텍스트로 변환한 내용입니다:\n\n" +
+                        audioTranscript + "\n\n" +
+                        "이 상황을 분석하여 다음 정보를 제공해주세요:\n" +
+                        ANALYSIS_ITEMS));
+        return messages;
+    }
+
+    private String complete(List<ChatMessage> messages, int completionTokens) {
+        ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+                .model(model)
+                .messages(messages)
+                .maxTokens(completionTokens)
+                .temperature(0.3)  // 일관된 응답을 위해 낮은 temperature 사용
+                .build();
+
+        return resilientOpenAiClient.execute(() -> openAiService.createChatCompletion(completionRequest))
+                .getChoices()
+                .get(0)
+                .getMessage()
+                .getContent();
+    }
+
+    /**
+     * 배치 응답의 JSON 배열을 id 순서의 분석 배열로 변환 (코드 블록 등 배열 밖의 문자는 무시)
+     */
+    private String[] parseBatch(String content, int size) {
+        int start = content == null ? -1 : content.indexOf('[');
+        int end = content == null ? -1 : content.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            throw new AnalysisUnavailableException("GPT 배치 응답에 JSON 배열이 없습니다");
         }
 
+        JsonNode results;
         try {
-            List<ChatMessage> messages = new ArrayList<>();
-
-            // 시스템 프롬프트
-            messages.add(new ChatMessage("system",
-                    "당신은 긴급 상황 분석 전문가입니다. " +
-                            "주어진 음성 텍스트를 분석하여 어떤 위급 상황인지 판단하고, " +
-                            "상황의 심각도와 필요한 조치사항을 간단명료하게 설명해주세요. " +
-                            "분석 결과는 200자 이내로 작성해주세요."));
-
-            // 사용자 프롬프트
-            messages.add(new ChatMessage("user",
-                    "다음은 긴급 상황에서 녹음된 음성을 텍스트로 변환한 내용입니다:\n\n" +
-                            audioTranscript + "\n\n" +
-                            "이 상황을 분석하여 다음 정보를 제공해주세요:\n" +
-                            "1. 상황의 종류 (사고, 폭행, 납치, 응급의료, 화재, 재난 등)\n" +
-                            "2. 상황의 심각도\n" +
-                            "3. 즉각적으로 필요한 조치"));
-
-            ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
-                    .model(model)
-                    .messages(messages)
-                    .maxTokens(maxTokens)
-                    .temperature(0.3)  // 일관된 응답을 위해 낮은 temperature 사용
-                    .build();
-
-            String analysis = openAiService.createChatCompletion(completionRequest)
-                    .getChoices()
-                    .get(0)
-                    .getMessage()
-                    .getContent();
-
-            logger.info("AI 분석 완료: {}", analysis);
-            return analysis;
-
-        } catch (Exception e) {
-            logger.error("AI 분석 중 오류 발생: {}", e.getMessage(), e);
-            return "AI 분석 실패 - 긴급 상황으로 추정되어 알림을 발송합니다";
+            results = objectMapper.readTree(content.substring(start, end + 1));
+        } catch (JsonProcessingException e) {
+            throw new AnalysisUnavailableException("GPT 배치 응답 해석 실패: " + e.getOriginalMessage(), e);
         }
+
+        String[] analyses = new String[size];
+        for (JsonNode result : results) {
+            int id = result.path("id").asInt(-1);
+            String analysis = result.path("analysis").asText(null);
+            if (id >= 0 && id < size && analysis != null && !analysis.isBlank()) {
+                analyses[id] = analysis;
+            }
+        }
+        return analyses;
     }
 
     /**
      * 분석 결과를 바탕으로 긴급 상황 유형을 판단합니다
      */
     public String determineEmergencyType(String analysis) {
-        String lowerAnalysis = analysis.toLowerCase();
-
-        if (lowerAnalysis.contains("사고") || lowerAnalysis.contains("accident")) {
-            return "ACCIDENT";
-        } else if (lowerAnalysis.contains("폭행") || lowerAnalysis.contains("범죄") ||
-                lowerAnalysis.contains("assault")) {
-            return "ASSAULT";
-        } else if (lowerAnalysis.contains("납치") || lowerAnalysis.contains("유괴") ||
-                lowerAnalysis.contains("kidnap")) {
-            return "KIDNAPPING";
-        } else if (lowerAnalysis.contains("응급") || lowerAnalysis.contains("의료") ||
-                lowerAnalysis.contains("medical")) {
-            return "MEDICAL";
-        } else if (lowerAnalysis.contains("화재") || lowerAnalysis.contains("fire")) {
-            return "FIRE";
-        } else if (lowerAnalysis.contains("재난") || lowerAnalysis.contains("disaster")) {
-            return "NATURAL_DISASTER";
-        } else if (lowerAnalysis.contains("스토킹") || lowerAnalysis.contains("stalking")) {
-            return "STALKING";
-        } else {
-            return "OTHER";
-        }
+        return emergencyTypeClassifier.classify(analysis).type().name();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,559 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.analysis.AnalysisStreamHub;
+import com.hackathon.sos.analysis.TranscriptAnalysisCache;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.EmergencyAlert.StageStatus;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.event.EmergencyAlertCreatedEvent;
+import com.hackathon.sos.exception.ResourceNotFoundException;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 긴급 알림 처리 파이프라인
+ * 접수(ingest) → 보강(enrich: 주소 조회 ∥ AI 분석) → 유형 분류(classify) → 알림 확정(notify) → 아웃박스 발송
+ * 각 단계는 전용 스레드 풀에서 실행되며, 단계별 상태는 EmergencyAlert 행에 기록됩니다
+ * 단계 실행기 큐가 가득 차 거절된 알림은 메모리에 두지 않고, 재시도 스케줄러가 DB 의 단계 상태로 찾아 다시 시작합니다
+ */
+@Service
+@RequiredArgsConstructor
+public class AlertPipelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertPipelineService.class);
+
+    private static final String NOTIFICATION_SUBJECT = "🚨 긴급 상황 알림";
+
+    private static final String ANALYSIS_TIMEOUT_FALLBACK = "AI 분석 시간 초과 - 긴급 상황으로 추정되어 알림을 발송합니다";
+
+    private static final int RESUBMIT_PAGE_SIZE = 200;
+
+    private static final String ANALYSIS_UNAVAILABLE_FALLBACK = "AI 분석 불가 - 긴급 상황으로 추정되어 알림을 발송합니다";
+
+    private final EmergencyAlertRepository emergencyAlertRepository;
+    private final AIAnalysisService aiAnalysisService;
+    private final TranscriptAnalysisCache transcriptAnalysisCache;
+    private final AnalysisStreamHub analysisStreamHub;
+    private final LocationService locationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final AlertAdmissionController alertAdmissionController;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("enrichExecutor")
+    private final Executor enrichExecutor;
+
+    @Qualifier("geocodeExecutor")
+    private final Executor geocodeExecutor;
+
+    @Qualifier("classifyExecutor")
+    private final Executor classifyExecutor;
+
+    @Qualifier("notifyExecutor")
+    private final Executor notifyExecutor;
+
+    @Qualifier("pipelineRetryScheduler")
+    private final TaskScheduler pipelineRetryScheduler;
+
+    /** 단계 실행기가 받아 처리 중인 알림 (실행기 큐 용량만큼으로 제한, 재시도 스캔이 같은 알림을 두 번 시작하지 않게 함) */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /** 거절되어 DB 에만 남은 알림이 있는지 (있을 때만 재시도 스캔) */
+    private final AtomicBoolean stranded = new AtomicBoolean();
+
+    @Value("${alert.pipeline.enrichment.deadline-ms}")
+    private long enrichmentDeadlineMs;
+
+    @Value("${analysis.streaming.enabled}")
+    private boolean streamingEnabled;
+
+    @Value("${alert.pipeline.retry-interval-ms}")
+    private long retryIntervalMs;
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("sos.alerts.pipeline.in-flight", inFlight, Set::size)
+                .description("단계 실행기가 받아 처리 중인 긴급 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원본 알림 커밋 후 파이프라인 시작
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertCreated(EmergencyAlertCreatedEvent event) {
+        logger.info("긴급 알림 파이프라인 시작: alertId={}", event.alertId());
+        start(event.alertId(), "enrich", enrichExecutor, () -> enrich(event.alertId()));
+    }
+
+    /**
+     * 서버 재시작 시 완료되지 않은 알림을 마지막으로 끝난 단계 다음부터 재개하고, 거절된 알림 재시도 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedAlerts() {
+        resubmit(List.of(StageStatus.PENDING, StageStatus.RUNNING));
+        pipelineRetryScheduler.scheduleWithFixedDelay(this::retryStranded, Duration.ofMillis(retryIntervalMs));
+    }
+
+    /**
+     * 거절된 알림이 있으면 DB 에서 찾아 다시 시작 (거절은 단계 시작 전에만 일어나므로 알림 단계가 PENDING 인 알림만 봄)
+     */
+    void retryStranded() {
+        if (stranded.compareAndSet(true, false)) {
+            resubmit(List.of(StageStatus.PENDING));
+        }
+    }
+
+    /**
+     * 처리 중이 아닌 미완료 알림을 DB 의 단계 상태로 다시 시작 (실행기가 다시 거절하면 멈추고 다음 주기로 미룸)
+     */
+    private void resubmit(List<StageStatus> notifyStatuses) {
+        Long afterId = 0L;
+        while (true) {
+            List<EmergencyAlert> unfinished = emergencyAlertRepository.findByNotifyStatusInAndIdGreaterThanOrderByIdAsc(
+                    notifyStatuses, afterId, PageRequest.of(0, RESUBMIT_PAGE_SIZE));
+            for (EmergencyAlert alert : unfinished) {
+                Long alertId = alert.getId();
+                if (inFlight.contains(alertId)) {
+                    continue;
+                }
+                logger.warn("미완료 긴급 알림 파이프라인 재개: alertId={}", alertId);
+                boolean accepted = !isFinished(alert.getEnrichStatus()) || !isFinished(alert.getClassifyStatus())
+                        ? start(alertId, "enrich", enrichExecutor, () -> enrich(alertId))
+                        : start(alertId, "notify", notifyExecutor, () -> notifyContacts(alertId));
+                if (!accepted && stranded.get()) {
+                    return;
+                }
+            }
+            if (unfinished.size() < RESUBMIT_PAGE_SIZE) {
+                return;
+            }
+            afterId = unfinished.get(unfinished.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 1단계: 역지오코딩과 GPT 분석을 동시에 시작하고 알림별 마감 시간이 지나면 분류 단계로 넘김
+     * 마감 대기는 스레드를 점유하지 않으며, 그때까지 준비된 결과만 사용합니다
+     */
+    void enrich(Long alertId) {
+        EmergencyAlert alert;
+        try {
+            alert = updateAlert(alertId, a -> a.setEnrichStatus(StageStatus.RUNNING));
+        } catch (Exception e) {
+            logger.error("보강 단계 시작 실패: alertId={}, error={}", alertId, e.getMessage(), e);
+            markStage(alertId, a -> a.setEnrichStatus(StageStatus.FAILED));
+            handOff(alertId, "notify", notifyExecutor, () -> notifyContacts(alertId));
+            return;
+        }
+
+        Double latitude = alert.getLatitude();
+        Double longitude = alert.getLongitude();
+        String transcript = alert.getAudioTranscript();
+        boolean needsAnalysis = needsAnalysis(alert);
+
+        // 접수 이후 같은/유사한 음성의 GPT 분석이 끝났으면 재사용 (같은 음성이 연달아 들어오는 경우)
+        if (needsAnalysis) {
+            Optional<TranscriptAnalysisCache.Hit> cached = transcriptAnalysisCache.lookup(transcript);
+            if (cached.isPresent()) {
+                TranscriptAnalysisCache.Hit hit = cached.get();
+                markStage(alertId, a -> applyCachedAnalysis(a, hit));
+                needsAnalysis = false;
+            }
+        }
+
+        // 파이프라인이 밀려 접수 저하 모드이면 GPT 분석 없이 접수 시 키워드 분류를 그대로 사용
+        if (needsAnalysis && alertAdmissionController.skipAnalysis()) {
+            markStage(alertId, a -> a.setAnalysisSource(EmergencyAlert.AnalysisSource.KEYWORD_DEGRADED));
+            needsAnalysis = false;
+        }
+
+        CompletableFuture<Enrichment> geocode;
+        boolean geocodeRejected = false;
+        try {
+            geocode = startEnrichment(alertId, "geocode",
+                    () -> CompletableFuture.supplyAsync(() -> locationService.reverseGeocode(latitude, longitude),
+                            geocodeExecutor));
+        } catch (RejectedExecutionException e) {
+            // 역지오코딩 큐가 가득 차면 주소 없이 진행 (좌표 사용, 시간 초과와 구분해 REJECTED 로 기록)
+            countRejected("geocode");
+            logger.warn("역지오코딩 큐 가득 참 - 좌표로 대체: alertId={}", alertId);
+            geocode = CompletableFuture.completedFuture(null);
+            geocodeRejected = true;
+        }
+        CompletableFuture<Enrichment> address = geocode;
+        boolean addressRejected = geocodeRejected;
+        boolean callsAnalysis = needsAnalysis;
+        CompletableFuture<Enrichment> analysis = callsAnalysis
+                ? startEnrichment(alertId, "analysis", () -> requestAnalysis(alertId, transcript))
+                : CompletableFuture.completedFuture(null);
+
+        // 완료 스레드에서 넘기기만 함 (whenCompleteAsync 는 실행기가 거절하면 분류 단계 없이 끝나므로 쓰지 않음)
+        CompletableFuture.allOf(address, analysis)
+                .completeOnTimeout(null, enrichmentDeadlineMs, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> handOff(alertId, "classify", classifyExecutor,
+                        () -> classify(alertId, callsAnalysis, addressRejected, address, analysis)));
+    }
+
+    /**
+     * 2단계: 보강 결과 병합 및 긴급 상황 유형 분류
+     * 마감 시간 안에 끝나지 않은 보강 작업은 잠정 분류/대체 문구로 채우고, 늦게 끝난 GPT 분석은 완료 시점에 반영
+     */
+    void classify(Long alertId, boolean needsAnalysis, boolean geocodeRejected,
+                  CompletableFuture<Enrichment> geocode, CompletableFuture<Enrichment> analysis) {
+        boolean geocodeSettled = geocode.isDone();
+        boolean analysisSettled = analysis.isDone();
+        Enrichment address = geocode.getNow(null);
+        Enrichment situation = analysis.getNow(null);
+
+        if (address == null) {
+            recordLateTiming(alertId, geocode, (alert, late) -> alert.setGeocodeMillis(late.millis()));
+        }
+        if (needsAnalysis && situation == null) {
+            recordLateTiming(alertId, analysis, (alert, late) -> {
+                alert.setAnalysisMillis(late.millis());
+                applyAnalysis(alert, late.value());
+                analysisStreamHub.close(alertId, alert.getSituationAnalysis());
+            });
+        }
+
+        try {
+            String finalAnalysis = transactionTemplate.execute(status -> {
+                EmergencyAlert alert = findAlert(alertId);
+                boolean timedOut = false;
+                StageStatus geocodeOutcome = StageStatus.DONE;
+
+                String resolvedAddress;
+                if (address != null) {
+                    resolvedAddress = address.value();
+                    alert.setGeocodeMillis(address.millis());
+                } else {
+                    resolvedAddress = String.format("좌표: %.6f, %.6f", alert.getLatitude(), alert.getLongitude());
+                    // 거절/실패로 마감 전에 끝난 역지오코딩은 시간 초과로 기록하지 않음
+                    if (geocodeRejected) {
+                        geocodeOutcome = StageStatus.REJECTED;
+                    } else if (geocodeSettled) {
+                        geocodeOutcome = StageStatus.FAILED;
+                    } else {
+                        timedOut = true;
+                    }
+                }
+                alert.setAddress(resolvedAddress);
+
+                if (!needsAnalysis) {
+                    // 음성 텍스트가 없거나 접수 시 키워드 분류로 확정된 경우 GPT 분석 생략
+                    alert.setClassifyStatus(StageStatus.SKIPPED);
+                } else if (situation != null) {
+                    applyAnalysis(alert, situation.value());
+                    alert.setAnalysisMillis(situation.millis());
+                    alert.setClassifyStatus(StageStatus.DONE);
+                } else {
+                    // 마감 전에 끝났는데 결과가 없으면 호출 불가(회로 차단/한도 초과/실패), 아니면 시간 초과
+                    boolean unavailable = analysisSettled;
+
+                    // 잠정 분류로 유형을 정했으면 그 분석을 유지하고, 아니면 대체 문구 사용
+                    if (alert.getEmergencyType() == EmergencyAlert.EmergencyType.OTHER) {
+                        alert.setSituationAnalysis(unavailable ? ANALYSIS_UNAVAILABLE_FALLBACK : ANALYSIS_TIMEOUT_FALLBACK);
+                    }
+                    alert.setAnalysisSource(EmergencyAlert.AnalysisSource.KEYWORD);
+                    alert.setClassifyStatus(unavailable ? StageStatus.FAILED : StageStatus.TIMED_OUT);
+                    timedOut |= !unavailable;
+                }
+
+                alert.setEnrichStatus(geocodeOutcome != StageStatus.DONE ? geocodeOutcome
+                        : timedOut ? StageStatus.TIMED_OUT : StageStatus.DONE);
+                locationService.saveLocationHistory(alert.getUser(),
+                        alert.getLatitude(), alert.getLongitude(), resolvedAddress);
+                eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                        EmergencyAlertChangedEvent.Change.ENRICHED));
+                return alert.getSituationAnalysis();
+            });
+
+            // 늦게 끝날 GPT 분석을 기다리는 경우가 아니면 분석 구독자에게 확정된 분석을 전달
+            if (!needsAnalysis || situation != null || analysisSettled) {
+                analysisStreamHub.close(alertId, finalAnalysis);
+            }
+            logger.info("보강/분류 단계 완료: alertId={}, geocode={}ms, analysis={}ms", alertId,
+                    address != null ? address.millis() : geocodeRejected ? "rejected" : "timeout",
+                    !needsAnalysis ? "-" : situation != null ? situation.millis() : "timeout");
+        } catch (Exception e) {
+            logger.error("보강/분류 단계 실패: alertId={}, error={}", alertId, e.getMessage(), e);
+            markStage(alertId, a -> {
+                a.setEnrichStatus(StageStatus.FAILED);
+                a.setClassifyStatus(StageStatus.FAILED);
+            });
+        }
+
+        handOff(alertId, "notify", notifyExecutor, () -> notifyContacts(alertId));
+    }
+
+    /**
+     * 3단계: 메시지를 확정하여 아웃박스 발송 행을 발송 대기 상태로 전환
+     * 실제 전송은 NotificationDispatcher 워커가 행 단위로 수행합니다
+     */
+    void notifyContacts(Long alertId) {
+        try {
+            releaseDeliveries(alertId);
+        } finally {
+            inFlight.remove(alertId);
+        }
+    }
+
+    private void releaseDeliveries(Long alertId) {
+        try {
+            Integer released = transactionTemplate.execute(status -> {
+                EmergencyAlert alert = findAlert(alertId);
+                alert.setNotifyStatus(StageStatus.RUNNING);
+                return notificationOutboxService.release(alertId, NOTIFICATION_SUBJECT, createNotificationMessage(alert));
+            });
+
+            if (!notificationOutboxService.hasDeliveries(alertId)) {
+                logger.warn("긴급 연락처가 등록되어 있지 않습니다: alertId={}", alertId);
+                finishNotification(alertId, EmergencyAlert.EmergencyStatus.NOTIFIED,
+                        "긴급 연락처 미등록 - 알림 전송 실패", StageStatus.DONE);
+                return;
+            }
+
+            logger.info("긴급 알림 발송 대기 전환: alertId={}, 발송 건수={}", alertId, released);
+            notificationDispatcher.wakeUp();
+
+            // 재개된 알림은 이미 모든 발송이 끝났을 수 있음
+            notificationOutboxService.completeAlertIfDelivered(alertId);
+
+        } catch (Exception e) {
+            logger.error("긴급 알림 전송 중 오류: alertId={}, error={}", alertId, e.getMessage(), e);
+            finishNotification(alertId, EmergencyAlert.EmergencyStatus.PENDING,
+                    "알림 전송 중 오류 발생", StageStatus.FAILED);
+        }
+    }
+
+    /**
+     * 파이프라인 시작 (이미 처리 중인 알림이면 시작하지 않음)
+     */
+    private boolean start(Long alertId, String stage, Executor executor, Runnable task) {
+        if (!inFlight.add(alertId)) {
+            return false;
+        }
+        return handOff(alertId, stage, executor, task);
+    }
+
+    /**
+     * 다음 단계 작업을 단계 실행기에 넘김
+     * 큐가 가득 차 거절되면 제출한 스레드에서 실행하지 않고, 단계 상태를 DB 에 남긴 채 재시도 스캔에 맡김
+     */
+    private boolean handOff(Long alertId, String stage, Executor executor, Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(alertId);
+            stranded.set(true);
+            countRejected(stage);
+            logger.warn("파이프라인 단계 큐 가득 참 - 재시도 대기: alertId={}, stage={}", alertId, stage);
+            return false;
+        }
+    }
+
+    private void countRejected(String stage) {
+        Counter.builder("sos.alerts.pipeline.rejected")
+                .description("단계 실행기 큐가 가득 차 거절된 파이프라인 작업 수")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 알림 메시지 생성
+     */
+    private String createNotificationMessage(EmergencyAlert alert) {
+        StringBuilder message = new StringBuilder();
+        message.append("🚨 긴급 상황 알림 🚨\n\n");
+        message.append("📍 요구조자: ").append(alert.getUser().getName()).append("\n");
+        message.append("📞 연락처: ").append(alert.getUser().getPhoneNumber()).append("\n\n");
+        message.append("⚠️ 상황: ").append(alert.getEmergencyType().getDescription()).append("\n");
+        message.append("🔍 AI 분석:\n").append(alert.getSituationAnalysis()).append("\n\n");
+        message.append("📍 위치: ").append(alert.getAddress()).append("\n");
+        message.append("🗺️ 좌표: ").append(alert.getLatitude()).append(", ").append(alert.getLongitude()).append("\n");
+        message.append("🔗 지도: https://maps.google.com/?q=")
+                .append(alert.getLatitude()).append(",").append(alert.getLongitude()).append("\n\n");
+        message.append("⏰ 발생 시각: ").append(alert.getAlertTime()).append("\n\n");
+        message.append("즉시 확인하시고 필요시 관계 기관(경찰 112, 소방 119)에 신고해주세요!");
+
+        return message.toString();
+    }
+
+    private void finishNotification(Long alertId, EmergencyAlert.EmergencyStatus status,
+                                    String message, StageStatus stageStatus) {
+        markStage(alertId, alert -> {
+            // 파이프라인 진행 중 사용자가 먼저 해결 처리한 경우 상태를 되돌리지 않음
+            if (alert.getStatus() == EmergencyAlert.EmergencyStatus.PENDING) {
+                alert.setStatus(status);
+            }
+            alert.setNotificationSent(status == EmergencyAlert.EmergencyStatus.NOTIFIED);
+            alert.setNotificationMessage(message);
+            alert.setNotifyStatus(stageStatus);
+        });
+    }
+
+    /**
+     * GPT 분석 요청 (스트리밍 모드면 생성 중인 분석을 구독자에게 전달하고 주기적으로 중간 저장)
+     */
+    private CompletableFuture<String> requestAnalysis(Long alertId, String transcript) {
+        if (!streamingEnabled) {
+            return aiAnalysisService.analyzeAsync(transcript);
+        }
+
+        AnalysisStreamHub.Stream stream = analysisStreamHub.open(alertId, partial -> savePartialAnalysis(alertId, partial));
+        return aiAnalysisService.analyzeStreamingAsync(transcript, stream::append)
+                .whenComplete((analysis, error) -> {
+                    if (error == null) {
+                        stream.complete(analysis);
+                    } else {
+                        stream.fail(ANALYSIS_UNAVAILABLE_FALLBACK);
+                    }
+                });
+    }
+
+    /**
+     * 생성 중인 분석을 알림에 중간 저장 (중간 저장 실행기에서 호출, 분류 단계가 끝난 알림은 덮어쓰지 않음)
+     */
+    private void savePartialAnalysis(Long alertId, String partial) {
+        transactionTemplate.executeWithoutResult(status ->
+                emergencyAlertRepository.updateSituationAnalysisIfClassifyStatus(alertId, partial, StageStatus.PENDING));
+    }
+
+    /**
+     * 보강 작업을 비동기로 시작 (실패 시 null 결과로 완료되어 대체 문구가 사용됨, 실행기 거절은 호출한 쪽으로 던짐)
+     */
+    private CompletableFuture<Enrichment> startEnrichment(Long alertId, String name,
+                                                         Supplier<CompletableFuture<String>> task) {
+        long startedAt = System.nanoTime();
+        return task.get().thenApply(value -> {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            logger.debug("보강 작업 완료: alertId={}, enrichment={}, {}ms", alertId, name, millis);
+            return new Enrichment(value, millis);
+        }).exceptionally(e -> {
+            logger.error("보강 작업 실패: alertId={}, enrichment={}, error={}", alertId, name, e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 마감 시간을 넘긴 보강 작업의 결과(소요 시간 등)를 완료 시점에 기록
+     */
+    private void recordLateTiming(Long alertId, CompletableFuture<Enrichment> future,
+                                  BiConsumer<EmergencyAlert, Enrichment> recorder) {
+        future.thenAccept(result -> {
+            if (result != null) {
+                logger.warn("마감 시간 이후 보강 작업 완료: alertId={}, {}ms", alertId, result.millis());
+                markStage(alertId, alert -> recorder.accept(alert, result));
+            }
+        });
+    }
+
+    /**
+     * GPT 분석 결과로 잠정 분류 보완 (GPT 분석으로 유형을 판단하지 못하면 잠정 유형 유지)
+     * 같은/유사한 음성의 이후 알림이 재사용할 수 있도록 분석 캐시에도 저장
+     */
+    private void applyAnalysis(EmergencyAlert alert, String analysis) {
+        EmergencyAlert.EmergencyType type = EmergencyAlert.EmergencyType.valueOf(
+                aiAnalysisService.determineEmergencyType(analysis));
+
+        alert.setSituationAnalysis(analysis);
+        if (type != EmergencyAlert.EmergencyType.OTHER) {
+            alert.setEmergencyType(type);
+        }
+        alert.setAnalysisSource(EmergencyAlert.AnalysisSource.LLM);
+
+        transcriptAnalysisCache.put(alert.getAudioTranscript(), alert.getId(), analysis, alert.getEmergencyType());
+    }
+
+    private void applyCachedAnalysis(EmergencyAlert alert, TranscriptAnalysisCache.Hit hit) {
+        alert.setSituationAnalysis(hit.entry().analysis());
+        alert.setEmergencyType(hit.entry().type());
+        alert.setAnalysisSource(EmergencyAlert.AnalysisSource.CACHE);
+        alert.setAnalysisSourceAlertId(hit.entry().sourceAlertId());
+        alert.setAnalysisSimilarity(hit.similarity());
+        logger.info("유사 음성 AI 분석 재사용: alertId={}, sourceAlertId={}, similarity={}",
+                alert.getId(), hit.entry().sourceAlertId(), hit.similarity());
+    }
+
+    /**
+     * GPT 분석이 필요한 알림인지 (잠정 분류 상태, 또는 트리아지 도입 전에 접수된 음성 텍스트 알림)
+     */
+    private boolean needsAnalysis(EmergencyAlert alert) {
+        if (alert.getAnalysisSource() != null) {
+            return alert.getAnalysisSource() == EmergencyAlert.AnalysisSource.KEYWORD_PROVISIONAL;
+        }
+        String transcript = alert.getAudioTranscript();
+        return transcript != null && !transcript.trim().isEmpty();
+    }
+
+    private boolean isFinished(StageStatus status) {
+        return status != null && status.isFinished();
+    }
+
+    private EmergencyAlert findAlert(Long alertId) {
+        return emergencyAlertRepository.findById(alertId)
+                .orElseThrow(() -> new ResourceNotFoundException("EmergencyAlert", "id", alertId));
+    }
+
+    private EmergencyAlert updateAlert(Long alertId, Consumer<EmergencyAlert> mutator) {
+        return transactionTemplate.execute(status -> {
+            EmergencyAlert alert = findAlert(alertId);
+            mutator.accept(alert);
+            eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                    EmergencyAlertChangedEvent.Change.UPDATED));
+            return alert;
+        });
+    }
+
+    /**
+     * 단계 실패 기록 (기록 자체가 실패해도 다음 단계 진행을 막지 않음)
+     */
+    private void markStage(Long alertId, Consumer<EmergencyAlert> mutator) {
+        try {
+            updateAlert(alertId, mutator);
+        } catch (Exception e) {
+            logger.error("파이프라인 단계 상태 기록 실패: alertId={}, error={}", alertId, e.getMessage());
+        }
+    }
+
+    private record Enrichment(String value, long millis) {
+    }
+
+}
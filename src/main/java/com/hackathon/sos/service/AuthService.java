@@ -6,6 +6,9 @@ import com.hackathon.sos.dto.response.JwtResponse;
 import com.hackathon.sos.entity.User;
 import com.hackathon.sos.repository.UserRepository;
 import com.hackathon.sos.security.JwtTokenProvider;
+import com.hackathon.sos.security.TokenRevocationRegistry;
+import com.hackathon.sos.security.UserLookupCache;
+import com.hackathon.sos.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +19,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +32,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserLookupCache userLookupCache;
 
     @Transactional
     public JwtResponse signup(SignupRequest request) {
@@ -116,4 +123,44 @@ public class AuthService {
                 .deviceId(user.getDeviceId())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃 (현재 토큰 폐기, allDevices 이면 계정 토큰 버전을 올려 발급된 모든 토큰 무효화)
+     * 폐기 목록이 가득 차 토큰 한 건을 폐기할 수 없으면 모든 기기 로그아웃으로 처리
+     */
+    @Transactional
+    public void logout(UserPrincipal principal, boolean allDevices) {
+        if (allDevices) {
+            logoutAllDevices(principal);
+            logger.info("모든 기기 로그아웃: userId={}", principal.getId());
+        } else if (tokenRevocationRegistry.revoke(principal.getTokenId(), principal.getTokenExpiresAt())) {
+            logger.info("로그아웃: userId={}", principal.getId());
+        } else {
+            logoutAllDevices(principal);
+            logger.warn("토큰 폐기 목록이 가득 차 모든 기기 로그아웃으로 처리: userId={}", principal.getId());
+        }
+    }
+
+    private void logoutAllDevices(UserPrincipal principal) {
+        userRepository.incrementTokenVersion(principal.getId());
+        userRepository.findTokenVersionById(principal.getId())
+                .ifPresent(version -> tokenRevocationRegistry.updateVersion(principal.getId(), version));
+        evictLoginCache(principal);
+    }
+
+    /**
+     * 토큰 버전은 일괄 UPDATE 로 올리므로 엔티티 리스너가 로그인 캐시를 지우지 않음
+     * 캐시에 남은 이전 버전으로 새 토큰이 발급되지 않도록 바로 지우고, 커밋 전에 다시 캐시되었을 수 있어 커밋 후 한 번 더 지움
+     */
+    private void evictLoginCache(UserPrincipal principal) {
+        userLookupCache.evictUserDetails(principal.getId(), principal.getUsername());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userLookupCache.evictUserDetails(principal.getId(), principal.getUsername());
+                }
+            });
+        }
+    }
+}
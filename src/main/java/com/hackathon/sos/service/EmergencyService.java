@@ -1,23 +1,49 @@
 package com.hackathon.sos.service;
 
+import com.hackathon.sos.alert.AlertDebouncer;
+import com.hackathon.sos.alert.AlertSnapshot;
+import com.hackathon.sos.alert.OpenAlertRegistry;
+import com.hackathon.sos.analysis.AnalysisStreamHub;
 import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.response.CursorPageResponse;
 import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.dto.response.NearbyAlertResponse;
+import com.hackathon.sos.dto.response.OpenAlertResponse;
 import com.hackathon.sos.entity.EmergencyAlert;
-import com.hackathon.sos.entity.EmergencyContact;
 import com.hackathon.sos.entity.User;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.event.EmergencyAlertCreatedEvent;
 import com.hackathon.sos.exception.ResourceNotFoundException;
+import com.hackathon.sos.geo.AlertPoint;
+import com.hackathon.sos.geo.DistanceHit;
+import com.hackathon.sos.geo.GeoDistance;
+import com.hackathon.sos.geo.GeohashBackfill;
+import com.hackathon.sos.geo.NearestCellSearch;
+import com.hackathon.sos.pagination.KeysetCursor;
 import com.hackathon.sos.repository.EmergencyAlertRepository;
 import com.hackathon.sos.repository.EmergencyContactRepository;
 import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import com.hackathon.sos.security.DeviceOwner;
+import com.hackathon.sos.security.UserLookupCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,137 +53,167 @@ public class EmergencyService {
     private static final Logger logger = LoggerFactory.getLogger(EmergencyService.class);
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
     private final EmergencyAlertRepository emergencyAlertRepository;
     private final EmergencyContactRepository emergencyContactRepository;
-    private final AIAnalysisService aiAnalysisService;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final TriageService triageService;
+    private final AnalysisStreamHub analysisStreamHub;
+    private final OpenAlertRegistry openAlertRegistry;
+    private final AlertDebouncer alertDebouncer;
+    private final AlertAdmissionController alertAdmissionController;
     private final LocationService locationService;
+    private final GeohashBackfill geohashBackfill;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${alert.nearby.max-radius-meters}")
+    private double maxNearbyRadiusMeters;
+
+    @Value("${alert.nearby.max-results}")
+    private int maxNearbyResults;
+
+    @Value("${alert.nearby.initial-cells}")
+    private int nearbyInitialCells;
 
     /**
      * 긴급 상황 알림 생성 (아두이노/라즈베리파이에서 호출)
+     * 원본 알림만 저장 후 즉시 응답하고, 분석/주소 조회/알림 전송은 파이프라인에서 비동기로 처리
+     * 같은 장치가 디바운스 창 안에 다시 신고하면 새 알림 대신 진행 중 알림에 위치/음성 텍스트를 덧붙임
+     * 허용량을 넘은 신고는 그 사용자의 진행 중 알림이 있을 때만 거절하고, 없으면 키워드 분류만으로 접수
+     *
+     * @param clientIp 발신 IP (허용량 확인용, null 이면 확인하지 않음)
      */
-    @Transactional
-    public EmergencyAlertResponse createEmergencyAlert(EmergencyAlertRequest request) {
+    public EmergencyAlertResponse createEmergencyAlert(EmergencyAlertRequest request, String clientIp) {
         logger.info("긴급 알림 생성: deviceId={}", request.getDeviceId());
 
-        // 장치 ID로 사용자 찾기
-        User user = userRepository.findByDeviceId(request.getDeviceId())
-                .orElseThrow(() -> new ResourceNotFoundException("등록되지 않은 장치입니다: " + request.getDeviceId()));
+        // 발신 IP 허용량은 조회 전에 확인하되, 넘어도 등록된 장치면 아래에서 접수 여부를 다시 판단
+        AlertAdmissionController.Quota clientQuota = alertAdmissionController.checkClient(clientIp);
+
+        // 장치 ID로 사용자 찾기 (캐시, 알림에는 외래 키만 필요하므로 사용자 엔티티는 참조만 사용)
+        DeviceOwner owner = userLookupCache.findDeviceOwner(request.getDeviceId())
+                .orElseThrow(() -> unknownDevice(request.getDeviceId(), clientQuota));
+
+        // 장치 버킷은 등록된 장치로 확인된 뒤에만 사용 (임의 장치 ID로 버킷을 만들지 않음)
+        AlertAdmissionController.Quota deviceQuota = alertAdmissionController.checkDevice(request.getDeviceId());
+        AlertAdmissionController.Quota exceeded = deviceQuota.exceeded() ? deviceQuota : clientQuota;
+        boolean overLimit = exceeded.exceeded();
+        if (overLimit) {
+            // 이미 진행 중인 알림이 있으면 사건은 접수된 상태이므로 거절, 없으면 첫 신고일 수 있어 접수
+            if (!openAlertRegistry.find(owner.userId(), null, null).isEmpty()) {
+                throw alertAdmissionController.shed(exceeded);
+            }
+            alertAdmissionController.admitOverLimit(exceeded);
+        }
 
-        // AI를 통한 상황 분석
-        String situationAnalysis = "분석중...";
-        String emergencyTypeStr = "OTHER";
+        // 확인부터 커밋까지 장치 잠금 안에서 처리해야 동시에 눌린 신고가 각자 새 알림을 만들지 않음
+        return alertDebouncer.withDeviceLock(request.getDeviceId(), () -> {
+            EmergencyAlertResponse merged = alertDebouncer.openAlert(request.getDeviceId())
+                    .map(alertId -> transactionTemplate.execute(status -> mergePress(alertId, request, owner)))
+                    .orElse(null);
+            EmergencyAlertResponse response = merged != null
+                    ? merged
+                    : transactionTemplate.execute(status -> saveNewAlert(request, owner, overLimit));
+            alertDebouncer.record(request.getDeviceId(), response.getId(), merged != null);
+            return response;
+        });
+    }
 
-        if (request.getAudioTranscript() != null && !request.getAudioTranscript().trim().isEmpty()) {
-            situationAnalysis = aiAnalysisService.analyzeEmergencySituation(request.getAudioTranscript());
-            emergencyTypeStr = aiAnalysisService.determineEmergencyType(situationAnalysis);
-        } else {
-            situationAnalysis = "음성 인식 실패 - 긴급 버튼이 눌렸습니다. 즉시 확인이 필요합니다.";
+    /**
+     * 등록되지 않은 장치 (발신 IP 허용량을 넘었으면 429, 아니면 404)
+     */
+    private RuntimeException unknownDevice(String deviceId, AlertAdmissionController.Quota clientQuota) {
+        if (clientQuota.exceeded()) {
+            return alertAdmissionController.shed(clientQuota);
         }
+        return new ResourceNotFoundException("등록되지 않은 장치입니다: " + deviceId);
+    }
 
-        // 주소 조회 (역지오코딩)
-        String address = locationService.reverseGeocode(request.getLatitude(), request.getLongitude());
+    private EmergencyAlertResponse saveNewAlert(EmergencyAlertRequest request, DeviceOwner owner, boolean overLimit) {
+        User user = userRepository.getReferenceById(owner.userId());
+
+        // 로컬 키워드 분류로 잠정 유형/분석 결정 (애매한 경우만 파이프라인에서 GPT 분석)
+        TriageService.Decision triage = triageService.triage(request.getAudioTranscript(), overLimit);
 
         // 긴급 알림 생성
         EmergencyAlert alert = EmergencyAlert.builder()
                 .user(user)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
-                .address(address)
                 .audioTranscript(request.getAudioTranscript())
-                .situationAnalysis(situationAnalysis)
-                .emergencyType(EmergencyAlert.EmergencyType.valueOf(emergencyTypeStr))
+                .situationAnalysis(triage.analysis())
+                .emergencyType(triage.type())
+                .analysisSource(triage.source())
+                .triageConfidence(triage.confidence())
+                .analysisSourceAlertId(triage.sourceAlertId())
+                .analysisSimilarity(triage.similarity())
                 .status(EmergencyAlert.EmergencyStatus.PENDING)
                 .additionalInfo(request.getAdditionalInfo())
                 .notificationSent(false)
                 .build();
 
         EmergencyAlert savedAlert = emergencyAlertRepository.save(alert);
-        logger.info("긴급 알림 저장 완료: alertId={}", savedAlert.getId());
 
-        // 위치 히스토리 저장
-        locationService.saveLocationHistory(user, request.getLatitude(), request.getLongitude(), address);
+        // 같은 트랜잭션에서 연락처별 발송 행 기록 (재시작 시에도 유실되지 않도록)
+        int deliveries = notificationOutboxService.enqueue(savedAlert,
+                emergencyContactRepository.findByUserIdAndActiveTrueOrderByPriorityAsc(owner.userId()));
+        logger.info("긴급 알림 저장 완료: alertId={}, 잠정 유형={}, 분류 경로={}, 발송 예정={}건",
+                savedAlert.getId(), triage.type(), triage.source(), deliveries);
 
-        // 비동기로 알림 전송
-        sendEmergencyNotifications(savedAlert);
+        // 커밋 후 파이프라인 시작
+        eventPublisher.publishEvent(new EmergencyAlertCreatedEvent(savedAlert.getId()));
+        eventPublisher.publishEvent(new EmergencyAlertChangedEvent(savedAlert.getId(),
+                EmergencyAlertChangedEvent.Change.CREATED));
 
-        return convertToResponse(savedAlert);
+        return toResponse(savedAlert, owner.userId(), owner.name(), owner.phoneNumber());
     }
 
     /**
-     * 긴급 연락처에게 알림 전송 (비동기)
+     * 반복 신고를 진행 중 알림에 병합 (음성 텍스트 덧붙임, 덧붙은 텍스트로 키워드 재분류)
+     * 알림 좌표는 주소를 조회한 첫 신고 위치로 두고, 반복 신고 위치는 위치 히스토리로 남깁니다
+     * 분석/주소 조회/연락처 알림은 다시 하지 않으며, 그새 알림이 종료되었으면 null 을 돌려 새 알림을 만들게 함
      */
-    @Async
-    public void sendEmergencyNotifications(EmergencyAlert alert) {
-        logger.info("긴급 알림 전송 시작: alertId={}", alert.getId());
-
-        try {
-            // 긴급 연락처 목록 조회
-            List<EmergencyContact> contacts = emergencyContactRepository
-                    .findByUserIdAndActiveTrueOrderByPriorityAsc(alert.getUser().getId());
-
-            if (contacts.isEmpty()) {
-                logger.warn("긴급 연락처가 등록되어 있지 않습니다: userId={}", alert.getUser().getId());
-                updateAlertStatus(alert.getId(), EmergencyAlert.EmergencyStatus.NOTIFIED,
-                        "긴급 연락처 미등록 - 알림 전송 실패");
-                return;
-            }
-
-            // 알림 메시지 생성
-            String message = createNotificationMessage(alert);
-
-            // 각 연락처에게 알림 전송
-            int successCount = 0;
-            for (EmergencyContact contact : contacts) {
-                try {
-                    // SMS 전송
-                    if (contact.getPhoneNumber() != null) {
-                        notificationService.sendSMS(contact.getPhoneNumber(), message);
-                        successCount++;
-                    }
-
-                    // 이메일 전송 (선택적)
-                    if (contact.getEmail() != null) {
-                        notificationService.sendEmail(contact.getEmail(),
-                                "🚨 긴급 상황 알림", message);
-                    }
-                } catch (Exception e) {
-                    logger.error("알림 전송 실패: contactId={}, error={}", contact.getId(), e.getMessage());
-                }
-            }
-
-            // 알림 전송 상태 업데이트
-            updateAlertStatus(alert.getId(), EmergencyAlert.EmergencyStatus.NOTIFIED,
-                    successCount + "명의 긴급 연락처에게 알림 전송 완료");
-
-            logger.info("긴급 알림 전송 완료: alertId={}, 전송 성공={}/{}명",
-                    alert.getId(), successCount, contacts.size());
+    private EmergencyAlertResponse mergePress(Long alertId, EmergencyAlertRequest request, DeviceOwner owner) {
+        EmergencyAlert alert = emergencyAlertRepository.findById(alertId)
+                .filter(existing -> existing.getStatus().isOpen())
+                .orElse(null);
+        if (alert == null) {
+            return null;
+        }
 
-        } catch (Exception e) {
-            logger.error("긴급 알림 전송 중 오류: alertId={}, error={}", alert.getId(), e.getMessage(), e);
-            updateAlertStatus(alert.getId(), EmergencyAlert.EmergencyStatus.PENDING,
-                    "알림 전송 중 오류 발생");
+        locationService.saveLocationHistory(alert.getUser(), request.getLatitude(), request.getLongitude(), null);
+        // 장치가 같은 음성 텍스트를 다시 보내면 덧붙이지 않음
+        String transcript = request.getAudioTranscript();
+        String existing = alert.getAudioTranscript();
+        if (transcript != null && !transcript.isBlank() && (existing == null || !existing.endsWith(transcript))) {
+            alert.setAudioTranscript(existing == null || existing.isBlank() ? transcript : existing + "\n" + transcript);
+            retriage(alert);
         }
+        alert.setPressCount((alert.getPressCount() == null ? 1 : alert.getPressCount()) + 1);
+        alert.setLastPressTime(LocalDateTime.now());
+        logger.info("반복 신고 병합: alertId={}, 신고 횟수={}", alertId, alert.getPressCount());
+
+        eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                EmergencyAlertChangedEvent.Change.REPEATED));
+        return toResponse(alert, owner.userId(), owner.name(), owner.phoneNumber());
     }
 
     /**
-     * 알림 메시지 생성
+     * 덧붙은 음성 텍스트 전체를 키워드로 다시 분류해, 확정된 유형이 지금과 다르면 유형/분석을 바꿈
      */
-    private String createNotificationMessage(EmergencyAlert alert) {
-        StringBuilder message = new StringBuilder();
-        message.append("🚨 긴급 상황 알림 🚨\n\n");
-        message.append("📍 요구조자: ").append(alert.getUser().getName()).append("\n");
-        message.append("📞 연락처: ").append(alert.getUser().getPhoneNumber()).append("\n\n");
-        message.append("⚠️ 상황: ").append(alert.getEmergencyType().getDescription()).append("\n");
-        message.append("🔍 AI 분석:\n").append(alert.getSituationAnalysis()).append("\n\n");
-        message.append("📍 위치: ").append(alert.getAddress()).append("\n");
-        message.append("🗺️ 좌표: ").append(alert.getLatitude()).append(", ").append(alert.getLongitude()).append("\n");
-        message.append("🔗 지도: https://maps.google.com/?q=")
-                .append(alert.getLatitude()).append(",").append(alert.getLongitude()).append("\n\n");
-        message.append("⏰ 발생 시각: ").append(alert.getAlertTime()).append("\n\n");
-        message.append("즉시 확인하시고 필요시 관계 기관(경찰 112, 소방 119)에 신고해주세요!");
-
-        return message.toString();
+    private void retriage(EmergencyAlert alert) {
+        triageService.retriage(alert.getAudioTranscript())
+                .filter(decision -> decision.type() != alert.getEmergencyType())
+                .ifPresent(decision -> {
+                    logger.info("반복 신고 재분류: alertId={}, {} -> {}", alert.getId(),
+                            alert.getEmergencyType(), decision.type());
+                    alert.setEmergencyType(decision.type());
+                    alert.setSituationAnalysis(decision.analysis());
+                    alert.setAnalysisSource(decision.source());
+                    alert.setTriageConfidence(decision.confidence());
+                    alert.setAnalysisSourceAlertId(null);
+                    alert.setAnalysisSimilarity(null);
+                });
     }
 
     /**
@@ -176,22 +232,29 @@ public class EmergencyService {
         if (status == EmergencyAlert.EmergencyStatus.RESOLVED) {
             alert.setResolvedTime(LocalDateTime.now());
         }
+        eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                EmergencyAlertChangedEvent.Change.STATUS_CHANGED));
 
         emergencyAlertRepository.save(alert);
     }
 
     /**
-     * 사용자의 긴급 알림 목록 조회
+     * 사용자의 긴급 알림 목록 조회 (최신순 키셋 페이지)
      */
     @Transactional(readOnly = true)
-    public List<EmergencyAlertResponse> getUserEmergencyAlerts(Long userId) {
-        logger.info("긴급 알림 목록 조회: userId={}", userId);
+    public CursorPageResponse<EmergencyAlertResponse> getUserEmergencyAlerts(Long userId, int pageSize, String cursor) {
+        logger.info("긴급 알림 목록 조회: userId={}, size={}", userId, pageSize);
 
-        List<EmergencyAlert> alerts = emergencyAlertRepository.findByUserIdOrderByAlertTimeDesc(userId);
+        int size = KeysetCursor.pageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, size + 1);
 
-        return alerts.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<EmergencyAlert> alerts = after == null
+                ? emergencyAlertRepository.findPageByUserId(userId, fetch)
+                : emergencyAlertRepository.findPageByUserIdBefore(userId, after.time(), after.id(), fetch);
+
+        return CursorPageResponse.of(alerts, size, this::convertToResponse,
+                alert -> new KeysetCursor(alert.getAlertTime(), alert.getId()));
     }
 
     /**
@@ -207,6 +270,124 @@ public class EmergencyService {
         return convertToResponse(alert);
     }
 
+    /**
+     * 실시간 피드로 보낼 알림 상태 조회 (삭제된 알림은 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<EmergencyAlertResponse> findEmergencyAlertResponse(Long alertId) {
+        return emergencyAlertRepository.findById(alertId).map(this::convertToResponse);
+    }
+
+    /**
+     * 지점 주변 긴급 알림 조회 (가까운 순)
+     * 진행 중 알림은 메모리 격자로, includeClosed 면 (geohash, 위도, 경도) 색인의 접두사 범위 조회로 후보를 고른 뒤
+     * 정확한 거리로 거릅니다 (지오해시 채우기가 끝나기 전에는 비어 있는 행을 위/경도 범위로 보충)
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyAlertResponse> findNearbyAlerts(double latitude, double longitude, double radiusMeters,
+                                                      int limit, boolean includeClosed) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("잘못된 좌표입니다");
+        }
+        if (radiusMeters <= 0 || radiusMeters > maxNearbyRadiusMeters) {
+            throw new IllegalArgumentException("반경은 0보다 크고 " + (long) maxNearbyRadiusMeters + "m 이하여야 합니다");
+        }
+        int size = Math.max(1, Math.min(limit, maxNearbyResults));
+
+        List<DistanceHit> hits = includeClosed
+                ? NearestCellSearch.search(latitude, longitude, radiusMeters, size,
+                        EmergencyAlert.GEOHASH_PRECISION, nearbyInitialCells,
+                        (cell, maxRows) -> emergencyAlertRepository.findPointsByGeohashLike(
+                                cell + "%", PageRequest.of(0, maxRows)))
+                : openAlertRegistry.nearby(latitude, longitude, radiusMeters, size);
+        if (includeClosed && !geohashBackfill.isAlertsComplete()) {
+            hits = withUnhashedAlerts(hits, latitude, longitude, radiusMeters, size);
+        }
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, EmergencyAlert> alerts = emergencyAlertRepository.findWithUserByIdIn(
+                        hits.stream().map(DistanceHit::id).toList()).stream()
+                .collect(Collectors.toMap(EmergencyAlert::getId, Function.identity()));
+
+        List<NearbyAlertResponse> nearby = new ArrayList<>(hits.size());
+        for (DistanceHit hit : hits) {
+            EmergencyAlert alert = alerts.get(hit.id());
+            // 색인은 커밋 후 갱신되므로 그 사이 닫힌 알림은 여기서 제외
+            if (alert == null || (!includeClosed && !alert.getStatus().isOpen())) {
+                continue;
+            }
+            nearby.add(NearbyAlertResponse.builder()
+                    .distanceMeters(hit.distanceMeters())
+                    .alert(convertToResponse(alert))
+                    .build());
+        }
+        return nearby;
+    }
+
+    /**
+     * 지오해시가 아직 비어 있는 알림을 경계 상자 조회로 더해 가까운 순 size 건으로 다시 자름
+     */
+    private List<DistanceHit> withUnhashedAlerts(List<DistanceHit> hits, double latitude, double longitude,
+                                                 double radiusMeters, int size) {
+        List<DistanceHit> merged = new ArrayList<>(hits);
+        for (double[] box : GeoDistance.boundingBoxes(latitude, longitude, radiusMeters)) {
+            for (AlertPoint point : emergencyAlertRepository.findUnhashedPointsInBox(box[0], box[1], box[2], box[3])) {
+                double distance = GeoDistance.meters(latitude, longitude, point.latitude(), point.longitude());
+                if (distance <= radiusMeters) {
+                    merged.add(new DistanceHit(point.id(), distance));
+                }
+            }
+        }
+        if (merged.size() == hits.size()) {
+            return hits;
+        }
+        merged.sort(Comparator.comparingDouble(DistanceHit::distanceMeters));
+        return merged.size() > size ? merged.subList(0, size) : merged;
+    }
+
+    /**
+     * 진행 중 알림 조회 (메모리 색인, DB 조회 없음, 최신순)
+     * 조건이 null 이면 무시하며, 상태 조건은 진행 중 상태(PENDING, NOTIFIED, IN_PROGRESS)만 허용합니다
+     */
+    public List<OpenAlertResponse> getOpenAlerts(Long userId, EmergencyAlert.EmergencyStatus status,
+                                                 EmergencyAlert.EmergencyType type) {
+        if (status != null && !status.isOpen()) {
+            throw new IllegalArgumentException("진행 중 상태만 조회할 수 있습니다: " + status);
+        }
+        return openAlertRegistry.find(userId, status, type).stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    /**
+     * 진행 중 알림 색인을 DB 와 즉시 비교 (바로잡은 알림 수)
+     */
+    public int verifyOpenAlerts() {
+        int corrected = openAlertRegistry.verify();
+        logger.info("진행 중 알림 정합성 검사: 보정 {}건, 색인 {}건", corrected, openAlertRegistry.size());
+        return corrected;
+    }
+
+    /**
+     * 긴급 알림 AI 분석 구독 (생성 중인 분석 조각을 SSE 로 전달)
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter watchAnalysis(Long userId, Long alertId) {
+        logger.info("긴급 알림 분석 구독: userId={}, alertId={}", userId, alertId);
+
+        EmergencyAlert alert = emergencyAlertRepository.findById(alertId)
+                .orElseThrow(() -> new ResourceNotFoundException("EmergencyAlert", "id", alertId));
+
+        if (!alert.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("해당 알림을 조회할 권한이 없습니다");
+        }
+
+        return analysisStreamHub.watch(alertId, alert.getSituationAnalysis(),
+                alert.getClassifyStatus().isFinished());
+    }
+
     /**
      * 긴급 알림 해결 처리
      */
@@ -225,6 +406,8 @@ public class EmergencyService {
         alert.setResolvedTime(LocalDateTime.now());
 
         EmergencyAlert updatedAlert = emergencyAlertRepository.save(alert);
+        eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                EmergencyAlertChangedEvent.Change.STATUS_CHANGED));
         logger.info("긴급 알림 해결 완료: alertId={}", alertId);
 
         return convertToResponse(updatedAlert);
@@ -234,11 +417,33 @@ public class EmergencyService {
      * Entity를 Response DTO로 변환
      */
     private EmergencyAlertResponse convertToResponse(EmergencyAlert alert) {
+        User user = alert.getUser();
+        return toResponse(alert, user.getId(), user.getName(), user.getPhoneNumber());
+    }
+
+    private OpenAlertResponse convertToResponse(AlertSnapshot snapshot) {
+        return OpenAlertResponse.builder()
+                .id(snapshot.id())
+                .userId(snapshot.userId())
+                .status(snapshot.status())
+                .statusDescription(snapshot.status().getDescription())
+                .emergencyType(snapshot.emergencyType())
+                .emergencyTypeDescription(snapshot.emergencyType().getDescription())
+                .latitude(snapshot.latitude())
+                .longitude(snapshot.longitude())
+                .alertTime(snapshot.alertTime())
+                .build();
+    }
+
+    /**
+     * 사용자 정보를 따로 받아 변환 (접수 시에는 캐시된 장치 소유자 정보 사용)
+     */
+    private EmergencyAlertResponse toResponse(EmergencyAlert alert, Long userId, String userName, String userPhoneNumber) {
         return EmergencyAlertResponse.builder()
                 .id(alert.getId())
-                .userId(alert.getUser().getId())
-                .userName(alert.getUser().getName())
-                .userPhoneNumber(alert.getUser().getPhoneNumber())
+                .userId(userId)
+                .userName(userName)
+                .userPhoneNumber(userPhoneNumber)
                 .latitude(alert.getLatitude())
                 .longitude(alert.getLongitude())
                 .address(alert.getAddress())
@@ -251,6 +456,17 @@ public class EmergencyService {
                 .additionalInfo(alert.getAdditionalInfo())
                 .notificationSent(alert.getNotificationSent())
                 .notificationMessage(alert.getNotificationMessage())
+                .enrichStatus(alert.getEnrichStatus())
+                .classifyStatus(alert.getClassifyStatus())
+                .notifyStatus(alert.getNotifyStatus())
+                .geocodeMillis(alert.getGeocodeMillis())
+                .analysisMillis(alert.getAnalysisMillis())
+                .analysisSource(alert.getAnalysisSource())
+                .triageConfidence(alert.getTriageConfidence())
+                .analysisSourceAlertId(alert.getAnalysisSourceAlertId())
+                .analysisSimilarity(alert.getAnalysisSimilarity())
+                .pressCount(alert.getPressCount())
+                .lastPressTime(alert.getLastPressTime())
                 .alertTime(alert.getAlertTime())
                 .resolvedTime(alert.getResolvedTime())
                 .build();
@@ -0,0 +1,291 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.dto.request.GeofenceRequest;
+import com.hackathon.sos.dto.response.CursorPageResponse;
+import com.hackathon.sos.dto.response.GeofenceEventResponse;
+import com.hackathon.sos.dto.response.GeofenceResponse;
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.event.GeofenceChangedEvent;
+import com.hackathon.sos.event.GeofenceTransitionEvent;
+import com.hackathon.sos.event.LocationsRecordedEvent;
+import com.hackathon.sos.exception.ResourceNotFoundException;
+import com.hackathon.sos.geofence.GeofenceAlertNotifier;
+import com.hackathon.sos.geofence.GeofenceRegistry;
+import com.hackathon.sos.geofence.GeofenceVertices;
+import com.hackathon.sos.pagination.KeysetCursor;
+import com.hackathon.sos.repository.GeofenceEventRepository;
+import com.hackathon.sos.repository.GeofenceRepository;
+import com.hackathon.sos.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지오펜스 관리와 위치별 진입/이탈 판정
+ * 판정은 {@link GeofenceRegistry} 의 메모리 색인으로 하고, 진입/이탈이 생기면 기록과 연락처 SMS 아웃박스 행을 남긴 뒤 커밋 후 알림 이벤트를 보냅니다
+ */
+@Service
+@RequiredArgsConstructor
+public class GeofenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceService.class);
+
+    private final GeofenceRepository geofenceRepository;
+    private final GeofenceEventRepository geofenceEventRepository;
+    private final GeofenceRegistry geofenceRegistry;
+    private final GeofenceAlertNotifier geofenceAlertNotifier;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${geofence.max-per-user}")
+    private int maxPerUser;
+
+    @Value("${geofence.max-vertices}")
+    private int maxVertices;
+
+    @Value("${geofence.max-radius-meters}")
+    private double maxRadiusMeters;
+
+    @Transactional(readOnly = true)
+    public List<GeofenceResponse> getGeofences(Long userId) {
+        return geofenceRepository.findByUserIdAndActiveTrueOrderByIdAsc(userId).stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    @Transactional
+    public GeofenceResponse createGeofence(Long userId, GeofenceRequest request) {
+        if (geofenceRepository.countByUserIdAndActiveTrue(userId) >= maxPerUser) {
+            throw new IllegalArgumentException("지오펜스는 사용자당 최대 " + maxPerUser + "개까지 등록할 수 있습니다");
+        }
+
+        Geofence geofence = Geofence.builder()
+                .user(userRepository.getReferenceById(userId))
+                .build();
+        apply(geofence, request);
+        Geofence saved = geofenceRepository.save(geofence);
+        eventPublisher.publishEvent(new GeofenceChangedEvent(userId, saved.getId()));
+
+        logger.info("지오펜스 등록: userId={}, geofenceId={}, kind={}, shape={}",
+                userId, saved.getId(), saved.getKind(), saved.getShape());
+        return convertToResponse(saved);
+    }
+
+    @Transactional
+    public GeofenceResponse updateGeofence(Long userId, Long geofenceId, GeofenceRequest request) {
+        Geofence geofence = findOwned(userId, geofenceId);
+        apply(geofence, request);
+        eventPublisher.publishEvent(new GeofenceChangedEvent(userId, geofenceId));
+
+        logger.info("지오펜스 수정: userId={}, geofenceId={}", userId, geofenceId);
+        return convertToResponse(geofenceRepository.saveAndFlush(geofence));
+    }
+
+    @Transactional
+    public void deleteGeofence(Long userId, Long geofenceId) {
+        Geofence geofence = findOwned(userId, geofenceId);
+        geofence.setActive(false);
+        eventPublisher.publishEvent(new GeofenceChangedEvent(userId, geofenceId));
+
+        logger.info("지오펜스 삭제: userId={}, geofenceId={}", userId, geofenceId);
+    }
+
+    /**
+     * 진입/이탈 기록 조회 (최신순 키셋 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<GeofenceEventResponse> getGeofenceEvents(Long userId, int pageSize, String cursor) {
+        int size = KeysetCursor.pageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, size + 1);
+
+        List<GeofenceEvent> rows = after == null
+                ? geofenceEventRepository.findPageByUserId(userId, fetch)
+                : geofenceEventRepository.findPageByUserIdBefore(userId, after.time(), after.id(), fetch);
+
+        return CursorPageResponse.of(rows, size, event -> convertToResponse(event, userId),
+                event -> new KeysetCursor(event.getOccurredAt(), event.getId()));
+    }
+
+    /**
+     * 커밋된 위치들의 진입/이탈 판정 (위치를 저장한 트랜잭션이 커밋된 뒤 새 트랜잭션에서)
+     * 저장이 롤백된 위치로 메모리 진입 상태가 바뀌지 않도록 커밋 후에만 판정합니다
+     * 측정 시각 순으로 판정하며, 진입/이탈이 있으면 기록하고 커밋 후 알림 이벤트를 보냅니다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onLocationsRecorded(LocationsRecordedEvent recorded) {
+        Long userId = recorded.userId();
+        List<LocationsRecordedEvent.Position> ordered = recorded.positions().size() > 1
+                ? recorded.positions().stream()
+                        .sorted(Comparator.comparing(LocationsRecordedEvent.Position::recordedAt)).toList()
+                : recorded.positions();
+        if (ordered.isEmpty()) {
+            return;
+        }
+
+        GeofenceRegistry.Checkpoint checkpoint = geofenceRegistry.checkpoint(userId);
+        List<GeofenceEvent> events = new ArrayList<>();
+        User user = null;
+        for (LocationsRecordedEvent.Position location : ordered) {
+            List<GeofenceRegistry.Crossing> crossings = geofenceRegistry.evaluate(userId,
+                    location.latitude(), location.longitude(), location.recordedAt());
+            for (GeofenceRegistry.Crossing crossing : crossings) {
+                if (user == null) {
+                    user = userRepository.getReferenceById(userId);
+                }
+                events.add(GeofenceEvent.builder()
+                        .user(user)
+                        .geofenceId(crossing.fence().id())
+                        .geofenceName(crossing.fence().name())
+                        .kind(crossing.fence().kind())
+                        .transition(crossing.transition())
+                        .latitude(location.latitude())
+                        .longitude(location.longitude())
+                        .occurredAt(location.recordedAt())
+                        .build());
+            }
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+        restoreOnRollback(checkpoint, ordered.get(ordered.size() - 1).recordedAt());
+        geofenceEventRepository.saveAll(events);
+        for (GeofenceEvent event : events) {
+            boolean contactsQueued = geofenceAlertNotifier.enqueueContacts(userId, event);
+            eventPublisher.publishEvent(new GeofenceTransitionEvent(convertToResponse(event, userId), contactsQueued));
+            logger.info("지오펜스 {}: userId={}, geofenceId={}, kind={}", event.getTransition().getDescription(),
+                    userId, event.getGeofenceId(), event.getKind());
+        }
+    }
+
+    /**
+     * 진입/이탈 기록이 롤백되면 판정 전 상태로 되돌려, 다음 위치에서 같은 진입/이탈을 다시 판정하게 함
+     */
+    private void restoreOnRollback(GeofenceRegistry.Checkpoint checkpoint, LocalDateTime until) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    geofenceRegistry.restore(checkpoint, until);
+                    logger.warn("지오펜스 진입/이탈 기록 롤백 - 진입 상태 복원: userId={}", checkpoint.userId());
+                }
+            }
+        });
+    }
+
+    private Geofence findOwned(Long userId, Long geofenceId) {
+        return geofenceRepository.findByIdAndUserIdAndActiveTrue(geofenceId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Geofence", "id", geofenceId));
+    }
+
+    /**
+     * 요청 값을 검증해 엔티티에 반영 (모양에 맞지 않는 값은 비움)
+     */
+    private void apply(Geofence geofence, GeofenceRequest request) {
+        geofence.setName(request.getName());
+        geofence.setKind(request.getKind());
+        geofence.setShape(request.getShape());
+
+        if (request.getShape() == Geofence.Shape.CIRCLE) {
+            if (!isValid(request.getLatitude(), request.getLongitude())) {
+                throw new IllegalArgumentException("원 지오펜스는 올바른 중심 좌표가 필요합니다");
+            }
+            if (request.getRadiusMeters() == null || request.getRadiusMeters() <= 0
+                    || request.getRadiusMeters() > maxRadiusMeters) {
+                throw new IllegalArgumentException("반경은 0보다 크고 " + (long) maxRadiusMeters + "m 이하여야 합니다");
+            }
+            geofence.setCenterLatitude(request.getLatitude());
+            geofence.setCenterLongitude(request.getLongitude());
+            geofence.setRadiusMeters(request.getRadiusMeters());
+            geofence.setVertices(null);
+            return;
+        }
+
+        List<GeofenceRequest.Vertex> vertices = request.getVertices();
+        if (vertices == null || vertices.size() < 3 || vertices.size() > maxVertices) {
+            throw new IllegalArgumentException("다각형 지오펜스는 꼭짓점이 3개 이상 " + maxVertices + "개 이하여야 합니다");
+        }
+        double[] latitudes = new double[vertices.size()];
+        double[] longitudes = new double[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            GeofenceRequest.Vertex vertex = vertices.get(i);
+            if (vertex == null || !isValid(vertex.getLatitude(), vertex.getLongitude())) {
+                throw new IllegalArgumentException("잘못된 꼭짓점 좌표입니다: index=" + i);
+            }
+            latitudes[i] = vertex.getLatitude();
+            longitudes[i] = vertex.getLongitude();
+        }
+        geofence.setVertices(GeofenceVertices.encode(latitudes, longitudes));
+        geofence.setCenterLatitude(null);
+        geofence.setCenterLongitude(null);
+        geofence.setRadiusMeters(null);
+    }
+
+    private boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && latitude >= -90 && latitude <= 90
+                && longitude != null && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Entity를 Response DTO로 변환
+     */
+    private GeofenceResponse convertToResponse(Geofence geofence) {
+        List<GeofenceRequest.Vertex> vertices = null;
+        if (geofence.getVertices() != null) {
+            double[][] decoded = GeofenceVertices.decode(geofence.getVertices());
+            vertices = new ArrayList<>(decoded[0].length);
+            for (int i = 0; i < decoded[0].length; i++) {
+                vertices.add(new GeofenceRequest.Vertex(decoded[0][i], decoded[1][i]));
+            }
+        }
+
+        return GeofenceResponse.builder()
+                .id(geofence.getId())
+                .name(geofence.getName())
+                .kind(geofence.getKind())
+                .shape(geofence.getShape())
+                .latitude(geofence.getCenterLatitude())
+                .longitude(geofence.getCenterLongitude())
+                .radiusMeters(geofence.getRadiusMeters())
+                .vertices(vertices)
+                .createdAt(geofence.getCreatedAt())
+                .updatedAt(geofence.getUpdatedAt())
+                .build();
+    }
+
+    private GeofenceEventResponse convertToResponse(GeofenceEvent event, Long userId) {
+        return GeofenceEventResponse.builder()
+                .id(event.getId())
+                .userId(userId)
+                .geofenceId(event.getGeofenceId())
+                .geofenceName(event.getGeofenceName())
+                .kind(event.getKind())
+                .transition(event.getTransition())
+                .latitude(event.getLatitude())
+                .longitude(event.getLongitude())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
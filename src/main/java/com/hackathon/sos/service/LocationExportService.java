@@ -0,0 +1,256 @@
+package com.hackathon.sos.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.sos.entity.LocationHistory;
+import com.hackathon.sos.exception.RateLimitExceededException;
+import com.hackathon.sos.repository.LocationHistoryRepository;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 위치 히스토리 내보내기
+ * 기간 안의 기록을 JDBC fetch size 단위로 읽으며 바로 응답 스트림에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리합니다
+ * (기록 수와 관계없이 메모리 사용량이 일정)
+ * 내보내기 하나가 끝날 때까지 연결(MySQL 은 서버 커서도)을 잡으므로 동시에 max-concurrent 건만 실행합니다
+ */
+@Service
+public class LocationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationExportService.class);
+
+    /** gzip 압축 버퍼 크기 */
+    private static final int GZIP_BUFFER_BYTES = 8192;
+
+    /** 동시 내보내기 한도를 넘었을 때 다시 시도할 때까지 기다릴 시간 (초) */
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private final LocationHistoryRepository locationHistoryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportPermits;
+
+    public LocationExportService(LocationHistoryRepository locationHistoryRepository,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${location.export.max-concurrent}") int maxConcurrent) {
+        this.locationHistoryRepository = locationHistoryRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 자리 확보 (응답을 보내기 전에 호출, 내보내기가 끝나면 닫아야 함)
+     *
+     * @throws RateLimitExceededException 동시 내보내기가 한도만큼 실행 중인 경우
+     */
+    public ExportPermit reserve() {
+        if (!exportPermits.tryAcquire()) {
+            throw new RateLimitExceededException(
+                    String.format("진행 중인 위치 기록 내보내기가 많습니다 (%d초 후 다시 시도)", RETRY_AFTER_SECONDS),
+                    RETRY_AFTER_SECONDS);
+        }
+        return new ExportPermit();
+    }
+
+    /**
+     * 기간 안의 위치 기록을 측정 시각 순으로 out 에 기록 (out 은 닫지 않음)
+     *
+     * @return 기록한 위치 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                       ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_BYTES) : null;
+        long count = 0;
+
+        CursorFetch previous = enableCursorFetch();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(compressed != null ? compressed : out);
+             Stream<LocationHistory> locations = locationHistoryRepository.streamByUserIdBetween(
+                     userId, startDate, endDate)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            if (format == ExportFormat.GEOJSON) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "FeatureCollection");
+                generator.writeArrayFieldStart("features");
+            }
+
+            for (LocationHistory location : (Iterable<LocationHistory>) locations::iterator) {
+                if (format == ExportFormat.GEOJSON) {
+                    writeFeature(generator, location);
+                } else {
+                    writeLine(generator, location);
+                }
+                entityManager.detach(location);
+                count++;
+            }
+
+            if (format == ExportFormat.GEOJSON) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        } finally {
+            restoreCursorFetch(previous);
+        }
+
+        if (compressed != null) {
+            compressed.finish();
+        }
+        logger.info("위치 히스토리 내보내기 완료: userId={}, format={}, gzip={}, count={}", userId, format, gzip, count);
+        return count;
+    }
+
+    /**
+     * MySQL 연결이면 이 연결에만 서버 커서를 켜고 이전 설정을 돌려줌 (다른 DB 는 fetch size 만으로 나눠 읽으므로 null)
+     * 서버 커서는 서버 측 prepared statement 에서만 쓰이므로 둘 다 켭니다
+     */
+    private CursorFetch enableCursorFetch() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!connection.isWrapperFor(JdbcConnection.class)) {
+                return null;
+            }
+            JdbcPropertySet properties = connection.unwrap(JdbcConnection.class).getPropertySet();
+            CursorFetch previous = new CursorFetch(
+                    properties.getBooleanProperty(PropertyKey.useCursorFetch),
+                    properties.getBooleanProperty(PropertyKey.useServerPrepStmts));
+            previous.cursorFetch().setValue(true);
+            previous.serverPrepared().setValue(true);
+            return previous;
+        });
+    }
+
+    /**
+     * 연결을 풀에 돌려주기 전에 서버 커서 설정을 원래대로 (다른 요청이 이 연결을 받았을 때 영향 없게)
+     */
+    private void restoreCursorFetch(CursorFetch previous) {
+        if (previous != null) {
+            previous.cursorFetch().setValue(previous.wasCursorFetch());
+            previous.serverPrepared().setValue(previous.wasServerPrepared());
+        }
+    }
+
+    /**
+     * 내보내기 전의 연결 설정
+     */
+    private record CursorFetch(RuntimeProperty<Boolean> cursorFetch, RuntimeProperty<Boolean> serverPrepared,
+                               boolean wasCursorFetch, boolean wasServerPrepared) {
+
+        CursorFetch(RuntimeProperty<Boolean> cursorFetch, RuntimeProperty<Boolean> serverPrepared) {
+            this(cursorFetch, serverPrepared, cursorFetch.getValue(), serverPrepared.getValue());
+        }
+    }
+
+    /**
+     * NDJSON 한 줄
+     */
+    private void writeLine(JsonGenerator generator, LocationHistory location) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", location.getId());
+        generator.writeNumberField("latitude", location.getLatitude());
+        generator.writeNumberField("longitude", location.getLongitude());
+        writeAttributes(generator, location);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * GeoJSON Feature (좌표 순서는 [경도, 위도])
+     */
+    private void writeFeature(JsonGenerator generator, LocationHistory location) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Feature");
+        generator.writeNumberField("id", location.getId());
+        generator.writeObjectFieldStart("geometry");
+        generator.writeStringField("type", "Point");
+        generator.writeArrayFieldStart("coordinates");
+        generator.writeNumber(location.getLongitude());
+        generator.writeNumber(location.getLatitude());
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("properties");
+        writeAttributes(generator, location);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private void writeAttributes(JsonGenerator generator, LocationHistory location) throws IOException {
+        generator.writeStringField("recordedAt", location.getRecordedAt().toString());
+        if (location.getAccuracy() != null) {
+            generator.writeStringField("accuracy", location.getAccuracy());
+        }
+        if (location.getAddress() != null) {
+            generator.writeStringField("address", location.getAddress());
+        }
+    }
+
+    /**
+     * 동시 내보내기 자리 (여러 번 닫아도 한 번만 반납)
+     */
+    public final class ExportPermit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ExportPermit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        }
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        GEOJSON("application/geo+json", "geojson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, geojson)");
+            }
+        }
+    }
+}
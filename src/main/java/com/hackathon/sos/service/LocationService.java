@@ -1,19 +1,49 @@
 package com.hackathon.sos.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hackathon.sos.dto.request.LocationPingRequest;
+import com.hackathon.sos.dto.response.CursorPageResponse;
 import com.hackathon.sos.dto.response.LocationHistoryResponse;
+import com.hackathon.sos.dto.response.LocationPingResponse;
 import com.hackathon.sos.entity.LocationHistory;
 import com.hackathon.sos.entity.User;
+import com.hackathon.sos.event.LocationsRecordedEvent;
+import com.hackathon.sos.exception.ResourceNotFoundException;
+import com.hackathon.sos.geo.OfflineReverseGeocoder;
+import com.hackathon.sos.geo.ReverseGeocodeCache;
+import com.hackathon.sos.geo.TrajectorySimplifier;
+import com.hackathon.sos.pagination.KeysetCursor;
 import com.hackathon.sos.repository.LocationHistoryRepository;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import com.hackathon.sos.security.DeviceOwner;
+import com.hackathon.sos.security.UserLookupCache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +53,34 @@ public class LocationService {
 
     private final LocationHistoryRepository locationHistoryRepository;
     private final WebClient.Builder webClientBuilder;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final OfflineReverseGeocoder offlineReverseGeocoder;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final AlertAdmissionController alertAdmissionController;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${geocoder.kakao.api-key}")
+    private String kakaoApiKey;
+
+    @Value("${geocoder.kakao.base-url}")
+    private String kakaoBaseUrl;
+
+    @Value("${geocoder.kakao.timeout-ms}")
+    private long kakaoTimeoutMs;
+
+    @Value("${location.pings.max-points}")
+    private int maxPingPoints;
+
+    @Value("${location.pings.max-future-skew-seconds}")
+    private long maxFutureSkewSeconds;
+
+    @Value("${location.pings.max-age-days}")
+    private long maxPingAgeDays;
 
     /**
-     * 위치 히스토리 저장
+     * 위치 히스토리 저장 (커밋 후 지오펜스 진입/이탈 판정)
      */
     @Transactional
     public LocationHistory saveLocationHistory(User user, Double latitude, Double longitude, String address) {
@@ -39,42 +94,212 @@ public class LocationService {
                 .accuracy("GPS")
                 .build();
 
-        return locationHistoryRepository.save(location);
+        LocationHistory saved = locationHistoryRepository.save(location);
+        eventPublisher.publishEvent(LocationsRecordedEvent.of(user.getId(), List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * 장치 위치 기록 일괄 저장
+     * 잘못된 지점은 건너뛰고, 같은 장치·같은 측정 시각은 요청 안과 기존 기록 모두에서 한 번만 저장합니다
+     * 시퀀스 ID(풀링)와 hibernate.jdbc.batch_size 로 묶음 INSERT 로 전송됩니다
+     * 같은 지점을 동시에 올린 다른 요청이 먼저 저장했으면 (user_id, recorded_at) 유니크 제약으로 DataIntegrityViolationException 이 나고 전체가 롤백됩니다
+     * 저장한 지점은 커밋 후 측정 시각 순으로 지오펜스 진입/이탈을 판정합니다
+     * 발신 IP 허용량은 장치 조회 전에, 장치 허용량은 등록된 장치로 확인된 뒤에 확인하며 넘으면 429 로 거절합니다
+     *
+     * @param clientIp 발신 IP (허용량 확인용, null 이면 확인하지 않음)
+     */
+    @Transactional
+    public LocationPingResponse savePings(LocationPingRequest request, String clientIp) {
+        List<LocationPingRequest.Point> points = request.getPoints();
+        if (points.size() > maxPingPoints) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 위치 기록은 최대 " + maxPingPoints + "건입니다");
+        }
+
+        AlertAdmissionController.Quota clientQuota = alertAdmissionController.checkPingClient(clientIp);
+        if (clientQuota.exceeded()) {
+            throw alertAdmissionController.shed(clientQuota);
+        }
+        DeviceOwner owner = userLookupCache.findDeviceOwner(request.getDeviceId())
+                .orElseThrow(() -> new ResourceNotFoundException("등록되지 않은 장치입니다: " + request.getDeviceId()));
+        AlertAdmissionController.Quota deviceQuota = alertAdmissionController.checkPingDevice(request.getDeviceId());
+        if (deviceQuota.exceeded()) {
+            throw alertAdmissionController.shed(deviceQuota);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime latest = now.plusSeconds(maxFutureSkewSeconds);
+        LocalDateTime earliest = now.minusDays(maxPingAgeDays);
+
+        // 1) 검증 및 요청 안 중복 제거 (측정 시각 → 지점)
+        Map<LocalDateTime, LocationPingRequest.Point> candidates = new LinkedHashMap<>();
+        int rejected = 0;
+        int duplicates = 0;
+        for (LocationPingRequest.Point point : points) {
+            LocalDateTime recordedAt = toRecordedAt(point);
+            if (!isValid(point) || recordedAt == null || recordedAt.isAfter(latest) || recordedAt.isBefore(earliest)) {
+                rejected++;
+            } else if (candidates.putIfAbsent(recordedAt, point) != null) {
+                duplicates++;
+            }
+        }
+
+        // 2) 이미 저장된 시각 제외 (요청 구간을 한 번에 조회)
+        List<LocationHistory> locations = new ArrayList<>(candidates.size());
+        if (!candidates.isEmpty()) {
+            Set<LocalDateTime> existing = new HashSet<>(locationHistoryRepository.findRecordedAtByUserIdBetween(
+                    owner.userId(), Collections.min(candidates.keySet()), Collections.max(candidates.keySet())));
+
+            User user = userRepository.getReferenceById(owner.userId());
+            for (Map.Entry<LocalDateTime, LocationPingRequest.Point> candidate : candidates.entrySet()) {
+                if (existing.contains(candidate.getKey())) {
+                    duplicates++;
+                    continue;
+                }
+                LocationPingRequest.Point point = candidate.getValue();
+                locations.add(LocationHistory.builder()
+                        .user(user)
+                        .latitude(point.getLatitude())
+                        .longitude(point.getLongitude())
+                        .accuracy(point.getAccuracy())
+                        .recordedAt(candidate.getKey())
+                        .build());
+            }
+            locationHistoryRepository.saveAllAndFlush(locations);
+            eventPublisher.publishEvent(LocationsRecordedEvent.of(owner.userId(), locations));
+        }
+
+        logger.info("위치 기록 일괄 저장: userId={}, accepted={}, duplicates={}, rejected={}",
+                owner.userId(), locations.size(), duplicates, rejected);
+        return new LocationPingResponse(locations.size(), duplicates, rejected);
+    }
+
+    private boolean isValid(LocationPingRequest.Point point) {
+        return point != null
+                && point.getLatitude() != null && point.getLatitude() >= -90 && point.getLatitude() <= 90
+                && point.getLongitude() != null && point.getLongitude() >= -180 && point.getLongitude() <= 180
+                && (point.getAccuracy() == null || point.getAccuracy().length() <= 20);
+    }
+
+    private LocalDateTime toRecordedAt(LocationPingRequest.Point point) {
+        if (point == null || point.getTimestamp() == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(point.getTimestamp()), ZoneId.systemDefault());
     }
 
     /**
-     * 사용자의 최근 위치 히스토리 조회
+     * 사용자의 최근 위치 히스토리 조회 (최신순 키셋 페이지)
      */
     @Transactional(readOnly = true)
-    public List<LocationHistoryResponse> getUserLocationHistory(Long userId, int limit) {
+    public CursorPageResponse<LocationHistoryResponse> getUserLocationHistory(Long userId, int limit, String cursor) {
         logger.info("위치 히스토리 조회: userId={}, limit={}", userId, limit);
 
-        List<LocationHistory> locations;
-        if (limit > 0) {
-            locations = locationHistoryRepository.findTop10ByUserIdOrderByRecordedAtDesc(userId);
-        } else {
-            locations = locationHistoryRepository.findByUserIdOrderByRecordedAtDesc(userId);
-        }
+        int size = KeysetCursor.pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, size + 1);
 
-        return locations.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<LocationHistory> rows = after == null
+                ? locationHistoryRepository.findPageByUserId(userId, fetch)
+                : locationHistoryRepository.findPageByUserIdBefore(userId, after.time(), after.id(), fetch);
+
+        return CursorPageResponse.of(rows, size, this::convertToResponse, LocationService::cursorOf);
     }
 
     /**
-     * 특정 기간의 위치 히스토리 조회
+     * 특정 기간의 위치 히스토리 조회 (최신순 키셋 페이지)
+     * toleranceMeters 또는 bucketSeconds 를 주면 지도 경로용으로 줄인 점만 돌려줍니다
      */
     @Transactional(readOnly = true)
-    public List<LocationHistoryResponse> getLocationHistoryByDateRange(
-            Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        logger.info("기간별 위치 히스토리 조회: userId={}, start={}, end={}", userId, startDate, endDate);
+    public CursorPageResponse<LocationHistoryResponse> getLocationHistoryByDateRange(
+            Long userId, LocalDateTime startDate, LocalDateTime endDate, int pageSize, String cursor,
+            Double toleranceMeters, Integer bucketSeconds) {
+        logger.info("기간별 위치 히스토리 조회: userId={}, start={}, end={}, tolerance={}, bucket={}",
+                userId, startDate, endDate, toleranceMeters, bucketSeconds);
 
-        List<LocationHistory> locations = locationHistoryRepository
-                .findByUserIdAndRecordedAtBetween(userId, startDate, endDate);
+        int size = KeysetCursor.pageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (after != null && after.time().isAfter(endDate)) {
+            after = null;  // 기간 끝 이후를 가리키는 커서는 endDate 부터 다시 읽음
+        }
+        boolean continued = after != null;
+        if (after == null) {
+            after = new KeysetCursor(endDate, Long.MAX_VALUE);
+        }
 
-        return locations.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        if (toleranceMeters != null || bucketSeconds != null) {
+            return getSimplifiedRoute(userId, startDate, after, continued, size, toleranceMeters, bucketSeconds);
+        }
+
+        List<LocationHistory> rows = locationHistoryRepository.findPageByUserIdBetween(
+                userId, startDate, after.time(), after.id(), PageRequest.of(0, size + 1));
+
+        return CursorPageResponse.of(rows, size, this::convertToResponse, LocationService::cursorOf);
+    }
+
+    /**
+     * 경로 단순화 페이지
+     * 커서 이후 기록을 한 번 순회하며 시간 구간(bucketSeconds)마다 가장 최근 한 점만 남기고,
+     * 허용 거리(toleranceMeters) 안에서 직선으로 이어지는 점을 생략합니다
+     * 남긴 점이 size 개가 되면 읽기를 멈추고, 마지막으로 남긴 점이 다음 커서가 됩니다
+     */
+    private CursorPageResponse<LocationHistoryResponse> getSimplifiedRoute(
+            Long userId, LocalDateTime startDate, KeysetCursor after, boolean continued, int size,
+            Double toleranceMeters, Integer bucketSeconds) {
+        if (bucketSeconds != null && bucketSeconds <= 0) {
+            throw new IllegalArgumentException("시간 구간은 1초 이상이어야 합니다: " + bucketSeconds);
+        }
+
+        List<LocationHistory> kept = new ArrayList<>(size);
+        TrajectorySimplifier<LocationHistory> simplifier = toleranceMeters == null ? null
+                : new TrajectorySimplifier<>(toleranceMeters,
+                        LocationHistory::getLatitude, LocationHistory::getLongitude, kept::add);
+        // 이전 페이지의 마지막 점과 같은 구간은 이미 보냈으므로 건너뜀
+        long lastBucket = continued && bucketSeconds != null ? bucketOf(after.time(), bucketSeconds) : Long.MIN_VALUE;
+        long scanned = 0;
+        boolean hasNext;
+
+        try (Stream<LocationHistory> rows = locationHistoryRepository.streamPageByUserIdBetween(
+                userId, startDate, after.time(), after.id())) {
+            Iterator<LocationHistory> iterator = rows.iterator();
+            while (kept.size() < size && iterator.hasNext()) {
+                LocationHistory location = iterator.next();
+                entityManager.detach(location);
+                scanned++;
+
+                if (bucketSeconds != null) {
+                    long bucket = bucketOf(location.getRecordedAt(), bucketSeconds);
+                    if (bucket == lastBucket) {
+                        continue;
+                    }
+                    lastBucket = bucket;
+                }
+
+                if (simplifier != null) {
+                    simplifier.accept(location);
+                } else {
+                    kept.add(location);
+                }
+            }
+
+            if (kept.size() < size) {
+                // 기간 끝까지 읽음: 창에 남은 마지막 점을 남기고 종료
+                if (simplifier != null) {
+                    simplifier.finish();
+                }
+                hasNext = false;
+            } else {
+                hasNext = (simplifier != null && simplifier.hasPending()) || iterator.hasNext();
+            }
+        }
+
+        logger.debug("경로 단순화: userId={}, scanned={}, kept={}", userId, scanned, kept.size());
+        String nextCursor = hasNext ? cursorOf(kept.get(kept.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(kept.stream().map(this::convertToResponse).toList(), size, hasNext, nextCursor);
+    }
+
+    private static long bucketOf(LocalDateTime time, int bucketSeconds) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
     }
 
     /**
@@ -95,42 +320,55 @@ public class LocationService {
 
     /**
      * 역지오코딩: 좌표를 주소로 변환
-     * (실제 구현 시 Kakao, Google Maps, Naver 등의 API 사용)
+     * 지오해시 셀 단위로 캐시하며, 조회 실패 시 좌표 문자열로 대체
      */
     public String reverseGeocode(Double latitude, Double longitude) {
-        try {
-            // TODO: 실제 지오코딩 API 연동
-            // 예시: Kakao Local API, Google Geocoding API, Naver Maps API
-
-            // 임시 구현 (실제로는 외부 API 호출)
-            logger.info("역지오코딩 요청: lat={}, lng={}", latitude, longitude);
-
-            // Kakao Local API 사용 예시 (실제 구현 시 주석 해제)
-            /*
-            String kakaoApiKey = "YOUR_KAKAO_API_KEY";
-            String url = String.format(
-                "https://dapi.kakao.com/v2/local/geo/coord2address.json?x=%f&y=%f",
-                longitude, latitude
-            );
-
-            WebClient webClient = webClientBuilder.build();
-            String response = webClient.get()
-                .uri(url)
+        String address = reverseGeocodeCache.resolve(latitude, longitude, this::lookupAddress);
+        return address != null ? address : String.format("좌표: %.6f, %.6f", latitude, longitude);
+    }
+
+    /**
+     * 주소 조회 (캐시 미스 시에만 호출, 실패 시 예외)
+     * 오프라인 장소 인덱스 → 외부 API(Kakao, 설정 시) → 좌표 문자열 순으로 사용
+     */
+    private String lookupAddress(double latitude, double longitude) {
+        String address = offlineReverseGeocoder.lookup(latitude, longitude);
+        if (address != null) {
+            return address;
+        }
+
+        if (!kakaoApiKey.isBlank()) {
+            return lookupKakaoAddress(latitude, longitude);
+        }
+
+        return String.format("위도: %.6f, 경도: %.6f 부근", latitude, longitude);
+    }
+
+    /**
+     * Kakao Local API 좌표 → 주소 변환 (도로명 주소 우선)
+     */
+    private String lookupKakaoAddress(double latitude, double longitude) {
+        logger.info("외부 역지오코딩 요청: lat={}, lng={}", latitude, longitude);
+
+        JsonNode response = webClientBuilder.build()
+                .get()
+                .uri(kakaoBaseUrl + "/v2/local/geo/coord2address.json?x={x}&y={y}", longitude, latitude)
                 .header("Authorization", "KakaoAK " + kakaoApiKey)
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToMono(JsonNode.class)
+                .block(Duration.ofMillis(kakaoTimeoutMs));
 
-            // JSON 파싱 후 주소 추출
-            */
+        JsonNode document = response != null ? response.path("documents").path(0) : null;
+        if (document == null || document.isMissingNode()) {
+            throw new IllegalStateException("Kakao 역지오코딩 결과 없음");
+        }
 
-            // 임시 반환값
-            return String.format("위도: %.6f, 경도: %.6f 부근", latitude, longitude);
+        String roadAddress = document.path("road_address").path("address_name").asText("");
+        return !roadAddress.isEmpty() ? roadAddress : document.path("address").path("address_name").asText();
+    }
 
-        } catch (Exception e) {
-            logger.error("역지오코딩 실패: {}", e.getMessage());
-            return String.format("좌표: %.6f, %.6f", latitude, longitude);
-        }
+    private static KeysetCursor cursorOf(LocationHistory location) {
+        return new KeysetCursor(location.getRecordedAt(), location.getId());
     }
 
     /**
@@ -0,0 +1,140 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.service.NotificationOutboxService.Delivery;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 아웃박스 발송 워커 풀
+ * 각 워커는 아웃박스 행을 배치로 점유해 발송하고, 행마다 보내기 직전에 점유 기한을 갱신하고 결과를 기록합니다
+ * 발송 처리량은 워커 수로 접수와 독립적으로 조절합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String EMAIL_SUBJECT = "🚨 긴급 상황 알림";
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationService notificationService;
+
+    @Qualifier("dispatchExecutor")
+    private final Executor dispatchExecutor;
+
+    @Value("${notification.outbox.dispatcher.enabled}")
+    private boolean enabled;
+
+    @Value("${notification.outbox.workers}")
+    private int workers;
+
+    @Value("${notification.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${notification.outbox.poll-interval-ms}")
+    private long pollIntervalMs;
+
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("알림 발송 워커 사용 안 함");
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            String workerId = "dispatcher-" + i;
+            dispatchExecutor.execute(() -> runWorker(workerId));
+        }
+        logger.info("알림 발송 워커 시작: workers={}, batchSize={}", workers, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        wakeUp();
+    }
+
+    /**
+     * 새로 발송 대기 상태가 된 행이 있음을 워커에게 알림 (폴링 주기를 기다리지 않도록)
+     */
+    public void wakeUp() {
+        idleLock.lock();
+        try {
+            workAvailable.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void runWorker(String workerId) {
+        while (running) {
+            try {
+                List<Delivery> batch = notificationOutboxService.claimBatch(workerId, batchSize);
+                if (batch.isEmpty()) {
+                    awaitWork();
+                    continue;
+                }
+
+                for (Delivery delivery : batch) {
+                    dispatch(delivery);
+                }
+            } catch (Exception e) {
+                logger.error("알림 발송 워커 오류: worker={}, error={}", workerId, e.getMessage(), e);
+                awaitWork();
+            }
+        }
+    }
+
+    private void dispatch(Delivery delivery) {
+        // 앞 행을 보내는 동안 점유 기한이 지나 다른 워커가 가져간 행은 보내지 않음
+        if (!notificationOutboxService.renewLease(delivery)) {
+            return;
+        }
+
+        try {
+            switch (delivery.channel()) {
+                case SMS -> notificationService.sendSMS(delivery.recipient(), delivery.message());
+                case EMAIL -> notificationService.sendEmail(delivery.recipient(),
+                        delivery.subject() != null ? delivery.subject() : EMAIL_SUBJECT, delivery.message());
+            }
+            notificationOutboxService.markSent(delivery);
+        } catch (Exception e) {
+            logger.error("알림 전송 실패: deliveryId={}, error={}", delivery.id(), e.getMessage());
+            notificationOutboxService.markFailed(delivery, e.getMessage());
+        }
+
+        if (delivery.alertId() != null) {
+            notificationOutboxService.completeAlertIfDelivered(delivery.alertId());
+        }
+    }
+
+    private void awaitWork() {
+        idleLock.lock();
+        try {
+            workAvailable.await(pollIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        } finally {
+            idleLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.EmergencyContact;
+import com.hackathon.sos.entity.NotificationOutbox;
+import com.hackathon.sos.entity.NotificationOutbox.DeliveryStatus;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 관리
+ * 기록(enqueue) → 메시지 확정(release) → 워커 점유(claim) → 발송 직전 점유 갱신(renewLease) → 행 단위 결과 기록(markSent/markFailed)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxService.class);
+
+    private static final List<DeliveryStatus> UNFINISHED =
+            List.of(DeliveryStatus.HELD, DeliveryStatus.PENDING, DeliveryStatus.SENDING);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final EmergencyAlertRepository emergencyAlertRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.lease-seconds}")
+    private long leaseSeconds;
+
+    /**
+     * 연락처/채널별 발송 행 기록 (호출한 쪽의 긴급 알림 저장 트랜잭션에 참여)
+     */
+    @Transactional
+    public int enqueue(EmergencyAlert alert, List<EmergencyContact> contacts) {
+        List<NotificationOutbox> deliveries = new ArrayList<>();
+
+        for (EmergencyContact contact : contacts) {
+            if (contact.getPhoneNumber() != null) {
+                deliveries.add(NotificationOutbox.builder()
+                        .alert(alert)
+                        .contactId(contact.getId())
+                        .channel(NotificationOutbox.Channel.SMS)
+                        .recipient(contact.getPhoneNumber())
+                        .build());
+            }
+            if (contact.getEmail() != null) {
+                deliveries.add(NotificationOutbox.builder()
+                        .alert(alert)
+                        .contactId(contact.getId())
+                        .channel(NotificationOutbox.Channel.EMAIL)
+                        .recipient(contact.getEmail())
+                        .build());
+            }
+        }
+
+        notificationOutboxRepository.saveAll(deliveries);
+        return deliveries.size();
+    }
+
+    /**
+     * 지오펜스 진입/이탈 SMS 발송 행 기록 (메시지가 정해져 있으므로 바로 발송 대기, 호출한 쪽의 기록 저장 트랜잭션에 참여)
+     */
+    @Transactional
+    public int enqueueGeofence(Long geofenceEventId, List<EmergencyContact> contacts, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> deliveries = new ArrayList<>();
+
+        for (EmergencyContact contact : contacts) {
+            if (contact.getPhoneNumber() != null) {
+                deliveries.add(NotificationOutbox.builder()
+                        .geofenceEventId(geofenceEventId)
+                        .contactId(contact.getId())
+                        .channel(NotificationOutbox.Channel.SMS)
+                        .recipient(contact.getPhoneNumber())
+                        .message(message)
+                        .status(DeliveryStatus.PENDING)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+        }
+
+        notificationOutboxRepository.saveAll(deliveries);
+        return deliveries.size();
+    }
+
+    /**
+     * 분석이 끝난 알림의 메시지를 확정하고 발송 대기 상태로 전환
+     */
+    @Transactional
+    public int release(Long alertId, String subject, String message) {
+        return notificationOutboxRepository.releaseHeld(alertId,
+                DeliveryStatus.HELD, DeliveryStatus.PENDING, subject, message, LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasDeliveries(Long alertId) {
+        return notificationOutboxRepository.countByAlertId(alertId) > 0;
+    }
+
+    /**
+     * 발송할 행을 배치로 점유 (다른 워커가 잠근 행은 건너뜀, 점유 기한이 지난 행은 다시 가져옴)
+     */
+    @Transactional
+    public List<Delivery> claimBatch(String workerId, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> rows = notificationOutboxRepository.findClaimable(
+                DeliveryStatus.PENDING, DeliveryStatus.SENDING,
+                now, now.minusSeconds(leaseSeconds), PageRequest.of(0, batchSize));
+
+        List<Delivery> claimed = new ArrayList<>(rows.size());
+        for (NotificationOutbox row : rows) {
+            row.setStatus(DeliveryStatus.SENDING);
+            row.setClaimedBy(workerId);
+            row.setClaimedAt(now);
+            row.setAttempts(row.getAttempts() + 1);
+            claimed.add(new Delivery(row.getId(), row.getAlert() != null ? row.getAlert().getId() : null, row.getChannel(),
+                    row.getRecipient(), row.getSubject(), row.getMessage(), workerId, row.getAttempts()));
+        }
+        return claimed;
+    }
+
+    /**
+     * 발송 직전 점유 기한 갱신 (배치의 뒤쪽 행이 앞 행을 보내는 동안 기한을 넘겨 다른 워커에게 넘어가지 않게 함)
+     * 이미 다른 워커가 다시 점유했으면 false 를 돌려주며, 이 워커는 그 행을 보내지 않아야 합니다
+     */
+    @Transactional
+    public boolean renewLease(Delivery delivery) {
+        int renewed = notificationOutboxRepository.renewLease(delivery.id(), delivery.claimedBy(), delivery.attempts(),
+                DeliveryStatus.SENDING, LocalDateTime.now());
+        if (renewed == 0) {
+            logger.warn("점유가 넘어간 발송 행 건너뜀: deliveryId={}, worker={}", delivery.id(), delivery.claimedBy());
+            return false;
+        }
+        return true;
+    }
+
+    @Transactional
+    public void markSent(Delivery delivery) {
+        int updated = notificationOutboxRepository.markSent(delivery.id(), delivery.claimedBy(), delivery.attempts(),
+                DeliveryStatus.SENDING, DeliveryStatus.SENT, LocalDateTime.now());
+        if (updated == 0) {
+            logger.warn("점유가 넘어간 발송 행의 결과 무시: deliveryId={}, worker={}", delivery.id(), delivery.claimedBy());
+        }
+    }
+
+    /**
+     * 발송 실패 기록 (최대 시도 횟수 전까지는 지수 백오프 후 재시도, 점유가 넘어간 행이면 무시)
+     */
+    @Transactional
+    public void markFailed(Delivery delivery, String error) {
+        String lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        int attempts = delivery.attempts();
+        boolean exhausted = attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = exhausted ? null
+                : LocalDateTime.now().plusSeconds(Math.min(300, 5L << Math.min(attempts, 6)));
+
+        int updated = notificationOutboxRepository.markFailed(delivery.id(), delivery.claimedBy(), attempts,
+                DeliveryStatus.SENDING, exhausted ? DeliveryStatus.FAILED : DeliveryStatus.PENDING,
+                nextAttemptAt, lastError);
+        if (updated == 0) {
+            logger.warn("점유가 넘어간 발송 행의 결과 무시: deliveryId={}, worker={}", delivery.id(), delivery.claimedBy());
+        } else if (exhausted) {
+            logger.error("알림 발송 최종 실패: deliveryId={}, attempts={}", delivery.id(), attempts);
+        }
+    }
+
+    /**
+     * 알림의 모든 발송 행이 끝났으면 알림 상태를 확정 (여러 워커가 동시에 호출해도 결과 동일)
+     * 한 건이라도 전송됐으면 NOTIFIED, 모든 행이 최종 실패했으면 알림 단계를 FAILED 로 두고 상태는 그대로 둡니다
+     */
+    @Transactional
+    public void completeAlertIfDelivered(Long alertId) {
+        if (notificationOutboxRepository.countByAlertIdAndStatusIn(alertId, UNFINISHED) > 0) {
+            return;
+        }
+
+        emergencyAlertRepository.findById(alertId).ifPresent(alert -> {
+            if (alert.getNotifyStatus() == EmergencyAlert.StageStatus.DONE) {
+                return;
+            }
+
+            long smsSent = notificationOutboxRepository.countByAlertIdAndChannelAndStatus(
+                    alertId, NotificationOutbox.Channel.SMS, DeliveryStatus.SENT);
+            long emailSent = notificationOutboxRepository.countByAlertIdAndChannelAndStatus(
+                    alertId, NotificationOutbox.Channel.EMAIL, DeliveryStatus.SENT);
+
+            if (smsSent + emailSent == 0) {
+                long failed = notificationOutboxRepository.countByAlertIdAndStatusIn(
+                        alertId, List.of(DeliveryStatus.FAILED));
+                alert.setNotificationSent(false);
+                alert.setNotificationMessage("긴급 연락처 알림 전송 실패 (" + failed + "건 모두 실패)");
+                alert.setNotifyStatus(EmergencyAlert.StageStatus.FAILED);
+                eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                        EmergencyAlertChangedEvent.Change.STATUS_CHANGED));
+
+                logger.error("긴급 알림 전송 실패: alertId={}, 실패={}건", alertId, failed);
+                return;
+            }
+
+            if (alert.getStatus() == EmergencyAlert.EmergencyStatus.PENDING) {
+                alert.setStatus(EmergencyAlert.EmergencyStatus.NOTIFIED);
+            }
+            alert.setNotificationSent(true);
+            alert.setNotificationMessage(smsSent + "명의 긴급 연락처에게 알림 전송 완료");
+            alert.setNotifyStatus(EmergencyAlert.StageStatus.DONE);
+            eventPublisher.publishEvent(new EmergencyAlertChangedEvent(alertId,
+                    EmergencyAlertChangedEvent.Change.STATUS_CHANGED));
+
+            logger.info("긴급 알림 전송 완료: alertId={}, SMS 전송 성공={}건, 이메일 전송 성공={}건",
+                    alertId, smsSent, emailSent);
+        });
+    }
+
+    /**
+     * 워커가 트랜잭션 밖에서 발송할 때 사용하는 발송 정보 (지오펜스 알림이면 alertId 는 null)
+     * claimedBy/attempts 는 점유 확인용으로, 결과 기록은 이 값이 행과 같을 때만 반영됩니다
+     */
+    public record Delivery(Long id, Long alertId, NotificationOutbox.Channel channel,
+                           String recipient, String subject, String message,
+                           String claimedBy, Integer attempts) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.analysis.TranscriptAnalysisCache;
+import com.hackathon.sos.classifier.EmergencyClassification;
+import com.hackathon.sos.classifier.EmergencyTypeClassifier;
+import com.hackathon.sos.entity.EmergencyAlert.AnalysisSource;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 접수 시 로컬 분류(트리아지)
+ * 음성 텍스트를 키워드 분류기로 즉시 분류하여 잠정 유형/분석을 정하고,
+ * 신뢰도가 기준 이상이면 GPT 분석을 생략(fast path)하고, 애매한 경우 같거나 유사한 음성의 최근 GPT 분석이
+ * 있으면 재사용(cache), 없으면 GPT 로 보냅니다
+ * 파이프라인이 밀려 접수 저하 모드이면 GPT 로 보내지 않고 키워드 분류를 그대로 사용합니다(degraded)
+ */
+@Service
+public class TriageService {
+
+    private static final String NO_TRANSCRIPT_ANALYSIS = "음성 인식 실패 - 긴급 버튼이 눌렸습니다. 즉시 확인이 필요합니다.";
+
+    private final EmergencyTypeClassifier emergencyTypeClassifier;
+    private final TranscriptAnalysisCache transcriptAnalysisCache;
+    private final AlertAdmissionController alertAdmissionController;
+    private final Counter fastPath;
+    private final Counter cachePath;
+    private final Counter llmPath;
+    private final Counter degradedPath;
+    private final Counter noTranscript;
+
+    @Value("${triage.enabled}")
+    private boolean enabled;
+
+    @Value("${triage.confidence-threshold}")
+    private double confidenceThreshold;
+
+    public TriageService(EmergencyTypeClassifier emergencyTypeClassifier,
+                         TranscriptAnalysisCache transcriptAnalysisCache,
+                         AlertAdmissionController alertAdmissionController, MeterRegistry meterRegistry) {
+        this.emergencyTypeClassifier = emergencyTypeClassifier;
+        this.transcriptAnalysisCache = transcriptAnalysisCache;
+        this.alertAdmissionController = alertAdmissionController;
+        this.fastPath = decisionCounter(meterRegistry, "fast");
+        this.cachePath = decisionCounter(meterRegistry, "cache");
+        this.llmPath = decisionCounter(meterRegistry, "llm");
+        this.degradedPath = decisionCounter(meterRegistry, "degraded");
+        this.noTranscript = decisionCounter(meterRegistry, "no_transcript");
+    }
+
+    public Decision triage(String transcript) {
+        return triage(transcript, false);
+    }
+
+    /**
+     * @param overLimit 허용량을 넘어 접수한 알림이면 true (GPT 분석 없이 키워드 분류만 사용)
+     */
+    public Decision triage(String transcript, boolean overLimit) {
+        if (transcript == null || transcript.trim().isEmpty()) {
+            noTranscript.increment();
+            return new Decision(AnalysisSource.NONE, EmergencyType.OTHER, NO_TRANSCRIPT_ANALYSIS, null, null, null);
+        }
+
+        EmergencyClassification classification = emergencyTypeClassifier.classify(transcript);
+        EmergencyType type = classification.type();
+        double confidence = classification.confidence();
+
+        if (enabled && type != EmergencyType.OTHER && confidence >= confidenceThreshold) {
+            fastPath.increment();
+            return new Decision(AnalysisSource.KEYWORD, type, provisionalAnalysis(type, confidence), confidence,
+                    null, null);
+        }
+
+        Optional<TranscriptAnalysisCache.Hit> cached = transcriptAnalysisCache.lookup(transcript);
+        if (cached.isPresent()) {
+            TranscriptAnalysisCache.Entry entry = cached.get().entry();
+            cachePath.increment();
+            return new Decision(AnalysisSource.CACHE, entry.type(), entry.analysis(), confidence,
+                    entry.sourceAlertId(), cached.get().similarity());
+        }
+
+        if (overLimit || alertAdmissionController.skipAnalysis()) {
+            degradedPath.increment();
+            return new Decision(AnalysisSource.KEYWORD_DEGRADED, type, provisionalAnalysis(type, confidence), confidence,
+                    null, null);
+        }
+
+        llmPath.increment();
+        return new Decision(AnalysisSource.KEYWORD_PROVISIONAL, type, provisionalAnalysis(type, confidence), confidence,
+                null, null);
+    }
+
+    /**
+     * 반복 신고로 덧붙은 음성 텍스트 재분류 (키워드 분류로 확정할 수 있을 때만 결과, 분석 재사용/GPT 경로는 타지 않음)
+     */
+    public Optional<Decision> retriage(String transcript) {
+        if (!enabled || transcript == null || transcript.isBlank()) {
+            return Optional.empty();
+        }
+        EmergencyClassification classification = emergencyTypeClassifier.classify(transcript);
+        if (classification.type() == EmergencyType.OTHER || classification.confidence() < confidenceThreshold) {
+            return Optional.empty();
+        }
+        return Optional.of(new Decision(AnalysisSource.KEYWORD, classification.type(),
+                provisionalAnalysis(classification.type(), classification.confidence()), classification.confidence(),
+                null, null));
+    }
+
+    private String provisionalAnalysis(EmergencyType type, double confidence) {
+        if (type == EmergencyType.OTHER) {
+            return "[자동 분류] 음성 내용으로 상황 유형을 판단하지 못했습니다. 즉시 확인이 필요합니다.";
+        }
+        return String.format("[자동 분류] %s 상황으로 추정됩니다 (키워드 신뢰도 %.0f%%). 즉시 확인이 필요합니다.",
+                type.getDescription(), confidence * 100);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("sos.triage.decisions")
+                .description("접수 시 분류 경로별 긴급 알림 수 (fast: 키워드 확정, cache: 분석 재사용, llm: GPT 분석, degraded: 과부하로 키워드 분류만)")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트리아지 결과
+     *
+     * @param source        KEYWORD/CACHE/KEYWORD_DEGRADED 면 GPT 분석 생략, KEYWORD_PROVISIONAL 이면 GPT 분석으로 보완
+     * @param confidence    키워드 분류 신뢰도 (음성 텍스트가 없으면 null)
+     * @param sourceAlertId 재사용한 분석의 원본 알림 ID (CACHE 인 경우)
+     * @param similarity    원본 알림 음성 텍스트와의 추정 유사도 (CACHE 인 경우)
+     */
+    public record Decision(AnalysisSource source, EmergencyType type, String analysis, Double confidence,
+                           Long sourceAlertId, Double similarity) {
+    }
+}
@@ -10,7 +10,6 @@ import com.hackathon.sos.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,12 +25,6 @@ public class UserService {
     private final UserRepository userRepository;
     private final EmergencyContactRepository emergencyContactRepository;
 
-    @Transactional(readOnly = true)
-    public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-    }
-
     @Transactional(readOnly = true)
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
@@ -42,7 +35,8 @@ public class UserService {
     public EmergencyContactResponse addEmergencyContact(Long userId, EmergencyContactRequest request) {
         logger.info("긴급 연락처 추가: userId={}, name={}", userId, request.getName());
 
-        User user = getUserById(userId);
+        // 외래 키만 필요하므로 사용자 엔티티를 읽지 않고 참조만 사용
+        User user = userRepository.getReferenceById(userId);
 
         EmergencyContact contact = EmergencyContact.builder()
                 .user(user)
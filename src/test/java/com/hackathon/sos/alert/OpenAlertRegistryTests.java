@@ -0,0 +1,222 @@
+package com.hackathon.sos.alert;
+
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyStatus;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.geo.DistanceHit;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커밋 후 다시 읽은 알림 요약의 반영 순서와 사용자/상태/유형/격자 색인의 일관성
+ */
+class OpenAlertRegistryTests {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    /** DB 에 저장된 알림 요약 (테스트가 커밋 대신 바꿈) */
+    private final Map<Long, AlertSnapshot> stored = new ConcurrentHashMap<>();
+
+    private EmergencyAlertRepository emergencyAlertRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAlertRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        emergencyAlertRepository = mock(EmergencyAlertRepository.class);
+        when(emergencyAlertRepository.findSnapshotById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<Long>getArgument(0))));
+        when(emergencyAlertRepository.findSnapshotsByStatusIn(any()))
+                .thenAnswer(invocation -> stored.values().stream().filter(AlertSnapshot::isOpen).toList());
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new OpenAlertRegistry(emergencyAlertRepository, meterRegistry, 0);
+    }
+
+    @Test
+    void indexesFollowChangedSnapshot() {
+        commit(snapshot(1L, 10L, EmergencyStatus.PENDING, EmergencyType.OTHER, 37.50, 127.00));
+        commit(snapshot(1L, 20L, EmergencyStatus.IN_PROGRESS, EmergencyType.FIRE, 37.60, 127.10));
+
+        assertThat(registry.find(10L, null, null)).isEmpty();
+        assertThat(registry.find(null, EmergencyStatus.PENDING, null)).isEmpty();
+        assertThat(registry.find(null, null, EmergencyType.OTHER)).isEmpty();
+        assertThat(registry.find(20L, EmergencyStatus.IN_PROGRESS, EmergencyType.FIRE))
+                .extracting(AlertSnapshot::id).containsExactly(1L);
+        assertThat(registry.nearby(37.50, 127.00, 500, 10)).isEmpty();
+        assertThat(registry.nearby(37.60, 127.10, 500, 10)).extracting(DistanceHit::id).containsExactly(1L);
+        assertConsistent();
+    }
+
+    @Test
+    void closedAlertLeavesEveryIndex() {
+        commit(snapshot(1L, 10L, EmergencyStatus.NOTIFIED, EmergencyType.MEDICAL, 37.50, 127.00));
+        commit(snapshot(1L, 10L, EmergencyStatus.RESOLVED, EmergencyType.MEDICAL, 37.50, 127.00));
+
+        assertThat(registry.get(1L)).isEmpty();
+        assertThat(registry.size()).isZero();
+        assertThat(registry.nearby(37.50, 127.00, 500, 10)).isEmpty();
+        assertThat(meterRegistry.get("sos.alerts.open").tag("status", "NOTIFIED").gauge().value()).isZero();
+        assertConsistent();
+    }
+
+    @Test
+    void earlierReadAppliedLastIsDropped() throws Exception {
+        long alertId = 1L;
+        stored.put(alertId, snapshot(alertId, 10L, EmergencyStatus.PENDING, EmergencyType.OTHER, 37.5, 127.0));
+
+        // 첫 조회는 진행 중 요약을 읽은 뒤 반영 직전에 멈춤
+        CountDownLatch firstRead = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(emergencyAlertRepository.findSnapshotById(alertId))
+                .thenAnswer(invocation -> {
+                    Optional<AlertSnapshot> snapshot = Optional.ofNullable(stored.get(alertId));
+                    firstRead.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                    return snapshot;
+                })
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(alertId)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> stale = executor.submit(() -> registry.onAlertChanged(changed(alertId)));
+            assertThat(firstRead.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 그 사이 해결 처리가 커밋되고 나중 조회가 먼저 반영됨
+            commit(snapshot(alertId, 10L, EmergencyStatus.RESOLVED, EmergencyType.OTHER, 37.5, 127.0));
+            releaseFirst.countDown();
+            stale.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.get(alertId)).isEmpty();
+        assertThat(registry.find(10L, null, null)).isEmpty();
+        assertThat(meterRegistry.get("sos.alerts.open.stale-reads").counter().count()).isEqualTo(1);
+        assertConsistent();
+    }
+
+    @Test
+    void verifyCorrectsMissedChange() {
+        commit(snapshot(1L, 10L, EmergencyStatus.PENDING, EmergencyType.OTHER, 37.5, 127.0));
+        // 이벤트 없이 바뀐 알림
+        stored.put(1L, snapshot(1L, 10L, EmergencyStatus.IN_PROGRESS, EmergencyType.ASSAULT, 37.5, 127.0));
+        stored.put(2L, snapshot(2L, 10L, EmergencyStatus.PENDING, EmergencyType.OTHER, 37.5, 127.0));
+
+        assertThat(registry.verify()).isEqualTo(2);
+        assertThat(registry.verify()).isZero();
+        assertThat(registry.find(10L, EmergencyStatus.IN_PROGRESS, EmergencyType.ASSAULT))
+                .extracting(AlertSnapshot::id).containsExactly(1L);
+        assertConsistent();
+    }
+
+    @Test
+    void concurrentCommitsEndWithStoredState() throws Exception {
+        int threads = 8;
+        int changesPerThread = 2_000;
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, 5L);
+        EmergencyStatus[] statuses = EmergencyStatus.values();
+        EmergencyType[] types = EmergencyType.values();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < changesPerThread; i++) {
+                        Long id = ids.get(random.nextInt(ids.size()));
+                        commit(snapshot(id, (long) random.nextInt(3),
+                                statuses[random.nextInt(statuses.length)], types[random.nextInt(types.length)],
+                                37.5 + random.nextDouble() * 0.1, 127.0 + random.nextDouble() * 0.1));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Long id : ids) {
+            AlertSnapshot expected = stored.get(id);
+            assertThat(registry.get(id)).isEqualTo(Optional.ofNullable(expected).filter(AlertSnapshot::isOpen));
+        }
+        assertThat(registry.verify()).isZero();
+        assertConsistent();
+    }
+
+    /**
+     * DB 변경 후 커밋 이벤트 (커밋 후 리스너와 같은 순서)
+     */
+    private void commit(AlertSnapshot snapshot) {
+        stored.put(snapshot.id(), snapshot);
+        registry.onAlertChanged(changed(snapshot.id()));
+    }
+
+    /**
+     * 사용자/상태/유형 색인 집합과 격자가 요약 값과 정확히 일치하는지
+     */
+    @SuppressWarnings("unchecked")
+    private void assertConsistent() {
+        Map<Long, AlertSnapshot> alerts = (Map<Long, AlertSnapshot>) ReflectionTestUtils.getField(registry, "alerts");
+        Map<Long, Set<Long>> byUser = (Map<Long, Set<Long>>) ReflectionTestUtils.getField(registry, "byUser");
+        Map<EmergencyStatus, Set<Long>> byStatus =
+                (Map<EmergencyStatus, Set<Long>>) ReflectionTestUtils.getField(registry, "byStatus");
+        Map<EmergencyType, Set<Long>> byType =
+                (Map<EmergencyType, Set<Long>>) ReflectionTestUtils.getField(registry, "byType");
+
+        Map<Long, Set<Long>> expectedUsers = new HashMap<>();
+        Map<EmergencyStatus, Set<Long>> expectedStatuses = new HashMap<>();
+        Map<EmergencyType, Set<Long>> expectedTypes = new HashMap<>();
+        for (AlertSnapshot snapshot : alerts.values()) {
+            expectedUsers.computeIfAbsent(snapshot.userId(), key -> new HashSet<>()).add(snapshot.id());
+            expectedStatuses.computeIfAbsent(snapshot.status(), key -> new HashSet<>()).add(snapshot.id());
+            expectedTypes.computeIfAbsent(snapshot.emergencyType(), key -> new HashSet<>()).add(snapshot.id());
+
+            assertThat(registry.nearby(snapshot.latitude(), snapshot.longitude(), 1, 100))
+                    .extracting(DistanceHit::id).contains(snapshot.id());
+        }
+
+        assertThat(byUser).isEqualTo(expectedUsers);
+        byStatus.forEach((status, ids) -> assertThat(ids).as("status %s", status)
+                .containsExactlyInAnyOrderElementsOf(expectedStatuses.getOrDefault(status, Set.of())));
+        byType.forEach((type, ids) -> assertThat(ids).as("type %s", type)
+                .containsExactlyInAnyOrderElementsOf(expectedTypes.getOrDefault(type, Set.of())));
+        assertThat(registry.nearby(37.55, 127.05, 100_000, 1_000)).hasSize(alerts.size());
+    }
+
+    private static EmergencyAlertChangedEvent changed(Long alertId) {
+        return new EmergencyAlertChangedEvent(alertId, EmergencyAlertChangedEvent.Change.UPDATED);
+    }
+
+    private static AlertSnapshot snapshot(Long id, Long userId, EmergencyStatus status, EmergencyType type,
+                                          double latitude, double longitude) {
+        return new AlertSnapshot(id, userId, status, type, latitude, longitude, T0.plusMinutes(id));
+    }
+}
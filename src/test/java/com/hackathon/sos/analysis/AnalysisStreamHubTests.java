@@ -0,0 +1,104 @@
+package com.hackathon.sos.analysis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 분석 중간 저장 (토큰 수신 스레드 밖에서, 스트림마다 하나씩, 밀린 스냅샷은 마지막 것만)
+ */
+class AnalysisStreamHubTests {
+
+    private ExecutorService snapshotExecutor;
+    private AnalysisStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        snapshotExecutor = Executors.newFixedThreadPool(2);
+        hub = new AnalysisStreamHub(snapshotExecutor);
+        ReflectionTestUtils.setField(hub, "snapshotIntervalMs", 0L);
+        ReflectionTestUtils.setField(hub, "watchTimeoutMs", 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotExecutor.shutdownNow();
+    }
+
+    @Test
+    void slowSnapshotWritesAreCoalescedOffTheCallbackThread() throws InterruptedException {
+        Thread callbackThread = Thread.currentThread();
+        List<String> written = new CopyOnWriteArrayList<>();
+        List<Thread> writerThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+        AnalysisStreamHub.Stream stream = hub.open(1L, snapshot -> {
+            writerThreads.add(Thread.currentThread());
+            firstWriteStarted.countDown();
+            try {
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(snapshot);
+        });
+
+        stream.append("a");
+        assertThat(firstWriteStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        // 첫 저장이 막혀 있는 동안에도 토큰 수신은 기다리지 않음
+        long startedAt = System.nanoTime();
+        for (char c = 'b'; c <= 'z'; c++) {
+            stream.append(String.valueOf(c));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+        releaseFirstWrite.countDown();
+
+        awaitWrites(written, 2);
+        assertThat(written).containsExactly("a", "abcdefghijklmnopqrstuvwxyz");
+        assertThat(writerThreads).doesNotContain(callbackThread);
+    }
+
+    @Test
+    void pendingSnapshotIsDroppedWhenStreamCompletes() throws InterruptedException {
+        List<String> written = new CopyOnWriteArrayList<>();
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+        AnalysisStreamHub.Stream stream = hub.open(2L, snapshot -> {
+            firstWriteStarted.countDown();
+            try {
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(snapshot);
+        });
+
+        stream.append("부분");
+        assertThat(firstWriteStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        stream.append(" 분석");
+        stream.complete("최종 분석");
+        releaseFirstWrite.countDown();
+
+        Thread.sleep(200);
+        assertThat(written).containsExactly("부분");
+    }
+
+    private static void awaitWrites(List<String> written, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (written.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hackathon.sos.analysis;
+
+import com.hackathon.sos.exception.AnalysisUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대기 시간/최대 크기에 따른 배치 묶기와 항목별 결과 분배
+ */
+class MicroBatcherTests {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> flushThreads = new CopyOnWriteArrayList<>();
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("batch-timer-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void itemsWithinWindowShareOneBatchFlushedByScheduler() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(100, 8);
+
+        List<CompletableFuture<String>> results = List.of(
+                batcher.submit("a"), batcher.submit("b"), batcher.submit("c"));
+
+        for (CompletableFuture<String> result : results) {
+            result.get(2, TimeUnit.SECONDS);
+        }
+        assertThat(results).extracting(CompletableFuture::join).containsExactly("A", "B", "C");
+        assertThat(batches).containsExactly(List.of("a", "b", "c"));
+        assertThat(flushThreads).singleElement().asString().startsWith("batch-timer-");
+    }
+
+    @Test
+    void fullBatchIsProcessedWithoutWaitingForWindow() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(60_000, 2);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+
+        assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThat(first.join()).isEqualTo("A");
+        // 창 타이머 예약은 취소되어 스케줄러 큐에 남지 않음
+        assertThat(scheduler.getScheduledThreadPoolExecutor().getQueue()).isEmpty();
+    }
+
+    @Test
+    void missingResultFailsOnlyThatItem() throws Exception {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>("test", 60_000, 2,
+                items -> Arrays.asList("A", null), Runnable::run, scheduler);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+
+        assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThatThrownBy(() -> second.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AnalysisUnavailableException.class);
+    }
+
+    @Test
+    void closeProcessesPendingItems() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(60_000, 8);
+        CompletableFuture<String> pending = batcher.submit("a");
+
+        batcher.close();
+
+        assertThat(pending.get(2, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(scheduler.getScheduledThreadPoolExecutor().getQueue()).isEmpty();
+    }
+
+    private MicroBatcher<String, String> batcher(long windowMillis, int maxBatchSize) {
+        return new MicroBatcher<>("test", windowMillis, maxBatchSize, items -> {
+            batches.add(items);
+            flushThreads.add(Thread.currentThread().getName());
+            return items.stream().map(String::toUpperCase).toList();
+        }, Runnable::run, scheduler);
+    }
+}
@@ -0,0 +1,134 @@
+package com.hackathon.sos.analysis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 항목과 LSH 버킷이 만료/크기 제한/재저장 뒤에도 일치하는지 확인
+ */
+class TranscriptAnalysisCacheTests {
+
+    private static final int BANDS = 16;
+    private static final long TTL_MINUTES = 30;
+
+    private static final String TRANSCRIPT = "도와주세요 사람이 쓰러졌어요 숨을 쉬지 않아요 빨리 와주세요";
+    private static final String SIMILAR = TRANSCRIPT + "요";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void savedAgainAfterExpiryStillMatchesSimilarTranscript() {
+        TranscriptAnalysisCache cache = cache(100);
+        cache.put(TRANSCRIPT, 1L, "분석 1", EmergencyType.MEDICAL);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(TTL_MINUTES + 1));
+
+        cache.put(TRANSCRIPT, 2L, "분석 2", EmergencyType.MEDICAL);
+        entries(cache).cleanUp();
+
+        assertThat(cache.lookup(SIMILAR)).hasValueSatisfying(hit -> {
+            assertThat(hit.entry().sourceAlertId()).isEqualTo(2L);
+            assertThat(hit.similarity()).isLessThan(1.0);
+        });
+        assertBucketsMatchEntries(cache);
+    }
+
+    @Test
+    void expiredEntryLeavesBuckets() {
+        TranscriptAnalysisCache cache = cache(100);
+        cache.put(TRANSCRIPT, 1L, "분석", EmergencyType.MEDICAL);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(TTL_MINUTES + 1));
+
+        entries(cache).cleanUp();
+
+        assertThat(cache.lookup(SIMILAR)).isEmpty();
+        assertThat(buckets(cache)).isEmpty();
+    }
+
+    @Test
+    void concurrentPutsWithSizeEvictionKeepBucketsInSync() throws Exception {
+        TranscriptAnalysisCache cache = cache(16);
+        List<String> transcripts = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            transcripts.add(TRANSCRIPT + " " + i + "번째 신고입니다");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2_000; i++) {
+                        String transcript = transcripts.get(random.nextInt(transcripts.size()));
+                        if (random.nextBoolean()) {
+                            cache.put(transcript, (long) i, "분석", EmergencyType.MEDICAL);
+                        } else {
+                            cache.lookup(transcript);
+                        }
+                        if (i % 100 == 0) {
+                            // 일부 항목이 만료된 채로 다시 저장되게 함
+                            nanos.addAndGet(TimeUnit.MINUTES.toNanos(TTL_MINUTES / 4));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        entries(cache).cleanUp();
+        assertBucketsMatchEntries(cache);
+    }
+
+    /**
+     * 살아 있는 항목은 밴드 수만큼의 버킷에, 없는 항목은 어느 버킷에도 없어야 함
+     */
+    private void assertBucketsMatchEntries(TranscriptAnalysisCache cache) {
+        Map<String, Integer> bucketCounts = new HashMap<>();
+        for (Set<String> keys : buckets(cache).values()) {
+            for (String key : keys) {
+                bucketCounts.merge(key, 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> expected = new HashMap<>();
+        for (String key : entries(cache).asMap().keySet()) {
+            expected.put(key, BANDS);
+        }
+        assertThat(bucketCounts).isEqualTo(expected);
+    }
+
+    private TranscriptAnalysisCache cache(long maxEntries) {
+        return new TranscriptAnalysisCache(new SimpleMeterRegistry(), true, maxEntries, TTL_MINUTES, 0.8,
+                BANDS, 4, nanos::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<String, TranscriptAnalysisCache.Entry> entries(TranscriptAnalysisCache cache) {
+        return (Cache<String, TranscriptAnalysisCache.Entry>) ReflectionTestUtils.getField(cache, "entries");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Set<String>> buckets(TranscriptAnalysisCache cache) {
+        return (Map<Long, Set<String>>) ReflectionTestUtils.getField(cache, "buckets");
+    }
+}
@@ -0,0 +1,138 @@
+package com.hackathon.sos.classifier;
+
+import com.hackathon.sos.classifier.EmergencyClassification.TypeScore;
+import com.hackathon.sos.classifier.EmergencyTypeClassifier.Keyword;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 배포 사전으로 분류한 유형 순위와 신뢰도(1위 점수 / (전체 점수 + 1)), 사전 형식 검증
+ */
+class EmergencyTypeClassifierTests {
+
+    /** triage.confidence-threshold 기본값 */
+    private static final double CONFIDENCE_THRESHOLD = 0.7;
+
+    private static EmergencyTypeClassifier classifier;
+
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        classifier = new EmergencyTypeClassifier(new ClassPathResource("classifier/emergency-keywords.tsv"));
+    }
+
+    @Test
+    void repeatedFireShoutClearsConfidenceThreshold() {
+        // 불이야(2.5) + 불 났(2.0) = 4.5, 신뢰도 4.5 / 5.5
+        EmergencyClassification result = classifier.classify("불이야 불 났어요");
+
+        assertThat(result.type()).isEqualTo(EmergencyType.FIRE);
+        assertThat(result.ranking()).containsExactly(new TypeScore(EmergencyType.FIRE, 4.5, 2));
+        assertThat(result.confidence()).isCloseTo(4.5 / 5.5, within(1e-9));
+        assertThat(result.confidence()).isGreaterThanOrEqualTo(CONFIDENCE_THRESHOLD);
+    }
+
+    @Test
+    void singleWeakKeywordStaysBelowThreshold() {
+        // 사고(1.0) 하나, 신뢰도 1.0 / 2.0
+        EmergencyClassification result = classifier.classify("사고가 났어요");
+
+        assertThat(result.type()).isEqualTo(EmergencyType.ACCIDENT);
+        assertThat(result.confidence()).isCloseTo(0.5, within(1e-9));
+        assertThat(result.confidence()).isLessThan(CONFIDENCE_THRESHOLD);
+    }
+
+    @Test
+    void nestedKeywordsAddBothWeights() {
+        // 교통사고(1.5) ⊃ 사고(1.0)
+        EmergencyClassification result = classifier.classify("교통사고");
+
+        assertThat(result.ranking()).containsExactly(new TypeScore(EmergencyType.ACCIDENT, 2.5, 2));
+        assertThat(result.confidence()).isCloseTo(2.5 / 3.5, within(1e-9));
+    }
+
+    @Test
+    void typesAreRankedByWeightSumAcrossTypes() {
+        // ACCIDENT 사고(1.0) + 교통사고(1.5) = 2.5, ASSAULT 폭행(2.0), MEDICAL 출혈(2.0) + 쓰러(2.0) = 4.0
+        EmergencyClassification result = classifier.classify("교통사고 후 폭행당해 출혈이 있고 쓰러졌어요");
+
+        assertThat(result.ranking()).containsExactly(
+                new TypeScore(EmergencyType.MEDICAL, 4.0, 2),
+                new TypeScore(EmergencyType.ACCIDENT, 2.5, 2),
+                new TypeScore(EmergencyType.ASSAULT, 2.0, 1));
+        assertThat(result.confidence()).isCloseTo(4.0 / 9.5, within(1e-9));
+    }
+
+    @Test
+    void weightOutranksNumberOfHits() {
+        // STALKING 스토킹(3.0) 한 번이 ACCIDENT 사고(1.0) 두 번보다 앞섬
+        EmergencyClassification result = classifier.classify("사고 사고 스토킹");
+
+        assertThat(result.ranking()).extracting(TypeScore::type)
+                .containsExactly(EmergencyType.STALKING, EmergencyType.ACCIDENT);
+        assertThat(result.ranking().get(1).hits()).isEqualTo(2);
+    }
+
+    @Test
+    void englishKeywordsIgnoreCase() {
+        // heart attack(MEDICAL 3.0) 안의 attack(ASSAULT 1.5) 도 매칭됨
+        EmergencyClassification upper = classifier.classify("HEART ATTACK");
+        EmergencyClassification mixed = classifier.classify("Heart Attack");
+
+        assertThat(upper.ranking()).containsExactly(
+                new TypeScore(EmergencyType.MEDICAL, 3.0, 1),
+                new TypeScore(EmergencyType.ASSAULT, 1.5, 1));
+        assertThat(mixed).isEqualTo(upper);
+        assertThat(classifier.classify("FIRE and Smoke").ranking())
+                .containsExactly(new TypeScore(EmergencyType.FIRE, 3.5, 2));
+    }
+
+    @Test
+    void equalScoresFollowDeclarationOrder() {
+        EmergencyTypeClassifier tied = new EmergencyTypeClassifier(List.of(
+                new Keyword(EmergencyType.STALKING, 2.0, "미행"),
+                new Keyword(EmergencyType.ACCIDENT, 2.0, "충돌")));
+
+        EmergencyClassification result = tied.classify("미행 충돌");
+
+        assertThat(result.ranking()).extracting(TypeScore::type)
+                .containsExactly(EmergencyType.ACCIDENT, EmergencyType.STALKING);
+        assertThat(result.confidence()).isCloseTo(2.0 / 5.0, within(1e-9));
+    }
+
+    @Test
+    void noMatchIsUnknown() {
+        assertThat(classifier.classify(null)).isSameAs(EmergencyClassification.UNKNOWN);
+        assertThat(classifier.classify("")).isSameAs(EmergencyClassification.UNKNOWN);
+
+        EmergencyClassification result = classifier.classify("여기가 어디인지 모르겠어요");
+        assertThat(result).isSameAs(EmergencyClassification.UNKNOWN);
+        assertThat(result.type()).isEqualTo(EmergencyType.OTHER);
+        assertThat(result.confidence()).isZero();
+    }
+
+    @Test
+    void dictionarySkipsCommentsAndRejectsMalformedLines() throws IOException {
+        assertThat(load("# 주석\n\nFIRE\t2.5\t화재\n"))
+                .containsExactly(new Keyword(EmergencyType.FIRE, 2.5, "화재"));
+
+        assertThatThrownBy(() -> load("FIRE\t2.5\n")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> load("FIRE\t2.5\t \n")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> load("BURNING\t2.5\t화재\n")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> load("FIRE\tmany\t화재\n")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Keyword> load(String dictionary) throws IOException {
+        return EmergencyTypeClassifier.load(new ByteArrayInputStream(dictionary.getBytes(StandardCharsets.UTF_8)));
+    }
+}
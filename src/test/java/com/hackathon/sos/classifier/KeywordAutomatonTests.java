@@ -0,0 +1,120 @@
+package com.hackathon.sos.classifier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 겹치는/포함된 키워드, 본문 처음과 끝의 매칭, 대소문자 구분 없는 매칭, 단순 검색과의 일치
+ */
+class KeywordAutomatonTests {
+
+    @Test
+    void overlappingKeywordsAreAllReported() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("he", "she", "his", "hers"));
+
+        // "she" 와 그 접미사 "he" 가 같은 위치에서, "hers" 가 그 뒤에서 끝남
+        assertThat(matches(automaton, "ushers")).containsExactly(1, 0, 3);
+    }
+
+    @Test
+    void nestedKeywordsAreBothReported() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("사고", "교통사고", "통사"));
+
+        assertThat(matches(automaton, "교통사고 발생")).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    void matchesAtStartAndEndOfText() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("불이야", "도와줘"));
+
+        assertThat(matches(automaton, "불이야")).containsExactly(0);
+        assertThat(matches(automaton, "불이야 누가 좀 도와줘")).containsExactly(0, 1);
+        assertThat(matches(automaton, "도와줘")).containsExactly(1);
+    }
+
+    @Test
+    void repeatedKeywordIsReportedEachTime() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("불", "aa"));
+
+        assertThat(matches(automaton, "불불 불")).containsExactly(0, 0, 0);
+        assertThat(matches(automaton, "aaaa")).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void caseIsIgnoredForEnglishAndKoreanIsMatchedAsIs() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("Heart Attack", "fire", "화재"));
+
+        assertThat(matches(automaton, "HEART ATTACK")).containsExactly(0);
+        assertThat(matches(automaton, "heart attack")).containsExactly(0);
+        assertThat(matches(automaton, "FiRe 화재 FIRE")).containsExactly(1, 2, 1);
+    }
+
+    @Test
+    void characterOutsideKeywordsBreaksMatch() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("불이야", "fire"));
+
+        assertThat(matches(automaton, "불 이야 fi-re 불이 야")).isEmpty();
+    }
+
+    @Test
+    void emptyTextAndUnknownCharactersMatchNothing() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("납치"));
+
+        assertThat(matches(automaton, "")).isEmpty();
+        assertThat(matches(automaton, "\0 \uFFFF 😀")).isEmpty();
+    }
+
+    @Test
+    void emptyKeywordIsRejected() {
+        assertThatThrownBy(() -> new KeywordAutomaton(List.of("화재", "")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void countsMatchNaiveSearchOnRandomText() {
+        List<String> patterns = List.of("가", "가나", "나가", "가나다", "다가나", "ab", "ba", "aba", "bab", "가a");
+        KeywordAutomaton automaton = new KeywordAutomaton(patterns);
+        char[] alphabet = {'가', '나', '다', 'a', 'A', 'b', 'B', ' '};
+        Random random = new Random(7);
+
+        for (int round = 0; round < 200; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(60); i > 0; i--) {
+                text.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            int[] counts = new int[patterns.size()];
+            automaton.scan(text, pattern -> counts[pattern]++);
+
+            String folded = text.toString().toLowerCase(Locale.ROOT);
+            for (int p = 0; p < patterns.size(); p++) {
+                assertThat(counts[p]).as("%s in \"%s\"", patterns.get(p), text)
+                        .isEqualTo(occurrences(folded, patterns.get(p).toLowerCase(Locale.ROOT)));
+            }
+        }
+    }
+
+    private static List<Integer> matches(KeywordAutomaton automaton, String text) {
+        List<Integer> matched = new ArrayList<>();
+        automaton.scan(text, matched::add);
+        return matched;
+    }
+
+    /**
+     * 겹치는 위치까지 센 등장 횟수
+     */
+    private static int occurrences(String text, String pattern) {
+        int count = 0;
+        for (int from = text.indexOf(pattern); from >= 0; from = text.indexOf(pattern, from + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
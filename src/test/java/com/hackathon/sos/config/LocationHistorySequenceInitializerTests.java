@@ -0,0 +1,97 @@
+package com.hackathon.sos.config;
+
+import com.hackathon.sos.entity.LocationHistory;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.LocationHistoryRepository;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IDENTITY 로 쌓인 기존 행이 있을 때 시퀀스를 그 뒤로 올리는지, 같은 사용자·같은 측정 시각 행을 막는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class LocationHistorySequenceInitializerTests {
+
+    @Autowired
+    private LocationHistorySequenceInitializer initializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocationHistoryRepository locationHistoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "seq" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("시퀀스")
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void seedMovesSequencePastExistingIds() {
+        long currentNext = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR location_history_seq", Long.class);
+        long legacyId = currentNext + 10_000;
+        insertRow(legacyId, LocalDateTime.now());
+
+        assertThat(initializer.seed()).isTrue();
+        assertThat(initializer.seed()).isFalse();
+
+        long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR location_history_seq", Long.class);
+        assertThat(next - LocationHistorySequenceInitializer.ALLOCATION_SIZE).isGreaterThan(legacyId);
+    }
+
+    @Test
+    void sameUserAndRecordedAtIsRejected() {
+        LocalDateTime recordedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        locationHistoryRepository.saveAndFlush(location(recordedAt));
+
+        assertThatThrownBy(() -> locationHistoryRepository.saveAndFlush(location(recordedAt)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void insertRow(long id, LocalDateTime recordedAt) {
+        jdbcTemplate.update("INSERT INTO location_history (id, user_id, latitude, longitude, recorded_at) "
+                + "VALUES (?, ?, 37.5, 127.0, ?)", id, user.getId(), Timestamp.valueOf(recordedAt));
+    }
+
+    private LocationHistory location(LocalDateTime recordedAt) {
+        return LocationHistory.builder()
+                .user(user)
+                .latitude(37.5)
+                .longitude(127.0)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.hackathon.sos.controller;
+
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.security.JwtTokenProvider;
+import com.hackathon.sos.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 헬스 체크만 공개하고 지표 엔드포인트는 관리자 토큰으로만 조회되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+class ActuatorAccessTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + token(User.UserRole.USER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + token(User.UserRole.ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    private String token(User.UserRole role) {
+        String username = "ac" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("지표")
+                .role(role)
+                .build());
+        userIds.add(user.getId());
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(UserPrincipal.fromUser(user), null));
+    }
+}
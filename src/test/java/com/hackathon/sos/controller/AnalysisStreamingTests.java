@@ -0,0 +1,136 @@
+package com.hackathon.sos.controller;
+
+import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.security.JwtTokenProvider;
+import com.hackathon.sos.security.UserPrincipal;
+import com.hackathon.sos.service.EmergencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * OpenAI 스텁 서버의 토큰 스트림을 SSE 구독자가 delta 로 받고 done 으로 끝나는지 확인
+ */
+@SpringBootTest(properties = {
+        "analysis.streaming.enabled=true",
+        "analysis.streaming.snapshot-interval-ms=100",
+        "analysis.cache.enabled=false",
+        "stub.openai.port=18181",
+        "openai.base-url=http://127.0.0.1:18181/",
+        "stub.openai.latency-ms=1500",
+        "stub.openai.first-token-latency-ms=200"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test", "loadtest"})
+class AnalysisStreamingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmergencyService emergencyService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String username = "st" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("스트리밍")
+                .deviceId("dev-" + username)
+                .role(User.UserRole.USER)
+                .build());
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(UserPrincipal.fromUser(user), null));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitPipeline();
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id IN "
+                + "(SELECT id FROM emergency_alerts WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM emergency_alerts WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void subscriberReceivesStreamedDeltasAndFinalAnalysis() throws Exception {
+        EmergencyAlertResponse alert = emergencyService.createEmergencyAlert(EmergencyAlertRequest.builder()
+                .deviceId(user.getDeviceId())
+                .latitude(37.5)
+                .longitude(127.0)
+                .audioTranscript("여기가 어딘지 모르겠어요 좀 와주세요")
+                .build(), null);
+        assertThat(alert.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD_PROVISIONAL);
+
+        MvcResult result = mockMvc.perform(get("/emergency/alerts/" + alert.getId() + "/analysis/stream")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String events = awaitEvent(result, "event:done");
+        assertThat(events).contains("event:delta");
+        assertThat(events).contains("응급의료");
+    }
+
+    private static String awaitEvent(MvcResult result, String event) throws Exception {
+        long deadline = System.currentTimeMillis() + 15_000;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(event) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains(event);
+        return content;
+    }
+
+    private void awaitPipeline() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<EmergencyAlert> alerts = emergencyAlertRepository.findPageByUserId(user.getId(), PageRequest.of(0, 10));
+            if (alerts.stream().allMatch(alert -> alert.getNotifyStatus().isFinished())) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
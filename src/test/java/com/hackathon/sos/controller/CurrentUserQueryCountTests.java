@@ -0,0 +1,145 @@
+package com.hackathon.sos.controller;
+
+import com.hackathon.sos.entity.EmergencyContact;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.EmergencyContactRepository;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.security.JwtTokenProvider;
+import com.hackathon.sos.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 사용자 ID 를 토큰 클레임에서 받으므로, 요청이 같은 작업을 리포지토리로 직접 실행할 때보다 SQL 을 더 실행하지 않는지 확인
+ * (test 프로필에서 아웃박스 워커, 지오해시 채우기, 진행 중 알림 정합성 검사를 끄므로 측정 구간의 SQL 은 요청 것뿐)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+class CurrentUserQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private EmergencyContactRepository emergencyContactRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String username = "qc" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("조회수")
+                .role(User.UserRole.USER)
+                .build());
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(UserPrincipal.fromUser(user), null));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emergencyContactRepository.deleteAll(emergencyContactRepository.findByUserIdOrderByPriorityAsc(user.getId()));
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void listingAlertsRunsNoMoreStatementsThanTheAlertQuery() throws Exception {
+        warmUp();
+
+        long baseline = statements(() -> emergencyAlertRepository.findPageByUserId(user.getId(), PageRequest.of(0, 21)));
+        long request = statements(() -> mockMvc.perform(get("/emergency/alerts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(request - baseline).isZero();
+    }
+
+    @Test
+    void addingContactRunsNoMoreStatementsThanTheInsert() throws Exception {
+        warmUp();
+
+        long baseline = statements(() -> transactionTemplate.executeWithoutResult(status ->
+                emergencyContactRepository.save(EmergencyContact.builder()
+                        .user(userRepository.getReferenceById(user.getId()))
+                        .name("기준")
+                        .phoneNumber("010-0000-0000")
+                        .priority(2)
+                        .active(true)
+                        .build())));
+        long request = statements(() -> mockMvc.perform(post("/user/emergency-contacts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"보호자\",\"phoneNumber\":\"010-1234-5678\",\"priority\":1}"))
+                .andExpect(status().isOk()));
+
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(request - baseline).isZero();
+    }
+
+    /**
+     * 첫 요청은 토큰 버전을 한 번 읽어 캐시하므로, 그 뒤 요청부터 측정
+     */
+    private void warmUp() throws Exception {
+        mockMvc.perform(get("/emergency/alerts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        statistics.clear();
+    }
+
+    /**
+     * 작업 하나가 실행한 JDBC 문장 수
+     */
+    private long statements(ThrowingRunnable action) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
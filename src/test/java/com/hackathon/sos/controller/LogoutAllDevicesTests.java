@@ -0,0 +1,88 @@
+package com.hackathon.sos.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모든 기기 로그아웃(토큰 버전 증가) 후 다시 로그인하면 새 버전의 토큰이 발급되는지 확인
+ * (로그인용 사용자 캐시에 이전 버전이 남아 있으면 새 토큰이 바로 거부됨)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+class LogoutAllDevicesTests {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final String username = "lo" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername(username).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void loginAfterLogoutFromAllDevicesIssuesUsableToken() throws Exception {
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new Signup(username, username + "@example.com",
+                                PASSWORD, "로그아웃"))))
+                .andExpect(status().isOk());
+
+        // 로그인으로 사용자 캐시를 채운 뒤 모든 기기 로그아웃
+        String oldToken = login();
+        authorized(oldToken).andExpect(status().isOk());
+        mockMvc.perform(post("/auth/logout").param("allDevices", "true")
+                        .header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isOk());
+
+        String newToken = login();
+        authorized(newToken).andExpect(status().isOk());
+        authorized(oldToken).andExpect(status().is4xxClientError());
+    }
+
+    private String login() throws Exception {
+        String body = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new Login(username, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        return response.path("data").path("token").asText();
+    }
+
+    private ResultActions authorized(String token) throws Exception {
+        return mockMvc.perform(get("/emergency/alerts").header("Authorization", "Bearer " + token));
+    }
+
+    private record Signup(String username, String email, String password, String name) {
+    }
+
+    private record Login(String usernameOrEmail, String password) {
+    }
+}
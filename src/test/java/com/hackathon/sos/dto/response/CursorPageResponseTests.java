@@ -0,0 +1,62 @@
+package com.hackathon.sos.dto.response;
+
+import com.hackathon.sos.pagination.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * size + 1 행을 읽어 다음 페이지 여부를 판단하는 페이지 구성 (정확히 size 행, 모자란 행, 빈 결과)
+ */
+class CursorPageResponseTests {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Test
+    void extraRowMeansNextPageFromLastReturnedRow() {
+        CursorPageResponse<String> page = page(rows(4), 3);
+
+        assertThat(page.getItems()).containsExactly("4", "3", "2");
+        assertThat(page.getSize()).isEqualTo(3);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor(TIME, 2L));
+    }
+
+    @Test
+    void exactlyPageSizeRowsIsLastPage() {
+        CursorPageResponse<String> page = page(rows(3), 3);
+
+        assertThat(page.getItems()).containsExactly("3", "2", "1");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void fewerRowsOrNoneIsLastPage() {
+        CursorPageResponse<String> partial = page(rows(2), 3);
+        assertThat(partial.getItems()).containsExactly("2", "1");
+        assertThat(partial.isHasNext()).isFalse();
+        assertThat(partial.getNextCursor()).isNull();
+
+        CursorPageResponse<String> empty = page(List.of(), 3);
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.getSize()).isEqualTo(3);
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.getNextCursor()).isNull();
+    }
+
+    private static CursorPageResponse<String> page(List<Long> rows, int size) {
+        return CursorPageResponse.of(rows, size, String::valueOf, id -> new KeysetCursor(TIME, id));
+    }
+
+    /**
+     * 같은 시각에 ID 내림차순인 행 n 개
+     */
+    private static List<Long> rows(int n) {
+        return LongStream.iterate(n, id -> id - 1).limit(n).boxed().toList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.hackathon.sos.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent;
+import com.hackathon.sos.event.EmergencyAlertChangedEvent.Change;
+import com.hackathon.sos.service.EmergencyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전송 전에 쌓인 변경을 최신 상태 한 번으로 합치고, 전송 중 들어온 변경은 한 번 더 보내며, 대기 상태를 남기지 않는지 확인
+ */
+class AlertFeedPublisherTests {
+
+    private static final Long ALERT_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    /** 피드 실행기에 넘겨진 전송 작업 (테스트가 직접 실행) */
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private EmergencyService emergencyService;
+    private SimpMessagingTemplate messagingTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private AlertFeedPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        emergencyService = mock(EmergencyService.class);
+        when(emergencyService.findEmergencyAlertResponse(anyLong())).thenReturn(Optional.empty());
+        when(emergencyService.findEmergencyAlertResponse(ALERT_ID)).thenReturn(Optional.of(alert("접수")));
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new AlertFeedPublisher(emergencyService, messagingTemplate, objectMapper, tasks::add, meterRegistry);
+    }
+
+    @Test
+    void changesBeforeFlushAreCoalescedIntoOneSend() throws Exception {
+        publisher.onAlertChanged(changed(Change.CREATED));
+        publisher.onAlertChanged(changed(Change.UPDATED));
+        publisher.onAlertChanged(changed(Change.ENRICHED));
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+
+        verify(emergencyService, times(1)).findEmergencyAlertResponse(ALERT_ID);
+        ArgumentCaptor<Message<?>> userTopic = messageCaptor();
+        ArgumentCaptor<Message<?>> alertTopic = messageCaptor();
+        verify(messagingTemplate).send(eq("/topic/users/" + USER_ID + "/alerts"), userTopic.capture());
+        verify(messagingTemplate).send(eq("/topic/alerts/" + ALERT_ID), alertTopic.capture());
+
+        // 두 토픽이 같은 직렬화 결과를 공유하고, 마지막 변경 종류를 담음
+        assertThat(alertTopic.getValue()).isSameAs(userTopic.getValue());
+        JsonNode payload = objectMapper.readTree((byte[]) userTopic.getValue().getPayload());
+        assertThat(payload.get("change").asText()).isEqualTo(Change.ENRICHED.name());
+        assertThat(payload.get("alert").get("id").asLong()).isEqualTo(ALERT_ID);
+
+        assertThat(meterRegistry.get("sos.feed.coalesced").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("sos.feed.published").counter().count()).isEqualTo(1);
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    void changeDuringSendIsSentOnceMore() {
+        // 첫 전송이 상태를 읽는 동안 새 변경이 두 번 커밋됨
+        when(emergencyService.findEmergencyAlertResponse(ALERT_ID))
+                .thenAnswer(invocation -> {
+                    publisher.onAlertChanged(changed(Change.STATUS_CHANGED));
+                    publisher.onAlertChanged(changed(Change.STATUS_CHANGED));
+                    return Optional.of(alert("접수"));
+                })
+                .thenReturn(Optional.of(alert("해결")));
+
+        publisher.onAlertChanged(changed(Change.CREATED));
+        tasks.remove().run();
+
+        // 전송 중 들어온 변경은 새 작업을 만들지 않고 끝난 뒤 한 번 더 예약됨
+        assertThat(tasks).hasSize(1);
+        runTasks();
+
+        verify(emergencyService, times(2)).findEmergencyAlertResponse(ALERT_ID);
+        verify(messagingTemplate, times(4)).send(anyString(), any(Message.class));
+        assertThat(meterRegistry.get("sos.feed.published").counter().count()).isEqualTo(2);
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    void missingAlertSendsNothingAndLeavesNoPendingState() {
+        publisher.onAlertChanged(new EmergencyAlertChangedEvent(999L, Change.UPDATED));
+        runTasks();
+
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    void pendingStateIsBoundedByAlertsAwaitingSend() {
+        for (long alertId = 1; alertId <= 100; alertId++) {
+            for (int i = 0; i < 10; i++) {
+                publisher.onAlertChanged(new EmergencyAlertChangedEvent(alertId, Change.UPDATED));
+            }
+        }
+
+        // 변경 1,000건이 알림당 대기 상태 하나와 전송 작업 하나로 합쳐짐
+        assertThat(pending()).hasSize(100);
+        assertThat(tasks).hasSize(100);
+        runTasks();
+        assertThat(pending()).isEmpty();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private Map<?, ?> pending() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(publisher, "pending");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<Message<?>> messageCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Message.class);
+    }
+
+    private static EmergencyAlertChangedEvent changed(Change change) {
+        return new EmergencyAlertChangedEvent(ALERT_ID, change);
+    }
+
+    private static EmergencyAlertResponse alert(String statusDescription) {
+        return EmergencyAlertResponse.builder()
+                .id(ALERT_ID)
+                .userId(USER_ID)
+                .statusDescription(statusDescription)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.hackathon.sos.feed;
+
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.security.WebSocketPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 본인 사용자/알림 토픽만 구독할 수 있고 다른 사용자의 토픽 구독과 직접 전송은 거부되는지 확인
+ */
+class AlertFeedSubscriptionInterceptorTests {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_ID = 2L;
+    private static final Long OWN_ALERT_ID = 10L;
+    private static final Long OTHER_ALERT_ID = 20L;
+
+    private static final WebSocketPrincipal OWNER = new WebSocketPrincipal("owner", OWNER_ID);
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private AlertFeedSubscriptionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        EmergencyAlertRepository emergencyAlertRepository = mock(EmergencyAlertRepository.class);
+        when(emergencyAlertRepository.findUserIdById(anyLong())).thenReturn(Optional.empty());
+        when(emergencyAlertRepository.findUserIdById(OWN_ALERT_ID)).thenReturn(Optional.of(OWNER_ID));
+        when(emergencyAlertRepository.findUserIdById(OTHER_ALERT_ID)).thenReturn(Optional.of(OTHER_ID));
+        interceptor = new AlertFeedSubscriptionInterceptor(emergencyAlertRepository);
+    }
+
+    @Test
+    void ownTopicsCanBeSubscribed() {
+        for (String destination : new String[]{
+                "/topic/users/" + OWNER_ID + "/alerts",
+                "/topic/users/" + OWNER_ID + "/geofences",
+                "/topic/alerts/" + OWN_ALERT_ID}) {
+            Message<?> message = subscribe(OWNER, destination);
+
+            assertThat(interceptor.preSend(message, channel)).as(destination).isSameAs(message);
+        }
+    }
+
+    @Test
+    void otherUsersTopicsAreDenied() {
+        assertDenied(OWNER, "/topic/users/" + OTHER_ID + "/alerts");
+        assertDenied(OWNER, "/topic/users/" + OTHER_ID + "/geofences");
+        assertDenied(OWNER, "/topic/alerts/" + OTHER_ALERT_ID);
+    }
+
+    @Test
+    void unknownAlertAndUnlistedDestinationsAreDenied() {
+        assertDenied(OWNER, "/topic/alerts/999");
+        assertDenied(OWNER, "/topic/alerts");
+        assertDenied(OWNER, "/topic/users/" + OWNER_ID + "/alerts/extra");
+        assertDenied(OWNER, "/topic/users/" + OWNER_ID + "/locations");
+        assertDenied(OWNER, "/queue/users/" + OWNER_ID + "/alerts");
+    }
+
+    @Test
+    void subscriptionWithoutAuthenticatedUserIsDenied() {
+        assertDenied(null, "/topic/users/" + OWNER_ID + "/alerts");
+        assertDenied(() -> "owner", "/topic/users/" + OWNER_ID + "/alerts");
+    }
+
+    @Test
+    void sendingToTopicIsDenied() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setUser(OWNER);
+        accessor.setDestination("/topic/users/" + OWNER_ID + "/alerts");
+
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void otherCommandsPassThrough() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setUser(OWNER);
+        Message<?> message = message(accessor);
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    private void assertDenied(Principal user, String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(user, destination), channel))
+                .as(destination)
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    private static Message<?> subscribe(Principal user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setUser(user);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        return message(accessor);
+    }
+
+    private static Message<?> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,149 @@
+package com.hackathon.sos.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지오해시 셀 경계, 경계 상자 덮기, 셀까지의 최단 거리를 촘촘한 표본 점과 비교
+ */
+class GeoHashTests {
+
+    /** 셀 한 변을 나누는 표본 간격 수 */
+    private static final int SAMPLE_STEPS = 200;
+
+    private final Random random = new Random(22);
+
+    @Test
+    void encodedPointLiesInItsCell() {
+        for (int i = 0; i < 2000; i++) {
+            double latitude = -90 + random.nextDouble() * 180;
+            double longitude = -180 + random.nextDouble() * 360;
+            int precision = 1 + random.nextInt(GeoHash.MAX_PRECISION);
+
+            GeoHash.Cell cell = GeoHash.cell(GeoHash.encode(latitude, longitude, precision));
+
+            assertThat(latitude).isBetween(cell.minLatitude(), cell.maxLatitude());
+            assertThat(longitude).isBetween(cell.minLongitude(), cell.maxLongitude());
+        }
+    }
+
+    @Test
+    void coveringContainsCellOfEveryPointInBox() {
+        double[][] centers = {{37.5665, 126.9780}, {89.99, 10.0}, {-89.99, -45.0}, {0.0, 179.999}, {0.0, -179.999}};
+        for (double[] center : centers) {
+            for (double radius : new double[]{200, 3_000, 50_000}) {
+                for (double[] box : GeoDistance.boundingBoxes(center[0], center[1], radius)) {
+                    int precision = GeoHash.coveringPrecision(List.of(box), 9, 64);
+                    Set<String> covering = GeoHash.covering(box[0], box[1], box[2], box[3], precision).stream()
+                            .map(GeoHash.Cell::hash)
+                            .collect(Collectors.toSet());
+
+                    for (int i = 0; i < 500; i++) {
+                        double latitude = box[0] + random.nextDouble() * (box[2] - box[0]);
+                        double longitude = box[1] + random.nextDouble() * (box[3] - box[1]);
+                        assertThat(covering).contains(GeoHash.encode(latitude, longitude, precision));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void boundingBoxesSplitAtAntimeridian() {
+        List<double[]> boxes = GeoDistance.boundingBoxes(0.0, 179.999, 1_000);
+
+        assertThat(boxes).hasSize(2);
+        assertThat(boxes.get(0)[3]).isEqualTo(180);
+        assertThat(boxes.get(1)[1]).isEqualTo(-180);
+        assertThat(boxes.get(1)[3]).isGreaterThan(-180).isLessThan(-179.99);
+    }
+
+    @Test
+    void boundingBoxCoversAllLongitudesAroundPole() {
+        List<double[]> boxes = GeoDistance.boundingBoxes(89.999, 30.0, 1_000);
+
+        assertThat(boxes).hasSize(1);
+        assertThat(boxes.get(0)).containsExactly(89.999 - 1_000 / (GeoDistance.EARTH_RADIUS_M * Math.PI / 180),
+                -180, 90, 180);
+    }
+
+    @Test
+    void cellDistanceIsExactLowerBound() {
+        for (int i = 0; i < 300; i++) {
+            // 극 근처, 날짜변경선 근처, 일반 지역을 번갈아 고름
+            double cellLatitude = switch (i % 3) {
+                case 0 -> 80 + random.nextDouble() * 10;
+                case 1 -> -60 + random.nextDouble() * 120;
+                default -> -90 + random.nextDouble() * 10;
+            };
+            double cellLongitude = i % 2 == 0 ? 179 + random.nextDouble() : -180 + random.nextDouble() * 360;
+            GeoHash.Cell cell = GeoHash.cell(GeoHash.encode(Math.min(cellLatitude, 89.999), cellLongitude,
+                    2 + random.nextInt(3)));
+
+            double latitude = Math.max(-90, Math.min(90, cell.minLatitude() + (random.nextDouble() * 3 - 1)
+                    * (cell.maxLatitude() - cell.minLatitude())));
+            double longitude = wrap(cell.minLongitude() + (random.nextDouble() * 5 - 2)
+                    * (cell.maxLongitude() - cell.minLongitude()));
+
+            double sampled = sampledDistance(cell, latitude, longitude);
+            double distance = cell.distanceMeters(latitude, longitude);
+
+            assertThat(distance).isLessThanOrEqualTo(sampled + 1e-6);
+            // 표본 간격만큼만 차이 남
+            assertThat(distance).isGreaterThan(sampled - sampleSpacingMeters(cell) - 1e-6);
+        }
+    }
+
+    @Test
+    void cellDistanceIsBelowClampedPointDistanceAtHighLatitude() {
+        // 대권이 극 쪽으로 휘므로 셀 오른쪽 변의 가장 가까운 점은 같은 위도보다 북쪽에 있음
+        GeoHash.Cell cell = new GeoHash.Cell("test", 60, 0, 70, 10);
+        double clamped = GeoDistance.meters(69, 40, 69, 10);
+
+        double distance = cell.distanceMeters(69, 40);
+
+        assertThat(distance).isLessThan(clamped - 10_000);
+        assertThat(distance).isLessThanOrEqualTo(sampledDistance(cell, 69, 40) + 1e-6);
+    }
+
+    @Test
+    void cellDistanceAcrossAntimeridian() {
+        GeoHash.Cell cell = GeoHash.cell(GeoHash.encode(10.0, 179.9999, 6));
+
+        double distance = cell.distanceMeters(10.0, -179.9999);
+
+        assertThat(distance).isLessThan(20);
+    }
+
+    private static double sampledDistance(GeoHash.Cell cell, double latitude, double longitude) {
+        double nearest = Double.MAX_VALUE;
+        for (int i = 0; i <= SAMPLE_STEPS; i++) {
+            double sampleLatitude = cell.minLatitude() + (cell.maxLatitude() - cell.minLatitude()) * i / SAMPLE_STEPS;
+            for (int j = 0; j <= SAMPLE_STEPS; j++) {
+                double sampleLongitude = cell.minLongitude()
+                        + (cell.maxLongitude() - cell.minLongitude()) * j / SAMPLE_STEPS;
+                nearest = Math.min(nearest, GeoDistance.meters(latitude, longitude, sampleLatitude, sampleLongitude));
+            }
+        }
+        return nearest;
+    }
+
+    /** 표본 격자 한 칸의 대각선 길이 (표본 최솟값과 실제 최단 거리의 차 상한) */
+    private static double sampleSpacingMeters(GeoHash.Cell cell) {
+        // 경도 폭은 적도에 가장 가까운 위도에서 가장 넓음
+        double step = (cell.maxLatitude() - cell.minLatitude()) / SAMPLE_STEPS;
+        double latitude = Math.max(cell.minLatitude(), Math.min(0, cell.maxLatitude() - step));
+        return GeoDistance.meters(latitude, cell.minLongitude(), latitude + step,
+                cell.minLongitude() + (cell.maxLongitude() - cell.minLongitude()) / SAMPLE_STEPS);
+    }
+
+    private static double wrap(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+}
@@ -0,0 +1,108 @@
+package com.hackathon.sos.geo;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 셀 단위 반경 검색 결과를 전체 좌표 거리 계산(전수 비교)과 비교 (밀집 셀 분할, 극, 날짜변경선 포함)
+ */
+class NearestCellSearchTests {
+
+    private static final double METERS_PER_DEGREE = GeoDistance.EARTH_RADIUS_M * Math.PI / 180;
+
+    private final Random random = new Random(22);
+
+    private long nextId = 1;
+
+    @Test
+    void matchesBruteForceInCity() {
+        assertMatchesBruteForce(37.5665, 126.9780, scatter(37.5665, 126.9780, 30_000, 3_000));
+    }
+
+    @Test
+    void matchesBruteForceWhenCellsAreSplit() {
+        // 한 셀에 CELL_READ_LIMIT 건이 넘게 몰린 지역
+        List<AlertPoint> points = scatter(37.5665, 126.9780, 80, NearestCellSearch.CELL_READ_LIMIT * 4);
+        points.addAll(scatter(37.5665, 126.9780, 5_000, 500));
+
+        assertMatchesBruteForce(37.5665, 126.9780, points);
+    }
+
+    @Test
+    void matchesBruteForceNearPoles() {
+        assertMatchesBruteForce(89.9, 40.0, scatter(89.9, 40.0, 10_000, 2_000));
+        assertMatchesBruteForce(-89.999, -120.0, scatter(-89.99, 0.0, 1_000, 2_000));
+        assertMatchesBruteForce(85.0, 170.0, scatter(85.0, 170.0, 40_000, 2_000));
+    }
+
+    @Test
+    void matchesBruteForceAcrossAntimeridian() {
+        List<AlertPoint> points = scatter(-16.5, 179.99, 20_000, 2_000);
+
+        assertMatchesBruteForce(-16.5, 179.99, points);
+        assertMatchesBruteForce(-16.5, -179.99, points);
+        assertThat(search(-16.5, 179.999, 2_000, 200, points))
+                .anyMatch(hit -> point(points, hit.id()).longitude() < 0);
+    }
+
+    private void assertMatchesBruteForce(double latitude, double longitude, List<AlertPoint> points) {
+        for (double radius : new double[]{300, 2_000, 15_000, 50_000}) {
+            for (int limit : new int[]{1, 10, 200}) {
+                List<DistanceHit> expected = bruteForce(latitude, longitude, radius, limit, points);
+                List<DistanceHit> actual = search(latitude, longitude, radius, limit, points);
+
+                assertThat(actual).as("radius=%s, limit=%s", radius, limit)
+                        .extracting(DistanceHit::id)
+                        .containsExactlyElementsOf(expected.stream().map(DistanceHit::id).toList());
+            }
+        }
+    }
+
+    private static List<DistanceHit> search(double latitude, double longitude, double radius, int limit,
+                                            List<AlertPoint> points) {
+        return NearestCellSearch.search(latitude, longitude, radius, limit, EmergencyAlert.GEOHASH_PRECISION, 16,
+                (cell, maxRows) -> points.stream()
+                        .filter(point -> GeoHash.encode(point.latitude(), point.longitude(),
+                                EmergencyAlert.GEOHASH_PRECISION).startsWith(cell))
+                        .limit(maxRows)
+                        .toList());
+    }
+
+    private static List<DistanceHit> bruteForce(double latitude, double longitude, double radius, int limit,
+                                                List<AlertPoint> points) {
+        return points.stream()
+                .map(point -> new DistanceHit(point.id(),
+                        GeoDistance.meters(latitude, longitude, point.latitude(), point.longitude())))
+                .filter(hit -> hit.distanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(DistanceHit::distanceMeters))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 중심 주변 spreadMeters 안팎에 무작위 좌표 (경도는 날짜변경선에서 감음, 위도는 극을 넘지 않게 고름)
+     */
+    private List<AlertPoint> scatter(double latitude, double longitude, double spreadMeters, int count) {
+        List<AlertPoint> points = new ArrayList<>(count);
+        double latitudeSpan = spreadMeters / METERS_PER_DEGREE;
+        double longitudeSpan = Math.min(180, latitudeSpan / Math.max(1e-3, Math.cos(Math.toRadians(latitude))));
+        for (int i = 0; i < count; i++) {
+            double pointLatitude = latitude + (random.nextDouble() * 2 - 1) * latitudeSpan;
+            double pointLongitude = longitude + (random.nextDouble() * 2 - 1) * longitudeSpan;
+            pointLongitude = ((pointLongitude + 180) % 360 + 360) % 360 - 180;
+            points.add(new AlertPoint(nextId++, pointLatitude, pointLongitude));
+        }
+        return points;
+    }
+
+    private static AlertPoint point(List<AlertPoint> points, long id) {
+        return points.stream().filter(point -> point.id() == id).findFirst().orElseThrow();
+    }
+}
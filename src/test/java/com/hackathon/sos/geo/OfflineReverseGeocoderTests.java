@@ -0,0 +1,83 @@
+package com.hackathon.sos.geo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스 경로 설정에 따른 활성화, 거리별 주소 문구, max-distance-m 밖의 장소 제외
+ */
+class OfflineReverseGeocoderTests {
+
+    private static final double MAX_DISTANCE_M = 5_000;
+    private static final double CITY_HALL_LATITUDE = 37.5663;
+    private static final double CITY_HALL_LONGITUDE = 126.9779;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void nearbyPlaceIsNamedWithoutDistance() throws IOException {
+        OfflineReverseGeocoder geocoder = geocoder(index().toString());
+
+        assertThat(geocoder.isAvailable()).isTrue();
+        assertThat(geocoder.lookup(CITY_HALL_LATITUDE + 0.005, CITY_HALL_LONGITUDE)).isEqualTo("서울시청 부근");
+    }
+
+    @Test
+    void placeBeyondOneKilometerIncludesDistance() throws IOException {
+        OfflineReverseGeocoder geocoder = geocoder(index().toString());
+
+        // 위도 0.02도 ≈ 2.2km
+        assertThat(geocoder.lookup(CITY_HALL_LATITUDE + 0.02, CITY_HALL_LONGITUDE)).isEqualTo("서울시청 부근 (약 2.2km)");
+    }
+
+    @Test
+    void placeBeyondMaxDistanceIsIgnored() throws IOException {
+        OfflineReverseGeocoder geocoder = geocoder(index().toString());
+
+        // 위도 0.044도 ≈ 4.9km 는 허용, 0.046도 ≈ 5.1km 는 제외
+        assertThat(geocoder.lookup(CITY_HALL_LATITUDE + 0.044, CITY_HALL_LONGITUDE)).startsWith("서울시청 부근");
+        assertThat(geocoder.lookup(CITY_HALL_LATITUDE + 0.046, CITY_HALL_LONGITUDE)).isNull();
+    }
+
+    @Test
+    void blankOrMissingIndexPathDisablesGeocoder() {
+        for (String indexPath : new String[]{"", directory.resolve("missing.idx").toString()}) {
+            OfflineReverseGeocoder geocoder = geocoder(indexPath);
+
+            assertThat(geocoder.isAvailable()).as(indexPath).isFalse();
+            assertThat(geocoder.lookup(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE)).isNull();
+        }
+    }
+
+    @Test
+    void unreadableIndexDisablesGeocoder() throws IOException {
+        Path broken = Files.write(directory.resolve("broken.idx"), new byte[PlaceIndex.HEADER_BYTES]);
+
+        assertThat(geocoder(broken.toString()).isAvailable()).isFalse();
+    }
+
+    private Path index() throws IOException {
+        Path index = directory.resolve("places.idx");
+        PlaceIndexBuilder.build(List.of(
+                new PlaceIndexBuilder.Entry("서울시청", PlaceIndex.toUnitVector(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE)),
+                new PlaceIndexBuilder.Entry("부산역", PlaceIndex.toUnitVector(35.1151, 129.0422))), index);
+        return index;
+    }
+
+    private static OfflineReverseGeocoder geocoder(String indexPath) {
+        OfflineReverseGeocoder geocoder = new OfflineReverseGeocoder();
+        ReflectionTestUtils.setField(geocoder, "indexPath", indexPath);
+        ReflectionTestUtils.setField(geocoder, "maxDistanceMeters", MAX_DISTANCE_M);
+        geocoder.load();
+        return geocoder;
+    }
+}
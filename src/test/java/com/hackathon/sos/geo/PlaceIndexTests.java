@@ -0,0 +1,146 @@
+package com.hackathon.sos.geo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 장소 인덱스 파일 생성(PlaceIndexBuilder) 후 메모리 맵으로 다시 읽기, 최근접 조회와 전수 비교
+ */
+class PlaceIndexTests {
+
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void builtFileIsReadBackThroughMapping() throws IOException {
+        Path csv = csv("""
+                name,latitude,longitude
+                # 주석과 빈 줄은 건너뜀
+
+                서울시청,37.5663,126.9779
+                부산역, 부산광역시 동구,35.1151,129.0422
+                Null Island,0,0
+                """);
+        Path index = directory.resolve("places.idx");
+
+        PlaceIndexBuilder.build(PlaceIndexBuilder.readCsv(csv), index);
+        PlaceIndex places = PlaceIndex.open(index);
+
+        assertThat(places.size()).isEqualTo(3);
+        assertNearest(places, 37.5663, 126.9779, "서울시청");
+        assertNearest(places, 35.1151, 129.0422, "부산역, 부산광역시 동구");
+        assertNearest(places, 0, 0, "Null Island");
+        assertThat(places.nearest(37.5663, 126.9779).distanceMeters()).isCloseTo(0, within(1e-3));
+    }
+
+    @Test
+    void nearestMatchesBruteForceSearch() throws IOException {
+        Random random = new Random(6);
+        List<PlaceIndexBuilder.Entry> entries = new ArrayList<>();
+        List<double[]> coordinates = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            // 대부분 한반도 근처, 일부는 전 세계 (극지방과 날짜변경선 포함)
+            double latitude = i % 10 == 0 ? random.nextDouble() * 180 - 90 : 33 + random.nextDouble() * 6;
+            double longitude = i % 10 == 0 ? random.nextDouble() * 360 - 180 : 124 + random.nextDouble() * 8;
+            coordinates.add(new double[]{latitude, longitude});
+            entries.add(new PlaceIndexBuilder.Entry("p" + i, PlaceIndex.toUnitVector(latitude, longitude)));
+        }
+        Path index = directory.resolve("random.idx");
+        PlaceIndexBuilder.build(entries, index);
+        PlaceIndex places = PlaceIndex.open(index);
+
+        for (int q = 0; q < 1_000; q++) {
+            double latitude = q % 4 == 0 ? random.nextDouble() * 180 - 90 : 32 + random.nextDouble() * 8;
+            double longitude = q % 4 == 0 ? random.nextDouble() * 360 - 180 : 123 + random.nextDouble() * 10;
+
+            double best = Double.MAX_VALUE;
+            for (double[] coordinate : coordinates) {
+                best = Math.min(best, distanceMeters(latitude, longitude, coordinate[0], coordinate[1]));
+            }
+
+            PlaceIndex.Place place = places.nearest(latitude, longitude);
+            double[] found = coordinates.get(Integer.parseInt(place.name().substring(1)));
+            assertThat(place.distanceMeters()).as("query %d (%f, %f)", q, latitude, longitude)
+                    .isCloseTo(best, within(1e-3));
+            assertThat(distanceMeters(latitude, longitude, found[0], found[1])).isCloseTo(best, within(1e-3));
+        }
+    }
+
+    @Test
+    void emptyIndexHasNoNearestPlace() throws IOException {
+        Path index = directory.resolve("empty.idx");
+        PlaceIndexBuilder.build(List.of(), index);
+
+        PlaceIndex places = PlaceIndex.open(index);
+
+        assertThat(places.size()).isZero();
+        assertThat(places.nearest(37.5, 127.0)).isNull();
+    }
+
+    @Test
+    void fileWithoutHeaderIsRejected() throws IOException {
+        Path index = Files.write(directory.resolve("broken.idx"), new byte[PlaceIndex.HEADER_BYTES]);
+
+        assertThatThrownBy(() -> PlaceIndex.open(index)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void malformedCsvLineIsRejected() throws IOException {
+        Path csv = csv("""
+                name,latitude,longitude
+                좌표 없음
+                """);
+
+        assertThatThrownBy(() -> PlaceIndexBuilder.readCsv(csv)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mainWritesIndexIntoNewDirectory() throws IOException {
+        Path csv = csv("""
+                name,latitude,longitude
+                광화문,37.5759,126.9768
+                강남역,37.4979,127.0276
+                """);
+        Path index = directory.resolve("build/geo/places.idx");
+
+        PlaceIndexBuilder.main(new String[]{csv.toString(), index.toString()});
+
+        PlaceIndex places = PlaceIndex.open(index);
+        assertThat(places.size()).isEqualTo(2);
+        assertNearest(places, 37.50, 127.03, "강남역");
+        assertNearest(places, 37.58, 126.97, "광화문");
+    }
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(directory.resolve("places.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private static void assertNearest(PlaceIndex places, double latitude, double longitude, String name) {
+        assertThat(places.nearest(latitude, longitude).name()).isEqualTo(name);
+    }
+
+    /**
+     * 대권 거리 (하버사인)
+     */
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
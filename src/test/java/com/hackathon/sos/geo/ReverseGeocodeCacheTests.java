@@ -0,0 +1,189 @@
+package com.hackathon.sos.geo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 설정한 정밀도의 셀 단위 캐시, 성공/실패 TTL (가짜 시계), 바이트 크기 한도, 같은 셀 동시 요청의 조회 한 번
+ */
+class ReverseGeocodeCacheTests {
+
+    private static final int PRECISION = 8;
+    private static final long MAX_BYTES = 1 << 20;
+    private static final long TTL_MINUTES = 60;
+    private static final long NEGATIVE_TTL_SECONDS = 30;
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void pointsInSameCellShareOneLookup() {
+        ReverseGeocodeCache cache = cache(PRECISION, MAX_BYTES);
+        GeoHash.Cell cell = GeoHash.cell(GeoHash.encode(LATITUDE, LONGITUDE, PRECISION));
+        double margin = 1e-9;
+
+        assertThat(cache.resolve(cell.minLatitude() + margin, cell.minLongitude() + margin, this::address))
+                .isEqualTo(cell.hash());
+        assertThat(cache.resolve(cell.maxLatitude() - margin, cell.maxLongitude() - margin, this::address))
+                .isEqualTo(cell.hash());
+        assertThat(calls).hasValue(1);
+
+        // 셀 경계를 넘으면 다른 셀
+        cache.resolve(cell.maxLatitude() + margin, cell.minLongitude() + margin, this::address);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void precisionSetsCellSize() {
+        GeoHash.Cell coarse = GeoHash.cell(GeoHash.encode(LATITUDE, LONGITUDE, 6));
+        double centerLatitude = (coarse.minLatitude() + coarse.maxLatitude()) / 2;
+        double centerLongitude = (coarse.minLongitude() + coarse.maxLongitude()) / 2;
+
+        // 약 100m 떨어진 두 점: 6자리 셀(약 1.2km x 0.6km)은 같고 8자리 셀(약 38m x 19m)은 다름
+        ReverseGeocodeCache coarseCache = cache(6, MAX_BYTES);
+        coarseCache.resolve(centerLatitude, centerLongitude, this::address);
+        coarseCache.resolve(centerLatitude + 0.0009, centerLongitude, this::address);
+        assertThat(calls).hasValue(1);
+
+        ReverseGeocodeCache fineCache = cache(8, MAX_BYTES);
+        fineCache.resolve(centerLatitude, centerLongitude, this::address);
+        fineCache.resolve(centerLatitude + 0.0009, centerLongitude, this::address);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void resolvedAddressExpiresAfterTtl() {
+        ReverseGeocodeCache cache = cache(PRECISION, MAX_BYTES);
+
+        cache.resolve(LATITUDE, LONGITUDE, this::address);
+        advance(TimeUnit.MINUTES.toNanos(TTL_MINUTES) - 1);
+        cache.resolve(LATITUDE, LONGITUDE, this::address);
+        assertThat(calls).hasValue(1);
+
+        advance(1);
+        cache.resolve(LATITUDE, LONGITUDE, this::address);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void failedLookupIsCachedForNegativeTtl() {
+        ReverseGeocodeCache cache = cache(PRECISION, MAX_BYTES);
+        ReverseGeocodeCache.AddressResolver failing = (latitude, longitude) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("geocoder down");
+        };
+
+        assertThat(cache.resolve(LATITUDE, LONGITUDE, failing)).isNull();
+        advance(TimeUnit.SECONDS.toNanos(NEGATIVE_TTL_SECONDS) - 1);
+        assertThat(cache.resolve(LATITUDE, LONGITUDE, failing)).isNull();
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("sos.geocode.lookup.failures").counter().count()).isEqualTo(1);
+
+        // 음성 TTL 이 지나면 다시 조회 (성공 TTL 보다 훨씬 짧음)
+        advance(1);
+        assertThat(cache.resolve(LATITUDE, LONGITUDE, this::address)).isNotNull();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void notFoundAddressUsesNegativeTtl() {
+        ReverseGeocodeCache cache = cache(PRECISION, MAX_BYTES);
+        ReverseGeocodeCache.AddressResolver notFound = (latitude, longitude) -> {
+            calls.incrementAndGet();
+            return null;
+        };
+
+        assertThat(cache.resolve(LATITUDE, LONGITUDE, notFound)).isNull();
+        advance(TimeUnit.SECONDS.toNanos(NEGATIVE_TTL_SECONDS));
+        assertThat(cache.resolve(LATITUDE, LONGITUDE, notFound)).isNull();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void evictionKeepsEstimatedBytesWithinLimit() {
+        long maxBytes = 2_000;
+        ReverseGeocodeCache cache = cache(PRECISION, maxBytes);
+
+        for (int i = 0; i < 500; i++) {
+            cache.resolve(LATITUDE + i * 0.01, LONGITUDE, this::address);
+        }
+        Cache<?, ?> entries = entries(cache);
+        entries.cleanUp();
+
+        assertThat(entries.policy().eviction().orElseThrow().weightedSize().orElseThrow())
+                .isLessThanOrEqualTo(maxBytes);
+        assertThat(entries.estimatedSize()).isPositive().isLessThan(500);
+    }
+
+    @Test
+    void concurrentRequestsForOneCellResolveOnce() throws Exception {
+        ReverseGeocodeCache cache = cache(PRECISION, MAX_BYTES);
+        GeoHash.Cell cell = GeoHash.cell(GeoHash.encode(LATITUDE, LONGITUDE, PRECISION));
+        double centerLatitude = (cell.minLatitude() + cell.maxLatitude()) / 2;
+        double centerLongitude = (cell.minLongitude() + cell.maxLongitude()) / 2;
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ReverseGeocodeCache.AddressResolver slow = (latitude, longitude) -> {
+            Thread.sleep(100);
+            return address(latitude, longitude);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                double offset = i * 1e-7;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.resolve(centerLatitude + offset, centerLongitude, slow);
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(cell.hash());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    private ReverseGeocodeCache cache(int precision, long maxBytes) {
+        return new ReverseGeocodeCache(meterRegistry, precision, maxBytes, TTL_MINUTES, NEGATIVE_TTL_SECONDS,
+                nanos::get);
+    }
+
+    /**
+     * 조회 횟수를 세고 셀 이름을 주소로 돌려주는 조회기
+     */
+    private String address(double latitude, double longitude) {
+        calls.incrementAndGet();
+        return GeoHash.encode(latitude, longitude, PRECISION);
+    }
+
+    private void advance(long deltaNanos) {
+        nanos.addAndGet(deltaNanos);
+    }
+
+    private static Cache<?, ?> entries(ReverseGeocodeCache cache) {
+        return (Cache<?, ?>) ReflectionTestUtils.getField(cache, "cache");
+    }
+}
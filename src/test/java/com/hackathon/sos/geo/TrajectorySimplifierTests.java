@@ -0,0 +1,199 @@
+package com.hackathon.sos.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 허용 거리 판정, 창 크기 한도(MAX_WINDOW) 경계, 처음/마지막 점 보존
+ */
+class TrajectorySimplifierTests {
+
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+    private static final double TOLERANCE = 10;
+
+    private final List<Fix> kept = new ArrayList<>();
+
+    @Test
+    void straightLineKeepsOnlyEndpoints() {
+        assertThat(simplify(TOLERANCE, line(100, 5, 0))).extracting(Fix::index).containsExactly(0, 99);
+    }
+
+    @Test
+    void singlePointIsKeptAndNothingIsPending() {
+        TrajectorySimplifier<Fix> simplifier = simplifier(TOLERANCE);
+        simplifier.accept(fix(0, 0, 0));
+
+        assertThat(simplifier.hasPending()).isFalse();
+        simplifier.finish();
+        assertThat(kept).extracting(Fix::index).containsExactly(0);
+    }
+
+    @Test
+    void stationaryPointsCollapseToEndpoints() {
+        List<Fix> fixes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            fixes.add(fix(i, 0, 0));
+        }
+
+        assertThat(simplify(TOLERANCE, fixes)).extracting(Fix::index).containsExactly(0, 49);
+    }
+
+    @Test
+    void deviationWithinToleranceIsDropped() {
+        List<Fix> fixes = List.of(fix(0, 0, 0), fix(1, 100, TOLERANCE * 0.9), fix(2, 200, 0));
+
+        assertThat(simplify(TOLERANCE, fixes)).extracting(Fix::index).containsExactly(0, 2);
+    }
+
+    @Test
+    void deviationBeyondToleranceIsKept() {
+        List<Fix> fixes = List.of(fix(0, 0, 0), fix(1, 100, TOLERANCE * 1.1), fix(2, 200, 0));
+
+        assertThat(simplify(TOLERANCE, fixes)).extracting(Fix::index).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void cornerOfTurnIsKept() {
+        List<Fix> fixes = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            fixes.add(fix(i, i * 20, 0));
+        }
+        for (int i = 1; i <= 10; i++) {
+            fixes.add(fix(10 + i, 200, i * 20));
+        }
+
+        assertThat(simplify(TOLERANCE, fixes)).extracting(Fix::index).containsExactly(0, 10, 20);
+    }
+
+    @Test
+    void fullWindowStaysOpenUntilOneMorePoint() {
+        // 기준점 이후 MAX_WINDOW 점까지는 한 창에 들어감
+        assertThat(simplify(TOLERANCE, line(TrajectorySimplifier.MAX_WINDOW + 1, 1, 0)))
+                .extracting(Fix::index).containsExactly(0, TrajectorySimplifier.MAX_WINDOW);
+    }
+
+    @Test
+    void pointBeyondWindowLimitForcesEmission() {
+        int max = TrajectorySimplifier.MAX_WINDOW;
+        TrajectorySimplifier<Fix> simplifier = simplifier(TOLERANCE);
+        List<Fix> fixes = line(2 * max + 2, 1, 0);
+
+        for (int i = 0; i <= max; i++) {
+            simplifier.accept(fixes.get(i));
+        }
+        assertThat(kept).extracting(Fix::index).containsExactly(0);
+
+        // 창이 가득 찬 뒤의 점은 직선 위에 있어도 창의 마지막 점을 남김
+        simplifier.accept(fixes.get(max + 1));
+        assertThat(kept).extracting(Fix::index).containsExactly(0, max);
+
+        for (int i = max + 2; i < fixes.size(); i++) {
+            simplifier.accept(fixes.get(i));
+        }
+        simplifier.finish();
+        assertThat(kept).extracting(Fix::index).containsExactly(0, max, 2 * max, 2 * max + 1);
+    }
+
+    @Test
+    void randomWalkStaysWithinToleranceAndKeepsEndpoints() {
+        Random random = new Random(20);
+        List<Fix> fixes = new ArrayList<>();
+        double east = 0;
+        double north = 0;
+        double heading = 0;
+        for (int i = 0; i < 5_000; i++) {
+            fixes.add(fix(i, east, north));
+            heading += (random.nextDouble() - 0.5) * 0.6;
+            double step = random.nextDouble() * 8;
+            east += Math.cos(heading) * step;
+            north += Math.sin(heading) * step;
+        }
+
+        TrajectorySimplifier<Fix> simplifier = simplifier(TOLERANCE);
+        for (Fix fix : fixes) {
+            int before = kept.size();
+            simplifier.accept(fix);
+            assertThat(kept.size() - before).isLessThanOrEqualTo(1);
+        }
+        simplifier.finish();
+
+        assertThat(kept.get(0)).isEqualTo(fixes.get(0));
+        assertThat(kept.get(kept.size() - 1)).isEqualTo(fixes.get(fixes.size() - 1));
+        assertThat(kept.size()).isLessThan(fixes.size() / 2);
+
+        // 버려진 점은 앞뒤로 남긴 두 점을 잇는 선분에서 허용 거리 안
+        for (int k = 1; k < kept.size(); k++) {
+            Fix start = kept.get(k - 1);
+            Fix end = kept.get(k);
+            assertThat(end.index()).isGreaterThan(start.index());
+            for (int i = start.index() + 1; i < end.index(); i++) {
+                assertThat(distanceToSegment(fixes.get(i), start, end))
+                        .as("point %d between %d and %d", i, start.index(), end.index())
+                        .isLessThanOrEqualTo(TOLERANCE + 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveTolerance() {
+        assertThatThrownBy(() -> simplifier(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> simplifier(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> simplifier(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Fix> simplify(double toleranceMeters, List<Fix> fixes) {
+        TrajectorySimplifier<Fix> simplifier = simplifier(toleranceMeters);
+        fixes.forEach(simplifier::accept);
+        simplifier.finish();
+        return kept;
+    }
+
+    private TrajectorySimplifier<Fix> simplifier(double toleranceMeters) {
+        return new TrajectorySimplifier<>(toleranceMeters, Fix::latitude, Fix::longitude, kept::add);
+    }
+
+    /**
+     * 동쪽으로 stepMeters 간격의 직선 (북쪽 offsetMeters)
+     */
+    private static List<Fix> line(int count, double stepMeters, double offsetMeters) {
+        List<Fix> fixes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fixes.add(fix(i, i * stepMeters, offsetMeters));
+        }
+        return fixes;
+    }
+
+    /**
+     * 기준 좌표에서 동/북쪽으로 미터만큼 떨어진 점
+     */
+    private static Fix fix(int index, double eastMeters, double northMeters) {
+        double latitude = LATITUDE + northMeters / METERS_PER_DEGREE;
+        double longitude = LONGITUDE + eastMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(LATITUDE)));
+        return new Fix(index, latitude, longitude);
+    }
+
+    /**
+     * 선분 시작점 주변 평면 투영에서의 점-선분 거리 (미터)
+     */
+    private static double distanceToSegment(Fix point, Fix start, Fix end) {
+        double cosLat = Math.cos(Math.toRadians(start.latitude()));
+        double endX = (end.longitude() - start.longitude()) * cosLat * METERS_PER_DEGREE;
+        double endY = (end.latitude() - start.latitude()) * METERS_PER_DEGREE;
+        double x = (point.longitude() - start.longitude()) * cosLat * METERS_PER_DEGREE;
+        double y = (point.latitude() - start.latitude()) * METERS_PER_DEGREE;
+        double lengthSquared = endX * endX + endY * endY;
+        double t = lengthSquared == 0 ? 0 : Math.clamp((x * endX + y * endY) / lengthSquared, 0.0, 1.0);
+        return Math.hypot(x - t * endX, y - t * endY);
+    }
+
+    private record Fix(int index, double latitude, double longitude) {
+    }
+}
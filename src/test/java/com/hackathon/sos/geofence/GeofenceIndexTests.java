@@ -0,0 +1,110 @@
+package com.hackathon.sos.geofence;
+
+import com.hackathon.sos.entity.Geofence;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 색인의 원/다각형 포함 판정
+ */
+class GeofenceIndexTests {
+
+    /** 위도 1도 거리 (GeofenceIndex 와 같은 지구 반지름) */
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+
+    @Test
+    void circleContainsPointsWithinRadius() {
+        GeofenceIndex index = GeofenceIndex.of(List.of(circle(1, 37.5, 127.0, 200)));
+
+        assertThat(index.containing(37.5, 127.0)).containsExactly(1);
+        assertThat(index.containing(37.5 + 150 / METERS_PER_DEGREE, 127.0)).containsExactly(1);
+        assertThat(index.containing(37.5 + 250 / METERS_PER_DEGREE, 127.0)).isEmpty();
+    }
+
+    @Test
+    void circleBoundaryUsesLongitudeScaledByLatitude() {
+        GeofenceIndex index = GeofenceIndex.of(List.of(circle(1, 60.0, 10.0, 1000)));
+        double metersPerLongitudeDegree = METERS_PER_DEGREE * Math.cos(Math.toRadians(60.0));
+
+        assertThat(index.containing(60.0, 10.0 + 999 / metersPerLongitudeDegree)).containsExactly(1);
+        assertThat(index.containing(60.0, 10.0 + 1001 / metersPerLongitudeDegree)).isEmpty();
+    }
+
+    @Test
+    void concavePolygonExcludesItsNotch() {
+        // ㄷ 모양: 가운데 오른쪽이 비어 있음
+        GeofenceIndex index = GeofenceIndex.of(List.of(polygon(1,
+                new double[]{37.50, 37.50, 37.51, 37.51, 37.52, 37.52, 37.53, 37.53},
+                new double[]{127.00, 127.03, 127.03, 127.01, 127.01, 127.03, 127.03, 127.00})));
+
+        assertThat(index.containing(37.505, 127.02)).containsExactly(1);
+        assertThat(index.containing(37.515, 127.005)).containsExactly(1);
+        assertThat(index.containing(37.515, 127.02)).isEmpty();
+        assertThat(index.containing(37.525, 127.02)).containsExactly(1);
+        assertThat(index.containing(37.54, 127.02)).isEmpty();
+    }
+
+    @Test
+    void polygonSpanningManyCellsMatchesAcrossCellEdges() {
+        double[] latitudes = {37.400, 37.400, 37.455, 37.455};
+        double[] longitudes = {126.900, 126.955, 126.955, 126.900};
+        GeofenceIndex index = GeofenceIndex.of(List.of(polygon(1, latitudes, longitudes)));
+
+        // 격자 칸 경계(0.01도 배수) 바로 양쪽
+        assertThat(index.containing(37.4199999, 126.9299999)).containsExactly(1);
+        assertThat(index.containing(37.4200001, 126.9300001)).containsExactly(1);
+        assertThat(index.containing(37.45, 126.96)).isEmpty();
+    }
+
+    @Test
+    void pointOnPolygonEdgeCountsOnceForSharedEdges() {
+        // 공유 변을 가진 두 사각형: 변 위의 점은 둘 중 한쪽에만 속함
+        GeofenceIndex index = GeofenceIndex.of(List.of(
+                polygon(1, new double[]{37.50, 37.50, 37.51, 37.51}, new double[]{127.00, 127.01, 127.01, 127.00}),
+                polygon(2, new double[]{37.50, 37.50, 37.51, 37.51}, new double[]{127.01, 127.02, 127.02, 127.01})));
+
+        assertThat(index.containing(37.505, 127.01)).hasSize(1);
+    }
+
+    @Test
+    void wideFenceIsAlwaysChecked() {
+        GeofenceIndex index = GeofenceIndex.of(List.of(circle(1, 37.5, 127.0, 20_000), circle(2, 37.5, 127.0, 50)));
+
+        assertThat(index.containing(37.5, 127.0)).containsExactly(1, 2);
+        assertThat(index.containing(37.6, 127.1)).containsExactly(1);
+        assertThat(index.containing(38.0, 127.0)).isEmpty();
+    }
+
+    @Test
+    void withAndWithoutReturnNewIndexes() {
+        GeofenceIndex index = GeofenceIndex.of(List.of(circle(1, 37.5, 127.0, 200)));
+
+        GeofenceIndex moved = index.with(circle(1, 35.1, 129.0, 200));
+        GeofenceIndex removed = index.without(1L);
+
+        assertThat(index.containing(37.5, 127.0)).containsExactly(1);
+        assertThat(moved.containing(37.5, 127.0)).isEmpty();
+        assertThat(moved.containing(35.1, 129.0)).containsExactly(1);
+        assertThat(removed).isSameAs(GeofenceIndex.EMPTY);
+        assertThat(index.without(99L)).isSameAs(index);
+    }
+
+    @Test
+    void resultIsSortedById() {
+        GeofenceIndex index = GeofenceIndex.of(List.of(
+                circle(30, 37.5, 127.0, 100), circle(10, 37.5, 127.0, 100), circle(20, 37.5, 127.0, 100)));
+
+        assertThat(index.containing(37.5, 127.0)).containsExactly(10, 20, 30);
+    }
+
+    static GeofenceIndex.Fence circle(long id, double latitude, double longitude, double radiusMeters) {
+        return GeofenceIndex.Fence.circle(id, "원" + id, Geofence.ZoneKind.SAFE, latitude, longitude, radiusMeters);
+    }
+
+    static GeofenceIndex.Fence polygon(long id, double[] latitudes, double[] longitudes) {
+        return GeofenceIndex.Fence.polygon(id, "다각형" + id, Geofence.ZoneKind.DANGER, latitudes, longitudes);
+    }
+}
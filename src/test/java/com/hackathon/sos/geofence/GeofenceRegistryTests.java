@@ -0,0 +1,146 @@
+package com.hackathon.sos.geofence;
+
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent.Transition;
+import com.hackathon.sos.event.GeofenceChangedEvent;
+import com.hackathon.sos.repository.GeofenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자별 진입 상태로 만드는 진입/이탈 판정
+ */
+class GeofenceRegistryTests {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    /** 중심 (37.5, 127.0), 반경 약 200m */
+    private static final double INSIDE_LATITUDE = 37.5;
+    private static final double OUTSIDE_LATITUDE = 37.51;
+
+    private GeofenceRepository geofenceRepository;
+    private GeofenceRegistry registry;
+    private final List<Geofence> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        geofenceRepository = mock(GeofenceRepository.class);
+        when(geofenceRepository.findByUserIdAndActiveTrueOrderByIdAsc(anyLong())).thenAnswer(invocation -> stored);
+        registry = new GeofenceRegistry(geofenceRepository, new SimpleMeterRegistry(), 100, 60);
+        stored.add(circle(10L, Geofence.ZoneKind.DANGER));
+    }
+
+    @Test
+    void firstPositionOnlySetsBaseline() {
+        assertThat(evaluate(INSIDE_LATITUDE, 0)).isEmpty();
+    }
+
+    @Test
+    void enterAndExitFollowConsecutivePositions() {
+        evaluate(OUTSIDE_LATITUDE, 0);
+
+        assertThat(evaluate(INSIDE_LATITUDE, 1)).singleElement()
+                .satisfies(crossing -> {
+                    assertThat(crossing.fence().id()).isEqualTo(10L);
+                    assertThat(crossing.transition()).isEqualTo(Transition.ENTER);
+                });
+        assertThat(evaluate(INSIDE_LATITUDE, 2)).isEmpty();
+        assertThat(evaluate(OUTSIDE_LATITUDE, 3)).singleElement()
+                .extracting(GeofenceRegistry.Crossing::transition).isEqualTo(Transition.EXIT);
+    }
+
+    @Test
+    void outOfOrderPositionIsIgnored() {
+        evaluate(OUTSIDE_LATITUDE, 0);
+        evaluate(INSIDE_LATITUDE, 10);
+
+        // 늦게 올라온 이전 기록은 상태를 바꾸지 않음
+        assertThat(evaluate(OUTSIDE_LATITUDE, 5)).isEmpty();
+        assertThat(evaluate(INSIDE_LATITUDE, 11)).isEmpty();
+        assertThat(evaluate(OUTSIDE_LATITUDE, 12)).singleElement()
+                .extracting(GeofenceRegistry.Crossing::transition).isEqualTo(Transition.EXIT);
+    }
+
+    @Test
+    void sameTimestampIsStillEvaluated() {
+        evaluate(OUTSIDE_LATITUDE, 0);
+
+        assertThat(evaluate(INSIDE_LATITUDE, 0)).hasSize(1);
+    }
+
+    @Test
+    void restoreRewindsStateSoCrossingIsReported() {
+        evaluate(OUTSIDE_LATITUDE, 0);
+        GeofenceRegistry.Checkpoint checkpoint = registry.checkpoint(USER_ID);
+        assertThat(evaluate(INSIDE_LATITUDE, 1)).hasSize(1);
+
+        registry.restore(checkpoint, T0.plusMinutes(1));
+
+        assertThat(evaluate(INSIDE_LATITUDE, 1)).hasSize(1);
+    }
+
+    @Test
+    void restoreKeepsStateAdvancedByLaterPositions() {
+        evaluate(OUTSIDE_LATITUDE, 0);
+        GeofenceRegistry.Checkpoint checkpoint = registry.checkpoint(USER_ID);
+        evaluate(INSIDE_LATITUDE, 1);
+        evaluate(INSIDE_LATITUDE, 2);
+
+        registry.restore(checkpoint, T0.plusMinutes(1));
+
+        assertThat(evaluate(INSIDE_LATITUDE, 3)).isEmpty();
+    }
+
+    @Test
+    void newFenceAroundCurrentPositionIsEnteredOnNextPosition() {
+        evaluate(INSIDE_LATITUDE, 0);
+
+        Geofence added = circle(20L, Geofence.ZoneKind.SAFE);
+        when(geofenceRepository.findById(20L)).thenReturn(Optional.of(added));
+        registry.onGeofenceChanged(new GeofenceChangedEvent(USER_ID, 20L));
+
+        assertThat(evaluate(INSIDE_LATITUDE, 1)).singleElement()
+                .satisfies(crossing -> {
+                    assertThat(crossing.fence().id()).isEqualTo(20L);
+                    assertThat(crossing.transition()).isEqualTo(Transition.ENTER);
+                });
+    }
+
+    @Test
+    void deletedFenceDoesNotProduceExit() {
+        evaluate(INSIDE_LATITUDE, 0);
+
+        when(geofenceRepository.findById(10L)).thenReturn(Optional.empty());
+        registry.onGeofenceChanged(new GeofenceChangedEvent(USER_ID, 10L));
+
+        assertThat(evaluate(OUTSIDE_LATITUDE, 1)).isEmpty();
+    }
+
+    private List<GeofenceRegistry.Crossing> evaluate(double latitude, int minutes) {
+        return registry.evaluate(USER_ID, latitude, 127.0, T0.plusMinutes(minutes));
+    }
+
+    private static Geofence circle(Long id, Geofence.ZoneKind kind) {
+        return Geofence.builder()
+                .id(id)
+                .name("구역" + id)
+                .kind(kind)
+                .shape(Geofence.Shape.CIRCLE)
+                .centerLatitude(37.5)
+                .centerLongitude(127.0)
+                .radiusMeters(200.0)
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.hackathon.sos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트용 OpenAI 스텁 서버 (loadtest 프로필 전용)
+ * /v1/chat/completions 요청에 설정된 지연 후 고정 분석 결과를 응답합니다
+ * openai.base-url 을 이 서버로 지정하면 실제 API 호출 없이 느린 OpenAI 상황을 재현할 수 있습니다
+ * 오류율(500 응답)과 느린 꼬리 지연(일부 요청만 slow-latency-ms)을 주입할 수 있고,
+ * 실행 중에는 /stub/config?latencyMs=&errorRate=&slowRate=&slowLatencyMs=&maxConcurrent= 로 값을 바꿔 장애 상황을 재현합니다
+ * 사용자 메시지에 id 가 붙은 JSON 배열이 있으면 배치 요청으로 보고 항목별 결과 배열을 응답하며,
+ * 항목이 늘수록 batch-item-latency-ms 만큼 지연이 늘어납니다 (출력 토큰 생성 시간)
+ * stream=true 요청에는 first-token-latency-ms 후 첫 조각을 보내고, 나머지 조각을 전체 지연 동안 나눠 SSE 로 보냅니다
+ * max-concurrent 를 넘는 동시 요청에는 429 를 응답해 공급자의 요청 수 제한을 재현합니다 (0 = 제한 없음)
+ */
+@Component
+@Profile("loadtest")
+public class StubOpenAIServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubOpenAIServer.class);
+
+    private static final String STUB_ANALYSIS =
+            "1. 상황의 종류: 응급의료\n2. 상황의 심각도: 높음\n3. 즉각적으로 필요한 조치: 119 신고 및 현장 확인";
+
+    /** 스트리밍 응답 한 청크의 글자 수 */
+    private static final int STREAM_CHUNK_CHARS = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${stub.openai.port}")
+    private int port;
+
+    @Value("${stub.openai.latency-ms}")
+    private volatile long latencyMs;
+
+    @Value("${stub.openai.error-rate}")
+    private volatile double errorRate;
+
+    @Value("${stub.openai.slow-rate}")
+    private volatile double slowRate;
+
+    @Value("${stub.openai.slow-latency-ms}")
+    private volatile long slowLatencyMs;
+
+    @Value("${stub.openai.batch-item-latency-ms}")
+    private volatile long batchItemLatencyMs;
+
+    @Value("${stub.openai.first-token-latency-ms}")
+    private volatile long firstTokenLatencyMs;
+
+    @Value("${stub.openai.max-concurrent}")
+    private volatile int maxConcurrent;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.createContext("/v1/chat/completions", this::handleChatCompletion);
+        server.createContext("/stub/config", this::handleConfig);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("OpenAI 스텁 서버 시작: port={}, latency={}ms, errorRate={}, slowRate={}, slowLatency={}ms",
+                port, latencyMs, errorRate, slowRate, slowLatencyMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode request = readRequest(exchange.getRequestBody().readAllBytes());
+            int batchSize = batchSize(request);
+            boolean stream = request.path("stream").asBoolean(false);
+
+            int limit = maxConcurrent;
+            if (inFlight.incrementAndGet() > limit && limit > 0) {
+                inFlight.decrementAndGet();
+                writeJson(exchange, 429, Map.of("error", Map.of(
+                        "message", "stub rate limit exceeded", "type", "rate_limit_error")));
+                return;
+            }
+
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long latency = random.nextDouble() < slowRate ? slowLatencyMs : latencyMs;
+                latency += batchItemLatencyMs * Math.max(0, batchSize - 1);
+                long firstToken = stream ? Math.min(firstTokenLatencyMs, latency) : latency;
+                sleep(firstToken);
+
+                if (random.nextDouble() < errorRate) {
+                    writeJson(exchange, 500, Map.of("error", Map.of(
+                            "message", "stub injected error", "type", "server_error")));
+                    return;
+                }
+
+                if (stream) {
+                    streamCompletion(exchange, latency - firstToken);
+                    return;
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            String content = batchSize > 0 ? batchContent(batchSize) : STUB_ANALYSIS;
+            Map<String, Object> body = Map.of(
+                    "id", "chatcmpl-stub",
+                    "object", "chat.completion",
+                    "created", System.currentTimeMillis() / 1000,
+                    "model", "stub",
+                    "choices", List.of(Map.of(
+                            "index", 0,
+                            "message", Map.of("role", "assistant", "content", content),
+                            "finish_reason", "stop")),
+                    "usage", Map.of("prompt_tokens", 0, "completion_tokens", 0, "total_tokens", 0));
+
+            writeJson(exchange, 200, body);
+        }
+    }
+
+    /**
+     * 실행 중 장애 주입 값 변경 (쿼리 파라미터로 받은 값만 변경, 현재 설정을 응답)
+     */
+    private void handleConfig(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    String[] keyValue = pair.split("=", 2);
+                    if (keyValue.length != 2) {
+                        continue;
+                    }
+                    switch (keyValue[0]) {
+                        case "latencyMs" -> latencyMs = Long.parseLong(keyValue[1]);
+                        case "errorRate" -> errorRate = Double.parseDouble(keyValue[1]);
+                        case "slowRate" -> slowRate = Double.parseDouble(keyValue[1]);
+                        case "slowLatencyMs" -> slowLatencyMs = Long.parseLong(keyValue[1]);
+                        case "batchItemLatencyMs" -> batchItemLatencyMs = Long.parseLong(keyValue[1]);
+                        case "firstTokenLatencyMs" -> firstTokenLatencyMs = Long.parseLong(keyValue[1]);
+                        case "maxConcurrent" -> maxConcurrent = Integer.parseInt(keyValue[1]);
+                        default -> {
+                        }
+                    }
+                }
+                logger.info("OpenAI 스텁 설정 변경: latency={}ms, errorRate={}, slowRate={}, slowLatency={}ms, " +
+                                "batchItemLatency={}ms, maxConcurrent={}",
+                        latencyMs, errorRate, slowRate, slowLatencyMs, batchItemLatencyMs, maxConcurrent);
+            }
+
+            writeJson(exchange, 200, Map.of("latencyMs", latencyMs, "errorRate", errorRate,
+                    "slowRate", slowRate, "slowLatencyMs", slowLatencyMs,
+                    "batchItemLatencyMs", batchItemLatencyMs, "maxConcurrent", maxConcurrent));
+        }
+    }
+
+    /**
+     * 스트리밍 응답: 분석 문구를 조각으로 나눠 remainingMs 동안 SSE 청크로 보내고 [DONE] 으로 종료
+     */
+    private void streamCompletion(HttpExchange exchange, long remainingMs) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        int pieces = (STUB_ANALYSIS.length() + STREAM_CHUNK_CHARS - 1) / STREAM_CHUNK_CHARS;
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < pieces; i++) {
+                if (i > 0) {
+                    sleep(remainingMs / pieces);
+                }
+                String piece = STUB_ANALYSIS.substring(i * STREAM_CHUNK_CHARS,
+                        Math.min(STUB_ANALYSIS.length(), (i + 1) * STREAM_CHUNK_CHARS));
+                writeChunk(out, Map.of("content", piece), null);
+            }
+            writeChunk(out, Map.of(), "stop");
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private void writeChunk(OutputStream out, Map<String, Object> delta, String finishReason) throws IOException {
+        Map<String, Object> choice = new HashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+
+        Map<String, Object> chunk = Map.of(
+                "id", "chatcmpl-stub",
+                "object", "chat.completion.chunk",
+                "created", System.currentTimeMillis() / 1000,
+                "model", "stub",
+                "choices", List.of(choice));
+
+        out.write(("data: " + objectMapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private JsonNode readRequest(byte[] requestBody) {
+        try {
+            return objectMapper.readTree(requestBody);
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    /**
+     * 마지막 사용자 메시지의 id 배열 항목 수 (배치 요청이 아니면 0)
+     */
+    private int batchSize(JsonNode request) {
+        try {
+            JsonNode messages = request.path("messages");
+            String content = messages.path(messages.size() - 1).path("content").asText("");
+            int start = content.indexOf("[{");
+            int end = content.lastIndexOf("}]");
+            if (start < 0 || end < start) {
+                return 0;
+            }
+            JsonNode items = objectMapper.readTree(content.substring(start, end + 2));
+            return items.isArray() && items.path(0).has("id") ? items.size() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private String batchContent(int batchSize) throws IOException {
+        List<Map<String, Object>> results = new ArrayList<>(batchSize);
+        for (int id = 0; id < batchSize; id++) {
+            results.add(Map.of("id", id, "analysis", STUB_ANALYSIS));
+        }
+        return objectMapper.writeValueAsString(results);
+    }
+
+    private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
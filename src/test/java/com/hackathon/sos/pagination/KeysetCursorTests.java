@@ -0,0 +1,65 @@
+package com.hackathon.sos.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 인코딩/해석 왕복, 잘못된 커서 거부, 페이지 크기 제한
+ */
+class KeysetCursorTests {
+
+    @Test
+    void encodedCursorDecodesToSameTimeAndId() {
+        for (KeysetCursor cursor : new KeysetCursor[]{
+                new KeysetCursor(LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_789), 42L),
+                // 초가 0 이면 LocalDateTime.toString 이 초를 생략함
+                new KeysetCursor(LocalDateTime.of(2026, 10, 18, 9, 30), Long.MAX_VALUE)}) {
+            String encoded = cursor.encode();
+
+            assertThat(encoded).doesNotContain("=", "+", "/");
+            assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void missingCursorIsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        for (String cursor : new String[]{
+                "not base64!",
+                encode("2026-10-18T09:30"),
+                encode("yesterday|42"),
+                encode("2026-10-18T09:30|abc"),
+                encode("|42")}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor)).as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 페이지 커서입니다");
+        }
+    }
+
+    @Test
+    void pageSizeIsClampedToRange() {
+        assertThat(KeysetCursor.pageSize(-5)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(0)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(1)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(20)).isEqualTo(20);
+        assertThat(KeysetCursor.pageSize(KeysetCursor.MAX_PAGE_SIZE)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+        assertThat(KeysetCursor.pageSize(KeysetCursor.MAX_PAGE_SIZE + 1)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+        assertThat(KeysetCursor.pageSize(Integer.MAX_VALUE)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.hackathon.sos.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회로 차단기 상태 전환 (CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN)
+ */
+class CircuitBreakerTests {
+
+    private static final long OPEN_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void staysClosedUntilMinimumCallsThenOpensOnFailureRate() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_NANOS, 2);
+
+        for (int i = 0; i < 3; i++) {
+            fail(breaker);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(breaker);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, OPEN_NANOS, 2);
+
+        fail(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        // 창: 실패 1 / 4
+        fail(breaker);
+        // 첫 실패가 빠져 여전히 실패 1 / 4
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(breaker);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAdmitsLimitedTrialCallsAndClosesWhenAllSucceed() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(OPEN_NANOS) + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenFailureReopens() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(OPEN_NANOS) + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void ignoredTrialCallReturnsHalfOpenSlot() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(1);
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(OPEN_NANOS) + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onIgnored();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static CircuitBreaker openBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, OPEN_NANOS, halfOpenCalls);
+        fail(breaker);
+        fail(breaker);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+    }
+
+    private static void succeed(CircuitBreaker breaker) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+    }
+}
@@ -0,0 +1,132 @@
+package com.hackathon.sos.resilience;
+
+import com.hackathon.sos.exception.AnalysisUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 헤지 요청 (먼저 성공한 응답 사용, 진 요청 취소, 헤지 승리 수) 과 회로 차단
+ */
+class ResilientOpenAiClientTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService callExecutor;
+    private ResilientOpenAiClient client;
+
+    @BeforeEach
+    void setUp() {
+        callExecutor = Executors.newCachedThreadPool();
+        client = new ResilientOpenAiClient(meterRegistry, callExecutor,
+                20, 10, 0.5, 30, 2,
+                10, 2, 50);
+        ReflectionTestUtils.setField(client, "hedgeEnabled", true);
+        ReflectionTestUtils.setField(client, "hedgePercentile", 0.95);
+        ReflectionTestUtils.setField(client, "hedgeMinDelayMs", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callExecutor.shutdownNow();
+    }
+
+    @Test
+    void slowPrimaryIsCancelledWhenHedgeWins() throws InterruptedException {
+        warmUp();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = client.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                    throw new IllegalStateException("취소됨");
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("sos.openai.hedges").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sos.openai.hedges.won").counter().count()).isEqualTo(1);
+        awaitNoInFlight();
+    }
+
+    @Test
+    void primaryWinIsNotCountedAsHedgeWin() throws InterruptedException {
+        warmUp();
+        CountDownLatch hedgeInterrupted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = client.execute(() -> {
+            try {
+                if (calls.incrementAndGet() == 1) {
+                    // 헤지가 시작된 뒤 원 요청이 먼저 끝남
+                    Thread.sleep(150);
+                    return "primary";
+                }
+                Thread.sleep(10_000);
+                return "hedge";
+            } catch (InterruptedException e) {
+                hedgeInterrupted.countDown();
+                throw new IllegalStateException("취소됨");
+            }
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedgeInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("sos.openai.hedges").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sos.openai.hedges.won").counter().count()).isZero();
+        awaitNoInFlight();
+    }
+
+    @Test
+    void failuresOpenCircuitAndRejectWithoutCalling() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> client.execute(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("500");
+            })).isInstanceOf(AnalysisUnavailableException.class);
+        }
+        assertThat(meterRegistry.get("sos.openai.circuit.state").gauge().value())
+                .isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+
+        assertThatThrownBy(() -> client.execute(() -> calls.incrementAndGet()))
+                .isInstanceOf(AnalysisUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(10);
+    }
+
+    /**
+     * 헤지 기준 백분위수를 쓸 수 있게 빠른 응답 표본을 채움
+     */
+    private void warmUp() {
+        for (int i = 0; i < 20; i++) {
+            client.execute(() -> "ok");
+        }
+    }
+
+    private void awaitNoInFlight() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.get("sos.openai.inflight").gauge().value() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("sos.openai.inflight").gauge().value()).isZero();
+    }
+}
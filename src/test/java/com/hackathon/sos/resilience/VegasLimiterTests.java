@@ -0,0 +1,83 @@
+package com.hackathon.sos.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 실행 한도 (기준 RTT 대비 대기열 추정으로 증감, 실패 시 곱셈 축소)
+ */
+class VegasLimiterTests {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void rejectsBeyondLimitAndReturnsSlots() {
+        VegasLimiter limiter = new VegasLimiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+
+        limiter.onIgnored();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void firstSampleOnlySetsBaseline() {
+        VegasLimiter limiter = new VegasLimiter(10, 1, 100);
+
+        complete(limiter, BASE_RTT);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void growsWhileRttStaysNearBaseline() {
+        VegasLimiter limiter = new VegasLimiter(10, 1, 100);
+        complete(limiter, BASE_RTT);
+
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, BASE_RTT);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(15);
+    }
+
+    @Test
+    void shrinksWhenRttShowsLongQueue() {
+        VegasLimiter limiter = new VegasLimiter(100, 1, 200);
+        complete(limiter, BASE_RTT);
+
+        // 대기열 추정 100 * (1 - 1/10) = 90 > beta(12)
+        complete(limiter, BASE_RTT * 10);
+
+        assertThat(limiter.limit()).isEqualTo(98);
+    }
+
+    @Test
+    void dropBacksOffMultiplicativelyDownToMinimum() {
+        VegasLimiter limiter = new VegasLimiter(10, 8, 100);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onDropped();
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onDropped();
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onDropped();
+        assertThat(limiter.limit()).isEqualTo(8);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static void complete(VegasLimiter limiter, long rttNanos) {
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onSuccess(rttNanos);
+    }
+}
@@ -0,0 +1,104 @@
+package com.hackathon.sos.security;
+
+import com.hackathon.sos.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 발급/검증과 클레임 파싱
+ */
+class JwtTokenProviderTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-0123456789";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = provider(SECRET, 60_000);
+    }
+
+    @Test
+    void parsedTokenCarriesIssuedClaims() {
+        String token = provider.generateToken(authentication(42L, "alice", User.UserRole.ADMIN, 3));
+
+        UserPrincipal principal = provider.parseToken(token).orElseThrow();
+
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(principal.getRole()).isEqualTo(User.UserRole.ADMIN);
+        assertThat(principal.getTokenVersion()).isEqualTo(3);
+        assertThat(principal.getTokenId()).isNotBlank();
+        assertThat(principal.getTokenExpiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThat(principal.getPassword()).isNull();
+    }
+
+    @Test
+    void eachTokenGetsItsOwnId() {
+        UsernamePasswordAuthenticationToken authentication = authentication(1L, "bob", User.UserRole.USER, 0);
+
+        String first = provider.parseToken(provider.generateToken(authentication)).orElseThrow().getTokenId();
+        String second = provider.parseToken(provider.generateToken(authentication)).orElseThrow().getTokenId();
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String token = provider("other-secret-other-secret-other-secret-other-secret-012345", 60_000)
+                .generateToken(authentication(1L, "bob", User.UserRole.USER, 0));
+
+        assertThat(provider.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = provider(SECRET, -1_000).generateToken(authentication(1L, "bob", User.UserRole.USER, 0));
+
+        assertThat(provider.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    void malformedOrEmptyTokenIsRejected() {
+        assertThat(provider.parseToken("not-a-jwt")).isEmpty();
+        assertThat(provider.parseToken("")).isEmpty();
+    }
+
+    @Test
+    void tokenWithoutUserClaimsIsRejected() {
+        String legacy = Jwts.builder()
+                .subject("bob")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        Optional<UserPrincipal> principal = provider.parseToken(legacy);
+
+        assertThat(principal).isEmpty();
+    }
+
+    private static JwtTokenProvider provider(String secret, long expiration) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", expiration);
+        provider.init();
+        return provider;
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(Long id, String username,
+                                                                      User.UserRole role, int version) {
+        return new UsernamePasswordAuthenticationToken(
+                UserPrincipal.fromToken(id, username, role, version, null, 0), null);
+    }
+}
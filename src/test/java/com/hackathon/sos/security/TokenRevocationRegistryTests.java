@@ -0,0 +1,109 @@
+package com.hackathon.sos.security;
+
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 폐기와 계정 토큰 버전 확인
+ */
+class TokenRevocationRegistryTests {
+
+    private static final int MAX_REVOKED = 3;
+
+    private UserRepository userRepository;
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenVersionById(anyLong())).thenReturn(Optional.of(0));
+        registry = new TokenRevocationRegistry(userRepository, new SimpleMeterRegistry(), MAX_REVOKED, 100, 10);
+    }
+
+    @Test
+    void revokedTokenIsRejected() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertThat(registry.isActive(principal("jti-1", 0, expiresAt))).isTrue();
+        assertThat(registry.revoke("jti-1", expiresAt)).isTrue();
+
+        assertThat(registry.isActive(principal("jti-1", 0, expiresAt))).isFalse();
+        assertThat(registry.isActive(principal("jti-2", 0, expiresAt))).isTrue();
+    }
+
+    @Test
+    void fullRegistryRefusesInsteadOfForgettingRevokedTokens() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < MAX_REVOKED; i++) {
+            assertThat(registry.revoke("jti-" + i, expiresAt)).isTrue();
+        }
+
+        assertThat(registry.revoke("jti-overflow", expiresAt)).isFalse();
+
+        for (int i = 0; i < MAX_REVOKED; i++) {
+            assertThat(registry.isActive(principal("jti-" + i, 0, expiresAt))).isFalse();
+        }
+    }
+
+    @Test
+    void alreadyExpiredTokenNeedsNoEntry() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < MAX_REVOKED; i++) {
+            registry.revoke("jti-" + i, expiresAt);
+        }
+
+        assertThat(registry.revoke("jti-expired", System.currentTimeMillis() - 1)).isTrue();
+        assertThat(registry.revoke(null, expiresAt)).isTrue();
+    }
+
+    @Test
+    void expiredEntriesFreeRoom() throws InterruptedException {
+        long soon = System.currentTimeMillis() + 200;
+        for (int i = 0; i < MAX_REVOKED; i++) {
+            registry.revoke("jti-" + i, soon);
+        }
+        assertThat(registry.revoke("jti-next", System.currentTimeMillis() + 60_000)).isFalse();
+
+        // 만료 항목은 Caffeine 타이머 휠 간격(약 1초) 단위로 정리됨
+        long deadline = System.currentTimeMillis() + 5_000;
+        boolean revoked = false;
+        while (!revoked && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            revoked = registry.revoke("jti-next", System.currentTimeMillis() + 60_000);
+        }
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    void bumpedVersionRejectsOlderTokens() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        assertThat(registry.isActive(principal("jti-1", 0, expiresAt))).isTrue();
+
+        registry.updateVersion(1L, 1);
+
+        assertThat(registry.isActive(principal("jti-1", 0, expiresAt))).isFalse();
+        assertThat(registry.isActive(principal("jti-2", 1, expiresAt))).isTrue();
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        when(userRepository.findTokenVersionById(2L)).thenReturn(Optional.empty());
+
+        assertThat(registry.isActive(UserPrincipal.fromToken(2L, "gone", User.UserRole.USER, 0, "jti",
+                System.currentTimeMillis() + 60_000))).isFalse();
+    }
+
+    private static UserPrincipal principal(String tokenId, int version, long expiresAt) {
+        return UserPrincipal.fromToken(1L, "alice", User.UserRole.USER, version, tokenId, expiresAt);
+    }
+}
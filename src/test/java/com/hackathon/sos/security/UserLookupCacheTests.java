@@ -0,0 +1,118 @@
+package com.hackathon.sos.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장치 ID/사용자명이 바뀐 사용자의 이전 항목을 역색인으로 지우고, 역색인이 캐시 크기를 넘지 않는지 확인
+ */
+class UserLookupCacheTests {
+
+    private static final int MAX_ENTRIES = 3;
+
+    private UserRepository userRepository;
+    private UserLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findDeviceOwner(anyString()))
+                .thenAnswer(invocation -> Optional.of(owner(invocation.getArgument(0))));
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        cache = new UserLookupCache(userRepository, new SimpleMeterRegistry(), MAX_ENTRIES, 10, 10);
+    }
+
+    @Test
+    void changedDeviceIdEvictsPreviousDeviceEntry() {
+        cache.findDeviceOwner("dev-1");
+        cache.findDeviceOwner("dev-1");
+        verify(userRepository, times(1)).findDeviceOwner("dev-1");
+
+        // 저장된 엔티티에는 새 장치 ID만 있음
+        cache.evict(user(1L, "hong", "dev-new"));
+
+        cache.findDeviceOwner("dev-1");
+        verify(userRepository, times(2)).findDeviceOwner("dev-1");
+        assertThat(indexed("deviceIdsByUser")).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void changedUsernameEvictsPreviousLoginEntry() {
+        when(userRepository.findByUsername("old-name")).thenReturn(Optional.of(user(1L, "old-name", null)));
+        cache.findUserDetails("old-name");
+        cache.findUserDetails("old-name");
+        verify(userRepository, times(1)).findByUsername("old-name");
+
+        cache.evictUserDetails(1L, "new-name");
+
+        cache.findUserDetails("old-name");
+        verify(userRepository, times(2)).findByUsername("old-name");
+    }
+
+    @Test
+    void evictLeavesOtherUsersCached() {
+        cache.findDeviceOwner("dev-7");
+        cache.findDeviceOwner("dev-8");
+
+        cache.evict(user(7L, "seven", "dev-7"));
+
+        cache.findDeviceOwner("dev-7");
+        cache.findDeviceOwner("dev-8");
+        verify(userRepository, times(2)).findDeviceOwner("dev-7");
+        verify(userRepository, times(1)).findDeviceOwner("dev-8");
+    }
+
+    @Test
+    void sizeEvictionAlsoDropsIndexEntries() {
+        for (int i = 1; i <= 20; i++) {
+            cache.findDeviceOwner("dev-" + i);
+        }
+        deviceOwners().cleanUp();
+
+        assertThat(deviceOwners().estimatedSize()).isLessThanOrEqualTo(MAX_ENTRIES);
+        assertThat(indexed("deviceIdsByUser")).hasSizeLessThanOrEqualTo(MAX_ENTRIES);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Optional<DeviceOwner>> deviceOwners() {
+        return (Cache<String, Optional<DeviceOwner>>) ReflectionTestUtils.getField(cache, "deviceOwners");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> indexed(String field) {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(ReflectionTestUtils.getField(cache, field), "keys");
+    }
+
+    /**
+     * "dev-{userId}" 장치의 소유자
+     */
+    private static DeviceOwner owner(String deviceId) {
+        return new DeviceOwner(deviceId, Long.parseLong(deviceId.substring("dev-".length())), "사용자", null);
+    }
+
+    private static User user(Long id, String username, String deviceId) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .password("unused")
+                .deviceId(deviceId)
+                .role(User.UserRole.USER)
+                .active(true)
+                .build();
+    }
+}
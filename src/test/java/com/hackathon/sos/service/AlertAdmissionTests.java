@@ -0,0 +1,210 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.alert.OpenAlertRegistry;
+import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.request.LocationPingRequest;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.exception.RateLimitExceededException;
+import com.hackathon.sos.exception.ResourceNotFoundException;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 허용량 초과 신고의 접수/거절 (진행 중 알림이 없는 등록 장치는 키워드 분류만으로 접수), 위치 기록 업로드의 별도 허용량
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class AlertAdmissionTests {
+
+    private static final int DEVICE_CAPACITY = 10;
+    private static final int IP_CAPACITY = 60;
+    private static final int PING_DEVICE_CAPACITY = 6;
+    private static final int PING_IP_CAPACITY = 30;
+
+    @Autowired
+    private EmergencyService emergencyService;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private AlertAdmissionController alertAdmissionController;
+
+    @Autowired
+    private OpenAlertRegistry openAlertRegistry;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String deviceId;
+
+    @BeforeEach
+    void setUp() {
+        String username = "ad" + UUID.randomUUID().toString().substring(0, 8);
+        deviceId = "dev-" + username;
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("허용량")
+                .deviceId(deviceId)
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitPipeline();
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id IN "
+                + "(SELECT id FROM emergency_alerts WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM emergency_alerts WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void drainedDeviceBucketStillAdmitsFirstPressWithKeywordsOnly() throws InterruptedException {
+        // 장치 ID를 알아낸 누군가가 버킷을 비운 상태
+        for (int i = 0; i < DEVICE_CAPACITY; i++) {
+            assertThat(alertAdmissionController.checkDevice(deviceId).exceeded()).isFalse();
+        }
+
+        EmergencyAlertResponse admitted = emergencyService.createEmergencyAlert(press(), null);
+        assertThat(admitted.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD_DEGRADED);
+
+        // 진행 중 알림이 생긴 뒤의 초과 신고는 거절
+        awaitOpenAlert();
+        assertThatThrownBy(() -> emergencyService.createEmergencyAlert(press(), null))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void deviceBehindBusyIpIsAdmitted() {
+        String clientIp = drainedClientIp();
+
+        EmergencyAlertResponse admitted = emergencyService.createEmergencyAlert(press(), clientIp);
+
+        assertThat(admitted.getId()).isNotNull();
+        assertThat(admitted.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD_DEGRADED);
+    }
+
+    @Test
+    void unknownDeviceIsRejectedByIpLimitWithoutDeviceBucket() {
+        String unknown = "unknown-" + UUID.randomUUID();
+
+        assertThatThrownBy(() -> emergencyService.createEmergencyAlert(press(unknown), freshClientIp()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> emergencyService.createEmergencyAlert(press(unknown), drainedClientIp()))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void pingsOverDeviceLimitAreRejectedWithoutUsingAlertTokens() {
+        for (int i = 0; i < PING_DEVICE_CAPACITY; i++) {
+            assertThat(locationService.savePings(ping(deviceId), null).getAccepted()).isLessThanOrEqualTo(1);
+        }
+
+        assertThatThrownBy(() -> locationService.savePings(ping(deviceId), null))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // 위치 기록은 알림용 장치 버킷을 비우지 않음
+        for (int i = 0; i < DEVICE_CAPACITY; i++) {
+            assertThat(alertAdmissionController.checkDevice(deviceId).exceeded()).isFalse();
+        }
+    }
+
+    @Test
+    void pingFromBusyIpIsRejectedBeforeDeviceLookup() {
+        String clientIp = freshClientIp();
+        for (int i = 0; i < PING_IP_CAPACITY; i++) {
+            alertAdmissionController.checkPingClient(clientIp);
+        }
+
+        assertThatThrownBy(() -> locationService.savePings(ping("unknown-" + UUID.randomUUID()), clientIp))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(alertAdmissionController.checkClient(clientIp).exceeded()).isFalse();
+    }
+
+    private String drainedClientIp() {
+        String clientIp = freshClientIp();
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            alertAdmissionController.checkClient(clientIp);
+        }
+        assertThat(alertAdmissionController.checkClient(clientIp).exceeded()).isTrue();
+        return clientIp;
+    }
+
+    /** 다른 테스트와 버킷이 겹치지 않는 발신 주소 (버킷 키로만 쓰임) */
+    private static String freshClientIp() {
+        return "client-" + UUID.randomUUID();
+    }
+
+    private EmergencyAlertRequest press() {
+        return press(deviceId);
+    }
+
+    private static EmergencyAlertRequest press(String deviceId) {
+        return EmergencyAlertRequest.builder()
+                .deviceId(deviceId)
+                .latitude(37.5)
+                .longitude(127.0)
+                .audioTranscript("무슨 일인지 잘 모르겠어요 " + UUID.randomUUID())
+                .build();
+    }
+
+    private static LocationPingRequest ping(String deviceId) {
+        return LocationPingRequest.builder()
+                .deviceId(deviceId)
+                .points(List.of(LocationPingRequest.Point.builder()
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .timestamp(System.currentTimeMillis())
+                        .build()))
+                .build();
+    }
+
+    private void awaitOpenAlert() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (openAlertRegistry.find(user.getId(), null, null).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * 정리 전에 비동기 파이프라인이 끝나기를 기다림
+     */
+    private void awaitPipeline() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<EmergencyAlert> alerts = emergencyAlertRepository.findPageByUserId(user.getId(), PageRequest.of(0, 10));
+            if (alerts.stream().allMatch(alert -> alert.getNotifyStatus().isFinished())) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.hackathon.sos.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기 시간 안에 들어온 분석 요청이 OpenAI 스텁 서버에 한 번의 배치 요청으로 묶이고 항목별로 나뉘어 돌아오는지 확인
+ */
+@SpringBootTest(properties = {
+        "analysis.batch.enabled=true",
+        "analysis.batch.window-ms=300",
+        "analysis.batch.max-size=8",
+        "analysis.cache.enabled=false",
+        "stub.openai.port=18182",
+        "openai.base-url=http://127.0.0.1:18182/",
+        "stub.openai.latency-ms=100",
+        "stub.openai.batch-item-latency-ms=10"
+})
+@ActiveProfiles({"dev", "test", "loadtest"})
+class AnalysisBatchingTests {
+
+    @Autowired
+    private AIAnalysisService aiAnalysisService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("batchTimerScheduler")
+    private ThreadPoolTaskScheduler batchTimerScheduler;
+
+    @Test
+    void transcriptsWithinWindowShareOneRequest() throws Exception {
+        DistributionSummary batchSizes = meterRegistry.get("sos.analysis.batch.size").summary();
+        long batchesBefore = batchSizes.count();
+        long timerRunsBefore = batchTimerScheduler.getScheduledThreadPoolExecutor().getCompletedTaskCount();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(aiAnalysisService.analyzeAsync("살려주세요 숨을 못 쉬어요 " + i));
+        }
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).contains("응급의료");
+        }
+        assertThat(batchSizes.count()).isEqualTo(batchesBefore + 1);
+        assertThat(batchSizes.max()).isEqualTo(5);
+        // 창이 끝날 때의 처리는 Spring 이 관리하는 스케줄러에서 실행됨
+        assertThat(batchTimerScheduler.getScheduledThreadPoolExecutor().getCompletedTaskCount())
+                .isGreaterThan(timerRunsBefore);
+    }
+}
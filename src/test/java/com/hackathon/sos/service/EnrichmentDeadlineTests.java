@@ -0,0 +1,178 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.EmergencyAlert.StageStatus;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보강 마감 시간: GPT 분석이 늦으면 대체 문구로 분류하고 늦은 소요 시간을 기록, 역지오코딩이 거절되면 시간 초과와 구분해 기록
+ */
+@SpringBootTest(properties = {
+        "alert.pipeline.enrichment.deadline-ms=300",
+        "alert.pipeline.geocode.pool-size=1",
+        "alert.pipeline.geocode.queue-capacity=1",
+        "analysis.batch.enabled=false",
+        "analysis.cache.enabled=false",
+        "stub.openai.port=18183",
+        "openai.base-url=http://127.0.0.1:18183/",
+        "stub.openai.latency-ms=2500"
+})
+@ActiveProfiles({"dev", "test", "loadtest"})
+class EnrichmentDeadlineTests {
+
+    private static final String UNCLASSIFIED_TRANSCRIPT = "여기가 어디인지 잘 모르겠어요 창밖에 큰 건물이 보여요";
+
+    @Autowired
+    private EmergencyService emergencyService;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("geocodeExecutor")
+    private ThreadPoolTaskExecutor geocodeExecutor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "dl" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("마감시간")
+                .deviceId("dev-" + username)
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        awaitAlerts(alert -> alert.getNotifyStatus().isFinished() && alert.getAnalysisMillis() != null);
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id IN "
+                + "(SELECT id FROM emergency_alerts WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM emergency_alerts WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void slowAnalysisIsClassifiedWithFallbackAndLateTimingIsRecorded() throws Exception {
+        EmergencyAlertResponse created = press(UNCLASSIFIED_TRANSCRIPT);
+        assertThat(created.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD_PROVISIONAL);
+
+        // 마감 시간이 지나면 GPT 분석 없이 분류 단계가 끝남
+        EmergencyAlert classified = await(created.getId(), alert -> alert.getClassifyStatus().isFinished());
+        assertThat(classified.getClassifyStatus()).isEqualTo(StageStatus.TIMED_OUT);
+        assertThat(classified.getEnrichStatus()).isEqualTo(StageStatus.TIMED_OUT);
+        assertThat(classified.getSituationAnalysis()).contains("시간 초과");
+        assertThat(classified.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD);
+        assertThat(classified.getGeocodeMillis()).isNotNull();
+        assertThat(classified.getAnalysisMillis()).isNull();
+
+        // 늦게 끝난 분석의 소요 시간은 완료 시점에 기록됨
+        EmergencyAlert late = await(created.getId(), alert -> alert.getAnalysisMillis() != null);
+        assertThat(late.getAnalysisMillis()).isGreaterThanOrEqualTo(300L);
+    }
+
+    @Test
+    void rejectedGeocodeIsRecordedSeparatelyFromTimeout() throws Exception {
+        double rejectedBefore = meterRegistry.counter("sos.alerts.pipeline.rejected", "stage", "geocode").count();
+
+        // 역지오코딩 스레드 하나와 큐 한 칸을 막아 둠
+        CountDownLatch blocked = new CountDownLatch(1);
+        geocodeExecutor.execute(() -> {
+            blocked.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        geocodeExecutor.execute(() -> awaitQuietly(release));
+
+        EmergencyAlertResponse created = press(null);
+
+        EmergencyAlert classified = await(created.getId(), alert -> alert.getEnrichStatus().isFinished());
+        assertThat(classified.getEnrichStatus()).isEqualTo(StageStatus.REJECTED);
+        assertThat(classified.getAddress()).startsWith("좌표:");
+        assertThat(classified.getGeocodeMillis()).isNull();
+        assertThat(meterRegistry.counter("sos.alerts.pipeline.rejected", "stage", "geocode").count())
+                .isEqualTo(rejectedBefore + 1);
+    }
+
+    private EmergencyAlertResponse press(String transcript) {
+        return emergencyService.createEmergencyAlert(EmergencyAlertRequest.builder()
+                .deviceId(user.getDeviceId())
+                .latitude(37.5)
+                .longitude(127.0)
+                .audioTranscript(transcript)
+                .build(), null);
+    }
+
+    private EmergencyAlert await(Long alertId, Predicate<EmergencyAlert> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        EmergencyAlert alert = emergencyAlertRepository.findById(alertId).orElseThrow();
+        while (!condition.test(alert) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            alert = emergencyAlertRepository.findById(alertId).orElseThrow();
+        }
+        return alert;
+    }
+
+    /**
+     * 정리 전에 늦게 끝나는 분석 기록까지 기다림 (음성 없는 알림은 알림 단계까지만)
+     */
+    private void awaitAlerts(Predicate<EmergencyAlert> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            boolean done = emergencyAlertRepository.findPageByUserId(user.getId(), PageRequest.of(0, 10)).stream()
+                    .allMatch(alert -> alert.getAudioTranscript() == null
+                            ? alert.getNotifyStatus().isFinished() : condition.test(alert));
+            if (done) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
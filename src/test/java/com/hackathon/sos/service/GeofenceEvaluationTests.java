@@ -0,0 +1,102 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.GeofenceEventRepository;
+import com.hackathon.sos.repository.GeofenceRepository;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지오펜스 판정은 위치 저장이 커밋된 뒤에만 하므로, 롤백된 위치가 진입을 먼저 소비하지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class GeofenceEvaluationTests {
+
+    private static final double OUTSIDE_LATITUDE = 37.51;
+    private static final double INSIDE_LATITUDE = 37.5;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GeofenceRepository geofenceRepository;
+
+    @Autowired
+    private GeofenceEventRepository geofenceEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "gf" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("지오펜스")
+                .role(User.UserRole.USER)
+                .build());
+        geofenceRepository.save(Geofence.builder()
+                .user(user)
+                .name("위험")
+                .kind(Geofence.ZoneKind.DANGER)
+                .shape(Geofence.Shape.CIRCLE)
+                .centerLatitude(INSIDE_LATITUDE)
+                .centerLongitude(127.0)
+                .radiusMeters(200.0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM geofence_events WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM geofences WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void rolledBackLocationDoesNotConsumeEntry() {
+        locationService.saveLocationHistory(user, OUTSIDE_LATITUDE, 127.0, null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            locationService.saveLocationHistory(user, INSIDE_LATITUDE, 127.0, null);
+            status.setRollbackOnly();
+        });
+        assertThat(events()).isEmpty();
+
+        locationService.saveLocationHistory(user, INSIDE_LATITUDE, 127.0, null);
+
+        assertThat(events()).singleElement()
+                .extracting(GeofenceEvent::getTransition).isEqualTo(GeofenceEvent.Transition.ENTER);
+    }
+
+    private List<GeofenceEvent> events() {
+        return geofenceEventRepository.findPageByUserId(user.getId(), PageRequest.of(0, 10));
+    }
+}
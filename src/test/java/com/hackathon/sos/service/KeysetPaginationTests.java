@@ -0,0 +1,176 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.dto.response.CursorPageResponse;
+import com.hackathon.sos.dto.response.GeofenceEventResponse;
+import com.hackathon.sos.dto.response.LocationHistoryResponse;
+import com.hackathon.sos.entity.Geofence;
+import com.hackathon.sos.entity.GeofenceEvent;
+import com.hackathon.sos.entity.LocationHistory;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.pagination.KeysetCursor;
+import com.hackathon.sos.repository.GeofenceEventRepository;
+import com.hackathon.sos.repository.LocationHistoryRepository;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋 페이지 넘김: 같은 시각 행은 ID 로 이어 빠짐/중복이 없고, 기간 조회 커서는 endDate 를 넘지 못함
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class KeysetPaginationTests {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Autowired
+    private GeofenceService geofenceService;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private GeofenceEventRepository geofenceEventRepository;
+
+    @Autowired
+    private LocationHistoryRepository locationHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "pg" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("페이지")
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM geofence_events WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void equalTimestampsArePagedByIdWithoutGapsOrRepeats() {
+        // 같은 시각 5건이 페이지 경계(2건)에 걸치도록 배치
+        List<GeofenceEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(event(TIME));
+        }
+        events.add(event(TIME.minusMinutes(1)));
+        events.add(event(TIME.minusMinutes(1)));
+        events = geofenceEventRepository.saveAll(events);
+        List<Long> expected = events.stream()
+                .sorted(Comparator.comparing(GeofenceEvent::getOccurredAt).thenComparing(GeofenceEvent::getId)
+                        .reversed())
+                .map(GeofenceEvent::getId)
+                .toList();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<GeofenceEventResponse> page = geofenceService.getGeofenceEvents(user.getId(), 2, cursor);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void pageEndingExactlyOnLastRowHasNoNext() {
+        geofenceEventRepository.saveAll(List.of(event(TIME), event(TIME), event(TIME), event(TIME)));
+
+        CursorPageResponse<GeofenceEventResponse> first = geofenceService.getGeofenceEvents(user.getId(), 2, null);
+        CursorPageResponse<GeofenceEventResponse> second =
+                geofenceService.getGeofenceEvents(user.getId(), 2, first.getNextCursor());
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void requestedPageSizeIsClamped() {
+        geofenceEventRepository.saveAll(List.of(event(TIME), event(TIME)));
+
+        CursorPageResponse<GeofenceEventResponse> page = geofenceService.getGeofenceEvents(user.getId(), 0, null);
+
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(geofenceService.getGeofenceEvents(user.getId(), 1_000, null).getSize())
+                .isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void cursorPastEndDateDoesNotReadBeyondRange() {
+        locationHistoryRepository.saveAll(List.of(
+                location(TIME.minusHours(2)), location(TIME.minusHours(1)), location(TIME)));
+        LocalDateTime startDate = TIME.minusHours(3);
+        LocalDateTime endDate = TIME.minusMinutes(30);
+        String crafted = new KeysetCursor(TIME.plusHours(1), Long.MAX_VALUE).encode();
+
+        CursorPageResponse<LocationHistoryResponse> page = locationService.getLocationHistoryByDateRange(
+                user.getId(), startDate, endDate, 10, crafted, null, null);
+        CursorPageResponse<LocationHistoryResponse> route = locationService.getLocationHistoryByDateRange(
+                user.getId(), startDate, endDate, 10, crafted, null, 60);
+
+        assertThat(page.getItems()).extracting(LocationHistoryResponse::getRecordedAt)
+                .containsExactly(TIME.minusHours(1), TIME.minusHours(2));
+        assertThat(route.getItems()).extracting(LocationHistoryResponse::getRecordedAt)
+                .containsExactly(TIME.minusHours(1), TIME.minusHours(2));
+    }
+
+    private GeofenceEvent event(LocalDateTime occurredAt) {
+        return GeofenceEvent.builder()
+                .user(user)
+                .geofenceId(1L)
+                .geofenceName("위험")
+                .kind(Geofence.ZoneKind.DANGER)
+                .transition(GeofenceEvent.Transition.ENTER)
+                .latitude(37.5)
+                .longitude(127.0)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    private LocationHistory location(LocalDateTime recordedAt) {
+        return LocationHistory.builder()
+                .user(user)
+                .latitude(37.5)
+                .longitude(127.0)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.entity.LocationHistory;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.exception.RateLimitExceededException;
+import com.hackathon.sos.repository.LocationHistoryRepository;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 위치 기록 내보내기 (측정 시각 순 NDJSON, 동시 내보내기 한도)
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class LocationExportServiceTests {
+
+    @Autowired
+    private LocationExportService locationExportService;
+
+    @Autowired
+    private LocationHistoryRepository locationHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${location.export.max-concurrent}")
+    private int maxConcurrent;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "ex" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("내보내기")
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void exportWritesLocationsInRecordedOrder() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+        List<LocationHistory> locations = new ArrayList<>();
+        for (int i = 2; i >= 0; i--) {
+            locations.add(LocationHistory.builder()
+                    .user(user)
+                    .latitude(37.5 + i * 0.001)
+                    .longitude(127.0)
+                    .recordedAt(base.plusMinutes(i))
+                    .build());
+        }
+        locationHistoryRepository.saveAllAndFlush(locations);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = locationExportService.export(user.getId(), base, base.plusHours(1),
+                LocationExportService.ExportFormat.NDJSON, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains(base.toString());
+        assertThat(lines[2]).contains(base.plusMinutes(2).toString());
+    }
+
+    @Test
+    void concurrentExportsAreCappedUntilPermitIsReturned() {
+        List<LocationExportService.ExportPermit> permits = new ArrayList<>();
+        try {
+            for (int i = 0; i < maxConcurrent; i++) {
+                permits.add(locationExportService.reserve());
+            }
+            assertThatThrownBy(() -> locationExportService.reserve())
+                    .isInstanceOf(RateLimitExceededException.class);
+
+            // 두 번 닫아도 자리는 하나만 반납
+            permits.get(0).close();
+            permits.get(0).close();
+            permits.set(0, locationExportService.reserve());
+            assertThatThrownBy(() -> locationExportService.reserve())
+                    .isInstanceOf(RateLimitExceededException.class);
+        } finally {
+            permits.forEach(LocationExportService.ExportPermit::close);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.NotificationOutbox;
+import com.hackathon.sos.entity.NotificationOutbox.DeliveryStatus;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.NotificationOutboxRepository;
+import com.hackathon.sos.repository.UserRepository;
+import com.hackathon.sos.service.NotificationOutboxService.Delivery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 발송 행이 끝났을 때 알림 상태 확정 (전송 성공이 없으면 NOTIFIED 로 올리지 않음)
+ * 점유가 다른 워커에게 넘어간 뒤의 늦은 결과 기록 무시
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class NotificationOutboxServiceTests {
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${notification.outbox.lease-seconds}")
+    private long leaseSeconds;
+
+    private User user;
+    private EmergencyAlert alert;
+
+    @BeforeEach
+    void setUp() {
+        String username = "ob" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("아웃박스")
+                .role(User.UserRole.USER)
+                .build());
+        alert = emergencyAlertRepository.save(EmergencyAlert.builder()
+                .user(user)
+                .latitude(37.5)
+                .longitude(127.0)
+                .emergencyType(EmergencyAlert.EmergencyType.OTHER)
+                .notifyStatus(EmergencyAlert.StageStatus.RUNNING)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id = ?", alert.getId());
+        emergencyAlertRepository.deleteById(alert.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void allFailedDeliveriesLeaveAlertUnnotified() {
+        delivery(NotificationOutbox.Channel.SMS, DeliveryStatus.FAILED);
+        delivery(NotificationOutbox.Channel.EMAIL, DeliveryStatus.FAILED);
+
+        notificationOutboxService.completeAlertIfDelivered(alert.getId());
+
+        EmergencyAlert result = emergencyAlertRepository.findById(alert.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(EmergencyAlert.EmergencyStatus.PENDING);
+        assertThat(result.getNotifyStatus()).isEqualTo(EmergencyAlert.StageStatus.FAILED);
+        assertThat(result.getNotificationSent()).isFalse();
+        assertThat(result.getNotificationMessage()).contains("실패");
+    }
+
+    @Test
+    void oneSentDeliveryNotifiesAlert() {
+        delivery(NotificationOutbox.Channel.SMS, DeliveryStatus.SENT);
+        delivery(NotificationOutbox.Channel.SMS, DeliveryStatus.FAILED);
+
+        notificationOutboxService.completeAlertIfDelivered(alert.getId());
+
+        EmergencyAlert result = emergencyAlertRepository.findById(alert.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(EmergencyAlert.EmergencyStatus.NOTIFIED);
+        assertThat(result.getNotifyStatus()).isEqualTo(EmergencyAlert.StageStatus.DONE);
+        assertThat(result.getNotificationSent()).isTrue();
+    }
+
+    @Test
+    void lateResultFromExpiredClaimIsIgnored() {
+        NotificationOutbox row = delivery(NotificationOutbox.Channel.SMS, DeliveryStatus.PENDING);
+        Delivery first = claim("worker-1", row.getId());
+
+        // 첫 워커가 보내는 동안 점유 기한이 지나 다른 워커가 다시 점유함
+        expireLease(row.getId());
+        Delivery second = claim("worker-2", row.getId());
+        assertThat(second.attempts()).isEqualTo(first.attempts() + 1);
+
+        notificationOutboxService.markFailed(first, "늦은 실패");
+        assertThat(notificationOutboxService.renewLease(first)).isFalse();
+
+        NotificationOutbox stillClaimed = notificationOutboxRepository.findById(row.getId()).orElseThrow();
+        assertThat(stillClaimed.getStatus()).isEqualTo(DeliveryStatus.SENDING);
+        assertThat(stillClaimed.getClaimedBy()).isEqualTo("worker-2");
+        assertThat(stillClaimed.getLastError()).isNull();
+
+        assertThat(notificationOutboxService.renewLease(second)).isTrue();
+        notificationOutboxService.markSent(second);
+        notificationOutboxService.markFailed(first, "늦은 실패");
+        assertThat(notificationOutboxRepository.findById(row.getId()).orElseThrow().getStatus())
+                .isEqualTo(DeliveryStatus.SENT);
+    }
+
+    @Test
+    void renewedLeaseKeepsRowFromOtherWorkers() {
+        NotificationOutbox row = delivery(NotificationOutbox.Channel.SMS, DeliveryStatus.PENDING);
+        Delivery claimed = claim("worker-1", row.getId());
+
+        // 배치 앞쪽 행을 보내느라 기한이 지났지만 이 행을 보내기 직전에 갱신함
+        expireLease(row.getId());
+        assertThat(notificationOutboxService.renewLease(claimed)).isTrue();
+
+        assertThat(notificationOutboxService.claimBatch("worker-2", 1_000))
+                .extracting(Delivery::id).doesNotContain(row.getId());
+    }
+
+    private Delivery claim(String workerId, Long deliveryId) {
+        return notificationOutboxService.claimBatch(workerId, 1_000).stream()
+                .filter(delivery -> delivery.id().equals(deliveryId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void expireLease(Long deliveryId) {
+        jdbcTemplate.update("UPDATE notification_outbox SET claimed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(leaseSeconds + 1), deliveryId);
+    }
+
+    private NotificationOutbox delivery(NotificationOutbox.Channel channel, DeliveryStatus status) {
+        return notificationOutboxRepository.save(NotificationOutbox.builder()
+                .alert(alert)
+                .contactId(1L)
+                .channel(channel)
+                .recipient(channel == NotificationOutbox.Channel.SMS ? "010-0000-0000" : "a@example.com")
+                .status(status)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.EmergencyAlert.StageStatus;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단계 큐가 가득 차면 커밋한 요청 스레드에서 단계를 실행하지 않고, 큐가 비면 재시도 스캔이 DB 의 단계 상태로 이어서 처리하는지 확인
+ */
+@SpringBootTest(properties = {
+        "alert.pipeline.enrich.pool-size=1",
+        "alert.pipeline.enrich.queue-capacity=1",
+        "alert.pipeline.retry-interval-ms=100",
+        "alert.rate-limit.enabled=false"
+})
+@ActiveProfiles({"dev", "test"})
+class PipelineBackpressureTests {
+
+    @Autowired
+    private EmergencyService emergencyService;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("enrichExecutor")
+    private ThreadPoolTaskExecutor enrichExecutor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String username = "bp" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("대기열")
+                .deviceId("dev-" + username)
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id IN "
+                + "(SELECT id FROM emergency_alerts WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM emergency_alerts WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void fullEnrichQueueDefersWithoutRunningOnCaller() throws Exception {
+        double rejectedBefore = meterRegistry.counter("sos.alerts.pipeline.rejected", "stage", "enrich").count();
+
+        // 보강 스레드 하나와 큐 한 칸을 막아 둠
+        CountDownLatch blocked = new CountDownLatch(1);
+        enrichExecutor.execute(() -> {
+            blocked.countDown();
+            await(release);
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        enrichExecutor.execute(() -> await(release));
+
+        EmergencyAlertResponse created = emergencyService.createEmergencyAlert(EmergencyAlertRequest.builder()
+                .deviceId(user.getDeviceId())
+                .latitude(37.5)
+                .longitude(127.0)
+                .build(), null);
+
+        // 보강 단계가 요청 스레드에서 실행되지 않고, 큐가 찬 동안은 재시도 스캔도 다시 거절되어 DB 에 PENDING 으로 남음
+        assertThat(meterRegistry.counter("sos.alerts.pipeline.rejected", "stage", "enrich").count())
+                .isGreaterThanOrEqualTo(rejectedBefore + 1);
+        Thread.sleep(300);
+        assertThat(alert(created.getId()).getEnrichStatus()).isEqualTo(StageStatus.PENDING);
+
+        release.countDown();
+
+        EmergencyAlert finished = awaitNotify(created.getId());
+        assertThat(finished.getEnrichStatus().isFinished()).isTrue();
+        assertThat(finished.getNotifyStatus().isFinished()).isTrue();
+    }
+
+    private EmergencyAlert alert(Long alertId) {
+        return emergencyAlertRepository.findById(alertId).orElseThrow();
+    }
+
+    private EmergencyAlert awaitNotify(Long alertId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        EmergencyAlert alert = alert(alertId);
+        while (!alert.getNotifyStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            alert = alert(alertId);
+        }
+        return alert;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
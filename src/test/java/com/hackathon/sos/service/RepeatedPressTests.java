@@ -0,0 +1,145 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.dto.request.EmergencyAlertRequest;
+import com.hackathon.sos.dto.response.EmergencyAlertResponse;
+import com.hackathon.sos.entity.EmergencyAlert;
+import com.hackathon.sos.entity.User;
+import com.hackathon.sos.repository.EmergencyAlertRepository;
+import com.hackathon.sos.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 장치의 반복 신고 병합
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class RepeatedPressTests {
+
+    @Autowired
+    private EmergencyService emergencyService;
+
+    @Autowired
+    private EmergencyAlertRepository emergencyAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String deviceId;
+
+    @BeforeEach
+    void setUp() {
+        String username = "rp" + UUID.randomUUID().toString().substring(0, 8);
+        deviceId = "dev-" + username;
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("unused")
+                .name("반복신고")
+                .deviceId(deviceId)
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitPipeline();
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE alert_id IN "
+                + "(SELECT id FROM emergency_alerts WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM location_history WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM emergency_alerts WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void repeatedPressKeepsFirstCoordinatesAndUpgradesType() {
+        EmergencyAlertResponse first = emergencyService.createEmergencyAlert(press(37.5, 127.0, null), null);
+        assertThat(first.getEmergencyType()).isEqualTo(EmergencyAlert.EmergencyType.OTHER);
+
+        EmergencyAlertResponse merged = emergencyService.createEmergencyAlert(
+                press(37.501, 127.001, "불이 났어요 화재 연기가 가득해요"), null);
+
+        assertThat(merged.getId()).isEqualTo(first.getId());
+        assertThat(merged.getPressCount()).isEqualTo(2);
+        assertThat(merged.getLatitude()).isEqualTo(37.5);
+        assertThat(merged.getLongitude()).isEqualTo(127.0);
+        assertThat(merged.getEmergencyType()).isEqualTo(EmergencyAlert.EmergencyType.FIRE);
+        assertThat(merged.getAnalysisSource()).isEqualTo(EmergencyAlert.AnalysisSource.KEYWORD);
+    }
+
+    @Test
+    void concurrentPressesFromOneDeviceMergeIntoOneAlert() throws Exception {
+        // 장치 허용량(순간 10건) 안에서 동시에 누름 (넘으면 진행 중 알림이 있어 429)
+        int presses = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(presses);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<EmergencyAlertResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < presses; i++) {
+                double latitude = 37.5 + i * 0.0001;
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return emergencyService.createEmergencyAlert(press(latitude, 127.0, null), null);
+                }));
+            }
+            start.countDown();
+
+            Set<Long> alertIds = new HashSet<>();
+            for (Future<EmergencyAlertResponse> response : responses) {
+                alertIds.add(response.get(30, TimeUnit.SECONDS).getId());
+            }
+
+            assertThat(alertIds).hasSize(1);
+            EmergencyAlert alert = emergencyAlertRepository.findById(alertIds.iterator().next()).orElseThrow();
+            assertThat(alert.getPressCount()).isEqualTo(presses);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private EmergencyAlertRequest press(double latitude, double longitude, String transcript) {
+        return EmergencyAlertRequest.builder()
+                .deviceId(deviceId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .audioTranscript(transcript)
+                .build();
+    }
+
+    /**
+     * 정리 전에 비동기 파이프라인(주소, 위치 기록, 연락처 알림 단계)이 끝나기를 기다림
+     */
+    private void awaitPipeline() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<EmergencyAlert> alerts = emergencyAlertRepository.findPageByUserId(user.getId(), PageRequest.of(0, 10));
+            if (alerts.stream().allMatch(alert -> alert.getNotifyStatus().isFinished())) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
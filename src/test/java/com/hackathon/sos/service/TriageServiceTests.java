@@ -0,0 +1,186 @@
+package com.hackathon.sos.service;
+
+import com.hackathon.sos.analysis.TranscriptAnalysisCache;
+import com.hackathon.sos.classifier.EmergencyClassification;
+import com.hackathon.sos.classifier.EmergencyClassification.TypeScore;
+import com.hackathon.sos.classifier.EmergencyTypeClassifier;
+import com.hackathon.sos.entity.EmergencyAlert.AnalysisSource;
+import com.hackathon.sos.entity.EmergencyAlert.EmergencyType;
+import com.hackathon.sos.resilience.AlertAdmissionController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트리아지 경로(fast/cache/degraded/llm/no_transcript) 선택, 신뢰도 기준 경계, 반복 신고 재분류
+ */
+class TriageServiceTests {
+
+    private static final double THRESHOLD = 0.7;
+    private static final String TRANSCRIPT = "음성 텍스트";
+
+    private EmergencyTypeClassifier classifier;
+    private TranscriptAnalysisCache transcriptAnalysisCache;
+    private AlertAdmissionController alertAdmissionController;
+    private SimpleMeterRegistry meterRegistry;
+    private TriageService triageService;
+
+    @BeforeEach
+    void setUp() {
+        classifier = mock(EmergencyTypeClassifier.class);
+        transcriptAnalysisCache = mock(TranscriptAnalysisCache.class);
+        alertAdmissionController = mock(AlertAdmissionController.class);
+        when(transcriptAnalysisCache.lookup(anyString())).thenReturn(Optional.empty());
+        meterRegistry = new SimpleMeterRegistry();
+
+        triageService = new TriageService(classifier, transcriptAnalysisCache, alertAdmissionController, meterRegistry);
+        ReflectionTestUtils.setField(triageService, "enabled", true);
+        ReflectionTestUtils.setField(triageService, "confidenceThreshold", THRESHOLD);
+    }
+
+    @Test
+    void confidentKeywordClassificationTakesFastPath() {
+        classifyAs(EmergencyType.FIRE, 0.82);
+
+        TriageService.Decision decision = triageService.triage(TRANSCRIPT);
+
+        assertThat(decision.source()).isEqualTo(AnalysisSource.KEYWORD);
+        assertThat(decision.type()).isEqualTo(EmergencyType.FIRE);
+        assertThat(decision.confidence()).isEqualTo(0.82);
+        assertThat(decision.analysis()).contains("화재").contains("82%");
+        verifyNoInteractions(transcriptAnalysisCache, alertAdmissionController);
+        assertThat(decisions("fast")).isEqualTo(1);
+    }
+
+    @Test
+    void confidenceExactlyAtThresholdIsFastAndJustBelowIsNot() {
+        classifyAs(EmergencyType.MEDICAL, THRESHOLD);
+        assertThat(triageService.triage(TRANSCRIPT).source()).isEqualTo(AnalysisSource.KEYWORD);
+
+        classifyAs(EmergencyType.MEDICAL, Math.nextDown(THRESHOLD));
+        assertThat(triageService.triage(TRANSCRIPT).source()).isEqualTo(AnalysisSource.KEYWORD_PROVISIONAL);
+
+        assertThat(decisions("fast")).isEqualTo(1);
+        assertThat(decisions("llm")).isEqualTo(1);
+    }
+
+    @Test
+    void unmatchedTranscriptIsNeverFastEvenWithHighConfidence() {
+        when(classifier.classify(TRANSCRIPT)).thenReturn(new EmergencyClassification(List.of(), 1.0));
+
+        TriageService.Decision decision = triageService.triage(TRANSCRIPT);
+
+        assertThat(decision.source()).isEqualTo(AnalysisSource.KEYWORD_PROVISIONAL);
+        assertThat(decision.type()).isEqualTo(EmergencyType.OTHER);
+    }
+
+    @Test
+    void ambiguousTranscriptReusesCachedAnalysis() {
+        classifyAs(EmergencyType.ASSAULT, 0.4);
+        TranscriptAnalysisCache.Entry entry = new TranscriptAnalysisCache.Entry(42L, "이전 분석", EmergencyType.KIDNAPPING, new int[0]);
+        when(transcriptAnalysisCache.lookup(TRANSCRIPT)).thenReturn(Optional.of(new TranscriptAnalysisCache.Hit(entry, 0.9)));
+
+        TriageService.Decision decision = triageService.triage(TRANSCRIPT, true);
+
+        // 허용량 초과여도 재사용할 분석이 있으면 그대로 씀
+        assertThat(decision.source()).isEqualTo(AnalysisSource.CACHE);
+        assertThat(decision.type()).isEqualTo(EmergencyType.KIDNAPPING);
+        assertThat(decision.analysis()).isEqualTo("이전 분석");
+        assertThat(decision.confidence()).isEqualTo(0.4);
+        assertThat(decision.sourceAlertId()).isEqualTo(42L);
+        assertThat(decision.similarity()).isEqualTo(0.9);
+        verify(alertAdmissionController, never()).skipAnalysis();
+        assertThat(decisions("cache")).isEqualTo(1);
+    }
+
+    @Test
+    void ambiguousTranscriptIsDegradedWhenOverLimitOrBackedUp() {
+        classifyAs(EmergencyType.ASSAULT, 0.4);
+
+        assertThat(triageService.triage(TRANSCRIPT, true).source()).isEqualTo(AnalysisSource.KEYWORD_DEGRADED);
+        verify(alertAdmissionController, never()).skipAnalysis();
+
+        when(alertAdmissionController.skipAnalysis()).thenReturn(true);
+        TriageService.Decision decision = triageService.triage(TRANSCRIPT, false);
+
+        assertThat(decision.source()).isEqualTo(AnalysisSource.KEYWORD_DEGRADED);
+        assertThat(decision.type()).isEqualTo(EmergencyType.ASSAULT);
+        assertThat(decisions("degraded")).isEqualTo(2);
+    }
+
+    @Test
+    void ambiguousTranscriptGoesToLlm() {
+        classifyAs(EmergencyType.ASSAULT, 0.4);
+
+        TriageService.Decision decision = triageService.triage(TRANSCRIPT);
+
+        assertThat(decision.source()).isEqualTo(AnalysisSource.KEYWORD_PROVISIONAL);
+        assertThat(decision.type()).isEqualTo(EmergencyType.ASSAULT);
+        assertThat(decision.sourceAlertId()).isNull();
+        assertThat(decisions("llm")).isEqualTo(1);
+    }
+
+    @Test
+    void missingTranscriptIsNotClassified() {
+        for (String transcript : new String[]{null, "", "   "}) {
+            TriageService.Decision decision = triageService.triage(transcript);
+
+            assertThat(decision.source()).isEqualTo(AnalysisSource.NONE);
+            assertThat(decision.type()).isEqualTo(EmergencyType.OTHER);
+            assertThat(decision.confidence()).isNull();
+        }
+        verifyNoInteractions(classifier, transcriptAnalysisCache, alertAdmissionController);
+        assertThat(decisions("no_transcript")).isEqualTo(3);
+    }
+
+    @Test
+    void disabledTriageSendsConfidentTranscriptToLlm() {
+        ReflectionTestUtils.setField(triageService, "enabled", false);
+        classifyAs(EmergencyType.FIRE, 0.95);
+
+        assertThat(triageService.triage(TRANSCRIPT).source()).isEqualTo(AnalysisSource.KEYWORD_PROVISIONAL);
+        assertThat(triageService.retriage(TRANSCRIPT)).isEmpty();
+    }
+
+    @Test
+    void retriageReturnsOnlyConfidentKeywordResult() {
+        classifyAs(EmergencyType.STALKING, THRESHOLD);
+        assertThat(triageService.retriage(TRANSCRIPT)).hasValueSatisfying(decision -> {
+            assertThat(decision.source()).isEqualTo(AnalysisSource.KEYWORD);
+            assertThat(decision.type()).isEqualTo(EmergencyType.STALKING);
+            assertThat(decision.confidence()).isEqualTo(THRESHOLD);
+        });
+
+        classifyAs(EmergencyType.STALKING, Math.nextDown(THRESHOLD));
+        assertThat(triageService.retriage(TRANSCRIPT)).isEmpty();
+
+        assertThat(triageService.retriage(null)).isEmpty();
+        assertThat(triageService.retriage(" ")).isEmpty();
+
+        // 재분류는 분석 재사용/저하 판정/경로 집계를 거치지 않음
+        verifyNoInteractions(transcriptAnalysisCache, alertAdmissionController);
+        assertThat(meterRegistry.find("sos.triage.decisions").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    private void classifyAs(EmergencyType type, double confidence) {
+        when(classifier.classify(TRANSCRIPT))
+                .thenReturn(new EmergencyClassification(List.of(new TypeScore(type, 1.0, 1)), confidence));
+    }
+
+    private double decisions(String path) {
+        return meterRegistry.get("sos.triage.decisions").tag("path", path).counter().count();
+    }
+}